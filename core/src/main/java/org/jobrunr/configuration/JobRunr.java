@@ -50,6 +50,7 @@ public class JobRunr {
         if (jobRunrConfiguration != null) {
             if (jobRunrConfiguration.backgroundJobServer != null) jobRunrConfiguration.backgroundJobServer.stop();
             if (jobRunrConfiguration.dashboardWebServer != null) jobRunrConfiguration.dashboardWebServer.stop();
+            if (jobRunrConfiguration.enqueueJournal != null) jobRunrConfiguration.enqueueJournal.close();
             if (jobRunrConfiguration.storageProvider != null) jobRunrConfiguration.storageProvider.close();
             if (jobRunrConfiguration.microMeterIntegration != null) jobRunrConfiguration.microMeterIntegration.close();
         }
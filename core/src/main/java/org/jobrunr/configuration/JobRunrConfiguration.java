@@ -5,6 +5,7 @@ import org.jobrunr.dashboard.JobRunrDashboardWebServerConfiguration;
 import org.jobrunr.jobs.details.CachingJobDetailsGenerator;
 import org.jobrunr.jobs.details.JobDetailsGenerator;
 import org.jobrunr.jobs.filters.JobFilter;
+import org.jobrunr.jobs.mappers.JobHistoryCompactionPolicy;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.scheduling.JobRequestScheduler;
 import org.jobrunr.scheduling.JobScheduler;
@@ -13,6 +14,8 @@ import org.jobrunr.server.BackgroundJobServerConfiguration;
 import org.jobrunr.server.JobActivator;
 import org.jobrunr.server.jmx.JobRunrJMXExtensions;
 import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.journal.EnqueueJournal;
+import org.jobrunr.storage.journal.EnqueueJournalConfiguration;
 import org.jobrunr.utils.mapper.JsonMapper;
 import org.jobrunr.utils.mapper.JsonMapperException;
 import org.jobrunr.utils.mapper.gson.GsonJsonMapper;
@@ -25,6 +28,7 @@ import java.util.List;
 
 import static java.util.Optional.ofNullable;
 import static org.jobrunr.dashboard.JobRunrDashboardWebServerConfiguration.usingStandardDashboardConfiguration;
+import static org.jobrunr.jobs.mappers.JobHistoryCompactionPolicy.noJobHistoryCompaction;
 import static org.jobrunr.server.BackgroundJobServerConfiguration.usingStandardBackgroundJobServerConfiguration;
 import static org.jobrunr.utils.mapper.JsonMapperValidator.validateJsonMapper;
 import static org.jobrunr.utils.reflection.ReflectionUtils.classExists;
@@ -36,6 +40,7 @@ public class JobRunrConfiguration {
 
     JobActivator jobActivator;
     JsonMapper jsonMapper;
+    JobHistoryCompactionPolicy jobHistoryCompactionPolicy;
     JobMapper jobMapper;
     final List<JobFilter> jobFilters;
     JobDetailsGenerator jobDetailsGenerator;
@@ -44,10 +49,14 @@ public class JobRunrConfiguration {
     JobRunrDashboardWebServer dashboardWebServer;
     JobRunrJMXExtensions jmxExtension;
     JobRunrMicroMeterIntegration microMeterIntegration;
+    JobRunrOpenTelemetryIntegration openTelemetryIntegration;
+    EnqueueJournalConfiguration enqueueJournalConfiguration;
+    EnqueueJournal enqueueJournal;
 
     JobRunrConfiguration() {
         this.jsonMapper = determineJsonMapper();
-        this.jobMapper = this.jsonMapper == null ? null : new JobMapper(jsonMapper);
+        this.jobHistoryCompactionPolicy = noJobHistoryCompaction();
+        this.jobMapper = this.jsonMapper == null ? null : new JobMapper(jsonMapper, jobHistoryCompactionPolicy);
         this.jobDetailsGenerator = new CachingJobDetailsGenerator();
         this.jobFilters = new ArrayList<>();
     }
@@ -66,7 +75,23 @@ public class JobRunrConfiguration {
             throw new IllegalStateException("Please configure the JsonMapper before the DashboardWebServer.");
         }
         this.jsonMapper = validateJsonMapper(jsonMapper);
-        this.jobMapper = new JobMapper(jsonMapper);
+        this.jobMapper = new JobMapper(jsonMapper, jobHistoryCompactionPolicy);
+        return this;
+    }
+
+    /**
+     * Allows to compact the history of jobs before they are saved, so jobs that are retried many times do not keep on growing.
+     * By default, the history of jobs is saved as is.
+     *
+     * @param jobHistoryCompactionPolicy the {@link JobHistoryCompactionPolicy} to use
+     * @return the same configuration instance which provides a fluent api
+     */
+    public JobRunrConfiguration useJobHistoryCompaction(JobHistoryCompactionPolicy jobHistoryCompactionPolicy) {
+        if (this.storageProvider != null) {
+            throw new IllegalStateException("Please configure the JobHistoryCompactionPolicy before the StorageProvider.");
+        }
+        this.jobHistoryCompactionPolicy = jobHistoryCompactionPolicy;
+        this.jobMapper = this.jsonMapper == null ? null : new JobMapper(jsonMapper, jobHistoryCompactionPolicy);
         return this;
     }
 
@@ -325,6 +350,33 @@ public class JobRunrConfiguration {
         return this;
     }
 
+    /**
+     * Allows integrating OpenTelemetry tracing into JobRunr: the trace context that is current when a job is created is propagated to
+     * the {@link BackgroundJobServer} that processes the job. As it uses a {@link JobFilter}, it must be configured before the
+     * {@link BackgroundJobServer}.
+     *
+     * @param openTelemetryIntegration the JobRunrOpenTelemetryIntegration
+     * @return the same configuration instance which provides a fluent api
+     */
+    public JobRunrConfiguration useTracing(JobRunrOpenTelemetryIntegration openTelemetryIntegration) {
+        withJobFilter(openTelemetryIntegration.getJobFilter());
+        this.openTelemetryIntegration = openTelemetryIntegration;
+        return this;
+    }
+
+    /**
+     * Allows to write new jobs to a local {@link EnqueueJournal} instead of saving them directly in the {@link StorageProvider}. Enqueueing
+     * a job then returns once the job is written to disk and the jobs are saved in the StorageProvider in the background, so that
+     * enqueueing jobs keeps on working during a short outage or latency spike of the StorageProvider.
+     *
+     * @param enqueueJournalConfiguration the configuration of the EnqueueJournal
+     * @return the same configuration instance which provides a fluent api
+     */
+    public JobRunrConfiguration useEnqueueJournal(EnqueueJournalConfiguration enqueueJournalConfiguration) {
+        this.enqueueJournalConfiguration = enqueueJournalConfiguration;
+        return this;
+    }
+
     /**
      * Specifies which {@link JobDetailsGenerator} to use.
      *
@@ -346,9 +398,14 @@ public class JobRunrConfiguration {
         if (jsonMapper == null) {
             throw new JsonMapperException("No JsonMapper class is found. Make sure you have either Jackson, Gson or a JsonB compliant library available on your classpath. You may also configure a custom JsonMapper.");
         }
-        ofNullable(microMeterIntegration).ifPresent(meterRegistry -> meterRegistry.initialize(storageProvider, backgroundJobServer));
-        final JobScheduler jobScheduler = new JobScheduler(storageProvider, jobDetailsGenerator, jobFilters);
-        final JobRequestScheduler jobRequestScheduler = new JobRequestScheduler(storageProvider, jobFilters);
+        if (enqueueJournalConfiguration != null) {
+            enqueueJournal = new EnqueueJournal(storageProvider, jobMapper, enqueueJournalConfiguration);
+            enqueueJournal.start();
+        }
+        ofNullable(microMeterIntegration).ifPresent(meterRegistry -> meterRegistry.initialize(storageProvider, backgroundJobServer, enqueueJournal));
+        ofNullable(openTelemetryIntegration).ifPresent(openTelemetry -> openTelemetry.initialize(backgroundJobServer));
+        final JobScheduler jobScheduler = new JobScheduler(storageProvider, jobDetailsGenerator, jobFilters, enqueueJournal);
+        final JobRequestScheduler jobRequestScheduler = new JobRequestScheduler(storageProvider, jobFilters, enqueueJournal);
         return new JobRunrConfigurationResult(jobScheduler, jobRequestScheduler);
     }
 
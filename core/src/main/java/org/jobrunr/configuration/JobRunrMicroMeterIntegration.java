@@ -4,6 +4,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.server.metrics.BackgroundJobServerMetricsBinder;
 import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.journal.EnqueueJournal;
+import org.jobrunr.storage.metrics.EnqueueJournalMetricsBinder;
 import org.jobrunr.storage.metrics.StorageProviderMetricsBinder;
 
 /**
@@ -16,16 +18,24 @@ public class JobRunrMicroMeterIntegration implements AutoCloseable {
     private final MeterRegistry meterRegistry;
     private StorageProviderMetricsBinder storageProviderMetricsBinder;
     private BackgroundJobServerMetricsBinder backgroundJobServerMetricsBinder;
+    private EnqueueJournalMetricsBinder enqueueJournalMetricsBinder;
 
     public JobRunrMicroMeterIntegration(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
     }
 
     public void initialize(StorageProvider storageProvider, BackgroundJobServer backgroundJobServer) {
+        initialize(storageProvider, backgroundJobServer, null);
+    }
+
+    public void initialize(StorageProvider storageProvider, BackgroundJobServer backgroundJobServer, EnqueueJournal enqueueJournal) {
         storageProviderMetricsBinder = new StorageProviderMetricsBinder(storageProvider, meterRegistry);
         if (backgroundJobServer != null) {
             backgroundJobServerMetricsBinder = new BackgroundJobServerMetricsBinder(backgroundJobServer, meterRegistry);
         }
+        if (enqueueJournal != null) {
+            enqueueJournalMetricsBinder = new EnqueueJournalMetricsBinder(enqueueJournal, meterRegistry);
+        }
     }
 
     @Override
@@ -34,5 +44,8 @@ public class JobRunrMicroMeterIntegration implements AutoCloseable {
         if (backgroundJobServerMetricsBinder != null) {
             backgroundJobServerMetricsBinder.close();
         }
+        if (enqueueJournalMetricsBinder != null) {
+            enqueueJournalMetricsBinder.close();
+        }
     }
 }
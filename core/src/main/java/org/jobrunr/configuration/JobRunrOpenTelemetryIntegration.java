@@ -0,0 +1,31 @@
+package org.jobrunr.configuration;
+
+import io.opentelemetry.api.OpenTelemetry;
+import org.jobrunr.jobs.filters.JobFilter;
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.tracing.OpenTelemetryJobTracer;
+
+/**
+ * A wrapper around an {@link OpenTelemetry} instance that allows to propagate traces from the code that creates a job to the
+ * {@link BackgroundJobServer} that processes it.
+ * <p>
+ * This wrapper is needed as otherwise the JobRunrConfiguration class would have a dependency on OpenTelemetry which is optional.
+ */
+public class JobRunrOpenTelemetryIntegration {
+
+    private final OpenTelemetryJobTracer jobTracer;
+
+    public JobRunrOpenTelemetryIntegration(OpenTelemetry openTelemetry) {
+        this.jobTracer = new OpenTelemetryJobTracer(openTelemetry);
+    }
+
+    public JobFilter getJobFilter() {
+        return jobTracer;
+    }
+
+    public void initialize(BackgroundJobServer backgroundJobServer) {
+        if (backgroundJobServer != null) {
+            backgroundJobServer.addJobPerformanceListener(jobTracer);
+        }
+    }
+}
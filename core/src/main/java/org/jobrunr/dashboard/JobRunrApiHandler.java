@@ -1,8 +1,12 @@
 package org.jobrunr.dashboard;
 
+import org.jobrunr.dashboard.server.http.HttpRequest;
 import org.jobrunr.dashboard.server.http.RestHttpHandler;
 import org.jobrunr.dashboard.server.http.handlers.HttpRequestHandler;
+import org.jobrunr.dashboard.ui.model.JobDashboardLogsUIModel;
+import org.jobrunr.dashboard.ui.model.JobStatsRollupUIModel;
 import org.jobrunr.dashboard.ui.model.RecurringJobUIModel;
+import org.jobrunr.dashboard.ui.model.RecurringJobUIModels;
 import org.jobrunr.dashboard.ui.model.VersionUIModel;
 import org.jobrunr.dashboard.ui.model.problems.ProblemsManager;
 import org.jobrunr.jobs.Job;
@@ -10,30 +14,35 @@ import org.jobrunr.jobs.RecurringJob;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.JobNotFoundException;
 import org.jobrunr.storage.JobRunrMetadata;
+import org.jobrunr.storage.JobSignatureStats;
+import org.jobrunr.storage.JobStatsHistory;
 import org.jobrunr.storage.Page;
-import org.jobrunr.storage.RecurringJobsResult;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.ThreadSafeStorageProvider;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
 import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
+import org.jobrunr.storage.navigation.PageRequest;
 import org.jobrunr.utils.mapper.JsonMapper;
 
-import java.util.List;
+import java.time.Instant;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+import static java.util.stream.Collectors.toList;
 import static org.jobrunr.utils.StringUtils.isNullOrEmpty;
 
 public class JobRunrApiHandler extends RestHttpHandler {
 
     private final StorageProvider storageProvider;
+    private final JobStatsHistory jobStatsHistory;
     private final boolean allowAnonymousDataUsage;
     private ProblemsManager problemsManager;
-    private RecurringJobsResult recurringJobsResult;
+    private volatile RecurringJobUIModels recurringJobUIModels;
     private VersionUIModel versionUIModel;
 
     public JobRunrApiHandler(StorageProvider storageProvider, JsonMapper jsonMapper, boolean allowAnonymousDataUsage) {
         super("/api", jsonMapper);
         this.storageProvider = storageProvider;
+        this.jobStatsHistory = new JobStatsHistory(storageProvider, jsonMapper);
         this.allowAnonymousDataUsage = allowAnonymousDataUsage;
 
         get("/metadata/:name/:owner", getMetadataByNameAndOwner());
@@ -41,7 +50,9 @@ public class JobRunrApiHandler extends RestHttpHandler {
         delete("/problems/:type", deleteProblemByType());
 
         get("/jobs", findJobByState());
+        get("/job-summaries", findJobSummariesByState());
         get("/jobs/:id", getJobById());
+        get("/jobs/:id/logs", getJobDashboardLogsById());
         delete("/jobs/:id", deleteJobById());
         post("/jobs/:id/requeue", requeueJobById());
 
@@ -49,6 +60,8 @@ public class JobRunrApiHandler extends RestHttpHandler {
         delete("/recurring-jobs/:id", deleteRecurringJob());
         post("/recurring-jobs/:id/trigger", triggerRecurringJob());
 
+        get("/job-stats/history", getJobStatsHistory());
+
         get("/servers", getBackgroundJobServers());
         get("/version", getVersion());
 
@@ -92,10 +105,45 @@ public class JobRunrApiHandler extends RestHttpHandler {
         };
     }
 
+    private HttpRequestHandler getJobStatsHistory() {
+        return (request, response) -> {
+            String jobSignature = request.queryParam("jobSignature");
+            response.asJson(jobStatsHistory.getHistory().stream()
+                    .map(rollup -> new JobStatsRollupUIModel(rollup, isNullOrEmpty(jobSignature) ? rollup.getTotal() : rollup.getJobSignatureStats().stream()
+                            .filter(stats -> jobSignature.equals(stats.getJobSignature()))
+                            .findFirst()
+                            .orElseGet(() -> new JobSignatureStats(jobSignature))))
+                    .collect(toList()));
+        };
+    }
+
     private HttpRequestHandler getJobById() {
         return (request, response) -> response.asJson(storageProvider.getJobById(request.param(":id", UUID.class)));
     }
 
+    private HttpRequestHandler getJobDashboardLogsById() {
+        return (request, response) -> {
+            if (!storageProvider.supportsJobDashboardLogEntries()) {
+                response.asJson(JobDashboardLogsUIModel.notSupported());
+                return;
+            }
+
+            UUID jobId = request.param(":id", UUID.class);
+            Integer stateIndex = request.queryParam("stateIndex", Integer.class, null);
+            int afterSequenceNbr = request.queryParam("after", Integer.class, 0);
+            int limit = request.queryParam("limit", Integer.class, 100);
+            if (stateIndex == null) {
+                stateIndex = storageProvider.getJobById(jobId).getJobStateNbr();
+            }
+
+            response.asJson(JobDashboardLogsUIModel.of(
+                    storageProvider.getJobDashboardLogLines(jobId, stateIndex, afterSequenceNbr, limit),
+                    storageProvider.getJobDashboardProgress(jobId, stateIndex),
+                    afterSequenceNbr,
+                    limit));
+        };
+    }
+
     private HttpRequestHandler deleteJobById() {
         return (request, response) -> {
             final Job job = storageProvider.getJobById(request.param(":id", UUID.class));
@@ -119,21 +167,30 @@ public class JobRunrApiHandler extends RestHttpHandler {
                 response.asJson(
                         storageProvider.getJobs(
                                 request.queryParam("state", StateName.class, StateName.ENQUEUED),
-                                request.fromQueryParams(OffsetBasedPageRequest.class)
+                                jobsPageRequest(request)
                         ));
     }
 
+    private HttpRequestHandler findJobSummariesByState() {
+        return (request, response) ->
+                response.asJson(
+                        storageProvider.getJobSummaries(
+                                request.queryParam("state", StateName.class, StateName.ENQUEUED),
+                                jobsPageRequest(request)
+                        ));
+    }
+
+    private PageRequest jobsPageRequest(HttpRequest request) {
+        if ("keyset".equals(request.queryParam("paging")) || request.queryParam("boundaryId") != null) {
+            return request.fromQueryParams(KeysetBasedPageRequest.class);
+        }
+        return request.fromQueryParams(OffsetBasedPageRequest.class);
+    }
+
     private HttpRequestHandler getRecurringJobs() {
         return (request, response) -> {
             OffsetBasedPageRequest pageRequest = request.fromQueryParams(OffsetBasedPageRequest.class);
-            RecurringJobsResult recurringJobs = recurringJobResults();
-            final List<RecurringJobUIModel> recurringJobUIModels = recurringJobs
-                    .stream()
-                    .skip(pageRequest.getOffset())
-                    .limit(pageRequest.getLimit())
-                    .map(RecurringJobUIModel::new)
-                    .collect(Collectors.toList());
-            Page<RecurringJobUIModel> result = pageRequest.mapToNewPage(recurringJobs.size(), recurringJobUIModels);
+            Page<RecurringJobUIModel> result = recurringJobUIModels().getPage(pageRequest, request.queryParam("filter"));
             response.asJson(result);
         };
     }
@@ -151,10 +208,8 @@ public class JobRunrApiHandler extends RestHttpHandler {
 
     private HttpRequestHandler triggerRecurringJob() {
         return (request, response) -> {
-            final RecurringJob recurringJob = recurringJobResults()
-                    .stream()
-                    .filter(rj -> request.param(":id").equals(rj.getId()))
-                    .findFirst()
+            final RecurringJob recurringJob = recurringJobUIModels()
+                    .getRecurringJobById(request.param(":id"))
                     .orElseThrow(() -> new JobNotFoundException(request.param(":id")));
 
             final Job job = recurringJob.toEnqueuedJob();
@@ -197,10 +252,13 @@ public class JobRunrApiHandler extends RestHttpHandler {
         return this.problemsManager;
     }
 
-    private RecurringJobsResult recurringJobResults() {
-        if (recurringJobsResult == null || storageProvider.recurringJobsUpdated(recurringJobsResult.getLastModifiedHash())) {
-            recurringJobsResult = storageProvider.getRecurringJobs();
+    private RecurringJobUIModels recurringJobUIModels() {
+        RecurringJobUIModels result = this.recurringJobUIModels;
+        if (result == null || storageProvider.recurringJobsUpdated(result.getLastModifiedHash())) {
+            result = new RecurringJobUIModels(storageProvider.getRecurringJobs());
         }
-        return recurringJobsResult;
+        result = result.withNextRunsAfter(Instant.now());
+        this.recurringJobUIModels = result;
+        return result;
     }
 }
@@ -4,6 +4,7 @@ import com.sun.net.httpserver.BasicAuthenticator;
 import com.sun.net.httpserver.HttpContext;
 import org.jobrunr.dashboard.server.HttpExchangeHandler;
 import org.jobrunr.dashboard.server.WebServer;
+import org.jobrunr.dashboard.server.WebServerThreadType;
 import org.jobrunr.dashboard.server.http.RedirectHttpHandler;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.ThreadSafeStorageProvider;
@@ -13,6 +14,8 @@ import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+
 import static org.jobrunr.dashboard.JobRunrDashboardWebServerConfiguration.usingStandardDashboardConfiguration;
 import static org.jobrunr.utils.StringUtils.isNotNullOrEmpty;
 
@@ -31,6 +34,9 @@ public class JobRunrDashboardWebServer {
     private final int port;
     private final BasicAuthenticator basicAuthenticator;
     private final boolean allowAnonymousDataUsage;
+    private final WebServerThreadType webServerThreadType;
+    private final int webServerMaxThreads;
+    private final Duration sseIdleTimeout;
 
     private WebServer webServer;
 
@@ -58,6 +64,9 @@ public class JobRunrDashboardWebServer {
         this.jsonMapper = jsonMapper;
         this.allowAnonymousDataUsage = configuration.allowAnonymousDataUsage;
         this.port = configuration.port;
+        this.webServerThreadType = configuration.webServerThreadType;
+        this.webServerMaxThreads = configuration.webServerMaxThreads;
+        this.sseIdleTimeout = configuration.sseIdleTimeout;
         this.basicAuthenticator = createOptionalBasicAuthenticator(configuration.username, configuration.password);
     }
 
@@ -67,7 +76,7 @@ public class JobRunrDashboardWebServer {
         JobRunrApiHandler dashboardHandler = createApiHandler(storageProvider, jsonMapper, allowAnonymousDataUsage);
         JobRunrSseHandler sseHandler = createSSeHandler(storageProvider, jsonMapper);
 
-        webServer = new WebServer(port);
+        webServer = new WebServer(port, webServerThreadType, webServerMaxThreads);
         registerContext(redirectHttpHandler);
         registerSecuredContext(staticFileHandler);
         registerSecuredContext(dashboardHandler);
@@ -111,7 +120,7 @@ public class JobRunrDashboardWebServer {
 
     @VisibleFor("github issue 18")
     JobRunrSseHandler createSSeHandler(StorageProvider storageProvider, JsonMapper jsonMapper) {
-        return new JobRunrSseHandler(storageProvider, jsonMapper);
+        return new JobRunrSseHandler("/sse", storageProvider, jsonMapper, sseIdleTimeout);
     }
 
     private BasicAuthenticator createOptionalBasicAuthenticator(String username, String password) {
@@ -1,5 +1,10 @@
 package org.jobrunr.dashboard;
 
+import org.jobrunr.dashboard.server.WebServerThreadType;
+import org.jobrunr.dashboard.server.sse.ServerSentEventHandler;
+
+import java.time.Duration;
+
 /**
  * This class allows to configure the JobRunrDashboard
  */
@@ -8,6 +13,9 @@ public class JobRunrDashboardWebServerConfiguration {
     String username = null;
     String password = null;
     boolean allowAnonymousDataUsage = true;
+    WebServerThreadType webServerThreadType = WebServerThreadType.getDefaultThreadType();
+    int webServerMaxThreads = WebServerThreadType.DEFAULT_MAX_THREADS;
+    Duration sseIdleTimeout = ServerSentEventHandler.DEFAULT_IDLE_TIMEOUT;
 
     private JobRunrDashboardWebServerConfiguration() {
 
@@ -58,4 +66,41 @@ public class JobRunrDashboardWebServerConfiguration {
         this.allowAnonymousDataUsage = allowAnonymousDataUsage;
         return this;
     }
+
+    /**
+     * Specifies which type of threads handle the requests of the JobRunrDashboard. By default, virtual threads are used on Java 21 and
+     * higher and a bounded pool of platform threads on older Java versions.
+     *
+     * @param webServerThreadType the type of threads that handle the requests of the JobRunrDashboard
+     * @return the same configuration instance which provides a fluent api
+     */
+    public JobRunrDashboardWebServerConfiguration andWebServerThreadType(WebServerThreadType webServerThreadType) {
+        this.webServerThreadType = webServerThreadType;
+        return this;
+    }
+
+    /**
+     * Specifies the maximum amount of platform threads that handle the requests of the JobRunrDashboard. Open Server-Sent Event
+     * connections do not occupy a thread. This setting is ignored when using virtual threads.
+     *
+     * @param webServerMaxThreads the maximum amount of platform threads that handle the requests of the JobRunrDashboard
+     * @return the same configuration instance which provides a fluent api
+     */
+    public JobRunrDashboardWebServerConfiguration andWebServerMaxThreads(int webServerMaxThreads) {
+        if (webServerMaxThreads < 1) throw new IllegalArgumentException("The amount of web server threads must be at least 1.");
+        this.webServerMaxThreads = webServerMaxThreads;
+        return this;
+    }
+
+    /**
+     * Specifies after how long a Server-Sent Event connection that cannot be written to anymore (e.g. because the browser went
+     * away) is closed.
+     *
+     * @param sseIdleTimeout the duration after which an unresponsive Server-Sent Event connection is closed
+     * @return the same configuration instance which provides a fluent api
+     */
+    public JobRunrDashboardWebServerConfiguration andSseIdleTimeout(Duration sseIdleTimeout) {
+        this.sseIdleTimeout = sseIdleTimeout;
+        return this;
+    }
 }
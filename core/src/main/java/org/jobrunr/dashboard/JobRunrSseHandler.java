@@ -3,40 +3,56 @@ package org.jobrunr.dashboard;
 import com.sun.net.httpserver.HttpExchange;
 import org.jobrunr.dashboard.server.sse.ServerSentEventHandler;
 import org.jobrunr.dashboard.server.sse.SseExchange;
-import org.jobrunr.dashboard.sse.BackgroundJobServerStatusSseExchange;
+import org.jobrunr.dashboard.sse.BackgroundJobServerStatusSseBroadcaster;
 import org.jobrunr.dashboard.sse.JobSseExchange;
-import org.jobrunr.dashboard.sse.JobStatsSseExchange;
+import org.jobrunr.dashboard.sse.JobStatsSseBroadcaster;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.utils.mapper.JsonMapper;
 
 import java.io.IOException;
+import java.time.Duration;
 
 public class JobRunrSseHandler extends ServerSentEventHandler {
 
     private final StorageProvider storageProvider;
     private final JsonMapper jsonMapper;
+    private final JobStatsSseBroadcaster jobStatsSseBroadcaster;
+    private final BackgroundJobServerStatusSseBroadcaster backgroundJobServerStatusSseBroadcaster;
 
     public JobRunrSseHandler(StorageProvider storageProvider, JsonMapper jsonMapper) {
         this("/sse", storageProvider, jsonMapper);
     }
 
     public JobRunrSseHandler(String contextPath, StorageProvider storageProvider, JsonMapper jsonMapper) {
-        super(contextPath);
+        this(contextPath, storageProvider, jsonMapper, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public JobRunrSseHandler(String contextPath, StorageProvider storageProvider, JsonMapper jsonMapper, Duration idleTimeout) {
+        super(contextPath, idleTimeout);
         this.storageProvider = storageProvider;
         this.jsonMapper = jsonMapper;
+        this.jobStatsSseBroadcaster = new JobStatsSseBroadcaster(storageProvider, jsonMapper, getSseExecutor());
+        this.backgroundJobServerStatusSseBroadcaster = new BackgroundJobServerStatusSseBroadcaster(storageProvider, jsonMapper, getSseExecutor());
     }
 
     @Override
     protected SseExchange createSseExchange(HttpExchange httpExchange) throws IOException {
         final String requestUri = httpExchange.getRequestURI().toString();
         if (requestUri.startsWith("/sse/jobstats")) {
-            return new JobStatsSseExchange(httpExchange, storageProvider, jsonMapper);
+            return jobStatsSseBroadcaster.subscribe(httpExchange);
         } else if (requestUri.startsWith("/sse/servers")) {
-            return new BackgroundJobServerStatusSseExchange(httpExchange, storageProvider, jsonMapper);
+            return backgroundJobServerStatusSseBroadcaster.subscribe(httpExchange);
         } else if (requestUri.startsWith("/sse/jobs/")) {
             return new JobSseExchange(httpExchange, storageProvider, jsonMapper);
         }
         throw new IllegalStateException("Unsupported httpExchange");
     }
 
+    @Override
+    public void close() {
+        super.close();
+        jobStatsSseBroadcaster.close();
+        backgroundJobServerStatusSseBroadcaster.close();
+    }
+
 }
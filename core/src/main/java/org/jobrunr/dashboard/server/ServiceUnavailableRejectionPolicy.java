@@ -0,0 +1,71 @@
+package org.jobrunr.dashboard.server;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers the requests that can not be handled because all threads of the dashboard web server are busy with a 503 (Service Unavailable).
+ * <p>
+ * A rejected request is handed to a single separate thread instead of being handled by the dispatcher thread of the HttpServer, as that
+ * would stop the HttpServer from accepting connections. On that thread, the {@link #serviceUnavailableFilter() filter} responds with a 503
+ * without calling the {@link HttpExchangeHandler}. If that thread is saturated as well, the HttpServer closes the connection.
+ */
+public class ServiceUnavailableRejectionPolicy implements RejectedExecutionHandler {
+
+    private static final ThreadLocal<Boolean> handlingRejectedRequest = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor rejectedRequestsExecutor;
+
+    public ServiceUnavailableRejectionPolicy(int maxQueuedRejectedRequests) {
+        this.rejectedRequestsExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxQueuedRejectedRequests),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "jobrunr-dashboard-service-unavailable");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rejectedRequestsExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void rejectedExecution(Runnable request, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) throw new RejectedExecutionException("The dashboard web server is stopped");
+
+        rejectedRequestsExecutor.execute(() -> {
+            handlingRejectedRequest.set(true);
+            try {
+                request.run();
+            } finally {
+                handlingRejectedRequest.remove();
+            }
+        });
+    }
+
+    public static Filter serviceUnavailableFilter() {
+        return new Filter() {
+            @Override
+            public void doFilter(HttpExchange httpExchange, Chain chain) throws IOException {
+                if (Boolean.TRUE.equals(handlingRejectedRequest.get())) {
+                    httpExchange.getResponseHeaders().add("Retry-After", "1");
+                    httpExchange.sendResponseHeaders(503, -1);
+                    httpExchange.close();
+                } else {
+                    chain.doFilter(httpExchange);
+                }
+            }
+
+            @Override
+            public String description() {
+                return "Responds with a 503 to the requests that were rejected because all threads are busy";
+            }
+        };
+    }
+}
@@ -10,9 +10,19 @@ import java.net.InetSocketAddress;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.jobrunr.dashboard.server.ServiceUnavailableRejectionPolicy.serviceUnavailableFilter;
+import static org.jobrunr.dashboard.server.WebServerThreadType.DEFAULT_MAX_THREADS;
+import static org.jobrunr.dashboard.server.WebServerThreadType.getDefaultThreadType;
+import static org.jobrunr.utils.VersionNumber.JAVA_VERSION;
+
+/**
+ * The web server of the dashboard, built on the {@link HttpServer} of the JDK. The amount of threads handling requests is bounded
+ * (see {@link WebServerThreadType}) and Server-Sent Event connections are closed by their handler once they become unresponsive.
+ * Keep-alive connections are managed by the {@link HttpServer} itself: idle ones are closed after {@code sun.net.httpserver.idleInterval}
+ * seconds (30 by default) and at most {@code sun.net.httpserver.maxIdleConnections} of them are kept open (200 by default).
+ */
 public class WebServer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebServer.class);
@@ -22,9 +32,16 @@ public class WebServer {
     private final Set<HttpExchangeHandler> httpHandlers;
 
     public WebServer(int port) {
+        this(port, getDefaultThreadType(), DEFAULT_MAX_THREADS);
+    }
+
+    public WebServer(int port, WebServerThreadType threadType, int maxThreads) {
+        if (!threadType.isSupported(JAVA_VERSION)) {
+            throw new IllegalArgumentException("The dashboard web server thread type " + threadType + " is not supported on Java " + JAVA_VERSION);
+        }
         try {
             httpServer = HttpServer.create(new InetSocketAddress(port), 0);
-            executorService = Executors.newCachedThreadPool();
+            executorService = threadType.createExecutorService(maxThreads);
             httpServer.setExecutor(executorService);
             httpHandlers = new HashSet<>();
         } catch (IOException e) {
@@ -34,7 +51,9 @@ public class WebServer {
 
     public HttpContext createContext(HttpExchangeHandler httpHandler) {
         httpHandlers.add(httpHandler);
-        return httpServer.createContext(httpHandler.getContextPath(), httpHandler);
+        final HttpContext httpContext = httpServer.createContext(httpHandler.getContextPath(), httpHandler);
+        httpContext.getFilters().add(serviceUnavailableFilter());
+        return httpContext;
     }
 
     public void start() {
@@ -0,0 +1,64 @@
+package org.jobrunr.dashboard.server;
+
+import org.jobrunr.utils.VersionNumber;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.jobrunr.server.threadpool.VirtualThreadJobRunrExecutor.createVirtualThreadExecutorService;
+import static org.jobrunr.utils.VersionNumber.JAVA_VERSION;
+
+/**
+ * Enum representing the different types of threads that can handle the requests of the dashboard web server. Both types use a
+ * constant amount of platform threads, regardless of the amount of connected browsers.
+ */
+public enum WebServerThreadType {
+    PlatformThreads {
+        @Override
+        public ExecutorService createExecutorService(int maxThreads) {
+            final AtomicInteger threadCounter = new AtomicInteger();
+            final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(maxThreads * 64),
+                    runnable -> {
+                        final Thread thread = new Thread(runnable, "jobrunr-dashboard-" + threadCounter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    // if all threads are busy and the queue is full, the request is answered with a 503 on a separate thread
+                    new ServiceUnavailableRejectionPolicy(maxThreads * 8));
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            return threadPoolExecutor;
+        }
+
+        @Override
+        public boolean isSupported(VersionNumber javaVersion) {
+            return true;
+        }
+    },
+    VirtualThreads {
+        @Override
+        public ExecutorService createExecutorService(int maxThreads) {
+            return createVirtualThreadExecutorService("jobrunr-dashboard");
+        }
+
+        @Override
+        public boolean isSupported(VersionNumber javaVersion) {
+            return javaVersion.hasMajorVersionHigherOrEqualTo(21);
+        }
+    };
+
+    public static final int DEFAULT_MAX_THREADS = 8;
+
+    public abstract ExecutorService createExecutorService(int maxThreads);
+
+    public abstract boolean isSupported(VersionNumber javaVersion);
+
+    public static WebServerThreadType getDefaultThreadType() {
+        return VirtualThreads.isSupported(JAVA_VERSION)
+                ? WebServerThreadType.VirtualThreads
+                : WebServerThreadType.PlatformThreads;
+    }
+}
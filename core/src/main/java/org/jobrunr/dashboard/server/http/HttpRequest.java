@@ -22,6 +22,10 @@ public class HttpRequest {
         return requestUrl.fromQueryParams(clazz);
     }
 
+    public String queryParam(String queryParamName) {
+        return requestUrl.queryParam(queryParamName);
+    }
+
     public <T> T queryParam(String queryParamName, Class<T> clazz, T defaultValue) {
         return requestUrl.queryParam(queryParamName, clazz, defaultValue);
     }
@@ -0,0 +1,137 @@
+package org.jobrunr.dashboard.server.http;
+
+import org.jobrunr.utils.io.IOUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A static file that is read once and kept in memory, together with its gzip compressed variant. Each variant has its own strong ETag
+ * as a strong ETag must identify the exact bytes of the response.
+ * <p>
+ * HTML files contain a nonce placeholder that must be unique per response. They are kept as a template that is split on the
+ * placeholder so the nonce can be filled in without parsing the file again.
+ */
+class StaticAsset {
+
+    static final String NONCE_PLACEHOLDER = "%CSP_NONCE%";
+    private static final int MIN_SIZE_TO_COMPRESS = 256;
+
+    private final String contentType;
+    private final byte[] content;
+    private final byte[] gzippedContent;
+    private final String eTag;
+    private final String gzippedETag;
+    private final List<byte[]> htmlTemplateParts;
+
+    private StaticAsset(String contentType, byte[] content, byte[] gzippedContent, String eTag, List<byte[]> htmlTemplateParts) {
+        this.contentType = contentType;
+        this.content = content;
+        this.gzippedContent = gzippedContent;
+        this.eTag = eTag;
+        this.gzippedETag = eTag != null && gzippedContent != null ? eTag.substring(0, eTag.length() - 1) + "-gzip\"" : null;
+        this.htmlTemplateParts = htmlTemplateParts;
+    }
+
+    static StaticAsset load(String path, URL resource) throws IOException {
+        final byte[] content = readFully(resource);
+        final String contentType = ContentType.from(path);
+        if (path.endsWith(".html")) {
+            return new StaticAsset(contentType, content, null, null, splitOnNoncePlaceholder(new String(content, UTF_8)));
+        }
+        return new StaticAsset(contentType, content, compressIfBeneficial(contentType, content), eTag(content), null);
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    boolean isHtmlTemplate() {
+        return htmlTemplateParts != null;
+    }
+
+    String getETag() {
+        return eTag;
+    }
+
+    String getGzippedETag() {
+        return gzippedETag;
+    }
+
+    byte[] getContent() {
+        return content;
+    }
+
+    boolean hasGzippedContent() {
+        return gzippedContent != null;
+    }
+
+    byte[] getGzippedContent() {
+        return gzippedContent;
+    }
+
+    byte[] render(String nonce) {
+        final byte[] nonceBytes = nonce.getBytes(UTF_8);
+        final ByteArrayOutputStream result = new ByteArrayOutputStream(content.length + htmlTemplateParts.size() * nonceBytes.length);
+        for (int i = 0; i < htmlTemplateParts.size(); i++) {
+            if (i > 0) result.write(nonceBytes, 0, nonceBytes.length);
+            final byte[] part = htmlTemplateParts.get(i);
+            result.write(part, 0, part.length);
+        }
+        return result.toByteArray();
+    }
+
+    static byte[] gzip(byte[] content) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream(content.length / 2);
+        try (OutputStream gzipOutputStream = new GZIPOutputStream(result)) {
+            gzipOutputStream.write(content);
+        }
+        return result.toByteArray();
+    }
+
+    private static byte[] readFully(URL resource) throws IOException {
+        try (InputStream inputStream = resource.openStream(); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            IOUtils.copyStream(inputStream, outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static byte[] compressIfBeneficial(String contentType, byte[] content) throws IOException {
+        // images other than svg are already compressed
+        if (content.length < MIN_SIZE_TO_COMPRESS || (contentType.startsWith("image/") && !contentType.contains("svg"))) return null;
+        final byte[] gzippedContent = gzip(content);
+        return gzippedContent.length < content.length ? gzippedContent : null;
+    }
+
+    private static List<byte[]> splitOnNoncePlaceholder(String html) {
+        final List<byte[]> parts = new ArrayList<>();
+        int start = 0;
+        int placeholderIndex;
+        while ((placeholderIndex = html.indexOf(NONCE_PLACEHOLDER, start)) != -1) {
+            parts.add(html.substring(start, placeholderIndex).getBytes(UTF_8));
+            start = placeholderIndex + NONCE_PLACEHOLDER.length();
+        }
+        parts.add(html.substring(start).getBytes(UTF_8));
+        return parts;
+    }
+
+    private static String eTag(byte[] content) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + new BigInteger(1, digest).toString(36) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 Hashing algorithm not found.", e);
+        }
+    }
+}
@@ -2,19 +2,18 @@ package org.jobrunr.dashboard.server.http;
 
 import com.sun.net.httpserver.HttpExchange;
 import org.jobrunr.dashboard.server.AbstractHttpExchangeHandler;
-import org.jobrunr.utils.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.StringWriter;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class StaticFileHttpHandler extends AbstractHttpExchangeHandler {
 
@@ -24,6 +23,7 @@ public class StaticFileHttpHandler extends AbstractHttpExchangeHandler {
     private final String contextPath;
     private final String rootDir;
     private final boolean singlePageApp;
+    private final Map<String, StaticAsset> staticAssets;
 
     public StaticFileHttpHandler(String contextPath, String rootDir) {
         this(contextPath, rootDir, false);
@@ -33,6 +33,7 @@ public class StaticFileHttpHandler extends AbstractHttpExchangeHandler {
         this.contextPath = contextPath;
         this.rootDir = rootDir;
         this.singlePageApp = singlePageApp;
+        this.staticAssets = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -47,19 +48,33 @@ public class StaticFileHttpHandler extends AbstractHttpExchangeHandler {
             requestPath = sanitizeRequestUri(requestPath);
 
             final String toServe = requestPath.substring((contextPath + "/").length());
-            final URL resource = this.getClass().getClassLoader().getResource(rootDir + toServe);
-            if (resource != null) {
-                httpExchange.getResponseHeaders().add(ContentType._HEADER_NAME, ContentType.from(toServe));
-                if (toServe.endsWith(".html")) {
+            final StaticAsset staticAsset = getStaticAsset(toServe);
+            if (staticAsset != null) {
+                httpExchange.getResponseHeaders().add(ContentType._HEADER_NAME, staticAsset.getContentType());
+                if (staticAsset.isHtmlTemplate()) {
                     final String nonce = UUID.randomUUID().toString();
                     httpExchange.getResponseHeaders().add("Content-Security-Policy", "script-src 'nonce-" + nonce + "' 'strict-dynamic';object-src 'none';base-uri 'none'");
-                    httpExchange.sendResponseHeaders(200, 0);
-                    copyHtmlResourceToResponseBody(resource, httpExchange, nonce);
+                    final byte[] html = staticAsset.render(nonce);
+                    final boolean gzip = acceptsGzip(httpExchange);
+                    httpExchange.getResponseHeaders().add("Vary", "Accept-Encoding");
+                    sendResponse(httpExchange, gzip ? StaticAsset.gzip(html) : html, gzip);
                 } else {
+                    final boolean gzip = staticAsset.hasGzippedContent() && acceptsGzip(httpExchange);
+                    final String eTag = gzip ? staticAsset.getGzippedETag() : staticAsset.getETag();
                     httpExchange.getResponseHeaders().add("Cache-Control", "public, max-age=604800");
                     httpExchange.getResponseHeaders().add("Content-Security-Policy", "base-uri 'none'; default-src 'none'");
-                    httpExchange.sendResponseHeaders(200, 0);
-                    copyResourceToResponseBody(resource, httpExchange);
+                    httpExchange.getResponseHeaders().add("ETag", eTag);
+                    if (staticAsset.hasGzippedContent()) {
+                        // also on a 304, so caches do not serve the variant of another encoding
+                        httpExchange.getResponseHeaders().add("Vary", "Accept-Encoding");
+                    }
+                    if (isNotModified(httpExchange, eTag)) {
+                        httpExchange.sendResponseHeaders(304, -1);
+                    } else if (gzip) {
+                        sendResponse(httpExchange, staticAsset.getGzippedContent(), true);
+                    } else {
+                        sendResponse(httpExchange, staticAsset.getContent(), false);
+                    }
                 }
             } else {
                 httpExchange.sendResponseHeaders(404, -1);
@@ -69,6 +84,43 @@ public class StaticFileHttpHandler extends AbstractHttpExchangeHandler {
         }
     }
 
+    StaticAsset getStaticAsset(String toServe) throws IOException {
+        final StaticAsset cachedStaticAsset = staticAssets.get(toServe);
+        if (cachedStaticAsset != null) return cachedStaticAsset;
+
+        // only existing resources are cached so the cache cannot grow with arbitrary request paths
+        final URL resource = this.getClass().getClassLoader().getResource(rootDir + toServe);
+        if (resource == null) return null;
+        final StaticAsset staticAsset = StaticAsset.load(toServe, resource);
+        staticAssets.put(toServe, staticAsset);
+        return staticAsset;
+    }
+
+    private void sendResponse(HttpExchange httpExchange, byte[] body, boolean gzipped) throws IOException {
+        if (gzipped) {
+            httpExchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        httpExchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = httpExchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpExchange httpExchange) {
+        final String acceptEncoding = httpExchange.getRequestHeaders().getFirst("Accept-Encoding");
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static boolean isNotModified(HttpExchange httpExchange, String eTagOfResponse) {
+        final String ifNoneMatch = httpExchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch == null) return false;
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                // proxies may turn the ETag in a weak one when compressing the response
+                .map(eTag -> eTag.startsWith("W/") ? eTag.substring(2) : eTag)
+                .anyMatch(eTag -> eTag.equals("*") || eTag.equals(eTagOfResponse));
+    }
+
     private String sanitizeRequestUri(String requestPath) {
         if (isStaticFile(requestPath)) {
             return requestPath;
@@ -84,21 +136,6 @@ public class StaticFileHttpHandler extends AbstractHttpExchangeHandler {
         }
     }
 
-    void copyHtmlResourceToResponseBody(URL resource, HttpExchange httpExchange, String nonce) throws IOException {
-        try (InputStream inputStream = resource.openStream(); StringWriter stringWriter = new StringWriter(); OutputStream outputStream = httpExchange.getResponseBody()) {
-            IOUtils.copyStream(inputStream, stringWriter);
-            String result = stringWriter.toString()
-                    .replace("%CSP_NONCE%", nonce);
-            IOUtils.copyToStream(result, outputStream);
-        }
-    }
-
-    void copyResourceToResponseBody(URL resource, HttpExchange httpExchange) throws IOException {
-        try (InputStream inputStream = resource.openStream(); OutputStream outputStream = httpExchange.getResponseBody()) {
-            IOUtils.copyStream(inputStream, outputStream);
-        }
-    }
-
     private boolean isStaticFile(String path) {
         return path.contains("/static/") || hasStaticFileExtension(path);
     }
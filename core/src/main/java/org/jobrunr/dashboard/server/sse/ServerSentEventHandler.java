@@ -4,22 +4,63 @@ import com.sun.net.httpserver.HttpExchange;
 import org.jobrunr.dashboard.server.AbstractHttpExchangeHandler;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static org.jobrunr.dashboard.server.sse.SseBroadcaster.DEFAULT_MAX_QUEUED_SENDS;
+import static org.jobrunr.dashboard.server.sse.SseBroadcaster.DEFAULT_MAX_SENDER_THREADS;
+import static org.jobrunr.dashboard.server.sse.SseBroadcaster.newBoundedExecutorService;
 
+/**
+ * Handles Server-Sent Events. Serving an {@link SseExchange} does not occupy a web server thread: messages are written by the
+ * thread producing them. To detect browsers that went away, a heartbeat is sent to each {@link SseExchange} and exchanges that could
+ * not be written to within the idle timeout or of which a write is blocked for longer than the write timeout are closed.
+ * <p>
+ * The heartbeats are written using the bounded {@link #getSseExecutor() SSE executor}, so that a client that stopped reading can not
+ * block the heartbeats of the other clients.
+ */
 public abstract class ServerSentEventHandler extends AbstractHttpExchangeHandler {
 
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_WRITE_TIMEOUT = Duration.ofSeconds(10);
+
     private final String contextPath;
     private final Set<SseExchange> sseExchanges;
+    private final Duration idleTimeout;
+    private final Duration writeTimeout;
+    private final ExecutorService sseExecutorService;
+    private ScheduledExecutorService heartbeatExecutorService;
 
     protected ServerSentEventHandler() {
         this("/sse");
     }
 
     protected ServerSentEventHandler(String contextPath) {
+        this(contextPath, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    protected ServerSentEventHandler(String contextPath, Duration idleTimeout) {
+        this(contextPath, idleTimeout, DEFAULT_WRITE_TIMEOUT);
+    }
+
+    protected ServerSentEventHandler(String contextPath, Duration idleTimeout, Duration writeTimeout) {
+        this(contextPath, idleTimeout, writeTimeout, newBoundedExecutorService(DEFAULT_MAX_SENDER_THREADS, DEFAULT_MAX_QUEUED_SENDS));
+    }
+
+    ServerSentEventHandler(String contextPath, Duration idleTimeout, Duration writeTimeout, ExecutorService sseExecutorService) {
         this.contextPath = contextPath;
         this.sseExchanges = newKeySet();
+        this.idleTimeout = idleTimeout;
+        this.writeTimeout = writeTimeout;
+        this.sseExecutorService = sseExecutorService;
     }
 
     @Override
@@ -35,12 +76,69 @@ public abstract class ServerSentEventHandler extends AbstractHttpExchangeHandler
             return;
         }
         sseExchanges.add(createSseExchange(httpExchange));
+        startHeartbeats();
     }
 
     protected abstract SseExchange createSseExchange(HttpExchange httpExchange) throws IOException;
 
+    /**
+     * Returns the bounded executor that writes the heartbeats and that can be shared with the {@link SseBroadcaster SseBroadcasters}
+     * of this handler. It is shut down when this handler is closed.
+     *
+     * @return the executor to write to the {@link SseExchange SseExchanges}
+     */
+    protected Executor getSseExecutor() {
+        return sseExecutorService;
+    }
+
     @Override
     public void close() {
+        stopHeartbeats();
+        sseExecutorService.shutdownNow();
         sseExchanges.forEach(SseExchange::close);
     }
-}
\ No newline at end of file
+
+    void sendHeartbeatsAndCloseIdleSseExchanges(Instant now) {
+        sseExchanges.removeIf(SseExchange::isClosed);
+        for (SseExchange sseExchange : sseExchanges) {
+            if (sseExchange.abortWriteIfTimedOut(now, writeTimeout)) {
+                sseExchanges.remove(sseExchange);
+            } else if (sseExchange.getLastWriteAt().plus(idleTimeout).isBefore(now)) {
+                if (write(sseExchange::close)) {
+                    sseExchanges.remove(sseExchange);
+                }
+            } else {
+                write(sseExchange::sendHeartbeat);
+            }
+        }
+    }
+
+    private boolean write(Runnable write) {
+        try {
+            sseExecutorService.execute(write);
+            return true;
+        } catch (RejectedExecutionException e) {
+            // why: all threads are blocked by clients that stopped reading, the write is retried at the next heartbeat
+            return false;
+        }
+    }
+
+    private synchronized void startHeartbeats() {
+        if (heartbeatExecutorService != null) return;
+
+        heartbeatExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "jobrunr-sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long heartbeatIntervalInMillis = Math.max(idleTimeout.toMillis() / 4, 1000);
+        heartbeatExecutorService.scheduleWithFixedDelay(() -> sendHeartbeatsAndCloseIdleSseExchanges(Instant.now()), heartbeatIntervalInMillis, heartbeatIntervalInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void stopHeartbeats() {
+        if (heartbeatExecutorService == null) return;
+
+        heartbeatExecutorService.shutdownNow();
+        heartbeatExecutorService = null;
+    }
+}
@@ -0,0 +1,188 @@
+package org.jobrunr.dashboard.server.sse;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+
+/**
+ * Sends the same event to many {@link SseExchange SseExchanges}. Each message is encoded only once and the resulting bytes are
+ * shared by all subscribers.
+ * <p>
+ * Every subscriber is written to on the given {@link Executor} and has at most one write in flight. If a subscriber is still busy
+ * when a new message arrives, only the latest message is kept for it and older ones are dropped. A slow client can thus never hold
+ * back the other subscribers nor make events pile up in memory.
+ * <p>
+ * By default, the writes are done by a bounded amount of threads with a bounded queue. If the executor is saturated (e.g. because
+ * many subscribers are written to at once), the pending event of a subscriber is kept and its write is retried once another write
+ * finished or a new event is offered. A subscriber is only closed if writing to it fails or if the executor is shut down.
+ */
+public class SseBroadcaster implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_SENDER_THREADS = 4;
+    public static final int DEFAULT_MAX_QUEUED_SENDS = 32;
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutorService;
+    private final Set<BroadcastSseExchange> subscribers;
+    private final Queue<BroadcastSseExchange> subscribersWaitingForExecutor;
+    private volatile byte[] lastEvent;
+
+    public SseBroadcaster() {
+        this(newBoundedExecutorService(DEFAULT_MAX_SENDER_THREADS, DEFAULT_MAX_QUEUED_SENDS), true);
+    }
+
+    public SseBroadcaster(Executor executor) {
+        this(executor, false);
+    }
+
+    private SseBroadcaster(Executor executor, boolean ownsExecutor) {
+        this.executor = executor;
+        this.ownedExecutorService = ownsExecutor ? (ExecutorService) executor : null;
+        this.subscribers = newKeySet();
+        this.subscribersWaitingForExecutor = new ConcurrentLinkedQueue<>();
+    }
+
+    public synchronized SseExchange subscribe(HttpExchange httpExchange) throws IOException {
+        final BroadcastSseExchange sseExchange = new BroadcastSseExchange(httpExchange);
+        subscribers.add(sseExchange);
+        if (subscribers.size() == 1) {
+            onFirstSubscriber();
+        }
+        final byte[] event = lastEvent;
+        if (event != null) {
+            sseExchange.offer(event);
+        }
+        return sseExchange;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public void broadcast(String message) {
+        if (message == null) return;
+        final byte[] event = SseExchange.toEvent(message);
+        if (Arrays.equals(event, lastEvent)) return;
+        lastEvent = event;
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    @Override
+    public void close() {
+        subscribers.forEach(SseExchange::close);
+        if (ownedExecutorService != null) {
+            ownedExecutorService.shutdownNow();
+        }
+    }
+
+    static ExecutorService newBoundedExecutorService(int maxThreads, int maxQueuedSends) {
+        final ThreadPoolExecutor executorService = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(maxQueuedSends), runnable -> {
+            final Thread thread = new Thread(runnable, "jobrunr-sse-broadcaster");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        executorService.allowCoreThreadTimeOut(true);
+        return executorService;
+    }
+
+    private boolean isExecutorShutDown() {
+        return executor instanceof ExecutorService && ((ExecutorService) executor).isShutdown();
+    }
+
+    private void retryNextSubscriberWaitingForExecutor() {
+        final BroadcastSseExchange subscriber = subscribersWaitingForExecutor.poll();
+        if (subscriber != null) {
+            subscriber.retrySend();
+        }
+    }
+
+    protected void onFirstSubscriber() {
+        // hook for subclasses
+    }
+
+    protected void onLastSubscriberLeft() {
+        // hook for subclasses
+    }
+
+    private synchronized void unsubscribe(BroadcastSseExchange sseExchange) {
+        if (subscribers.remove(sseExchange) && subscribers.isEmpty()) {
+            onLastSubscriberLeft();
+        }
+    }
+
+    private class BroadcastSseExchange extends SseExchange {
+
+        private final AtomicReference<byte[]> pendingEvent;
+        private final AtomicBoolean sending;
+        private final AtomicBoolean waitingForExecutor;
+
+        public BroadcastSseExchange(HttpExchange httpExchange) throws IOException {
+            super(httpExchange);
+            this.pendingEvent = new AtomicReference<>();
+            this.sending = new AtomicBoolean();
+            this.waitingForExecutor = new AtomicBoolean();
+        }
+
+        void offer(byte[] event) {
+            pendingEvent.set(event);
+            scheduleSend();
+        }
+
+        private void scheduleSend() {
+            if (!sending.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this::sendPendingEvents);
+            } catch (RejectedExecutionException e) {
+                sending.set(false);
+                if (isExecutorShutDown()) {
+                    close();
+                } else if (waitingForExecutor.compareAndSet(false, true)) {
+                    // why: the executor is saturated, the pending event is kept and sent once another write finished
+                    subscribersWaitingForExecutor.add(this);
+                }
+            }
+        }
+
+        private void retrySend() {
+            waitingForExecutor.set(false);
+            if (!isClosed() && pendingEvent.get() != null) {
+                scheduleSend();
+            }
+        }
+
+        private void sendPendingEvents() {
+            try {
+                byte[] event;
+                while (!isClosed() && (event = pendingEvent.getAndSet(null)) != null) {
+                    sendEvent(event);
+                }
+            } finally {
+                sending.set(false);
+            }
+            if (!isClosed() && pendingEvent.get() != null) {
+                scheduleSend();
+            }
+            retryNextSubscriberWaitingForExecutor();
+        }
+
+        @Override
+        public void close() {
+            unsubscribe(this);
+            super.close();
+        }
+    }
+}
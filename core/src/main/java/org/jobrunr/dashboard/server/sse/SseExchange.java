@@ -5,17 +5,32 @@ import com.sun.net.httpserver.HttpExchange;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class SseExchange implements AutoCloseable {
 
+    private final OutputStream outputStream;
     private final BufferedWriter writer;
+    private final ReentrantLock writeLock;
     private String lastSendMessage;
-    private boolean closed;
+    private volatile Instant lastWriteAt;
+    private final Object currentWriteLock;
+    private Thread currentWriteThread;
+    private Instant currentWriteStartedAt;
+    private boolean currentWriteAborted;
+    private volatile boolean closed;
 
     public SseExchange(HttpExchange httpExchange) throws IOException {
-        this.writer = new BufferedWriter(new OutputStreamWriter(httpExchange.getResponseBody(), StandardCharsets.UTF_8));
+        this.outputStream = httpExchange.getResponseBody();
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.writeLock = new ReentrantLock();
+        this.currentWriteLock = new Object();
+        this.lastWriteAt = Instant.now();
         Headers responseHeaders = httpExchange.getResponseHeaders();
         responseHeaders.add("Cache-Control", "no-cache, no-store, private");
         responseHeaders.add("Content-Type", "text/event-stream");
@@ -28,17 +43,114 @@ public class SseExchange implements AutoCloseable {
 
     public void sendMessage(String message) {
         if (message == null) return;
-        if (message.equals(lastSendMessage)) return;
+        writeLock.lock();
         try {
+            if (message.equals(lastSendMessage)) return;
+            startWrite();
             writer.write("event\n");
             writer.write("data: " + message + "\n\n");
             writer.flush();
             lastSendMessage = message;
+            lastWriteAt = Instant.now();
         } catch (IOException e) {
             close();
+        } finally {
+            endWrite();
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Sends an event that was already encoded using {@link #toEvent(String)}, allowing to share the encoded bytes between exchanges.
+     *
+     * @param event the encoded event
+     */
+    public void sendEvent(byte[] event) {
+        writeLock.lock();
+        try {
+            startWrite();
+            writer.flush();
+            outputStream.write(event);
+            outputStream.flush();
+            lastWriteAt = Instant.now();
+        } catch (IOException e) {
+            close();
+        } finally {
+            endWrite();
+            writeLock.unlock();
         }
     }
 
+    /**
+     * Sends an SSE comment that is ignored by the browser but allows to detect broken connections. The heartbeat is skipped if
+     * another message is being written to this exchange.
+     */
+    public void sendHeartbeat() {
+        if (!writeLock.tryLock()) return;
+        try {
+            startWrite();
+            writer.write(":\n\n");
+            writer.flush();
+            lastWriteAt = Instant.now();
+        } catch (IOException e) {
+            close();
+        } finally {
+            endWrite();
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Aborts the current write to this exchange if it is blocked for longer than the given timeout, which happens if the client
+     * stopped reading and the socket buffers are full. The thread doing the write is interrupted, which closes the underlying socket
+     * channel and thus this exchange.
+     *
+     * @param now          the current time
+     * @param writeTimeout the maximum duration of a write
+     * @return true if a write was aborted
+     */
+    public boolean abortWriteIfTimedOut(Instant now, Duration writeTimeout) {
+        synchronized (currentWriteLock) {
+            if (currentWriteStartedAt == null || currentWriteAborted || !currentWriteStartedAt.plus(writeTimeout).isBefore(now)) return false;
+
+            currentWriteThread.interrupt();
+            currentWriteAborted = true;
+            return true;
+        }
+    }
+
+    /**
+     * Returns the last time something was written successfully to this exchange. If this is long ago while heartbeats are sent,
+     * the client is not reading anymore.
+     *
+     * @return the last time something was written successfully to this exchange
+     */
+    public Instant getLastWriteAt() {
+        return lastWriteAt;
+    }
+
+    private void startWrite() {
+        synchronized (currentWriteLock) {
+            currentWriteThread = Thread.currentThread();
+            currentWriteStartedAt = Instant.now();
+        }
+    }
+
+    private void endWrite() {
+        synchronized (currentWriteLock) {
+            if (currentWriteAborted) {
+                Thread.interrupted(); // why: the thread may be reused to write to other exchanges
+            }
+            currentWriteThread = null;
+            currentWriteStartedAt = null;
+            currentWriteAborted = false;
+        }
+    }
+
+    public static byte[] toEvent(String message) {
+        return ("event\n" + "data: " + message + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
     @Override
     public void close() {
         try {
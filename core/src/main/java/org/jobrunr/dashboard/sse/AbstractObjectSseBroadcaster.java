@@ -0,0 +1,43 @@
+package org.jobrunr.dashboard.sse;
+
+import org.jobrunr.dashboard.server.sse.SseBroadcaster;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.listeners.StorageProviderChangeListener;
+import org.jobrunr.utils.mapper.JsonMapper;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Listens to the {@link StorageProvider} only while there are subscribers and serializes each change once for all of them.
+ */
+public abstract class AbstractObjectSseBroadcaster extends SseBroadcaster implements StorageProviderChangeListener {
+
+    private final StorageProvider storageProvider;
+    private final JsonMapper jsonMapper;
+
+    protected AbstractObjectSseBroadcaster(StorageProvider storageProvider, JsonMapper jsonMapper) {
+        super();
+        this.storageProvider = storageProvider;
+        this.jsonMapper = jsonMapper;
+    }
+
+    protected AbstractObjectSseBroadcaster(StorageProvider storageProvider, JsonMapper jsonMapper, Executor executor) {
+        super(executor);
+        this.storageProvider = storageProvider;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public void broadcastObject(Object object) {
+        broadcast(jsonMapper.serialize(object));
+    }
+
+    @Override
+    protected void onFirstSubscriber() {
+        storageProvider.addJobStorageOnChangeListener(this);
+    }
+
+    @Override
+    protected void onLastSubscriberLeft() {
+        storageProvider.removeJobStorageOnChangeListener(this);
+    }
+}
@@ -0,0 +1,25 @@
+package org.jobrunr.dashboard.sse;
+
+import org.jobrunr.storage.BackgroundJobServerStatus;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.listeners.BackgroundJobServerStatusChangeListener;
+import org.jobrunr.utils.mapper.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+public class BackgroundJobServerStatusSseBroadcaster extends AbstractObjectSseBroadcaster implements BackgroundJobServerStatusChangeListener {
+
+    public BackgroundJobServerStatusSseBroadcaster(StorageProvider storageProvider, JsonMapper jsonMapper) {
+        super(storageProvider, jsonMapper);
+    }
+
+    public BackgroundJobServerStatusSseBroadcaster(StorageProvider storageProvider, JsonMapper jsonMapper, Executor executor) {
+        super(storageProvider, jsonMapper, executor);
+    }
+
+    @Override
+    public void onChange(List<BackgroundJobServerStatus> changedServerStates) {
+        broadcastObject(changedServerStates);
+    }
+}
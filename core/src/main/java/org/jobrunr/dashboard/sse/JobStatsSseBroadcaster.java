@@ -0,0 +1,24 @@
+package org.jobrunr.dashboard.sse;
+
+import org.jobrunr.storage.JobStats;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.listeners.JobStatsChangeListener;
+import org.jobrunr.utils.mapper.JsonMapper;
+
+import java.util.concurrent.Executor;
+
+public class JobStatsSseBroadcaster extends AbstractObjectSseBroadcaster implements JobStatsChangeListener {
+
+    public JobStatsSseBroadcaster(StorageProvider storageProvider, JsonMapper jsonMapper) {
+        super(storageProvider, jsonMapper);
+    }
+
+    public JobStatsSseBroadcaster(StorageProvider storageProvider, JsonMapper jsonMapper, Executor executor) {
+        super(storageProvider, jsonMapper, executor);
+    }
+
+    @Override
+    public void onChange(JobStats jobStats) {
+        broadcastObject(jobStats);
+    }
+}
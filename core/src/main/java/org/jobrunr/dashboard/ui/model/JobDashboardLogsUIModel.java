@@ -0,0 +1,53 @@
+package org.jobrunr.dashboard.ui.model;
+
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
+import org.jobrunr.jobs.context.JobDashboardLogger.JobDashboardLogLine;
+import org.jobrunr.jobs.context.JobDashboardProgressBar.JobDashboardProgress;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+public class JobDashboardLogsUIModel {
+
+    private final List<JobDashboardLogLine> logLines;
+    private final JobDashboardProgress progress;
+    private final int lastSequenceNbr;
+    private final boolean hasMore;
+
+    private JobDashboardLogsUIModel(List<JobDashboardLogLine> logLines, JobDashboardProgress progress, int lastSequenceNbr, boolean hasMore) {
+        this.logLines = logLines;
+        this.progress = progress;
+        this.lastSequenceNbr = lastSequenceNbr;
+        this.hasMore = hasMore;
+    }
+
+    public static JobDashboardLogsUIModel of(List<JobDashboardLogEntry> logEntries, JobDashboardLogEntry progressEntry, int afterSequenceNbr, int limit) {
+        return new JobDashboardLogsUIModel(
+                logEntries.stream().map(JobDashboardLogEntry::toLogLine).collect(toList()),
+                progressEntry != null ? progressEntry.toProgress() : null,
+                logEntries.isEmpty() ? afterSequenceNbr : logEntries.get(logEntries.size() - 1).getSequenceNbr(),
+                logEntries.size() == limit);
+    }
+
+    public static JobDashboardLogsUIModel notSupported() {
+        return new JobDashboardLogsUIModel(emptyList(), null, 0, false);
+    }
+
+    public List<JobDashboardLogLine> getLogLines() {
+        return logLines;
+    }
+
+    public JobDashboardProgress getProgress() {
+        return progress;
+    }
+
+    public int getLastSequenceNbr() {
+        return lastSequenceNbr;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
@@ -0,0 +1,68 @@
+package org.jobrunr.dashboard.ui.model;
+
+import org.jobrunr.storage.JobSignatureStats;
+import org.jobrunr.storage.JobStatsRollup;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class JobStatsRollupUIModel {
+
+    private final Instant timestamp;
+    private final Duration duration;
+    private final long started;
+    private final long succeeded;
+    private final long failed;
+    private final Duration enqueueToStartLatencyP50;
+    private final Duration enqueueToStartLatencyP95;
+    private final Duration processingTimeP50;
+    private final Duration processingTimeP95;
+
+    public JobStatsRollupUIModel(JobStatsRollup rollup, JobSignatureStats stats) {
+        this.timestamp = rollup.getTimestamp();
+        this.duration = rollup.getDuration();
+        this.started = stats.getStarted();
+        this.succeeded = stats.getSucceeded();
+        this.failed = stats.getFailed();
+        this.enqueueToStartLatencyP50 = stats.getEnqueueToStartLatencyPercentile(0.5);
+        this.enqueueToStartLatencyP95 = stats.getEnqueueToStartLatencyPercentile(0.95);
+        this.processingTimeP50 = stats.getProcessingTimePercentile(0.5);
+        this.processingTimeP95 = stats.getProcessingTimePercentile(0.95);
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public long getStarted() {
+        return started;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public Duration getEnqueueToStartLatencyP50() {
+        return enqueueToStartLatencyP50;
+    }
+
+    public Duration getEnqueueToStartLatencyP95() {
+        return enqueueToStartLatencyP95;
+    }
+
+    public Duration getProcessingTimeP50() {
+        return processingTimeP50;
+    }
+
+    public Duration getProcessingTimeP95() {
+        return processingTimeP95;
+    }
+}
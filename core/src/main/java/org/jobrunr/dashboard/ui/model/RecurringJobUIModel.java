@@ -9,10 +9,14 @@ public class RecurringJobUIModel extends RecurringJob {
     private final Instant nextRun;
 
     public RecurringJobUIModel(RecurringJob recurringJob) {
+        this(recurringJob, Instant.now());
+    }
+
+    public RecurringJobUIModel(RecurringJob recurringJob, Instant nextRunSince) {
         super(recurringJob.getId(), recurringJob.getJobDetails(), recurringJob.getScheduleExpression(), recurringJob.getZoneId(), recurringJob.getCreatedBy(), recurringJob.getCreatedAt());
         setJobName(recurringJob.getJobName());
         setLabels(recurringJob.getLabels());
-        nextRun = super.getNextRun();
+        nextRun = super.getNextRun(nextRunSince);
     }
 
     @Override
@@ -0,0 +1,151 @@
+package org.jobrunr.dashboard.ui.model;
+
+import org.jobrunr.jobs.RecurringJob;
+import org.jobrunr.storage.Page;
+import org.jobrunr.storage.RecurringJobsResult;
+import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
+import org.jobrunr.storage.navigation.OrderTerm;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.jobrunr.utils.CollectionUtils.asSet;
+import static org.jobrunr.utils.StringUtils.isNullOrEmpty;
+
+/**
+ * An immutable view on all {@link RecurringJob RecurringJobs} for the dashboard. The next run of each recurring job is only
+ * calculated once (and again once it is in the past), sorted lists are kept per sort order and recurring jobs can be looked up by id.
+ * <p>
+ * A new view must be created if the {@link RecurringJobsResult#getLastModifiedHash()} changes.
+ */
+public class RecurringJobUIModels {
+
+    public static final String FIELD_ID = "id";
+    public static final String FIELD_JOB_NAME = "jobName";
+    public static final String FIELD_NEXT_RUN = "nextRun";
+    public static final Set<String> ALLOWED_SORT_COLUMNS = asSet(FIELD_ID, FIELD_JOB_NAME, FIELD_NEXT_RUN);
+
+    private final long lastModifiedHash;
+    private final Map<String, RecurringJob> recurringJobsById;
+    private final List<RecurringJobUIModel> recurringJobUIModels;
+    private final Instant earliestNextRun;
+    private final Map<String, List<RecurringJobUIModel>> sortedRecurringJobUIModels;
+
+    public RecurringJobUIModels(RecurringJobsResult recurringJobsResult) {
+        this(recurringJobsResult.getLastModifiedHash(),
+                recurringJobsResult.stream().collect(HashMap::new, (map, recurringJob) -> map.put(recurringJob.getId(), recurringJob), Map::putAll),
+                recurringJobsResult.stream().map(RecurringJobUIModel::new).collect(toList()));
+    }
+
+    private RecurringJobUIModels(long lastModifiedHash, Map<String, RecurringJob> recurringJobsById, List<RecurringJobUIModel> recurringJobUIModels) {
+        this.lastModifiedHash = lastModifiedHash;
+        this.recurringJobsById = recurringJobsById;
+        this.recurringJobUIModels = recurringJobUIModels;
+        this.earliestNextRun = recurringJobUIModels.stream().map(RecurringJobUIModel::getNextRun).min(naturalOrder()).orElse(null);
+        this.sortedRecurringJobUIModels = new ConcurrentHashMap<>();
+    }
+
+    public long getLastModifiedHash() {
+        return lastModifiedHash;
+    }
+
+    public int size() {
+        return recurringJobUIModels.size();
+    }
+
+    public Optional<RecurringJob> getRecurringJobById(String id) {
+        return Optional.ofNullable(recurringJobsById.get(id));
+    }
+
+    /**
+     * Returns a view where all next runs are after the given instant. Only the recurring jobs whose next run has passed are
+     * calculated again; if there are none, the same view is returned.
+     *
+     * @param now the instant after which all next runs must be
+     * @return a view where all next runs are after the given instant
+     */
+    public RecurringJobUIModels withNextRunsAfter(Instant now) {
+        if (earliestNextRun == null || earliestNextRun.isAfter(now)) return this;
+
+        final List<RecurringJobUIModel> updatedRecurringJobUIModels = recurringJobUIModels.stream()
+                .map(recurringJobUIModel -> recurringJobUIModel.getNextRun().isAfter(now)
+                        ? recurringJobUIModel
+                        : new RecurringJobUIModel(recurringJobsById.get(recurringJobUIModel.getId()), now))
+                .collect(toList());
+        return new RecurringJobUIModels(lastModifiedHash, recurringJobsById, updatedRecurringJobUIModels);
+    }
+
+    /**
+     * Returns the requested page of recurring jobs, sorted on id, jobName or nextRun. If a filter is given, only recurring jobs of
+     * which the id or name contain the filter (case-insensitive) are returned.
+     *
+     * @param pageRequest the page to return
+     * @param filter      the optional text the id or name of the recurring jobs must contain
+     * @return the requested page of recurring jobs
+     */
+    public Page<RecurringJobUIModel> getPage(OffsetBasedPageRequest pageRequest, String filter) {
+        final List<OrderTerm> orderTerms = pageRequest.getAllOrderTerms(ALLOWED_SORT_COLUMNS);
+        final List<RecurringJobUIModel> sortedItems = getSorted(orderTerms);
+        if (isNullOrEmpty(filter)) {
+            return pageRequest.mapToNewPage(sortedItems.size(), subList(sortedItems, pageRequest));
+        }
+
+        final String lowerCaseFilter = filter.toLowerCase();
+        final List<RecurringJobUIModel> filteredItems = sortedItems.stream()
+                .filter(recurringJobUIModel -> matches(recurringJobUIModel, lowerCaseFilter))
+                .collect(toList());
+        return pageRequest.mapToNewPage(filteredItems.size(), subList(filteredItems, pageRequest));
+    }
+
+    private List<RecurringJobUIModel> getSorted(List<OrderTerm> orderTerms) {
+        if (orderTerms.isEmpty()) return recurringJobUIModels;
+
+        final String sortKey = orderTerms.stream().map(orderTerm -> orderTerm.getFieldName() + ":" + orderTerm.getOrder()).collect(joining(","));
+        return sortedRecurringJobUIModels.computeIfAbsent(sortKey, key -> recurringJobUIModels.stream()
+                .sorted(comparator(orderTerms))
+                .collect(toList()));
+    }
+
+    private static Comparator<RecurringJobUIModel> comparator(List<OrderTerm> orderTerms) {
+        Comparator<RecurringJobUIModel> result = null;
+        for (OrderTerm orderTerm : orderTerms) {
+            Comparator<RecurringJobUIModel> comparator = comparator(orderTerm.getFieldName());
+            if (orderTerm.getOrder() == OrderTerm.Order.DESC) comparator = comparator.reversed();
+            result = result == null ? comparator : result.thenComparing(comparator);
+        }
+        return result;
+    }
+
+    private static Comparator<RecurringJobUIModel> comparator(String fieldName) {
+        switch (fieldName) {
+            case FIELD_JOB_NAME:
+                return comparing(RecurringJobUIModel::getJobName, nullsLast(naturalOrder()));
+            case FIELD_NEXT_RUN:
+                return comparing(RecurringJobUIModel::getNextRun, nullsLast(naturalOrder()));
+            default:
+                return comparing(RecurringJobUIModel::getId, nullsLast(naturalOrder()));
+        }
+    }
+
+    private static boolean matches(RecurringJobUIModel recurringJobUIModel, String lowerCaseFilter) {
+        return recurringJobUIModel.getId().toLowerCase().contains(lowerCaseFilter)
+                || (recurringJobUIModel.getJobName() != null && recurringJobUIModel.getJobName().toLowerCase().contains(lowerCaseFilter));
+    }
+
+    private static List<RecurringJobUIModel> subList(List<RecurringJobUIModel> items, OffsetBasedPageRequest pageRequest) {
+        final int fromIndex = (int) Math.min(pageRequest.getOffset(), items.size());
+        final int toIndex = Math.min(fromIndex + pageRequest.getLimit(), items.size());
+        return items.subList(fromIndex, toIndex);
+    }
+}
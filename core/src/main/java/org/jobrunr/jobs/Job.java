@@ -8,6 +8,7 @@ import org.jobrunr.jobs.states.FailedState;
 import org.jobrunr.jobs.states.IllegalJobStateChangeException;
 import org.jobrunr.jobs.states.JobState;
 import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.RetriesSummaryState;
 import org.jobrunr.jobs.states.SchedulableState;
 import org.jobrunr.jobs.states.ScheduledState;
 import org.jobrunr.jobs.states.StateName;
@@ -146,6 +147,37 @@ public class Job extends AbstractJob {
         }
     }
 
+    /**
+     * Returns the number of the current state in the complete history of the job, thus also counting the states that were summarized by compacting
+     * the job history. Unlike the size of {@link #getJobStates()}, this number does not change when the job history is compacted and is used to
+     * key the data of a state (e.g. the dashboard logs of a processing attempt).
+     *
+     * @return the number of the current state - typically enqueued=1, processing=2, failed=3, scheduled=4, enqueued=5, processing=6, ...
+     */
+    public int getJobStateNbr() {
+        return getJobStateNbr(jobHistory.size() - 1);
+    }
+
+    /**
+     * @param element the index of the state in {@link #getJobStates()}
+     * @return the number of the state at the given index in the complete history of the job
+     * @see #getJobStateNbr()
+     */
+    public int getJobStateNbr(int element) {
+        int jobStateNbr = 0;
+        for (JobState jobState : jobHistory.subList(0, element + 1)) {
+            jobStateNbr += jobState instanceof RetriesSummaryState ? ((RetriesSummaryState) jobState).getCompactedStates() : 1;
+        }
+        return jobStateNbr;
+    }
+
+    /**
+     * @return the amount of times this job failed, also when the failed states were summarized by compacting the job history
+     */
+    public int getAmountOfFailures() {
+        return getJobStatesOfType(FailedState.class).mapToInt(FailedState::getFailedAttempts).sum();
+    }
+
     public StateName getState() {
         return getJobState().getName();
     }
@@ -0,0 +1,96 @@
+package org.jobrunr.jobs;
+
+import org.jobrunr.jobs.states.SchedulableState;
+import org.jobrunr.jobs.states.StateName;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_CREATED_AT;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_SCHEDULED_AT;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_UPDATED_AT;
+
+/**
+ * A lightweight read-only view on a {@link Job} that only contains what is needed to show it in a list. It can be read by the
+ * StorageProvider without deserializing the complete {@link Job} (including its parameters, state history and metadata).
+ */
+public class JobSummary {
+
+    public static final Map<String, Function<JobSummary, Instant>> ALLOWED_SORT_COLUMNS = new HashMap<>();
+
+    static {
+        ALLOWED_SORT_COLUMNS.put(FIELD_CREATED_AT, JobSummary::getCreatedAt);
+        ALLOWED_SORT_COLUMNS.put(FIELD_UPDATED_AT, JobSummary::getUpdatedAt);
+        ALLOWED_SORT_COLUMNS.put(FIELD_SCHEDULED_AT, JobSummary::getScheduledAt);
+    }
+
+    private final UUID id;
+    private final String jobName;
+    private final String jobSignature;
+    private final ArrayList<String> labels;
+    private final StateName state;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final Instant scheduledAt;
+    private final String recurringJobId;
+
+    public JobSummary(Job job) {
+        this(job.getId(), job.getJobName(), job.getJobSignature(), job.getLabels(), job.getState(), job.getCreatedAt(), job.getUpdatedAt(),
+                job.getLastJobStateOfType(SchedulableState.class).map(SchedulableState::getScheduledAt).orElse(null),
+                job.getRecurringJobId().orElse(null));
+    }
+
+    public JobSummary(UUID id, String jobName, String jobSignature, List<String> labels, StateName state, Instant createdAt, Instant updatedAt, Instant scheduledAt, String recurringJobId) {
+        this.id = id;
+        this.jobName = jobName != null ? jobName : jobSignature;
+        this.jobSignature = jobSignature;
+        this.labels = labels != null ? new ArrayList<>(labels) : new ArrayList<>();
+        this.state = state;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.scheduledAt = scheduledAt;
+        this.recurringJobId = recurringJobId;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getJobSignature() {
+        return jobSignature;
+    }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    public StateName getState() {
+        return state;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public Optional<String> getRecurringJobId() {
+        return Optional.ofNullable(recurringJobId);
+    }
+}
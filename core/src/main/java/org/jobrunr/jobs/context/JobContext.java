@@ -2,7 +2,6 @@ package org.jobrunr.jobs.context;
 
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.exceptions.StepExecutionException;
-import org.jobrunr.jobs.states.FailedState;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.utils.exceptions.Exceptions.ThrowingRunnable;
 import org.jobrunr.utils.exceptions.Exceptions.ThrowingSupplier;
@@ -39,6 +38,7 @@ public class JobContext {
     public static final JobContext Null = new JobContext(null);
 
     private final Job job;
+    private final JobDashboardLogBuffer jobDashboardLogBuffer;
 
     private JobDashboardLogger jobDashboardLogger;
     private JobDashboardProgressBar jobDashboardProgressBar;
@@ -56,6 +56,7 @@ public class JobContext {
      */
     protected JobContext(Job job) {
         this.job = job;
+        this.jobDashboardLogBuffer = JobDashboardLogBuffer.forJob(job);
     }
 
     public UUID getJobId() {
@@ -91,12 +92,12 @@ public class JobContext {
     }
 
     public int amountOfFailures() {
-        return (int) job.getJobStatesOfType(FailedState.class).count();
+        return job.getAmountOfFailures();
     }
 
     public JobDashboardLogger logger() {
         if (jobDashboardLogger == null) {
-            jobDashboardLogger = new JobDashboardLogger(job);
+            jobDashboardLogger = new JobDashboardLogger(job, jobDashboardLogBuffer);
         }
         return jobDashboardLogger;
     }
@@ -107,7 +108,7 @@ public class JobContext {
 
     public JobDashboardProgressBar progressBar(long totalAmount) {
         if (jobDashboardProgressBar == null) {
-            jobDashboardProgressBar = new JobDashboardProgressBar(job, totalAmount);
+            jobDashboardProgressBar = new JobDashboardProgressBar(job, totalAmount, jobDashboardLogBuffer);
         }
         return jobDashboardProgressBar;
     }
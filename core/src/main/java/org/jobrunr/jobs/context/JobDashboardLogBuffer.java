@@ -0,0 +1,149 @@
+package org.jobrunr.jobs.context;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.context.JobDashboardLogger.Level;
+import org.jobrunr.jobs.context.JobDashboardProgressBar.JobDashboardProgress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Collects the dashboard log lines and progress of a single processing attempt of a job, so they can be appended in batches to the
+ * {@link org.jobrunr.storage.StorageProvider} instead of being stored in the job metadata (which is rewritten completely on every save
+ * of the job).
+ * <p>
+ * The amount of log lines is capped: once the maximum is reached, a warning is added and further log lines are only counted. Progress
+ * updates are coalesced, so at most one progress entry is added per drain.
+ * <p>
+ * The BackgroundJobServer binds the buffer to the thread processing the job; a {@link JobContext} created for that job on that thread
+ * writes to this buffer.
+ */
+public class JobDashboardLogBuffer {
+
+    public static final int DEFAULT_MAX_LOG_LINES = 1000;
+    public static final int DEFAULT_FLUSH_THRESHOLD = 100;
+
+    private static final ThreadLocal<JobDashboardLogBuffer> jobDashboardLogBufferThreadLocal = new ThreadLocal<>();
+
+    private final UUID jobId;
+    private final int stateIndex;
+    private final int maxLogLines;
+    private final int flushThreshold;
+    private final Consumer<JobDashboardLogBuffer> flushAction;
+    private final AtomicInteger sequenceNbr;
+    private final AtomicInteger logLineCount;
+    private final AtomicInteger pendingEntryCount;
+    private final Queue<JobDashboardLogEntry> pendingEntries;
+    private final AtomicBoolean progressChanged;
+    private volatile JobDashboardProgress progress;
+
+    public JobDashboardLogBuffer(Job job, int maxLogLines, int flushThreshold, Consumer<JobDashboardLogBuffer> flushAction) {
+        this.jobId = job.getId();
+        this.stateIndex = job.getJobStateNbr();
+        this.maxLogLines = maxLogLines;
+        this.flushThreshold = flushThreshold;
+        this.flushAction = flushAction;
+        this.sequenceNbr = new AtomicInteger();
+        this.logLineCount = new AtomicInteger();
+        this.pendingEntryCount = new AtomicInteger();
+        this.pendingEntries = new ConcurrentLinkedQueue<>();
+        this.progressChanged = new AtomicBoolean();
+    }
+
+    public static void bind(JobDashboardLogBuffer jobDashboardLogBuffer) {
+        jobDashboardLogBufferThreadLocal.set(jobDashboardLogBuffer);
+    }
+
+    public static void unbind() {
+        jobDashboardLogBufferThreadLocal.remove();
+    }
+
+    /**
+     * @param job the job for which to return the buffer
+     * @return the buffer bound to the current thread if it belongs to the given job, null otherwise
+     */
+    public static JobDashboardLogBuffer forJob(Job job) {
+        JobDashboardLogBuffer jobDashboardLogBuffer = jobDashboardLogBufferThreadLocal.get();
+        if (job == null || jobDashboardLogBuffer == null || !jobDashboardLogBuffer.jobId.equals(job.getId())) return null;
+        return jobDashboardLogBuffer;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public int getStateIndex() {
+        return stateIndex;
+    }
+
+    public int getPendingEntryCount() {
+        return pendingEntryCount.get();
+    }
+
+    public int getTruncatedLogLineCount() {
+        return Math.max(0, logLineCount.get() - maxLogLines);
+    }
+
+    void log(Level level, String message) {
+        int logLineNbr = logLineCount.incrementAndGet();
+        if (logLineNbr <= maxLogLines) {
+            addEntry(level, message);
+        } else if (logLineNbr == maxLogLines + 1) {
+            addEntry(Level.WARN, "The maximum of " + maxLogLines + " log lines is reached - further log lines are not shown.");
+        }
+        if (pendingEntryCount.get() >= flushThreshold) {
+            flushAction.accept(this);
+        }
+    }
+
+    synchronized JobDashboardProgress getOrCreateProgress(long totalAmount) {
+        if (progress == null) {
+            progress = new JobDashboardProgress(totalAmount);
+            progressChanged.set(true);
+        }
+        return progress;
+    }
+
+    void progressChanged() {
+        progressChanged.set(true);
+    }
+
+    /**
+     * Adds a log line with the amount of log lines that were not shown as the maximum was reached (if any). Called once the
+     * processing attempt is finished, before the last drain.
+     */
+    public void close() {
+        int truncatedLogLineCount = getTruncatedLogLineCount();
+        if (truncatedLogLineCount > 0) {
+            addEntry(Level.WARN, truncatedLogLineCount + " log lines were not shown as the maximum of " + maxLogLines + " log lines was reached.");
+        }
+    }
+
+    /**
+     * @return all entries that were added since the previous drain, followed by a single progress entry if the progress changed
+     */
+    public List<JobDashboardLogEntry> drainPendingEntries() {
+        List<JobDashboardLogEntry> result = new ArrayList<>();
+        JobDashboardLogEntry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            pendingEntryCount.decrementAndGet();
+            result.add(entry);
+        }
+        JobDashboardProgress currentProgress = this.progress;
+        if (currentProgress != null && progressChanged.getAndSet(false)) {
+            result.add(JobDashboardLogEntry.progress(jobId, stateIndex, sequenceNbr.incrementAndGet(), currentProgress));
+        }
+        return result;
+    }
+
+    private void addEntry(Level level, String message) {
+        pendingEntries.add(JobDashboardLogEntry.logLine(jobId, stateIndex, sequenceNbr.incrementAndGet(), level, message));
+        pendingEntryCount.incrementAndGet();
+    }
+}
@@ -0,0 +1,110 @@
+package org.jobrunr.jobs.context;
+
+import org.jobrunr.jobs.context.JobDashboardLogger.JobDashboardLogLine;
+import org.jobrunr.jobs.context.JobDashboardLogger.Level;
+import org.jobrunr.jobs.context.JobDashboardProgressBar.JobDashboardProgress;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A single log line or progress update of a job that is stored by the {@link org.jobrunr.storage.StorageProvider} outside of the job itself.
+ * <p>
+ * Entries are append-only and are identified by the id of the job, the state index of the processing attempt they belong to (using the same
+ * numbering as the dashboard log keys in the job metadata) and a sequence number that is unique within that processing attempt.
+ */
+public class JobDashboardLogEntry {
+
+    public enum Type {
+        INFO, WARN, ERROR, PROGRESS
+    }
+
+    public static final int MAX_MESSAGE_LENGTH = 2000;
+
+    private final UUID jobId;
+    private final int stateIndex;
+    private final int sequenceNbr;
+    private final Type type;
+    private final Instant createdAt;
+    private final String message;
+    private final Long totalAmount;
+    private final Long succeededAmount;
+    private final Long failedAmount;
+
+    public JobDashboardLogEntry(UUID jobId, int stateIndex, int sequenceNbr, Type type, Instant createdAt, String message, Long totalAmount, Long succeededAmount, Long failedAmount) {
+        this.jobId = jobId;
+        this.stateIndex = stateIndex;
+        this.sequenceNbr = sequenceNbr;
+        this.type = type;
+        this.createdAt = createdAt;
+        this.message = truncate(message);
+        this.totalAmount = totalAmount;
+        this.succeededAmount = succeededAmount;
+        this.failedAmount = failedAmount;
+    }
+
+    public static JobDashboardLogEntry logLine(UUID jobId, int stateIndex, int sequenceNbr, Level level, String message) {
+        return new JobDashboardLogEntry(jobId, stateIndex, sequenceNbr, Type.valueOf(level.name()), Instant.now(), message, null, null, null);
+    }
+
+    public static JobDashboardLogEntry progress(UUID jobId, int stateIndex, int sequenceNbr, JobDashboardProgress progress) {
+        return new JobDashboardLogEntry(jobId, stateIndex, sequenceNbr, Type.PROGRESS, Instant.now(), null, progress.getTotalAmount(), progress.getSucceededAmount(), progress.getFailedAmount());
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public int getStateIndex() {
+        return stateIndex;
+    }
+
+    public int getSequenceNbr() {
+        return sequenceNbr;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Long getTotalAmount() {
+        return totalAmount;
+    }
+
+    public Long getSucceededAmount() {
+        return succeededAmount;
+    }
+
+    public Long getFailedAmount() {
+        return failedAmount;
+    }
+
+    public boolean isProgress() {
+        return type == Type.PROGRESS;
+    }
+
+    public JobDashboardLogLine toLogLine() {
+        if (isProgress()) throw new IllegalStateException("A progress entry can not be converted to a log line.");
+        return new JobDashboardLogLine(Level.valueOf(type.name()), createdAt, message);
+    }
+
+    public JobDashboardProgress toProgress() {
+        if (!isProgress()) throw new IllegalStateException("A log line entry can not be converted to a progress.");
+        JobDashboardProgress progress = new JobDashboardProgress(totalAmount);
+        progress.setProgress(totalAmount, succeededAmount, failedAmount);
+        return progress;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) return message;
+        return message.substring(0, MAX_MESSAGE_LENGTH - 3) + "...";
+    }
+}
@@ -19,26 +19,46 @@ public class JobDashboardLogger {
     public static final String JOBRUNR_LOG_KEY = "jobRunrDashboardLog";
 
     private final JobDashboardLogLines logLines;
+    private final JobDashboardLogBuffer logBuffer;
 
     public JobDashboardLogger(Job job) {
-        this.logLines = initLogLines(job);
+        this(job, JobDashboardLogBuffer.forJob(job));
+    }
+
+    /**
+     * Creates a logger that appends to the given {@link JobDashboardLogBuffer} or, if it is null, to the job metadata.
+     *
+     * @param job       the job to log for
+     * @param logBuffer the buffer of the current processing attempt of the job (may be null)
+     */
+    public JobDashboardLogger(Job job, JobDashboardLogBuffer logBuffer) {
+        this.logBuffer = logBuffer;
+        this.logLines = logBuffer == null ? initLogLines(job) : null;
     }
 
     public void info(String infoMessage) {
-        logLines.add(new JobDashboardLogLine(Level.INFO, infoMessage));
+        log(Level.INFO, infoMessage);
     }
 
     public void warn(String warnMessage) {
-        logLines.add(new JobDashboardLogLine(Level.WARN, warnMessage));
+        log(Level.WARN, warnMessage);
     }
 
     public void error(String errorMessage) {
-        logLines.add(new JobDashboardLogLine(Level.ERROR, errorMessage));
+        log(Level.ERROR, errorMessage);
+    }
+
+    private void log(Level level, String message) {
+        if (logBuffer != null) {
+            logBuffer.log(level, message);
+        } else {
+            logLines.add(new JobDashboardLogLine(level, message));
+        }
     }
 
     private JobDashboardLogLines initLogLines(Job job) {
         Map<String, Object> jobMetadata = job.getMetadata();
-        String logKey = logKey(job.getJobStates().size());
+        String logKey = logKey(job.getJobStateNbr());
         jobMetadata.putIfAbsent(logKey, new JobDashboardLogLines());
         return cast(jobMetadata.get(logKey));
     }
@@ -49,7 +69,7 @@ public class JobDashboardLogger {
      * @param jobStateNbr the current state nbr - typically enqueued=1, processing=2, failed=3, scheduled=4, enqueued=5, processing=6, ...
      * @return a log key for the metadata matching the current job state.
      */
-    private static String logKey(int jobStateNbr) {
+    public static String logKey(int jobStateNbr) {
         return JOBRUNR_LOG_KEY + "-" + jobStateNbr;
     }
 
@@ -11,13 +11,30 @@ public class JobDashboardProgressBar {
     public static final String JOBRUNR_PROGRESSBAR_KEY = "jobRunrDashboardProgressBar";
 
     private final JobDashboardProgress jobDashboardProgress;
+    private final JobDashboardLogBuffer logBuffer;
 
     public JobDashboardProgressBar(Job job, Long totalAmount) {
-        this(initJobDashboardProgress(job, totalAmount));
+        this(job, totalAmount, JobDashboardLogBuffer.forJob(job));
+    }
+
+    /**
+     * Creates a progress bar that is stored via the given {@link JobDashboardLogBuffer} or, if it is null, in the job metadata.
+     *
+     * @param job         the job to show the progress for
+     * @param totalAmount the total amount of items to process
+     * @param logBuffer   the buffer of the current processing attempt of the job (may be null)
+     */
+    public JobDashboardProgressBar(Job job, Long totalAmount, JobDashboardLogBuffer logBuffer) {
+        this(logBuffer == null ? initJobDashboardProgress(job, totalAmount) : logBuffer.getOrCreateProgress(totalAmount), logBuffer);
     }
 
     public JobDashboardProgressBar(JobDashboardProgress jobDashboardProgress) {
+        this(jobDashboardProgress, null);
+    }
+
+    private JobDashboardProgressBar(JobDashboardProgress jobDashboardProgress, JobDashboardLogBuffer logBuffer) {
         this.jobDashboardProgress = jobDashboardProgress;
+        this.logBuffer = logBuffer;
     }
 
     public static JobDashboardProgressBar get(Job job) {
@@ -30,7 +47,7 @@ public class JobDashboardProgressBar {
 
     private static JobDashboardProgress initJobDashboardProgress(Job job, Long totalAmount) {
         Map<String, Object> jobMetadata = job.getMetadata();
-        String progressBarKey = progressBarKey(job.getJobStates().size());
+        String progressBarKey = progressBarKey(job.getJobStateNbr());
         jobMetadata.putIfAbsent(progressBarKey, new JobDashboardProgress(totalAmount));
         return cast(jobMetadata.get(progressBarKey));
     }
@@ -40,6 +57,7 @@ public class JobDashboardProgressBar {
      */
     public void incrementSucceeded() {
         jobDashboardProgress.incrementSucceeded();
+        notifyProgressChanged(true);
     }
 
     /**
@@ -47,6 +65,7 @@ public class JobDashboardProgressBar {
      */
     public void incrementFailed() {
         jobDashboardProgress.incrementFailed();
+        notifyProgressChanged(true);
     }
 
     public int getProgressAsPercentage() {
@@ -76,11 +95,18 @@ public class JobDashboardProgressBar {
      * @return true if the progress has changed, false otherwise
      */
     public boolean setProgress(long succeededAmount) {
-        return jobDashboardProgress.setProgress(succeededAmount);
+        return notifyProgressChanged(jobDashboardProgress.setProgress(succeededAmount));
     }
 
     public boolean setProgress(long totalAmount, long succeededAmount, long failedAmount) {
-        return this.jobDashboardProgress.setProgress(totalAmount, succeededAmount, failedAmount);
+        return notifyProgressChanged(this.jobDashboardProgress.setProgress(totalAmount, succeededAmount, failedAmount));
+    }
+
+    private boolean notifyProgressChanged(boolean hasChanges) {
+        if (hasChanges && logBuffer != null) {
+            logBuffer.progressChanged();
+        }
+        return hasChanges;
     }
 
     /**
@@ -89,7 +115,7 @@ public class JobDashboardProgressBar {
      * @param jobStateNbr the current state nbr - typically enqueued=1, processing=2, failed=3, scheduled=4, enqueued=5, processing=6, ...
      * @return a progress bar key for the metadata matching the current job state.
      */
-    private static String progressBarKey(int jobStateNbr) {
+    public static String progressBarKey(int jobStateNbr) {
         return JOBRUNR_PROGRESSBAR_KEY + "-" + jobStateNbr;
     }
 
@@ -21,10 +21,12 @@ import static org.jobrunr.utils.reflection.ReflectionUtils.newInstanceCE;
 public abstract class AbstractJobFilters<T extends AbstractJob> {
     protected final T job;
     private final List<JobFilter> jobFilters;
+    private final JobFilterExecutor jobFilterExecutor;
 
     protected AbstractJobFilters(T job, JobDefaultFilters jobDefaultFilters) {
         this.job = job;
         this.jobFilters = initJobFilters(job, jobDefaultFilters.getFilters());
+        this.jobFilterExecutor = jobDefaultFilters.getJobFilterExecutor();
     }
 
     protected List<JobFilter> jobFilters() {
@@ -101,21 +103,42 @@ public abstract class AbstractJobFilters<T extends AbstractJob> {
     }
 
     final <JFT extends JobFilter> Consumer<JFT> catchThrowable(Consumer<JFT> consumer) {
+        return jobFilter -> runJobFilter(jobFilter, consumer);
+    }
+
+    /**
+     * Same as {@link #catchThrowable(Consumer)} but an {@link AsyncJobFilter} is handed off to the {@link JobFilterExecutor}. Only use
+     * this for hooks that observe the job as the consumer may run after the calling thread already moved on.
+     */
+    final <JFT extends JobFilter> Consumer<JFT> catchThrowableAndRunAsyncIfAllowed(Consumer<JFT> consumer) {
         return jobFilter -> {
-            try {
-                long startTime = System.nanoTime();
-                consumer.accept(jobFilter);
-                long endTime = System.nanoTime();
-                logJobFilterTime(jobFilter, (endTime - startTime));
-            } catch (Exception e) {
-                getLogger().error("Error evaluating JobFilter {}", jobFilter.getClass().getName(), e);
+            if (jobFilter instanceof AsyncJobFilter) {
+                jobFilterExecutor.executeAsync(jobFilter, () -> runJobFilter(jobFilter, consumer));
+            } else {
+                runJobFilter(jobFilter, consumer);
             }
         };
     }
 
+    private <JFT extends JobFilter> void runJobFilter(JFT jobFilter, Consumer<JFT> consumer) {
+        long startTime = System.nanoTime();
+        boolean failed = false;
+        try {
+            consumer.accept(jobFilter);
+        } catch (Exception e) {
+            failed = true;
+            getLogger().error("Error evaluating JobFilter {}", jobFilter.getClass().getName(), e);
+        }
+        long durationInNanos = System.nanoTime() - startTime;
+        jobFilterExecutor.recordInvocation(jobFilter, durationInNanos, failed);
+        if (!failed && !(jobFilter instanceof AsyncJobFilter)) {
+            logJobFilterTime(jobFilter, durationInNanos);
+        }
+    }
+
     final void logJobFilterTime(JobFilter jobFilter, long durationInNanos) {
         if (NANOSECONDS.toMillis(durationInNanos) > 10) {
-            getLogger().warn("JobFilter of type '{}' has slow performance of {}ms (a Job Filter should run under 10ms) which negatively impacts the overall functioning of JobRunr. JobRunr Pro can run slow running Job Filters without a negative performance impact.", jobFilter.getClass().getName(), NANOSECONDS.toMillis(durationInNanos));
+            getLogger().warn("JobFilter of type '{}' has slow performance of {}ms (a Job Filter should run under 10ms) which negatively impacts the overall functioning of JobRunr. If it only observes jobs, implement AsyncJobFilter to run it asynchronously.", jobFilter.getClass().getName(), NANOSECONDS.toMillis(durationInNanos));
         }
     }
 }
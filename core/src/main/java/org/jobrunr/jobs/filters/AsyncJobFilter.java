@@ -0,0 +1,16 @@
+package org.jobrunr.jobs.filters;
+
+/**
+ * Marks a {@link JobFilter} as an observer that may run asynchronously. The {@link ApplyStateFilter} and {@link JobServerFilter} hooks
+ * of such a filter are not run on the worker or zookeeper thread but are handed off to the {@link JobFilterExecutor} of the
+ * {@link org.jobrunr.server.BackgroundJobServer}, so a slow filter (e.g. one that writes an audit record) does not lower the job throughput.
+ * <p>
+ * An {@link ElectStateFilter} or a {@link JobClientFilter} always runs synchronously as it may change the state or the contents of the job.
+ * <p>
+ * <b><em>Please note:</em></b> an asynchronous filter must not change the job it is given: the job is shared with the worker and may
+ * already be in a later state when the filter runs. The {@code oldState} and {@code newState} passed to
+ * {@link ApplyStateFilter#onStateApplied(org.jobrunr.jobs.Job, org.jobrunr.jobs.states.JobState, org.jobrunr.jobs.states.JobState)}
+ * are the ones of the moment the state was applied.
+ */
+public interface AsyncJobFilter extends JobFilter {
+}
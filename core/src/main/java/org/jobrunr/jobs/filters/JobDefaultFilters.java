@@ -9,6 +9,7 @@ import static org.jobrunr.utils.CollectionUtils.isNullOrEmpty;
 public class JobDefaultFilters {
 
     private final List<JobFilter> filters;
+    private final JobFilterExecutor jobFilterExecutor;
 
     public JobDefaultFilters(JobFilter... filters) {
         this(Arrays.asList(filters));
@@ -16,6 +17,7 @@ public class JobDefaultFilters {
 
     public JobDefaultFilters(List<JobFilter> filters) {
         this.filters = getAllJobFilters(filters);
+        this.jobFilterExecutor = new JobFilterExecutor();
     }
 
     public void addAll(List<? extends JobFilter> filters) {
@@ -27,6 +29,10 @@ public class JobDefaultFilters {
         return filters;
     }
 
+    public JobFilterExecutor getJobFilterExecutor() {
+        return jobFilterExecutor;
+    }
+
     private List<JobFilter> getAllJobFilters(List<JobFilter> jobFilters) {
         final ArrayList<JobFilter> result = new ArrayList<>(Arrays.asList(new DefaultJobFilter(), new RetryFilter()));
         result.addAll(jobFilters);
@@ -0,0 +1,174 @@
+package org.jobrunr.jobs.filters;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Decides on which thread a {@link JobFilter} runs and keeps the {@link JobFilterStats} of every filter.
+ * <p>
+ * Until the asynchronous execution is started (which the {@link org.jobrunr.server.BackgroundJobServer} does), all filters run on the
+ * calling thread. Once started, the hooks of an {@link AsyncJobFilter} are queued on a bounded executor. If that queue is full, the
+ * calling thread runs the filter itself, which slows down the producer instead of losing the invocation. Only for filters that are
+ * degraded (they exceeded the time budget {@link #DEFAULT_DEGRADED_THRESHOLD} times in a row), the invocation is dropped instead.
+ * <p>
+ * With a single worker (the default), the asynchronous invocations are run in the order they were submitted.
+ */
+public class JobFilterExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobFilterExecutor.class);
+
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(10);
+    public static final int DEFAULT_DEGRADED_THRESHOLD = 5;
+    public static final int DEFAULT_ASYNC_WORKER_COUNT = 1;
+    public static final int DEFAULT_ASYNC_QUEUE_SIZE = 10_000;
+
+    private final Map<String, JobFilterStats> jobFilterStats = new ConcurrentHashMap<>();
+    private final List<Consumer<JobFilterStats>> jobFilterStatsListeners = new CopyOnWriteArrayList<>();
+    private volatile long timeBudgetInNanos = DEFAULT_TIME_BUDGET.toNanos();
+    private volatile ThreadPoolExecutor asyncExecutor;
+
+    public void setTimeBudget(Duration timeBudget) {
+        this.timeBudgetInNanos = timeBudget.toNanos();
+    }
+
+    public Duration getTimeBudget() {
+        return Duration.ofNanos(timeBudgetInNanos);
+    }
+
+    public synchronized void startAsyncExecution(int workerCount, int queueSize) {
+        if (asyncExecutor != null) return;
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(workerCount, workerCount, 1, TimeUnit.MINUTES, new ArrayBlockingQueue<>(queueSize), new NamedThreadFactory("backgroundjob-filter-pool"));
+        executor.allowCoreThreadTimeOut(true);
+        this.asyncExecutor = executor;
+    }
+
+    /**
+     * Stops the asynchronous execution after the queued invocations ran (waiting at most the given duration). Filters that are invoked
+     * from now on run on the calling thread again.
+     *
+     * @param awaitTimeout how long to wait for the queued invocations
+     */
+    public synchronized void stopAsyncExecution(Duration awaitTimeout) {
+        ThreadPoolExecutor executor = this.asyncExecutor;
+        if (executor == null) return;
+        this.asyncExecutor = null;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                List<Runnable> notRun = executor.shutdownNow();
+                LOGGER.warn("Stopped asynchronous JobFilter execution while {} invocations were still queued", notRun.size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isAsyncExecutionStarted() {
+        return asyncExecutor != null;
+    }
+
+    /**
+     * @return the stats of all filters that ran at least once, sorted by filter name
+     */
+    public List<JobFilterStats> getJobFilterStats() {
+        return jobFilterStats.values().stream()
+                .sorted(comparing(JobFilterStats::getJobFilter))
+                .collect(toList());
+    }
+
+    /**
+     * Adds a listener that is called once for every filter when its stats are created.
+     *
+     * @param listener the listener to add
+     */
+    public void addJobFilterStatsListener(Consumer<JobFilterStats> listener) {
+        jobFilterStatsListeners.add(listener);
+    }
+
+    public void removeJobFilterStatsListener(Consumer<JobFilterStats> listener) {
+        jobFilterStatsListeners.remove(listener);
+    }
+
+    void executeAsync(JobFilter jobFilter, Runnable invocation) {
+        ThreadPoolExecutor executor = this.asyncExecutor;
+        if (executor == null) {
+            invocation.run();
+            return;
+        }
+
+        try {
+            executor.execute(invocation);
+        } catch (RejectedExecutionException e) {
+            JobFilterStats stats = getJobFilterStats(jobFilter);
+            if (stats.isDegraded() && !executor.isShutdown()) {
+                stats.recordAsyncInvocationDropped();
+                if (stats.getAsyncInvocationsDropped() % 1000 == 1) {
+                    LOGGER.warn("JobFilter of type '{}' is degraded and the asynchronous JobFilter queue is full - dropped {} invocations so far.", stats.getJobFilter(), stats.getAsyncInvocationsDropped());
+                }
+            } else {
+                stats.recordAsyncInvocationRunByCaller();
+                invocation.run();
+            }
+        }
+    }
+
+    void recordInvocation(JobFilter jobFilter, long durationInNanos, boolean failed) {
+        JobFilterStats stats = getJobFilterStats(jobFilter);
+        if (stats.record(durationInNanos, failed, timeBudgetInNanos, DEFAULT_DEGRADED_THRESHOLD)) {
+            if (stats.isDegraded()) {
+                LOGGER.warn("JobFilter of type '{}' is degraded as it exceeded its time budget of {}ms {} times in a row.", stats.getJobFilter(), getTimeBudget().toMillis(), DEFAULT_DEGRADED_THRESHOLD);
+            } else {
+                LOGGER.info("JobFilter of type '{}' is no longer degraded as it ran within its time budget of {}ms.", stats.getJobFilter(), getTimeBudget().toMillis());
+            }
+        }
+    }
+
+    JobFilterStats getJobFilterStats(JobFilter jobFilter) {
+        final String name = jobFilter.getClass().getName();
+        final JobFilterStats existingJobFilterStats = jobFilterStats.get(name);
+        if (existingJobFilterStats != null) return existingJobFilterStats;
+
+        final JobFilterStats newJobFilterStats = new JobFilterStats(name, jobFilter instanceof AsyncJobFilter);
+        final JobFilterStats concurrentlyCreatedJobFilterStats = jobFilterStats.putIfAbsent(name, newJobFilterStats);
+        if (concurrentlyCreatedJobFilterStats != null) return concurrentlyCreatedJobFilterStats;
+
+        jobFilterStatsListeners.forEach(listener -> listener.accept(newJobFilterStats));
+        return newJobFilterStats;
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String poolName;
+        private final ThreadFactory threadFactory;
+
+        public NamedThreadFactory(String poolName) {
+            this.poolName = poolName;
+            threadFactory = Executors.defaultThreadFactory();
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = threadFactory.newThread(runnable);
+            thread.setName(thread.getName().replace("pool", poolName));
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.jobrunr.jobs.filters;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of a single {@link JobFilter} class as recorded by the {@link JobFilterExecutor}.
+ * <p>
+ * A filter is marked as degraded once it exceeded the time budget a number of times in a row and is no longer degraded as soon as
+ * it runs within the time budget again.
+ */
+public class JobFilterStats {
+
+    private final String jobFilter;
+    private final boolean async;
+    private final LongAdder invocations;
+    private final LongAdder failures;
+    private final LongAdder invocationsOverTimeBudget;
+    private final LongAdder asyncInvocationsRunByCaller;
+    private final LongAdder asyncInvocationsDropped;
+    private final LongAdder totalTimeInNanos;
+    private final AtomicLong maxTimeInNanos;
+    private final AtomicInteger consecutiveInvocationsOverTimeBudget;
+    private volatile boolean degraded;
+
+    JobFilterStats(String jobFilter, boolean async) {
+        this.jobFilter = jobFilter;
+        this.async = async;
+        this.invocations = new LongAdder();
+        this.failures = new LongAdder();
+        this.invocationsOverTimeBudget = new LongAdder();
+        this.asyncInvocationsRunByCaller = new LongAdder();
+        this.asyncInvocationsDropped = new LongAdder();
+        this.totalTimeInNanos = new LongAdder();
+        this.maxTimeInNanos = new AtomicLong();
+        this.consecutiveInvocationsOverTimeBudget = new AtomicInteger();
+    }
+
+    /**
+     * @return true if the filter became degraded or recovered by this invocation
+     */
+    boolean record(long durationInNanos, boolean failed, long timeBudgetInNanos, int degradedThreshold) {
+        invocations.increment();
+        if (failed) failures.increment();
+        totalTimeInNanos.add(durationInNanos);
+        maxTimeInNanos.accumulateAndGet(durationInNanos, Math::max);
+
+        if (durationInNanos > timeBudgetInNanos) {
+            invocationsOverTimeBudget.increment();
+            if (consecutiveInvocationsOverTimeBudget.incrementAndGet() >= degradedThreshold && !degraded) {
+                degraded = true;
+                return true;
+            }
+        } else {
+            consecutiveInvocationsOverTimeBudget.set(0);
+            if (degraded) {
+                degraded = false;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void recordAsyncInvocationRunByCaller() {
+        asyncInvocationsRunByCaller.increment();
+    }
+
+    void recordAsyncInvocationDropped() {
+        asyncInvocationsDropped.increment();
+    }
+
+    public String getJobFilter() {
+        return jobFilter;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getInvocationsOverTimeBudget() {
+        return invocationsOverTimeBudget.sum();
+    }
+
+    /**
+     * @return how many times an {@link AsyncJobFilter} was run on the calling thread because the queue of the executor was full
+     */
+    public long getAsyncInvocationsRunByCaller() {
+        return asyncInvocationsRunByCaller.sum();
+    }
+
+    /**
+     * @return how many times an invocation of a degraded {@link AsyncJobFilter} was dropped because the queue of the executor was full
+     */
+    public long getAsyncInvocationsDropped() {
+        return asyncInvocationsDropped.sum();
+    }
+
+    public long getTotalTimeInNanos() {
+        return totalTimeInNanos.sum();
+    }
+
+    public Duration getMaxTime() {
+        return Duration.ofNanos(maxTimeInNanos.get());
+    }
+
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    @Override
+    public String toString() {
+        return jobFilter + ": async=" + async + ", invocations=" + getInvocations() + ", failures=" + getFailures()
+                + ", overTimeBudget=" + getInvocationsOverTimeBudget() + ", runByCaller=" + getAsyncInvocationsRunByCaller()
+                + ", dropped=" + getAsyncInvocationsDropped() + ", max=" + getMaxTime().toMillis() + "ms, degraded=" + degraded;
+    }
+}
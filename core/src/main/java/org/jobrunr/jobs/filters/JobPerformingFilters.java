@@ -6,6 +6,7 @@ import org.jobrunr.utils.streams.StreamUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -25,27 +26,32 @@ public class JobPerformingFilters extends AbstractJobFilters<Job> {
     public void runOnStateAppliedFilters() {
         List<JobState> stateChanges = job.getStateChangesForJobFilters();
         if (stateChanges.isEmpty()) return;
-        applyStateFilters().forEach(catchThrowable(applyStateFilter -> {
-            for (int i = stateChanges.size(); i >= 1; i--) {
-                applyStateFilter.onStateApplied(job, job.getJobState(-(i + 1)), job.getJobState(-i));
+        // why: asynchronous filters may run when the job already has a later state
+        List<JobState[]> appliedStates = new ArrayList<>(stateChanges.size());
+        for (int i = stateChanges.size(); i >= 1; i--) {
+            appliedStates.add(new JobState[]{job.getJobState(-(i + 1)), job.getJobState(-i)});
+        }
+        applyStateFilters().forEach(catchThrowableAndRunAsyncIfAllowed(applyStateFilter -> {
+            for (JobState[] appliedState : appliedStates) {
+                applyStateFilter.onStateApplied(job, appliedState[0], appliedState[1]);
             }
         }));
     }
 
     public void runOnJobProcessingFilters() {
-        jobServerFilters().forEach(catchThrowable(jobServerFilter -> jobServerFilter.onProcessing(job)));
+        jobServerFilters().forEach(catchThrowableAndRunAsyncIfAllowed(jobServerFilter -> jobServerFilter.onProcessing(job)));
     }
 
     public void runOnJobProcessingSucceededFilters() {
-        jobServerFilters().forEach(catchThrowable(jobServerFilter -> jobServerFilter.onProcessingSucceeded(job)));
+        jobServerFilters().forEach(catchThrowableAndRunAsyncIfAllowed(jobServerFilter -> jobServerFilter.onProcessingSucceeded(job)));
     }
 
     public void runOnJobProcessingFailedFilters(Exception e) {
-        jobServerFilters().forEach(catchThrowable(jobServerFilter -> jobServerFilter.onProcessingFailed(job, e)));
+        jobServerFilters().forEach(catchThrowableAndRunAsyncIfAllowed(jobServerFilter -> jobServerFilter.onProcessingFailed(job, e)));
     }
 
     public void runOnJobFailedAfterRetriesFilters() {
-        jobServerFilters().forEach(catchThrowable(jobServerFilter -> jobServerFilter.onFailedAfterRetries(job)));
+        jobServerFilters().forEach(catchThrowableAndRunAsyncIfAllowed(jobServerFilter -> jobServerFilter.onFailedAfterRetries(job)));
     }
 
     private Stream<ElectStateFilter> electStateFilters() {
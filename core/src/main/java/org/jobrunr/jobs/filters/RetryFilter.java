@@ -6,7 +6,6 @@ import org.jobrunr.jobs.states.JobState;
 import org.jobrunr.scheduling.exceptions.JobNotFoundException;
 
 import static java.time.Instant.now;
-import static org.jobrunr.jobs.states.StateName.FAILED_STATES;
 
 /**
  * A JobFilter of type {@link ElectStateFilter} that will retry the job if it fails for up to 10 times with an exponential back-off policy.
@@ -64,7 +63,7 @@ public class RetryFilter implements ElectStateFilter {
     }
 
     private long getFailureCount(Job job) {
-        return job.getJobStates().stream().filter(FAILED_STATES).count();
+        return job.getAmountOfFailures();
     }
 
     private static boolean isJobNotFoundException(JobState newState) {
@@ -0,0 +1,282 @@
+package org.jobrunr.jobs.mappers;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.FailedState;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.RetriesSummaryState;
+import org.jobrunr.jobs.states.StateName;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.asList;
+import static org.jobrunr.jobs.context.JobDashboardLogger.logKey;
+import static org.jobrunr.jobs.context.JobDashboardProgressBar.progressBarKey;
+
+/**
+ * Compacts the history of a {@link Job} before it is serialized by the {@link JobMapper}, so that a job that is retried many times
+ * does not result in an ever growing json which is written on every heartbeat and state change.
+ * <p>
+ * The compaction:
+ * <ul>
+ *     <li>keeps the first state and the last N states of the job,</li>
+ *     <li>replaces the PROCESSING, FAILED, SCHEDULED and ENQUEUED states in between by a single {@link RetriesSummaryState} (other states are kept),</li>
+ *     <li>removes the dashboard logs and progress bars of the processing attempts that were summarized,</li>
+ *     <li>trims the stack trace of every {@link FailedState} to a maximum amount of frames per cause, removes causes that are repeated
+ *     and omits a stack trace that is identical to the one of a later failure.</li>
+ * </ul>
+ * <p>
+ * The job itself is not changed: only the json contains the compacted history. As a {@link RetriesSummaryState} counts for all the failures
+ * it replaces (see {@link Job#getAmountOfFailures()}), the {@link org.jobrunr.jobs.filters.RetryFilter} keeps working on a job that was compacted.
+ */
+public class JobHistoryCompactionPolicy {
+
+    public static final int DEFAULT_AMOUNT_OF_LAST_STATES_TO_KEEP = 10;
+    public static final int DEFAULT_MAX_STACK_TRACE_DEPTH = 25;
+    static final int MIN_AMOUNT_OF_LAST_STATES_TO_KEEP = 3;
+
+    private static final Set<StateName> RETRY_CYCLE_STATES = new HashSet<>(asList(StateName.PROCESSING, StateName.FAILED, StateName.SCHEDULED, StateName.ENQUEUED));
+    private static final String DUPLICATE_CAUSE = "\t... (same cause as above)";
+    private static final String STACK_TRACE_OMITTED = "Stack trace omitted as it is identical to the one of the failure at ";
+
+    private final boolean enabled;
+    private int amountOfLastStatesToKeep = DEFAULT_AMOUNT_OF_LAST_STATES_TO_KEEP;
+    private int maxStackTraceDepth = DEFAULT_MAX_STACK_TRACE_DEPTH;
+
+    private JobHistoryCompactionPolicy(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * The default policy: the job history is stored as is.
+     *
+     * @return a policy that does not compact the job history
+     */
+    public static JobHistoryCompactionPolicy noJobHistoryCompaction() {
+        return new JobHistoryCompactionPolicy(false);
+    }
+
+    /**
+     * This returns a policy which keeps the first and the last 10 states of a job and trims stack traces to 25 frames per cause.
+     *
+     * @return a policy that compacts the job history
+     */
+    public static JobHistoryCompactionPolicy usingStandardJobHistoryCompactionPolicy() {
+        return new JobHistoryCompactionPolicy(true);
+    }
+
+    /**
+     * Allows to set the amount of most recent states that are kept as is.
+     *
+     * @param amountOfLastStatesToKeep the amount of most recent states to keep (at least 3)
+     * @return the same policy instance which provides a fluent api
+     */
+    public JobHistoryCompactionPolicy andAmountOfLastStatesToKeep(int amountOfLastStatesToKeep) {
+        if (amountOfLastStatesToKeep < MIN_AMOUNT_OF_LAST_STATES_TO_KEEP) {
+            throw new IllegalArgumentException("The amount of last states to keep must be at least " + MIN_AMOUNT_OF_LAST_STATES_TO_KEEP);
+        }
+        this.amountOfLastStatesToKeep = amountOfLastStatesToKeep;
+        return this;
+    }
+
+    /**
+     * Allows to set the maximum amount of stack trace frames that are kept per exception (and per cause of the exception).
+     *
+     * @param maxStackTraceDepth the maximum amount of frames per exception
+     * @return the same policy instance which provides a fluent api
+     */
+    public JobHistoryCompactionPolicy andMaxStackTraceDepth(int maxStackTraceDepth) {
+        if (maxStackTraceDepth < 1) throw new IllegalArgumentException("The maximum stack trace depth must be at least 1");
+        this.maxStackTraceDepth = maxStackTraceDepth;
+        return this;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param job the job to compact
+     * @return the given job if there is nothing to compact, otherwise a copy of the job with the compacted history
+     */
+    public Job compact(Job job) {
+        if (!enabled) return job;
+
+        List<JobState> jobStates = new ArrayList<>(job.getJobStates());
+        List<JobState> compactedJobStates = trimStackTraces(summarizeRetries(jobStates));
+        if (compactedJobStates == jobStates) return job;
+
+        ConcurrentHashMap<String, Object> metadata = new ConcurrentHashMap<>(job.getMetadata());
+        removeDashboardMetadataOfSummarizedAttempts(metadata, job, compactedJobStates);
+        Job compactedJob = new Job(job.getId(), job.getVersion(), job.getJobDetails(), compactedJobStates, metadata);
+        compactedJob.setJobName(job.getJobName());
+        compactedJob.setAmountOfRetries(job.getAmountOfRetries());
+        compactedJob.setLabels(job.getLabels());
+        job.getRecurringJobId().ifPresent(compactedJob::setRecurringJobId);
+        return compactedJob;
+    }
+
+    private List<JobState> summarizeRetries(List<JobState> jobStates) {
+        int firstKeptIndex = jobStates.size() - amountOfLastStatesToKeep;
+        if (firstKeptIndex <= 2) return jobStates; // why: at least 2 states are needed to summarize them
+
+        List<JobState> result = new ArrayList<>();
+        result.add(jobStates.get(0));
+        List<JobState> retryCycle = new ArrayList<>();
+        for (JobState jobState : jobStates.subList(1, firstKeptIndex)) {
+            if (RETRY_CYCLE_STATES.contains(jobState.getName())) {
+                retryCycle.add(jobState);
+            } else {
+                addRetryCycle(result, retryCycle);
+                result.add(jobState);
+            }
+        }
+        addRetryCycle(result, retryCycle);
+        result.addAll(jobStates.subList(firstKeptIndex, jobStates.size()));
+        return result.size() < jobStates.size() ? result : jobStates;
+    }
+
+    private void addRetryCycle(List<JobState> result, List<JobState> retryCycle) {
+        FailedState lastFailedState = null;
+        int failedAttempts = 0;
+        int compactedStates = 0;
+        for (JobState jobState : retryCycle) {
+            if (jobState instanceof FailedState) {
+                lastFailedState = (FailedState) jobState;
+                failedAttempts += lastFailedState.getFailedAttempts();
+            }
+            compactedStates += jobState instanceof RetriesSummaryState ? ((RetriesSummaryState) jobState).getCompactedStates() : 1;
+        }
+
+        if (lastFailedState == null || retryCycle.size() < 2) {
+            result.addAll(retryCycle);
+        } else {
+            JobState firstState = retryCycle.get(0);
+            Instant firstAttemptAt = firstState instanceof RetriesSummaryState ? ((RetriesSummaryState) firstState).getFirstAttemptAt() : firstState.getCreatedAt();
+            Instant lastAttemptAt = retryCycle.get(retryCycle.size() - 1).getCreatedAt();
+            result.add(new RetriesSummaryState(lastFailedState, lastFailedState.getStackTrace(), failedAttempts, compactedStates, firstAttemptAt, lastAttemptAt));
+        }
+        retryCycle.clear();
+    }
+
+    /**
+     * The dashboard logs and progress bar of a processing attempt are keyed by the {@link Job#getJobStateNbr() number of the state}, which is
+     * not changed by the compaction. The ones of the processing attempts that are summarized can not be shown anymore and are thus removed.
+     */
+    private static void removeDashboardMetadataOfSummarizedAttempts(Map<String, Object> metadata, Job job, List<JobState> compactedJobStates) {
+        Job compactedJob = new Job(job.getId(), job.getVersion(), job.getJobDetails(), compactedJobStates, new ConcurrentHashMap<>());
+        Set<Integer> keptProcessingStateNbrs = processingStateNbrs(compactedJob);
+        for (int processingStateNbr : processingStateNbrs(job)) {
+            if (keptProcessingStateNbrs.contains(processingStateNbr)) continue;
+            metadata.remove(logKey(processingStateNbr));
+            metadata.remove(progressBarKey(processingStateNbr));
+        }
+    }
+
+    private static Set<Integer> processingStateNbrs(Job job) {
+        Set<Integer> result = new HashSet<>();
+        List<JobState> jobStates = job.getJobStates();
+        for (int i = 0; i < jobStates.size(); i++) {
+            if (jobStates.get(i) instanceof ProcessingState) result.add(job.getJobStateNbr(i));
+        }
+        return result;
+    }
+
+    /**
+     * @return the given job states if no stack trace was trimmed, otherwise a copy with the trimmed stack traces
+     */
+    private List<JobState> trimStackTraces(List<JobState> jobStates) {
+        List<JobState> result = null;
+        FailedState laterFailedState = null;
+        for (int i = jobStates.size() - 1; i >= 0; i--) {
+            if (!isCompactable(jobStates.get(i))) continue;
+
+            FailedState failedState = (FailedState) jobStates.get(i);
+            String stackTrace = trimStackTrace(failedState.getStackTrace());
+            if (laterFailedState != null && stackTrace != null && stackTrace.equals(laterFailedState.getStackTrace())) {
+                stackTrace = STACK_TRACE_OMITTED + laterFailedState.getCreatedAt();
+            }
+            if (stackTrace != null && !stackTrace.equals(failedState.getStackTrace())) {
+                failedState = withStackTrace(failedState, stackTrace);
+                if (result == null) result = new ArrayList<>(jobStates);
+                result.set(i, failedState);
+            }
+            if (stackTrace != null && !stackTrace.startsWith(STACK_TRACE_OMITTED)) {
+                laterFailedState = failedState;
+            }
+        }
+        return result != null ? result : jobStates;
+    }
+
+    String trimStackTrace(String stackTrace) {
+        if (stackTrace == null || stackTrace.startsWith(STACK_TRACE_OMITTED)) return stackTrace;
+
+        StringBuilder result = new StringBuilder(Math.min(stackTrace.length(), 256));
+        Set<String> exceptionHeaders = new HashSet<>();
+        String frameIndentation = "\t";
+        int framesInCurrentException = 0;
+        int trimmedFramesInCurrentException = 0;
+        boolean skipCurrentException = false;
+        for (String line : stackTrace.split("\\R")) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.startsWith("at ")) {
+                if (skipCurrentException) continue;
+                frameIndentation = indentationOf(line);
+                if (framesInCurrentException++ < maxStackTraceDepth) {
+                    appendLine(result, line);
+                } else {
+                    trimmedFramesInCurrentException++;
+                }
+            } else if (result.length() == 0 || trimmedLine.startsWith("Caused by:") || trimmedLine.startsWith("Suppressed:")) {
+                appendTrimmedFrames(result, frameIndentation, trimmedFramesInCurrentException);
+                framesInCurrentException = 0;
+                trimmedFramesInCurrentException = 0;
+                skipCurrentException = !exceptionHeaders.add(trimmedLine);
+                appendLine(result, line);
+                if (skipCurrentException) appendLine(result, indentationOf(line) + DUPLICATE_CAUSE);
+            } else if (!skipCurrentException) {
+                appendLine(result, line); // e.g. '... 5 more' or a multi-line exception message
+            }
+        }
+        appendTrimmedFrames(result, frameIndentation, trimmedFramesInCurrentException);
+        return result.toString();
+    }
+
+    private static boolean isCompactable(JobState jobState) {
+        // why: subclasses of FailedState may be provided by users and can not be recreated
+        return jobState.getClass() == FailedState.class || jobState.getClass() == RetriesSummaryState.class;
+    }
+
+    private static FailedState withStackTrace(FailedState failedState, String stackTrace) {
+        if (failedState instanceof RetriesSummaryState) {
+            RetriesSummaryState retriesSummaryState = (RetriesSummaryState) failedState;
+            return new RetriesSummaryState(retriesSummaryState, stackTrace, retriesSummaryState.getFailedAttempts(), retriesSummaryState.getCompactedStates(),
+                    retriesSummaryState.getFirstAttemptAt(), retriesSummaryState.getLastAttemptAt());
+        }
+        return new FailedState(failedState.getMessage(), failedState.getExceptionType(), failedState.getExceptionMessage(), failedState.getExceptionCauseType(),
+                failedState.getExceptionCauseMessage(), stackTrace, failedState.mustNotRetry(), failedState.getCreatedAt());
+    }
+
+    private static void appendTrimmedFrames(StringBuilder result, String frameIndentation, int trimmedFrames) {
+        if (trimmedFrames > 0) {
+            appendLine(result, frameIndentation + "... " + trimmedFrames + " frames trimmed");
+        }
+    }
+
+    private static void appendLine(StringBuilder result, String line) {
+        if (result.length() > 0) result.append('\n');
+        result.append(line);
+    }
+
+    private static String indentationOf(String line) {
+        int i = 0;
+        while (i < line.length() && Character.isWhitespace(line.charAt(i))) i++;
+        return line.substring(0, i);
+    }
+}
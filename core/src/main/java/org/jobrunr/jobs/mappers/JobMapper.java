@@ -4,16 +4,24 @@ import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.RecurringJob;
 import org.jobrunr.utils.mapper.JsonMapper;
 
+import static org.jobrunr.jobs.mappers.JobHistoryCompactionPolicy.noJobHistoryCompaction;
+
 public class JobMapper {
 
      private final JsonMapper jsonMapper;
+     private final JobHistoryCompactionPolicy jobHistoryCompactionPolicy;
 
      public JobMapper(JsonMapper jsonMapper) {
+          this(jsonMapper, noJobHistoryCompaction());
+     }
+
+     public JobMapper(JsonMapper jsonMapper, JobHistoryCompactionPolicy jobHistoryCompactionPolicy) {
           this.jsonMapper = jsonMapper;
+          this.jobHistoryCompactionPolicy = jobHistoryCompactionPolicy;
      }
 
     public String serializeJob(Job job) {
-        return jsonMapper.serialize(job);
+        return jsonMapper.serialize(jobHistoryCompactionPolicy.compact(job));
     }
 
     public Job deserializeJob(String serializedJobAsString) {
@@ -76,6 +76,13 @@ public class FailedState extends AbstractJobState {
         return doNotRetry;
     }
 
+    /**
+     * @return the amount of failed attempts this state represents, which is more than 1 for a {@link RetriesSummaryState}
+     */
+    public int getFailedAttempts() {
+        return 1;
+    }
+
     public Exception getException() {
         if (exception != null) return exception;
         try {
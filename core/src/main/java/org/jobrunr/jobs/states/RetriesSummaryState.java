@@ -0,0 +1,50 @@
+package org.jobrunr.jobs.states;
+
+import java.time.Instant;
+
+/**
+ * Replaces a series of PROCESSING, FAILED, SCHEDULED and ENQUEUED states of a job that was retried many times when its history is compacted
+ * by the {@link org.jobrunr.jobs.mappers.JobHistoryCompactionPolicy}. It keeps the details of the last failure it replaces, together with
+ * the amount of failed attempts and the period in which they happened.
+ * <p>
+ * As it is a {@link FailedState}, it is taken into account when counting the failures of a job (see {@link #getFailedAttempts()}).
+ */
+@SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // because of JSON-B
+public class RetriesSummaryState extends FailedState {
+
+    private int failedAttempts;
+    private int compactedStates;
+    private Instant firstAttemptAt;
+
+    protected RetriesSummaryState() { // for json deserialization
+        super();
+    }
+
+    public RetriesSummaryState(FailedState lastFailedState, String stackTrace, int failedAttempts, int compactedStates, Instant firstAttemptAt, Instant lastAttemptAt) {
+        super(lastFailedState.getMessage(), lastFailedState.getExceptionType(), lastFailedState.getExceptionMessage(), lastFailedState.getExceptionCauseType(),
+                lastFailedState.getExceptionCauseMessage(), stackTrace, lastFailedState.mustNotRetry(), lastAttemptAt);
+        this.failedAttempts = failedAttempts;
+        this.compactedStates = compactedStates;
+        this.firstAttemptAt = firstAttemptAt;
+    }
+
+    @Override
+    public int getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    /**
+     * @return the amount of states this summary replaces
+     */
+    public int getCompactedStates() {
+        return compactedStates;
+    }
+
+    public Instant getFirstAttemptAt() {
+        return firstAttemptAt;
+    }
+
+    public Instant getLastAttemptAt() {
+        return getCreatedAt();
+    }
+}
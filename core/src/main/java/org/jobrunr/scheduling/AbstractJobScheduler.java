@@ -13,16 +13,22 @@ import org.jobrunr.jobs.states.CarbonAwareAwaitingState;
 import org.jobrunr.jobs.states.ScheduledState;
 import org.jobrunr.scheduling.carbonaware.CarbonAwarePeriod;
 import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.StorageException;
 import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.journal.EnqueueJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.ZoneId;
 import java.time.temporal.Temporal;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static java.util.Collections.singletonList;
 import static org.jobrunr.jobs.RecurringJob.CreatedBy.API;
 import static org.jobrunr.utils.InstantUtils.toInstant;
 
@@ -32,6 +38,7 @@ public abstract class AbstractJobScheduler {
 
     private final StorageProvider storageProvider;
     private final JobFilterUtils jobFilterUtils;
+    private final EnqueueJournal enqueueJournal;
 
     /**
      * Creates a new AbstractJobScheduler using the provided storageProvider and the list of JobFilters
@@ -41,11 +48,24 @@ public abstract class AbstractJobScheduler {
      * @param jobFilters      list of jobFilters that will be used for every job
      */
     protected AbstractJobScheduler(StorageProvider storageProvider, List<JobFilter> jobFilters) {
+        this(storageProvider, jobFilters, null);
+    }
+
+    /**
+     * Creates a new AbstractJobScheduler using the provided storageProvider and the list of JobFilters that will be used for every
+     * background job. New jobs are written to the given {@link EnqueueJournal} which saves them in the storageProvider in the background.
+     *
+     * @param storageProvider the storageProvider to use
+     * @param jobFilters      list of jobFilters that will be used for every job
+     * @param enqueueJournal  the enqueueJournal to write new jobs to or null to save new jobs directly in the storageProvider
+     */
+    protected AbstractJobScheduler(StorageProvider storageProvider, List<JobFilter> jobFilters, EnqueueJournal enqueueJournal) {
         if (storageProvider == null) {
             throw new IllegalArgumentException("A JobStorageProvider is required to use the JobScheduler. Please see the documentation on how to setup a JobStorageProvider.");
         }
         this.storageProvider = storageProvider;
         this.jobFilterUtils = new JobFilterUtils(new JobDefaultFilters(jobFilters));
+        this.enqueueJournal = enqueueJournal;
     }
 
     abstract JobId create(JobBuilder jobBuilder);
@@ -120,6 +140,103 @@ public abstract class AbstractJobScheduler {
         JobRunr.destroy();
     }
 
+    /**
+     * Creates all jobs on the current thread within the transaction of the given connection until the returned {@link JobCreationTransaction}
+     * is closed. The jobs are only processed if the transaction is committed. Use this if the transaction is managed by you or by a framework
+     * and call {@link JobCreationTransaction#afterCommit()} once it is committed.
+     * <h5>An example:</h5>
+     * <pre>{@code
+     *      try (JobCreationTransaction jobCreationTransaction = jobScheduler.joinTransaction(connection)) {
+     *          orderRepository.save(connection, order);
+     *          jobScheduler.enqueue(() -> orderService.ship(order.getId()));
+     *          connection.commit();
+     *          jobCreationTransaction.afterCommit();
+     *      }
+     * }</pre>
+     *
+     * @param connection the connection on which a transaction is in progress (auto-commit must be disabled)
+     * @return the {@link JobCreationTransaction} which must be closed when done
+     * @throws UnsupportedOperationException if the StorageProvider does not support saving jobs within the transaction of the caller
+     */
+    public JobCreationTransaction joinTransaction(Connection connection) {
+        if (!storageProvider.supportsSavingInTransaction()) {
+            throw new UnsupportedOperationException(storageProvider.getClass().getSimpleName() + " does not support saving jobs within the transaction of the caller.");
+        }
+        return JobCreationTransaction.start(connection);
+    }
+
+    /**
+     * Runs the given work in a transaction on the given connection: all jobs created on the current thread are saved within that transaction.
+     * The transaction is committed if the work completes normally and rolled back otherwise.
+     * <h5>An example:</h5>
+     * <pre>{@code
+     *      jobScheduler.inTransaction(connection, () -> {
+     *          orderRepository.save(connection, order);
+     *          jobScheduler.enqueue(() -> orderService.ship(order.getId()));
+     *      });
+     * }</pre>
+     *
+     * @param connection the connection to use for the transaction
+     * @param work       the work to do within the transaction
+     */
+    public void inTransaction(Connection connection, Runnable work) {
+        inTransaction(connection, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the given work in a transaction on the given connection: all jobs created on the current thread are saved within that transaction.
+     * The transaction is committed if the work completes normally and rolled back otherwise.
+     *
+     * @param connection the connection to use for the transaction
+     * @param work       the work to do within the transaction
+     * @param <T>        the type of the result of the work
+     * @return the result of the work
+     */
+    public <T> T inTransaction(Connection connection, Supplier<T> work) {
+        try (JobCreationTransaction jobCreationTransaction = joinTransaction(connection)) {
+            final boolean originalAutoCommit = connection.getAutoCommit();
+            if (originalAutoCommit) connection.setAutoCommit(false);
+            boolean committed = false;
+            Throwable failure = null;
+            try {
+                T result = work.get();
+                connection.commit();
+                committed = true;
+                jobCreationTransaction.afterCommit();
+                return result;
+            } catch (RuntimeException | Error | SQLException e) {
+                failure = e;
+                throw e;
+            } finally {
+                if (!committed) rollback(connection, failure);
+                if (originalAutoCommit) restoreAutoCommit(connection, failure);
+            }
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    private static void rollback(Connection connection, Throwable failure) throws SQLException {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            if (failure == null) throw e;
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static void restoreAutoCommit(Connection connection, Throwable failure) throws SQLException {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            if (failure == null) throw e;
+            failure.addSuppressed(e);
+        }
+    }
+
     JobId enqueue(UUID id, JobDetails jobDetails) {
         return saveJob(new Job(id, jobDetails));
     }
@@ -150,7 +267,7 @@ public abstract class AbstractJobScheduler {
         try {
             MDCMapper.saveMDCContextToJob(job);
             jobFilterUtils.runOnCreatingFilter(job);
-            Job savedJob = this.storageProvider.save(job);
+            Job savedJob = saveNewJob(job);
             jobFilterUtils.runOnCreatedFilter(savedJob);
             LOGGER.debug("Created Job with id {}", job.getId());
         } catch (ConcurrentJobModificationException e) {
@@ -162,11 +279,29 @@ public abstract class AbstractJobScheduler {
     List<Job> saveJobs(List<Job> jobs) {
         jobs.forEach(MDCMapper::saveMDCContextToJob);
         jobFilterUtils.runOnCreatingFilter(jobs);
-        final List<Job> savedJobs = this.storageProvider.save(jobs);
+        final List<Job> savedJobs = saveNewJobs(jobs);
         jobFilterUtils.runOnCreatedFilter(savedJobs);
         return savedJobs;
     }
 
+    private Job saveNewJob(Job job) {
+        JobCreationTransaction jobCreationTransaction = JobCreationTransaction.current();
+        if (jobCreationTransaction != null) return jobCreationTransaction.save(storageProvider, singletonList(job)).get(0);
+        if (enqueueJournal == null) return this.storageProvider.save(job);
+
+        enqueueJournal.append(job);
+        return job;
+    }
+
+    private List<Job> saveNewJobs(List<Job> jobs) {
+        JobCreationTransaction jobCreationTransaction = JobCreationTransaction.current();
+        if (jobCreationTransaction != null) return jobCreationTransaction.save(storageProvider, jobs);
+        if (enqueueJournal == null) return this.storageProvider.save(jobs);
+
+        enqueueJournal.append(jobs);
+        return jobs;
+    }
+
     private void validateRecurringJobSchedule(RecurringJob recurringJob) {
         Schedule schedule = recurringJob.getSchedule();
         schedule.validate();
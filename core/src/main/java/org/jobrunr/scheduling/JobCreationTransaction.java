@@ -0,0 +1,68 @@
+package org.jobrunr.scheduling;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.StorageProvider;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binds a JDBC connection of the caller to the current thread. As long as it is not closed, all jobs created on the current thread using
+ * a {@link JobScheduler} or a {@link JobRequestScheduler} are saved using that connection and are thus part of the transaction of the caller:
+ * they are only processed once the caller commits and they are gone if the caller rolls back.
+ * <p>
+ * Call {@link #afterCommit()} once the transaction is committed so that the BackgroundJobServers in this JVM start processing the jobs
+ * without waiting for the next poll interval. BackgroundJobServers in other JVMs pick them up at their next poll interval.
+ *
+ * @see AbstractJobScheduler#joinTransaction(Connection)
+ */
+public class JobCreationTransaction implements AutoCloseable {
+
+    private static final ThreadLocal<JobCreationTransaction> jobCreationTransactionThreadLocal = new ThreadLocal<>();
+
+    private final Connection connection;
+    private final Map<StorageProvider, List<Job>> savedJobs;
+
+    private JobCreationTransaction(Connection connection) {
+        this.connection = connection;
+        this.savedJobs = new IdentityHashMap<>();
+    }
+
+    static JobCreationTransaction start(Connection connection) {
+        if (connection == null) throw new IllegalArgumentException("A connection is required to create jobs within the transaction of the caller.");
+        if (jobCreationTransactionThreadLocal.get() != null) throw new IllegalStateException("The current thread already creates jobs within a transaction.");
+
+        JobCreationTransaction jobCreationTransaction = new JobCreationTransaction(connection);
+        jobCreationTransactionThreadLocal.set(jobCreationTransaction);
+        return jobCreationTransaction;
+    }
+
+    static JobCreationTransaction current() {
+        return jobCreationTransactionThreadLocal.get();
+    }
+
+    List<Job> save(StorageProvider storageProvider, List<Job> jobs) {
+        List<Job> jobsSavedInTransaction = storageProvider.saveInTransaction(connection, jobs);
+        savedJobs.computeIfAbsent(storageProvider, sp -> new ArrayList<>()).addAll(jobsSavedInTransaction);
+        return jobsSavedInTransaction;
+    }
+
+    /**
+     * Notifies the StorageProviders that the jobs created within this transaction are committed.
+     */
+    public void afterCommit() {
+        savedJobs.forEach(StorageProvider::onTransactionCommitted);
+        savedJobs.clear();
+    }
+
+    @Override
+    public void close() {
+        savedJobs.clear();
+        if (jobCreationTransactionThreadLocal.get() == this) {
+            jobCreationTransactionThreadLocal.remove();
+        }
+    }
+}
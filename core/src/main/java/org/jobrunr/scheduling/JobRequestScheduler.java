@@ -9,6 +9,7 @@ import org.jobrunr.jobs.lambdas.JobRequest;
 import org.jobrunr.scheduling.carbonaware.CarbonAwarePeriod;
 import org.jobrunr.scheduling.interval.Interval;
 import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.journal.EnqueueJournal;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -53,7 +54,18 @@ public class JobRequestScheduler extends AbstractJobScheduler {
      * @param jobFilters      list of jobFilters that will be used for every job
      */
     public JobRequestScheduler(StorageProvider storageProvider, List<JobFilter> jobFilters) {
-        super(storageProvider, jobFilters);
+        this(storageProvider, jobFilters, null);
+    }
+
+    /**
+     * Creates a new JobRequestScheduler that writes new jobs to the given {@link EnqueueJournal} instead of saving them directly in the {@link StorageProvider}
+     *
+     * @param storageProvider the storageProvider to use
+     * @param jobFilters      list of jobFilters that will be used for every job
+     * @param enqueueJournal  the enqueueJournal to write new jobs to or null to save new jobs directly in the storageProvider
+     */
+    public JobRequestScheduler(StorageProvider storageProvider, List<JobFilter> jobFilters, EnqueueJournal enqueueJournal) {
+        super(storageProvider, jobFilters, enqueueJournal);
         BackgroundJobRequest.setJobRequestScheduler(this);
     }
 
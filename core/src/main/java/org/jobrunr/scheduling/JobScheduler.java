@@ -14,6 +14,7 @@ import org.jobrunr.jobs.lambdas.JobLambdaFromStream;
 import org.jobrunr.scheduling.carbonaware.CarbonAwarePeriod;
 import org.jobrunr.scheduling.interval.Interval;
 import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.journal.EnqueueJournal;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -64,7 +65,19 @@ public class JobScheduler extends AbstractJobScheduler {
     }
 
     public JobScheduler(StorageProvider storageProvider, JobDetailsGenerator jobDetailsGenerator, List<JobFilter> jobFilters) {
-        super(storageProvider, jobFilters);
+        this(storageProvider, jobDetailsGenerator, jobFilters, null);
+    }
+
+    /**
+     * Creates a new JobScheduler that writes new jobs to the given {@link EnqueueJournal} instead of saving them directly in the storageProvider.
+     *
+     * @param storageProvider     the storageProvider to use
+     * @param jobDetailsGenerator the jobDetailsGenerator to use
+     * @param jobFilters          list of jobFilters that will be used for every job
+     * @param enqueueJournal      the enqueueJournal to write new jobs to or null to save new jobs directly in the storageProvider
+     */
+    public JobScheduler(StorageProvider storageProvider, JobDetailsGenerator jobDetailsGenerator, List<JobFilter> jobFilters, EnqueueJournal enqueueJournal) {
+        super(storageProvider, jobFilters, enqueueJournal);
         if (jobDetailsGenerator == null)
             throw new IllegalArgumentException("A JobDetailsGenerator is required to use the JobScheduler.");
         this.jobDetailsGenerator = jobDetailsGenerator;
@@ -1,13 +1,19 @@
 package org.jobrunr.server;
 
 import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.context.JobDashboardLogBuffer;
 import org.jobrunr.jobs.context.JobRunrDashboardLogger;
 import org.jobrunr.jobs.filters.JobPerformingFilters;
 import org.jobrunr.jobs.mappers.MDCMapper;
+import org.jobrunr.jobs.states.EnqueuedState;
 import org.jobrunr.jobs.states.IllegalJobStateChangeException;
+import org.jobrunr.jobs.states.JobState;
 import org.jobrunr.jobs.states.ProcessingState;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.scheduling.exceptions.JobNotFoundException;
+import org.jobrunr.server.jfr.FlightRecorderEvent;
+import org.jobrunr.server.jfr.JobRunrFlightRecorderEvents;
+import org.jobrunr.server.metrics.JobPerformanceListener;
 import org.jobrunr.server.runner.BackgroundJobRunner;
 import org.jobrunr.storage.ConcurrentJobModificationException;
 import org.jobrunr.utils.annotations.VisibleFor;
@@ -16,8 +22,10 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.time.temporal.ChronoUnit.NANOS;
 import static org.jobrunr.jobs.states.StateName.DELETED;
 import static org.jobrunr.jobs.states.StateName.FAILED;
 import static org.jobrunr.jobs.states.StateName.PROCESSING;
@@ -72,12 +80,16 @@ public class BackgroundJobPerformer implements Runnable {
 
     private boolean updateJobStateToProcessingRunJobFiltersAndReturnIfProcessingCanStart() {
         try {
-            if (hasProcessingStateProvidedByStorageProvider()) return true;
+            if (!hasProcessingStateProvidedByStorageProvider()) {
+                job.startProcessingOn(backgroundJobServer);
+                saveAndRunStateRelatedJobFilters(job);
+                LOGGER.debug("Job(id={}, jobName='{}') processing started", job.getId(), job.getJobName());
+                if (!job.hasState(PROCESSING)) return false;
+            }
 
-            job.startProcessingOn(backgroundJobServer);
-            saveAndRunStateRelatedJobFilters(job);
-            LOGGER.debug("Job(id={}, jobName='{}') processing started", job.getId(), job.getJobName());
-            return job.hasState(PROCESSING);
+            backgroundJobServer.getJobStatsRecorder().recordStarted(job);
+            notifyProcessingStarted();
+            return true;
         } catch (ConcurrentJobModificationException e) {
             // processing already started on other server
             LOGGER.trace("Could not start processing job {} - it is already in a newer state (collision {})", job.getId(), concurrentModificationExceptionCounter.incrementAndGet(), e);
@@ -86,19 +98,31 @@ public class BackgroundJobPerformer implements Runnable {
     }
 
     private void runActualJob() throws Exception {
+        long executionStartTime = System.nanoTime();
+        boolean succeeded = false;
+        FlightRecorderEvent jobExecutionEvent = FlightRecorderEvent.DISABLED;
         try {
+            JobDashboardLogBuffer jobDashboardLogBuffer = backgroundJobServer.getJobSteward().startCollectingJobDashboardLogs(job);
+            if (jobDashboardLogBuffer != null) JobDashboardLogBuffer.bind(jobDashboardLogBuffer);
             JobRunrDashboardLogger.setJob(job);
             backgroundJobServer.getJobSteward().startProcessing(job, Thread.currentThread());
             LOGGER.trace("Job(id={}, jobName='{}') is running", job.getId(), job.getJobName());
             jobPerformingFilters.runOnJobProcessingFilters();
             BackgroundJobRunner backgroundJobRunner = backgroundJobServer.getBackgroundJobRunner(job);
+            executionStartTime = System.nanoTime();
+            jobExecutionEvent = JobRunrFlightRecorderEvents.beginJobExecution();
             backgroundJobRunner.run(job);
+            succeeded = true;
             jobPerformingFilters.runOnJobProcessingSucceededFilters();
         } catch (Exception e) {
             jobPerformingFilters.runOnJobProcessingFailedFilters(e);
             throw e;
         } finally {
+            jobExecutionEvent.with("jobId", job.getId()).with("jobSignature", job.getJobSignature()).with("outcome", succeeded ? StateName.SUCCEEDED : StateName.FAILED).commit();
+            notifyExecutionFinished(System.nanoTime() - executionStartTime, succeeded);
             backgroundJobServer.getJobSteward().stopProcessing(job);
+            backgroundJobServer.getJobSteward().stopCollectingJobDashboardLogs(job);
+            JobDashboardLogBuffer.unbind();
             JobRunrDashboardLogger.clearJob();
         }
     }
@@ -108,6 +132,7 @@ public class BackgroundJobPerformer implements Runnable {
             LOGGER.debug("Job(id={}, jobName='{}') processing succeeded", job.getId(), job.getJobName());
             job.succeeded();
             saveAndRunStateRelatedJobFilters(job);
+            backgroundJobServer.getJobStatsRecorder().recordSucceeded(job);
         } catch (IllegalJobStateChangeException ex) {
             if (ex.getFrom() == DELETED) {
                 LOGGER.info("Job finished successfully but it was already deleted - ignoring illegal state change from {} to {}", ex.getFrom(), ex.getTo(), ex);
@@ -124,6 +149,7 @@ public class BackgroundJobPerformer implements Runnable {
             Exception actualException = unwrapException(e);
             job.failed(message, actualException);
             saveAndRunStateRelatedJobFilters(job);
+            backgroundJobServer.getJobStatsRecorder().recordFailed(job);
             if (job.getState() == FAILED) {
                 LOGGER.error("Job(id={}, jobName='{}') processing failed: {}", job.getId(), job.getJobName(), message, actualException);
             } else {
@@ -142,13 +168,47 @@ public class BackgroundJobPerformer implements Runnable {
 
     protected void saveAndRunStateRelatedJobFilters(Job job) {
         jobPerformingFilters.runOnStateElectionFilter();
+        long saveStartTime = System.nanoTime();
+        FlightRecorderEvent jobStateSaveEvent = JobRunrFlightRecorderEvents.beginJobStateSave();
         this.backgroundJobServer.getStorageProvider().save(job);
+        jobStateSaveEvent.with("jobId", job.getId()).with("state", job.getState()).with("amount", 1).commit();
+        notifyStateSaved(System.nanoTime() - saveStartTime);
         jobPerformingFilters.runOnStateAppliedFilters();
         if (job.getState() == FAILED) {
             jobPerformingFilters.runOnJobFailedAfterRetriesFilters();
         }
     }
 
+    private void notifyProcessingStarted() {
+        List<JobPerformanceListener> listeners = backgroundJobServer.getJobPerformanceListeners();
+        if (listeners.isEmpty()) return;
+
+        long queueWaitInNanos = getQueueWaitInNanos();
+        for (JobPerformanceListener listener : listeners) {
+            listener.onProcessingStarted(job, queueWaitInNanos);
+        }
+    }
+
+    private void notifyExecutionFinished(long executionTimeInNanos, boolean succeeded) {
+        for (JobPerformanceListener listener : backgroundJobServer.getJobPerformanceListeners()) {
+            listener.onExecutionFinished(job, executionTimeInNanos, succeeded);
+        }
+    }
+
+    private void notifyStateSaved(long saveTimeInNanos) {
+        for (JobPerformanceListener listener : backgroundJobServer.getJobPerformanceListeners()) {
+            listener.onStateSaved(job, saveTimeInNanos);
+        }
+    }
+
+    private long getQueueWaitInNanos() {
+        // why: looking at the previous state only avoids streaming over the whole job history on every job
+        if (job.getJobStates().size() < 2) return -1;
+        JobState previousState = job.getJobState(-2);
+        if (!(previousState instanceof EnqueuedState)) return -1;
+        return NANOS.between(previousState.getCreatedAt(), job.getJobState().getCreatedAt());
+    }
+
     private boolean hasProcessingStateProvidedByStorageProvider() {
         return job.hasState(PROCESSING) && backgroundJobServer.getConfiguration().getId().equals(job.<ProcessingState>getJobState().getServerId());
     }
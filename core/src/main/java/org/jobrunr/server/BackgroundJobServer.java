@@ -5,17 +5,22 @@ import org.jobrunr.jobs.filters.JobDefaultFilters;
 import org.jobrunr.jobs.filters.JobFilter;
 import org.jobrunr.server.concurrent.ConcurrentJobModificationResolver;
 import org.jobrunr.server.dashboard.DashboardNotificationManager;
+import org.jobrunr.server.jfr.JobRunrFlightRecorderEvents;
 import org.jobrunr.server.jmx.BackgroundJobServerMBean;
 import org.jobrunr.server.jmx.JobServerStats;
 import org.jobrunr.server.lifecycle.BackgroundJobServerLifecycle;
 import org.jobrunr.server.lifecycle.LifecycleChangeLock;
 import org.jobrunr.server.lifecycle.LifecycleReadLock;
+import org.jobrunr.server.metrics.JobPerformanceListener;
+import org.jobrunr.server.metrics.JobStatsRecorder;
+import org.jobrunr.server.metrics.TaskRuntimeStatsRecorder;
 import org.jobrunr.server.runner.BackgroundJobRunner;
 import org.jobrunr.server.runner.BackgroundJobWithIocRunner;
 import org.jobrunr.server.runner.BackgroundJobWithoutIocRunner;
 import org.jobrunr.server.runner.BackgroundStaticFieldJobWithoutIocRunner;
 import org.jobrunr.server.runner.BackgroundStaticJobWithoutIocRunner;
 import org.jobrunr.server.strategy.WorkDistributionStrategy;
+import org.jobrunr.server.tasks.startup.BackfillJobSearchFieldsTask;
 import org.jobrunr.server.tasks.startup.CheckIfAllJobsExistTask;
 import org.jobrunr.server.tasks.startup.CreateClusterIdIfNotExists;
 import org.jobrunr.server.tasks.startup.MigrateFromV5toV6Task;
@@ -23,6 +28,7 @@ import org.jobrunr.server.tasks.startup.ShutdownExecutorServiceTask;
 import org.jobrunr.server.tasks.startup.StartupTask;
 import org.jobrunr.server.tasks.zookeeper.DeleteDeletedJobsPermanentlyTask;
 import org.jobrunr.server.tasks.zookeeper.DeleteSucceededJobsTask;
+import org.jobrunr.server.tasks.zookeeper.DownsampleJobStatsRollupsTask;
 import org.jobrunr.server.tasks.zookeeper.ProcessCarbonAwareAwaitingJobsTask;
 import org.jobrunr.server.tasks.zookeeper.ProcessOrphanedJobsTask;
 import org.jobrunr.server.tasks.zookeeper.ProcessRecurringJobsTask;
@@ -31,8 +37,11 @@ import org.jobrunr.server.threadpool.JobRunrExecutor;
 import org.jobrunr.server.threadpool.PlatformThreadPoolJobRunrExecutor;
 import org.jobrunr.storage.BackgroundJobServerStatus;
 import org.jobrunr.storage.JobRunrMetadata;
+import org.jobrunr.storage.InstrumentedStorageProvider;
+import org.jobrunr.storage.JobStatsHistory;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.ThreadSafeStorageProvider;
+import org.jobrunr.storage.listeners.EnqueuedJobsChangeListener;
 import org.jobrunr.utils.VersionNumber;
 import org.jobrunr.utils.mapper.JsonMapper;
 import org.slf4j.Logger;
@@ -44,8 +53,10 @@ import java.util.List;
 import java.util.ServiceLoader;
 import java.util.Spliterator;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.lang.Integer.compare;
 import static java.lang.Math.min;
@@ -67,18 +78,23 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
     private static final Logger LOGGER = LoggerFactory.getLogger(BackgroundJobServer.class);
 
     private final BackgroundJobServerConfigurationReader configuration;
+    private final InstrumentedStorageProvider instrumentedStorageProvider;
     private final StorageProvider storageProvider;
     private final DashboardNotificationManager dashboardNotificationManager;
     private final JsonMapper jsonMapper;
     private final List<BackgroundJobRunner> backgroundJobRunners;
     private final JobDefaultFilters jobDefaultFilters;
     private final JobServerStats jobServerStats;
+    private final JobStatsRecorder jobStatsRecorder;
+    private final TaskRuntimeStatsRecorder taskRuntimeStatsRecorder;
+    private final List<JobPerformanceListener> jobPerformanceListeners;
     private final WorkDistributionStrategy workDistributionStrategy;
     private final JobSteward jobSteward;
     private final ServerZooKeeper serverZooKeeper;
     private final ConcurrentJobModificationResolver concurrentJobModificationResolver;
     private final BackgroundJobServerLifecycle lifecycle;
     private final BackgroundJobPerformerFactory backgroundJobPerformerFactory;
+    private final EnqueuedJobsChangeListener onboardNewWorkOnEnqueuedJobs;
     private volatile Instant firstHeartbeat;
     private volatile Boolean isMaster;
     private volatile VersionNumber dataVersion;
@@ -95,18 +111,25 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
             throw new IllegalArgumentException("A StorageProvider is required to use a BackgroundJobServer. Please see the documentation on how to setup a job StorageProvider.");
         }
 
+        JobRunrFlightRecorderEvents.register();
         this.configuration = configuration;
-        this.storageProvider = new ThreadSafeStorageProvider(storageProvider);
+        this.instrumentedStorageProvider = new InstrumentedStorageProvider(storageProvider);
+        this.storageProvider = new ThreadSafeStorageProvider(instrumentedStorageProvider);
         this.dashboardNotificationManager = new DashboardNotificationManager(this.configuration.getId(), storageProvider);
         this.jsonMapper = jsonMapper;
         this.backgroundJobRunners = initializeBackgroundJobRunners(jobActivator);
         this.jobDefaultFilters = new JobDefaultFilters();
+        this.jobDefaultFilters.getJobFilterExecutor().setTimeBudget(configuration.getJobFilterTimeBudget());
         this.jobServerStats = new JobServerStats();
+        this.jobStatsRecorder = new JobStatsRecorder();
+        this.taskRuntimeStatsRecorder = new TaskRuntimeStatsRecorder();
+        this.jobPerformanceListeners = new CopyOnWriteArrayList<>();
         this.workDistributionStrategy = createWorkDistributionStrategy();
         this.jobSteward = createJobSteward();
         this.serverZooKeeper = createServerZooKeeper();
         this.concurrentJobModificationResolver = createConcurrentJobModificationResolver();
         this.backgroundJobPerformerFactory = loadBackgroundJobPerformerFactory();
+        this.onboardNewWorkOnEnqueuedJobs = amountOfNewEnqueuedJobs -> onboardNewWorkAsync();
         this.storageProvider.validatePollInterval(this.configuration.getPollInterval());
         this.lifecycle = new BackgroundJobServerLifecycle();
     }
@@ -131,6 +154,7 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
             try (LifecycleChangeLock lifecycleChange = lifecycle.goTo(START)) {
                 if (isStarted()) return;
                 firstHeartbeat = now();
+                startAsyncJobFilterExecution();
                 startStewardAndServerZooKeeper();
                 startWorkers();
                 lifecycleChange.succeeded();
@@ -169,6 +193,8 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
             isMaster = null;
             stopWorkers();
             stopZooKeepers();
+            publishJobStatsOfCurrentMinute();
+            stopAsyncJobFilterExecution();
             firstHeartbeat = null;
             LOGGER.info("{} BackgroundJobServer and BackgroundJobPerformers stopped", this);
             lifecycleChange.succeeded();
@@ -250,10 +276,34 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
         return jobSteward;
     }
 
+    public JobStatsRecorder getJobStatsRecorder() {
+        return jobStatsRecorder;
+    }
+
+    public TaskRuntimeStatsRecorder getTaskRuntimeStatsRecorder() {
+        return taskRuntimeStatsRecorder;
+    }
+
+    public void addJobPerformanceListener(JobPerformanceListener listener) {
+        jobPerformanceListeners.add(listener);
+    }
+
+    public void removeJobPerformanceListener(JobPerformanceListener listener) {
+        jobPerformanceListeners.remove(listener);
+    }
+
+    public List<JobPerformanceListener> getJobPerformanceListeners() {
+        return jobPerformanceListeners;
+    }
+
     public StorageProvider getStorageProvider() {
         return storageProvider;
     }
 
+    public InstrumentedStorageProvider getInstrumentedStorageProvider() {
+        return instrumentedStorageProvider;
+    }
+
     public ConcurrentJobModificationResolver getConcurrentJobModificationResolver() {
         return concurrentJobModificationResolver;
     }
@@ -303,6 +353,7 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
         // and all will be launched one after another
         zookeeperThreadPool.scheduleWithFixedDelay(serverZooKeeper, 0, configuration.getPollInterval().toMillis(), MILLISECONDS);
         zookeeperThreadPool.scheduleWithFixedDelay(jobSteward, min(configuration.getPollInterval().toMillis() / 5, 1000), configuration.getPollInterval().toMillis(), MILLISECONDS);
+        storageProvider.addJobStorageOnChangeListener(onboardNewWorkOnEnqueuedJobs);
     }
 
     @SuppressWarnings("FutureReturnValueIgnored") // See https://github.com/google/error-prone/issues/883
@@ -311,18 +362,39 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
         JobZooKeeper recurringAndCarbonAwareAndScheduledJobsZooKeeper = new JobZooKeeper(this,
                 new ProcessRecurringJobsTask(this), new ProcessCarbonAwareAwaitingJobsTask(this), new ProcessScheduledJobsTask(this));
         JobZooKeeper orphanedJobsZooKeeper = new JobZooKeeper(this, new ProcessOrphanedJobsTask(this));
-        JobZooKeeper janitorZooKeeper = new JobZooKeeper(this, new DeleteSucceededJobsTask(this), new DeleteDeletedJobsPermanentlyTask(this));
+        JobZooKeeper janitorZooKeeper = new JobZooKeeper(this, new DeleteSucceededJobsTask(this), new DeleteDeletedJobsPermanentlyTask(this), new DownsampleJobStatsRollupsTask(this));
         zookeeperThreadPool.scheduleWithFixedDelay(recurringAndCarbonAwareAndScheduledJobsZooKeeper, delay, configuration.getPollInterval().toMillis(), MILLISECONDS);
         zookeeperThreadPool.scheduleWithFixedDelay(orphanedJobsZooKeeper, delay, configuration.getPollInterval().toMillis(), MILLISECONDS);
         zookeeperThreadPool.scheduleWithFixedDelay(janitorZooKeeper, delay, configuration.getPollInterval().toMillis(), MILLISECONDS);
     }
 
     private void stopZooKeepers() {
+        storageProvider.removeJobStorageOnChangeListener(onboardNewWorkOnEnqueuedJobs);
         serverZooKeeper.stop();
         zookeeperThreadPool.stop(Duration.ofSeconds(10));
         this.zookeeperThreadPool = null;
     }
 
+    private void publishJobStatsOfCurrentMinute() {
+        try {
+            JobStatsHistory jobStatsHistory = new JobStatsHistory(storageProvider, jsonMapper);
+            jobStatsRecorder.drainAllMinutes().forEach(rollup -> jobStatsHistory.saveMinuteRollup(getId(), rollup));
+        } catch (Exception e) {
+            LOGGER.warn("{} could not publish the job stats of the current minute", this, e);
+        }
+    }
+
+    private void onboardNewWorkAsync() {
+        final PlatformThreadPoolJobRunrExecutor threadPool = zookeeperThreadPool;
+        if (threadPool == null || threadPool.isStopping()) return;
+        try {
+            // why: the listener is notified on the thread of the caller that committed the jobs
+            threadPool.execute(jobSteward::onboardNewWork);
+        } catch (RejectedExecutionException e) {
+            // server is being stopped
+        }
+    }
+
     private void startWorkers() {
         jobExecutor = configuration.getBackgroundJobServerWorkerPolicy().toJobRunrExecutor();
         jobExecutor.start();
@@ -335,6 +407,14 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
         this.jobExecutor = null;
     }
 
+    private void startAsyncJobFilterExecution() {
+        jobDefaultFilters.getJobFilterExecutor().startAsyncExecution(configuration.getAsyncJobFilterWorkerCount(), configuration.getAsyncJobFilterQueueSize());
+    }
+
+    private void stopAsyncJobFilterExecution() {
+        jobDefaultFilters.getJobFilterExecutor().stopAsyncExecution(configuration.getInterruptJobsAwaitDurationOnStopBackgroundJobServer());
+    }
+
     private void runStartupTasks() {
         try {
             ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
@@ -342,6 +422,7 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
                     new CreateClusterIdIfNotExists(this),
                     new CheckIfAllJobsExistTask(this),
                     new MigrateFromV5toV6Task(this),
+                    new BackfillJobSearchFieldsTask(this),
                     new ShutdownExecutorServiceTask(singleThreadExecutor)
             ));
         } catch (Exception notImportant) {
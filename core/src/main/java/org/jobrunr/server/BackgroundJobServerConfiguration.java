@@ -1,5 +1,8 @@
 package org.jobrunr.server;
 
+import org.jobrunr.jobs.context.JobDashboardLogBuffer;
+import org.jobrunr.jobs.filters.AsyncJobFilter;
+import org.jobrunr.jobs.filters.JobFilterExecutor;
 import org.jobrunr.server.carbonaware.CarbonAwareJobProcessingConfiguration;
 import org.jobrunr.server.configuration.BackgroundJobServerWorkerPolicy;
 import org.jobrunr.server.configuration.ConcurrentJobModificationPolicy;
@@ -39,6 +42,11 @@ public class BackgroundJobServerConfiguration {
     BackgroundJobServerWorkerPolicy backgroundJobServerWorkerPolicy = new DefaultBackgroundJobServerWorkerPolicy();
     ConcurrentJobModificationPolicy concurrentJobModificationPolicy = new DefaultConcurrentJobModificationPolicy();
     CarbonAwareJobProcessingConfiguration carbonAwareJobProcessingConfiguration = CarbonAwareJobProcessingConfiguration.usingDisabledCarbonAwareJobProcessingConfiguration();
+    int asyncJobFilterWorkerCount = JobFilterExecutor.DEFAULT_ASYNC_WORKER_COUNT;
+    int asyncJobFilterQueueSize = JobFilterExecutor.DEFAULT_ASYNC_QUEUE_SIZE;
+    Duration jobFilterTimeBudget = JobFilterExecutor.DEFAULT_TIME_BUDGET;
+    boolean storeJobDashboardLogsSeparately = true;
+    int maxJobDashboardLogLines = JobDashboardLogBuffer.DEFAULT_MAX_LOG_LINES;
 
     private BackgroundJobServerConfiguration() {
 
@@ -239,6 +247,60 @@ public class BackgroundJobServerConfiguration {
         return this;
     }
 
+    /**
+     * Allows to set the amount of threads and the queue size used to run {@link AsyncJobFilter AsyncJobFilters}. If the queue is full,
+     * the worker that triggered the filter runs it itself. Use more than 1 thread only if the order in which the filters are
+     * invoked does not matter.
+     *
+     * @param workerCount the amount of threads that run the asynchronous job filters
+     * @param queueSize   the maximum amount of queued invocations of asynchronous job filters
+     * @return the same configuration instance which provides a fluent api
+     */
+    public BackgroundJobServerConfiguration andAsyncJobFilterExecution(int workerCount, int queueSize) {
+        if (workerCount < 1) throw new IllegalArgumentException("The workerCount for asynchronous job filters must be at least 1");
+        if (queueSize < 1) throw new IllegalArgumentException("The queueSize for asynchronous job filters must be at least 1");
+        this.asyncJobFilterWorkerCount = workerCount;
+        this.asyncJobFilterQueueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * Allows to set the time budget of a single job filter invocation. A job filter that exceeds it several times in a row is marked as degraded.
+     *
+     * @param timeBudget the time budget of a job filter invocation
+     * @return the same configuration instance which provides a fluent api
+     */
+    public BackgroundJobServerConfiguration andJobFilterTimeBudget(Duration timeBudget) {
+        this.jobFilterTimeBudget = timeBudget;
+        return this;
+    }
+
+    /**
+     * Allows to choose where the dashboard logs and progress bars of jobs (see {@link org.jobrunr.jobs.context.JobContext#logger()}) are stored.
+     * By default, they are appended in batches to a separate table or collection so they do not need to be rewritten each time the job is saved.
+     * If disabled (or if the StorageProvider does not support it), they are stored in the metadata of the job.
+     *
+     * @param storeJobDashboardLogsSeparately whether to store the dashboard logs outside of the job
+     * @return the same configuration instance which provides a fluent api
+     */
+    public BackgroundJobServerConfiguration andJobDashboardLogsStoredSeparately(boolean storeJobDashboardLogsSeparately) {
+        this.storeJobDashboardLogsSeparately = storeJobDashboardLogsSeparately;
+        return this;
+    }
+
+    /**
+     * Allows to set the maximum amount of dashboard log lines that are kept per processing attempt of a job when the dashboard logs are
+     * stored separately. Once reached, a warning is logged in the dashboard and further log lines are dropped.
+     *
+     * @param maxJobDashboardLogLines the maximum amount of dashboard log lines per processing attempt of a job
+     * @return the same configuration instance which provides a fluent api
+     */
+    public BackgroundJobServerConfiguration andMaxJobDashboardLogLines(int maxJobDashboardLogLines) {
+        if (maxJobDashboardLogLines < 1) throw new IllegalArgumentException("The maximum amount of dashboard log lines must be at least 1");
+        this.maxJobDashboardLogLines = maxJobDashboardLogLines;
+        return this;
+    }
+
     private static String getHostName() {
         try {
             String hostName = InetAddress.getLocalHost().getHostName();
@@ -70,4 +70,24 @@ public class BackgroundJobServerConfigurationReader {
     public CarbonAwareJobProcessingConfigurationReader getCarbonAwareJobProcessingConfiguration() {
         return new CarbonAwareJobProcessingConfigurationReader(configuration.carbonAwareJobProcessingConfiguration);
     }
+
+    public int getAsyncJobFilterWorkerCount() {
+        return configuration.asyncJobFilterWorkerCount;
+    }
+
+    public int getAsyncJobFilterQueueSize() {
+        return configuration.asyncJobFilterQueueSize;
+    }
+
+    public Duration getJobFilterTimeBudget() {
+        return configuration.jobFilterTimeBudget;
+    }
+
+    public boolean isStoreJobDashboardLogsSeparately() {
+        return configuration.storeJobDashboardLogsSeparately;
+    }
+
+    public int getMaxJobDashboardLogLines() {
+        return configuration.maxJobDashboardLogLines;
+    }
 }
@@ -5,6 +5,7 @@ import org.jobrunr.server.tasks.PeriodicTaskRunInfo;
 import org.jobrunr.server.tasks.Task;
 import org.jobrunr.server.tasks.TaskStatistics;
 import org.jobrunr.storage.StorageException;
+import org.jobrunr.storage.StorageProvider.UnitOfWork;
 import org.jobrunr.utils.streams.StreamUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,7 +25,7 @@ public abstract class JobHandler implements Runnable {
     public JobHandler(BackgroundJobServer backgroundJobServer, Task... tasks) {
         this.LOGGER = LoggerFactory.getLogger(this.getClass());
         this.backgroundJobServer = backgroundJobServer;
-        this.taskStatistics = new TaskStatistics(backgroundJobServer.getDashboardNotificationManager());
+        this.taskStatistics = new TaskStatistics(backgroundJobServer.getDashboardNotificationManager(), backgroundJobServer.getInstrumentedStorageProvider(), backgroundJobServer.getTaskRuntimeStatsRecorder());
         this.tasks = asList(tasks);
     }
 
@@ -33,7 +34,7 @@ public abstract class JobHandler implements Runnable {
         if (backgroundJobServer.isNotReadyToProcessJobs()) return;
 
         try (PeriodicTaskRunInfo runInfo = taskStatistics.startRun(backgroundJobServerConfiguration())) {
-            tasks.forEach(task -> task.run(runInfo));
+            tasks.forEach(task -> runInUnitOfWork(task, runInfo));
             runInfo.markRunAsSucceeded();
         } catch (Exception e) {
             taskStatistics.handleException(e);
@@ -50,6 +51,13 @@ public abstract class JobHandler implements Runnable {
         }
     }
 
+    private void runInUnitOfWork(Task task, PeriodicTaskRunInfo runInfo) {
+        // why: a unit of work per task instead of per run so the connection is returned to the pool between tasks
+        try (UnitOfWork ignored = backgroundJobServer.getStorageProvider().startUnitOfWork()) {
+            task.run(runInfo);
+        }
+    }
+
     protected BackgroundJobServerConfigurationReader backgroundJobServerConfiguration() {
         return backgroundJobServer.getConfiguration();
     }
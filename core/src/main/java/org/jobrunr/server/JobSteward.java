@@ -1,12 +1,18 @@
 package org.jobrunr.server;
 
 import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.context.JobDashboardLogBuffer;
+import org.jobrunr.server.tasks.steward.FlushJobDashboardLogsTask;
 import org.jobrunr.server.tasks.steward.OnboardNewWorkTask;
+import org.jobrunr.server.tasks.steward.PublishJobStatsRollupsTask;
+import org.jobrunr.server.tasks.steward.PublishTaskRuntimeStatsTask;
 import org.jobrunr.server.tasks.steward.UpdateJobsInProgressTask;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -16,16 +22,23 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class JobSteward extends JobHandler implements Runnable {
 
     private final Map<Job, Thread> jobsCurrentlyInProgress;
+    private final Map<UUID, JobDashboardLogBuffer> jobDashboardLogBuffers;
     private final AtomicInteger occupiedWorkers;
     private final OnboardNewWorkTask onboardNewWorkTask;
+    private final FlushJobDashboardLogsTask flushJobDashboardLogsTask;
 
     public JobSteward(BackgroundJobServer backgroundJobServer) {
         super(backgroundJobServer,
                 new UpdateJobsInProgressTask(backgroundJobServer),
-                new OnboardNewWorkTask(backgroundJobServer));
+                new OnboardNewWorkTask(backgroundJobServer),
+                new PublishJobStatsRollupsTask(backgroundJobServer),
+                new PublishTaskRuntimeStatsTask(backgroundJobServer),
+                new FlushJobDashboardLogsTask(backgroundJobServer));
         this.jobsCurrentlyInProgress = new ConcurrentHashMap<>();
+        this.jobDashboardLogBuffers = new ConcurrentHashMap<>();
         this.occupiedWorkers = new AtomicInteger();
         this.onboardNewWorkTask = getTaskOfType(OnboardNewWorkTask.class);
+        this.flushJobDashboardLogsTask = getTaskOfType(FlushJobDashboardLogsTask.class);
     }
 
     public void startProcessing(Job job, Thread thread) {
@@ -41,6 +54,38 @@ public class JobSteward extends JobHandler implements Runnable {
         jobsCurrentlyInProgress.remove(job);
     }
 
+    /**
+     * Creates the buffer for the dashboard logs of the current processing attempt of the given job.
+     *
+     * @param job the job that starts processing
+     * @return the buffer or null if the dashboard logs are stored in the job metadata
+     */
+    public JobDashboardLogBuffer startCollectingJobDashboardLogs(Job job) {
+        if (!flushJobDashboardLogsTask.isStoringJobDashboardLogsSeparately()) return null;
+
+        JobDashboardLogBuffer jobDashboardLogBuffer = new JobDashboardLogBuffer(job, backgroundJobServerConfiguration().getMaxJobDashboardLogLines(),
+                JobDashboardLogBuffer.DEFAULT_FLUSH_THRESHOLD, flushJobDashboardLogsTask::flush);
+        jobDashboardLogBuffers.put(job.getId(), jobDashboardLogBuffer);
+        return jobDashboardLogBuffer;
+    }
+
+    /**
+     * Saves the remaining dashboard logs of the current processing attempt of the given job.
+     *
+     * @param job the job that stopped processing
+     */
+    public void stopCollectingJobDashboardLogs(Job job) {
+        JobDashboardLogBuffer jobDashboardLogBuffer = jobDashboardLogBuffers.remove(job.getId());
+        if (jobDashboardLogBuffer == null) return;
+
+        jobDashboardLogBuffer.close();
+        flushJobDashboardLogsTask.flush(jobDashboardLogBuffer);
+    }
+
+    public Collection<JobDashboardLogBuffer> getJobDashboardLogBuffers() {
+        return jobDashboardLogBuffers.values();
+    }
+
     public Set<Job> getJobsInProgress() {
         return jobsCurrentlyInProgress.keySet();
     }
@@ -57,6 +102,13 @@ public class JobSteward extends JobHandler implements Runnable {
         occupiedWorkers.incrementAndGet();
     }
 
+    /**
+     * Fetches new work right away instead of waiting for the next poll interval (e.g. because new jobs were enqueued).
+     */
+    public void onboardNewWork() {
+        onboardNewWorkTask.runTaskThreadSafe();
+    }
+
     public void notifyThreadIdle() {
         this.occupiedWorkers.decrementAndGet();
         onboardNewWorkTask.runTaskThreadSafe();
@@ -5,6 +5,7 @@ import org.jobrunr.server.dashboard.DashboardNotificationManager;
 import org.jobrunr.storage.BackgroundJobServerStatus;
 import org.jobrunr.storage.ServerTimedOutException;
 import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.StorageProvider.UnitOfWork;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,7 +48,7 @@ public class ServerZooKeeper implements Runnable {
     public void run() {
         if (backgroundJobServer.isStopping() || backgroundJobServer.isStopped()) return;
 
-        try {
+        try (UnitOfWork ignored = storageProvider.startUnitOfWork()) {
             if (backgroundJobServer.isUnAnnounced()) {
                 announceBackgroundJobServer();
             } else {
@@ -14,6 +14,7 @@ import org.jobrunr.server.concurrent.statechanges.SystemSleptConcurrentStateChan
 import org.jobrunr.storage.ConcurrentJobModificationException;
 import org.jobrunr.storage.JobNotFoundException;
 import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.StorageProvider.UnitOfWork;
 
 import java.util.Arrays;
 import java.util.List;
@@ -50,11 +51,14 @@ public class DefaultConcurrentJobModificationResolver implements ConcurrentJobMo
     @Override
     public void resolve(ConcurrentJobModificationException e) {
         final List<Job> concurrentUpdatedJobs = e.getConcurrentUpdatedJobs();
-        final List<ConcurrentJobModificationResolveResult> failedToResolve = concurrentUpdatedJobs
-                .stream()
-                .map(this::resolve)
-                .filter(ConcurrentJobModificationResolveResult::failed)
-                .collect(toList());
+        final List<ConcurrentJobModificationResolveResult> failedToResolve;
+        try (UnitOfWork ignored = storageProvider.startUnitOfWork()) {
+            failedToResolve = concurrentUpdatedJobs
+                    .stream()
+                    .map(this::resolve)
+                    .filter(ConcurrentJobModificationResolveResult::failed)
+                    .collect(toList());
+        }
 
         if (!failedToResolve.isEmpty()) {
             throw new UnresolvableConcurrentJobModificationException(failedToResolve, e);
@@ -1,6 +1,11 @@
 package org.jobrunr.server.dashboard;
 
+import org.jobrunr.storage.SlowStorageProviderCall;
+
 import java.time.Instant;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
 
 public class PollIntervalInSecondsTimeBoxIsTooSmallNotification implements DashboardNotification {
 
@@ -8,12 +13,18 @@ public class PollIntervalInSecondsTimeBoxIsTooSmallNotification implements Dashb
     private final Integer pollIntervalInSeconds;
     private final Instant runStartTime;
     private final Integer actualDurationInSeconds;
+    private final List<SlowStorageProviderCall> slowStorageProviderCalls;
 
     public PollIntervalInSecondsTimeBoxIsTooSmallNotification(long runIndex, Integer pollIntervalInSeconds, Instant runStartTime, Integer actualDurationInSeconds) {
+        this(runIndex, pollIntervalInSeconds, runStartTime, actualDurationInSeconds, emptyList());
+    }
+
+    public PollIntervalInSecondsTimeBoxIsTooSmallNotification(long runIndex, Integer pollIntervalInSeconds, Instant runStartTime, Integer actualDurationInSeconds, List<SlowStorageProviderCall> slowStorageProviderCalls) {
         this.runIndex = runIndex;
         this.pollIntervalInSeconds = pollIntervalInSeconds;
         this.runStartTime = runStartTime;
         this.actualDurationInSeconds = actualDurationInSeconds;
+        this.slowStorageProviderCalls = slowStorageProviderCalls;
     }
 
     public long getRunIndex() {
@@ -31,4 +42,8 @@ public class PollIntervalInSecondsTimeBoxIsTooSmallNotification implements Dashb
     public Integer getActualDurationInSeconds() {
         return actualDurationInSeconds;
     }
+
+    public List<SlowStorageProviderCall> getSlowStorageProviderCalls() {
+        return slowStorageProviderCalls;
+    }
 }
@@ -3,11 +3,17 @@ package org.jobrunr.server.dashboard.mappers;
 import org.jobrunr.server.dashboard.DashboardNotification;
 import org.jobrunr.server.dashboard.PollIntervalInSecondsTimeBoxIsTooSmallNotification;
 import org.jobrunr.storage.JobRunrMetadata;
+import org.jobrunr.storage.SlowStorageProviderCall;
 
 import java.util.UUID;
 
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+
 public class PollIntervalInSecondsTimeBoxIsTooSmallNotificationMapper implements DashboardNotificationMapper<PollIntervalInSecondsTimeBoxIsTooSmallNotification> {
 
+    private static final int MAX_SLOW_STORAGE_PROVIDER_CALLS = 5;
+
     private final String id;
 
     public PollIntervalInSecondsTimeBoxIsTooSmallNotificationMapper(UUID backgroundJobServerId) {
@@ -23,7 +29,17 @@ public class PollIntervalInSecondsTimeBoxIsTooSmallNotificationMapper implements
     public JobRunrMetadata mapToMetadata(PollIntervalInSecondsTimeBoxIsTooSmallNotification notification) {
         return new JobRunrMetadata(PollIntervalInSecondsTimeBoxIsTooSmallNotification.class.getSimpleName(), id,
                 "pollIntervalInSeconds was exceeded by " + (notification.getActualDurationInSeconds() - notification.getPollIntervalInSeconds()) + "." +
-                        "(pollIntervalInSeconds = " + notification.getPollIntervalInSeconds() + " / actualDurationInSeconds = " + notification.getActualDurationInSeconds() + ")"
+                        "(pollIntervalInSeconds = " + notification.getPollIntervalInSeconds() + " / actualDurationInSeconds = " + notification.getActualDurationInSeconds() + ")" +
+                        slowStorageProviderCalls(notification)
         );
     }
+
+    private static String slowStorageProviderCalls(PollIntervalInSecondsTimeBoxIsTooSmallNotification notification) {
+        if (notification.getSlowStorageProviderCalls().isEmpty()) return "";
+        return " Slowest StorageProvider calls: " + notification.getSlowStorageProviderCalls().stream()
+                .sorted(comparing(SlowStorageProviderCall::getDuration).reversed())
+                .limit(MAX_SLOW_STORAGE_PROVIDER_CALLS)
+                .map(SlowStorageProviderCall::toString)
+                .collect(joining("; "));
+    }
 }
\ No newline at end of file
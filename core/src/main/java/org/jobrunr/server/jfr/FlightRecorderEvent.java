@@ -0,0 +1,50 @@
+package org.jobrunr.server.jfr;
+
+/**
+ * A single JDK Flight Recorder event of JobRunr. The duration of the event starts when it is created via {@link JobRunrFlightRecorderEvents}
+ * and ends when it is committed. If JFR is not available or no recording has enabled the event, a disabled event is returned that
+ * ignores all values so that the overhead is limited to a single check.
+ */
+public class FlightRecorderEvent {
+
+    public static final FlightRecorderEvent DISABLED = new FlightRecorderEvent(null, null);
+
+    private final FlightRecorderEventType eventType;
+    private final Object event;
+
+    FlightRecorderEvent(FlightRecorderEventType eventType, Object event) {
+        this.eventType = eventType;
+        this.event = event;
+    }
+
+    public boolean isEnabled() {
+        return event != null;
+    }
+
+    /**
+     * Sets the value of the given field. Values that are not a String, a number or a boolean (like a {@link java.util.UUID} or an enum)
+     * are converted to their String representation, but only if the event is enabled.
+     *
+     * @param fieldName the name of the field
+     * @param value     the value of the field
+     * @return this event
+     */
+    public FlightRecorderEvent with(String fieldName, Object value) {
+        if (event == null) return this;
+        try {
+            eventType.set(event, fieldName, value);
+        } catch (ReflectiveOperationException e) {
+            // JFR is best effort, we never want it to fail the processing of jobs
+        }
+        return this;
+    }
+
+    public void commit() {
+        if (event == null) return;
+        try {
+            eventType.commit(event);
+        } catch (ReflectiveOperationException e) {
+            // JFR is best effort, we never want it to fail the processing of jobs
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.jobrunr.server.jfr;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.jobrunr.utils.reflection.ReflectionUtils.loadClass;
+
+/**
+ * A JDK Flight Recorder event type that is defined at runtime using {@code jdk.jfr.EventFactory}. JobRunr still supports Java 8
+ * and can thus not extend {@code jdk.jfr.Event} directly, which is why all JFR classes are accessed via reflection.
+ */
+class FlightRecorderEventType {
+
+    private final String name;
+    private final String label;
+    private final String description;
+    private final String category;
+    private final List<Field> fields;
+    private volatile Object eventType;
+    private Object eventFactory;
+    private Method eventTypeIsEnabledMethod;
+    private Method eventFactoryNewEventMethod;
+    private Method eventBeginMethod;
+    private Method eventSetMethod;
+    private Method eventShouldCommitMethod;
+    private Method eventCommitMethod;
+
+    FlightRecorderEventType(String name, String label, String description, String category, Field... fields) {
+        this.name = name;
+        this.label = label;
+        this.description = description;
+        this.category = category;
+        this.fields = asList(fields);
+    }
+
+    synchronized void register() throws ReflectiveOperationException {
+        if (eventType != null) return;
+
+        Class<?> eventFactoryClass = loadClass("jdk.jfr.EventFactory");
+        Class<?> eventTypeClass = loadClass("jdk.jfr.EventType");
+        Class<?> eventClass = loadClass("jdk.jfr.Event");
+        Class<?> valueDescriptorClass = loadClass("jdk.jfr.ValueDescriptor");
+        Constructor<?> valueDescriptorConstructor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+
+        List<Object> eventAnnotations = asList(
+                annotationElement("jdk.jfr.Name", name),
+                annotationElement("jdk.jfr.Label", label),
+                annotationElement("jdk.jfr.Description", description),
+                annotationElement("jdk.jfr.Category", new String[]{"JobRunr", category}),
+                annotationElement("jdk.jfr.StackTrace", false));
+        List<Object> eventFields = new ArrayList<>();
+        for (Field field : fields) {
+            eventFields.add(valueDescriptorConstructor.newInstance(field.type, field.name, singletonList(annotationElement("jdk.jfr.Label", field.label))));
+        }
+
+        this.eventFactory = eventFactoryClass.getMethod("create", List.class, List.class).invoke(null, eventAnnotations, eventFields);
+        this.eventFactoryNewEventMethod = eventFactoryClass.getMethod("newEvent");
+        this.eventTypeIsEnabledMethod = eventTypeClass.getMethod("isEnabled");
+        this.eventBeginMethod = eventClass.getMethod("begin");
+        this.eventSetMethod = eventClass.getMethod("set", int.class, Object.class);
+        this.eventShouldCommitMethod = eventClass.getMethod("shouldCommit");
+        this.eventCommitMethod = eventClass.getMethod("commit");
+        this.eventType = eventFactoryClass.getMethod("getEventType").invoke(eventFactory);
+    }
+
+    boolean isEnabled() {
+        Object currentEventType = eventType;
+        if (currentEventType == null) return false;
+        try {
+            return (boolean) eventTypeIsEnabledMethod.invoke(currentEventType);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    FlightRecorderEvent begin() {
+        if (!isEnabled()) return FlightRecorderEvent.DISABLED;
+        try {
+            Object event = eventFactoryNewEventMethod.invoke(eventFactory);
+            eventBeginMethod.invoke(event);
+            return new FlightRecorderEvent(this, event);
+        } catch (ReflectiveOperationException e) {
+            return FlightRecorderEvent.DISABLED;
+        }
+    }
+
+    void set(Object event, String fieldName, Object value) throws ReflectiveOperationException {
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            if (field.name.equals(fieldName)) {
+                eventSetMethod.invoke(event, i, field.convert(value));
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field " + fieldName + " for event " + name);
+    }
+
+    void commit(Object event) throws ReflectiveOperationException {
+        if ((boolean) eventShouldCommitMethod.invoke(event)) {
+            eventCommitMethod.invoke(event);
+        }
+    }
+
+    private static Object annotationElement(String annotationClassName, Object value) throws ReflectiveOperationException {
+        Class<?> annotationElementClass = loadClass("jdk.jfr.AnnotationElement");
+        return annotationElementClass.getConstructor(Class.class, Object.class).newInstance(loadClass(annotationClassName), value);
+    }
+
+    static Field stringField(String name, String label) {
+        return new Field(String.class, name, label);
+    }
+
+    static Field longField(String name, String label) {
+        return new Field(long.class, name, label);
+    }
+
+    static Field booleanField(String name, String label) {
+        return new Field(boolean.class, name, label);
+    }
+
+    static class Field {
+
+        private final Class<?> type;
+        private final String name;
+        private final String label;
+
+        private Field(Class<?> type, String name, String label) {
+            this.type = type;
+            this.name = name;
+            this.label = label;
+        }
+
+        private Object convert(Object value) {
+            if (value == null) return null;
+            if (type == long.class && value instanceof Number) return ((Number) value).longValue();
+            if (type == String.class && !(value instanceof String)) return value.toString();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.jobrunr.server.jfr;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Arrays.asList;
+import static org.jobrunr.server.jfr.FlightRecorderEventType.booleanField;
+import static org.jobrunr.server.jfr.FlightRecorderEventType.longField;
+import static org.jobrunr.server.jfr.FlightRecorderEventType.stringField;
+import static org.jobrunr.utils.reflection.ReflectionUtils.classExists;
+
+/**
+ * The JDK Flight Recorder events of JobRunr. They allow to correlate worker stalls with storage latency using {@code jfr print} or
+ * JDK Mission Control, e.g.: {@code jfr print --events org.jobrunr.JobExecution recording.jfr}.
+ * <p>
+ * The events are registered by the {@link org.jobrunr.server.BackgroundJobServer} and are only created if a recording enabled them.
+ */
+public class JobRunrFlightRecorderEvents {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobRunrFlightRecorderEvents.class);
+
+    public static final String JOB_CLAIM_EVENT = "org.jobrunr.JobClaim";
+    public static final String JOB_EXECUTION_EVENT = "org.jobrunr.JobExecution";
+    public static final String JOB_STATE_SAVE_EVENT = "org.jobrunr.JobStateSave";
+    public static final String CONCURRENT_JOB_MODIFICATION_RESOLUTION_EVENT = "org.jobrunr.ConcurrentJobModificationResolution";
+    public static final String TASK_RUN_EVENT = "org.jobrunr.TaskRun";
+
+    private static final FlightRecorderEventType JOB_CLAIM = new FlightRecorderEventType(JOB_CLAIM_EVENT, "Job Claim",
+            "Fetching enqueued jobs and claiming them for processing on this BackgroundJobServer", "Jobs",
+            longField("batchSize", "Batch Size"),
+            longField("claimed", "Claimed Jobs"));
+    private static final FlightRecorderEventType JOB_EXECUTION = new FlightRecorderEventType(JOB_EXECUTION_EVENT, "Job Execution",
+            "The execution of the job method", "Jobs",
+            stringField("jobId", "Job Id"),
+            stringField("jobSignature", "Job Signature"),
+            stringField("outcome", "Outcome"));
+    private static final FlightRecorderEventType JOB_STATE_SAVE = new FlightRecorderEventType(JOB_STATE_SAVE_EVENT, "Job State Save",
+            "Saving one or more jobs to the StorageProvider after a state change", "Jobs",
+            stringField("jobId", "Job Id"),
+            stringField("state", "State"),
+            longField("amount", "Amount of Jobs"));
+    private static final FlightRecorderEventType CONCURRENT_JOB_MODIFICATION_RESOLUTION = new FlightRecorderEventType(CONCURRENT_JOB_MODIFICATION_RESOLUTION_EVENT, "Concurrent Job Modification Resolution",
+            "Resolving a ConcurrentJobModificationException", "Jobs",
+            longField("amount", "Amount of Jobs"),
+            booleanField("resolved", "Resolved"));
+    private static final FlightRecorderEventType TASK_RUN = new FlightRecorderEventType(TASK_RUN_EVENT, "Task Run",
+            "A run of a JobZooKeeper or JobSteward task", "Server",
+            stringField("task", "Task"),
+            longField("runIndex", "Run Index"),
+            booleanField("succeeded", "Succeeded"));
+
+    private static volatile boolean registered;
+
+    private JobRunrFlightRecorderEvents() {
+    }
+
+    /**
+     * Registers all JobRunr events with the JDK Flight Recorder if it is available. Calling it more than once has no effect.
+     */
+    public static synchronized void register() {
+        if (registered) return;
+        registered = true;
+        if (!classExists("jdk.jfr.EventFactory")) {
+            LOGGER.debug("JDK Flight Recorder is not available - JobRunr Flight Recorder events are disabled.");
+            return;
+        }
+
+        try {
+            for (FlightRecorderEventType eventType : asList(JOB_CLAIM, JOB_EXECUTION, JOB_STATE_SAVE, CONCURRENT_JOB_MODIFICATION_RESOLUTION, TASK_RUN)) {
+                eventType.register();
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Could not register JobRunr Flight Recorder events - they are disabled.", e);
+        }
+    }
+
+    public static FlightRecorderEvent beginJobClaim() {
+        return JOB_CLAIM.begin();
+    }
+
+    public static FlightRecorderEvent beginJobExecution() {
+        return JOB_EXECUTION.begin();
+    }
+
+    public static FlightRecorderEvent beginJobStateSave() {
+        return JOB_STATE_SAVE.begin();
+    }
+
+    public static FlightRecorderEvent beginConcurrentJobModificationResolution() {
+        return CONCURRENT_JOB_MODIFICATION_RESOLUTION.begin();
+    }
+
+    public static FlightRecorderEvent beginTaskRun() {
+        return TASK_RUN.begin();
+    }
+}
@@ -28,6 +28,14 @@ public class JobRunrJMXExtensions implements JobStatsChangeListener, JobStatsMBe
             StandardMBean backgroundJobServerStatusMBean = new StandardMBean(backgroundJobServer.getServerStatus(), BackgroundJobServerStatusMBean.class);
             server.registerMBean(backgroundJobServerStatusMBean, new ObjectName("org.jobrunr.server:type=BackgroundJobServerInfo,name=BackgroundJobServerStatus"));
 
+            // StorageProvider call statistics JMX Info
+            StandardMBean storageProviderStatsMBean = new StandardMBean(new StorageProviderStats(backgroundJobServer.getInstrumentedStorageProvider()), StorageProviderStatsMBean.class);
+            server.registerMBean(storageProviderStatsMBean, new ObjectName("org.jobrunr.server:type=BackgroundJobServerInfo,name=StorageProviderStatistics"));
+
+            // Periodic task runtime statistics JMX Info
+            StandardMBean taskRuntimeStatsMBean = new StandardMBean(new TaskRuntimeStatistics(backgroundJobServer.getTaskRuntimeStatsRecorder()), TaskRuntimeStatsMBean.class);
+            server.registerMBean(taskRuntimeStatsMBean, new ObjectName("org.jobrunr.server:type=BackgroundJobServerInfo,name=TaskRuntimeStatistics"));
+
             if (reportJobStatistics) {
                 // JobStats JMX Info
                 onChange(storageProvider.getJobStats());
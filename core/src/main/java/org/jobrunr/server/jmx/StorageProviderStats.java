@@ -0,0 +1,35 @@
+package org.jobrunr.server.jmx;
+
+import org.jobrunr.storage.InstrumentedStorageProvider;
+import org.jobrunr.storage.StorageProviderMethodStats;
+
+import static java.util.Comparator.comparing;
+
+public class StorageProviderStats implements StorageProviderStatsMBean {
+
+    private final InstrumentedStorageProvider instrumentedStorageProvider;
+
+    public StorageProviderStats(InstrumentedStorageProvider instrumentedStorageProvider) {
+        this.instrumentedStorageProvider = instrumentedStorageProvider;
+    }
+
+    @Override
+    public long getSlowCallThresholdInMillis() {
+        return instrumentedStorageProvider.getSlowCallThreshold().toMillis();
+    }
+
+    @Override
+    public String[] getMethodStats() {
+        return instrumentedStorageProvider.getMethodStats().stream()
+                .sorted(comparing(StorageProviderMethodStats::getMethod))
+                .map(StorageProviderMethodStats::toString)
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public String[] getSlowCalls() {
+        return instrumentedStorageProvider.getSlowCalls().stream()
+                .map(Object::toString)
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,10 @@
+package org.jobrunr.server.jmx;
+
+public interface StorageProviderStatsMBean {
+
+    long getSlowCallThresholdInMillis();
+
+    String[] getMethodStats();
+
+    String[] getSlowCalls();
+}
@@ -0,0 +1,20 @@
+package org.jobrunr.server.jmx;
+
+import org.jobrunr.server.metrics.TaskRuntimeStats;
+import org.jobrunr.server.metrics.TaskRuntimeStatsRecorder;
+
+public class TaskRuntimeStatistics implements TaskRuntimeStatsMBean {
+
+    private final TaskRuntimeStatsRecorder taskRuntimeStatsRecorder;
+
+    public TaskRuntimeStatistics(TaskRuntimeStatsRecorder taskRuntimeStatsRecorder) {
+        this.taskRuntimeStatsRecorder = taskRuntimeStatsRecorder;
+    }
+
+    @Override
+    public String[] getTaskRuntimeStats() {
+        return taskRuntimeStatsRecorder.getTaskRuntimeStats().stream()
+                .map(TaskRuntimeStats::toString)
+                .toArray(String[]::new);
+    }
+}
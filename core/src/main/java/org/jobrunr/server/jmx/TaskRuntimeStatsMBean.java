@@ -0,0 +1,6 @@
+package org.jobrunr.server.jmx;
+
+public interface TaskRuntimeStatsMBean {
+
+    String[] getTaskRuntimeStats();
+}
@@ -1,24 +1,57 @@
 package org.jobrunr.server.metrics;
 
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.filters.JobFilterExecutor;
+import org.jobrunr.jobs.filters.JobFilterStats;
 import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.storage.BackgroundJobServerStatus;
+import org.jobrunr.storage.InstrumentedStorageProvider;
+import org.jobrunr.storage.StorageProviderMethodStats;
 import org.jobrunr.utils.resilience.CachedValue;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.ToDoubleFunction;
 
-public class BackgroundJobServerMetricsBinder implements AutoCloseable {
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Binds the metrics of a {@link BackgroundJobServer} to a {@link MeterRegistry}.
+ * <p>
+ * Next to the server gauges, it registers per job signature timers for the queue wait (enqueued to processing), the execution
+ * and the saving of job states. To limit the cardinality, at most {@link #MAX_JOB_SIGNATURE_TAGS} job signatures get their own
+ * tag, all other job signatures are tagged as {@link #OTHER_JOB_SIGNATURES}. Timers are cached per job signature so recording
+ * does not allocate.
+ * <p>
+ * It also registers per method metrics of the {@link InstrumentedStorageProvider}, per task metrics of the periodic server tasks
+ * and per filter metrics of the job filters.
+ */
+public class BackgroundJobServerMetricsBinder implements JobPerformanceListener, AutoCloseable {
+
+    public static final int MAX_JOB_SIGNATURE_TAGS = 100;
+    public static final String OTHER_JOB_SIGNATURES = "other";
 
     private final BackgroundJobServer backgroundJobServer;
     private final MeterRegistry meterRegistry;
     private final List<Meter> meters;
     private final CachedValue<BackgroundJobServerStatus> backgroundJobServerStatusCachedValue;
+    private final Map<String, JobSignatureTimers> jobSignatureTimers;
+    private final AtomicInteger jobSignatureTagCount;
+    private JobSignatureTimers otherJobSignatureTimers;
+    private final Consumer<StorageProviderMethodStats> storageProviderMethodStatsListener;
+    private final Consumer<TaskRuntimeStats> taskRuntimeStatsListener;
+    private final Consumer<JobFilterStats> jobFilterStatsListener;
 
     public BackgroundJobServerMetricsBinder(BackgroundJobServer backgroundJobServer, MeterRegistry meterRegistry) {
         this(backgroundJobServer, meterRegistry, Duration.ofSeconds(1));
@@ -27,9 +60,18 @@ public class BackgroundJobServerMetricsBinder implements AutoCloseable {
     public BackgroundJobServerMetricsBinder(BackgroundJobServer backgroundJobServer, MeterRegistry meterRegistry, Duration serverStatusTTL) {
         this.backgroundJobServer = backgroundJobServer;
         this.meterRegistry = meterRegistry;
-        this.meters = new ArrayList<>();
+        this.meters = new CopyOnWriteArrayList<>();
         this.backgroundJobServerStatusCachedValue = new CachedValue<>(backgroundJobServer::getServerStatus, serverStatusTTL);
+        this.jobSignatureTimers = new ConcurrentHashMap<>();
+        this.jobSignatureTagCount = new AtomicInteger();
+        this.storageProviderMethodStatsListener = this::registerStorageProviderMethodMetrics;
+        this.taskRuntimeStatsListener = this::registerTaskRuntimeMetrics;
+        this.jobFilterStatsListener = this::registerJobFilterMetrics;
         registerBackgroundJobServerMetrics();
+        registerStorageProviderMetrics();
+        registerTaskMetrics();
+        registerJobFiltersMetrics();
+        backgroundJobServer.addJobPerformanceListener(this);
     }
 
     public void registerBackgroundJobServerMetrics() {
@@ -44,6 +86,136 @@ public class BackgroundJobServerMetricsBinder implements AutoCloseable {
         meters.add(registerGauge("last-heartbeat", this::getLastHeartbeatAsEpochSeconds));
         meters.add(registerGauge("system-cpu-load", bgJobServerStatus -> bgJobServerStatus.get().getSystemCpuLoad()));
         meters.add(registerGauge("process-cpu-load", bgJobServerStatus -> bgJobServerStatus.get().getProcessCpuLoad()));
+        meters.add(registerGauge("occupied-workers", bgJobServerStatus -> (double) getOccupiedWorkerCount()));
+        meters.add(registerGauge("worker-utilization", this::getWorkerUtilization));
+    }
+
+    private void registerStorageProviderMetrics() {
+        InstrumentedStorageProvider instrumentedStorageProvider = backgroundJobServer.getInstrumentedStorageProvider();
+        if (instrumentedStorageProvider == null) return;
+
+        instrumentedStorageProvider.addMethodStatsListener(storageProviderMethodStatsListener);
+        instrumentedStorageProvider.getMethodStats().forEach(this::registerStorageProviderMethodMetrics);
+    }
+
+    private void registerStorageProviderMethodMetrics(StorageProviderMethodStats methodStats) {
+        String id = this.backgroundJobServer.getId().toString();
+        meters.add(FunctionTimer.builder(toMicroMeterName("storage-provider-calls"), methodStats, StorageProviderMethodStats::getCalls, StorageProviderMethodStats::getTotalTimeInNanos, NANOSECONDS)
+                .tag("id", id).tag("method", methodStats.getMethod()).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("storage-provider-errors"), methodStats, stats -> (double) stats.getErrors())
+                .tag("id", id).tag("method", methodStats.getMethod()).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("storage-provider-rows"), methodStats, stats -> (double) stats.getRows())
+                .tag("id", id).tag("method", methodStats.getMethod()).register(meterRegistry));
+        meters.add(Gauge.builder(toMicroMeterName("storage-provider-calls-p95-in-millis"), methodStats, stats -> stats.getTimePercentile(0.95).toNanos() / 1_000_000.0)
+                .tag("id", id).tag("method", methodStats.getMethod()).register(meterRegistry));
+    }
+
+    private void registerTaskMetrics() {
+        TaskRuntimeStatsRecorder taskRuntimeStatsRecorder = backgroundJobServer.getTaskRuntimeStatsRecorder();
+        if (taskRuntimeStatsRecorder == null) return;
+
+        taskRuntimeStatsRecorder.addTaskRuntimeStatsListener(taskRuntimeStatsListener);
+        taskRuntimeStatsRecorder.getTaskRuntimeStats().forEach(this::registerTaskRuntimeMetrics);
+    }
+
+    private void registerTaskRuntimeMetrics(TaskRuntimeStats taskRuntimeStats) {
+        String id = this.backgroundJobServer.getId().toString();
+        meters.add(FunctionTimer.builder(toMicroMeterName("task-runs"), taskRuntimeStats, TaskRuntimeStats::getRuns, TaskRuntimeStats::getTotalRunDurationInNanos, NANOSECONDS)
+                .tag("id", id).tag("task", taskRuntimeStats.getTask()).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("task-runs-cut-short"), taskRuntimeStats, stats -> (double) stats.getRunsCutShort())
+                .tag("id", id).tag("task", taskRuntimeStats.getTask()).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("task-errors"), taskRuntimeStats, stats -> (double) stats.getErrors())
+                .tag("id", id).tag("task", taskRuntimeStats.getTask()).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("task-items-processed"), taskRuntimeStats, stats -> (double) stats.getItemsProcessed())
+                .tag("id", id).tag("task", taskRuntimeStats.getTask()).register(meterRegistry));
+        meters.add(Gauge.builder(toMicroMeterName("task-run-duration-p95-in-millis"), taskRuntimeStats, stats -> stats.getRunDurationPercentile(0.95).toNanos() / 1_000_000.0)
+                .tag("id", id).tag("task", taskRuntimeStats.getTask()).register(meterRegistry));
+        meters.add(Gauge.builder(toMicroMeterName("task-last-run-duration-in-millis"), taskRuntimeStats, stats -> stats.getLastRunDuration().toNanos() / 1_000_000.0)
+                .tag("id", id).tag("task", taskRuntimeStats.getTask()).register(meterRegistry));
+    }
+
+    private void registerJobFiltersMetrics() {
+        JobFilterExecutor jobFilterExecutor = getJobFilterExecutor();
+        if (jobFilterExecutor == null) return;
+
+        jobFilterExecutor.addJobFilterStatsListener(jobFilterStatsListener);
+        jobFilterExecutor.getJobFilterStats().forEach(this::registerJobFilterMetrics);
+    }
+
+    private void registerJobFilterMetrics(JobFilterStats jobFilterStats) {
+        String id = this.backgroundJobServer.getId().toString();
+        String mode = jobFilterStats.isAsync() ? "async" : "sync";
+        meters.add(FunctionTimer.builder(toMicroMeterName("job-filter-invocations"), jobFilterStats, JobFilterStats::getInvocations, JobFilterStats::getTotalTimeInNanos, NANOSECONDS)
+                .tag("id", id).tag("filter", jobFilterStats.getJobFilter()).tag("mode", mode).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("job-filter-failures"), jobFilterStats, stats -> (double) stats.getFailures())
+                .tag("id", id).tag("filter", jobFilterStats.getJobFilter()).tag("mode", mode).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("job-filter-invocations-over-time-budget"), jobFilterStats, stats -> (double) stats.getInvocationsOverTimeBudget())
+                .tag("id", id).tag("filter", jobFilterStats.getJobFilter()).tag("mode", mode).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("job-filter-invocations-dropped"), jobFilterStats, stats -> (double) stats.getAsyncInvocationsDropped())
+                .tag("id", id).tag("filter", jobFilterStats.getJobFilter()).tag("mode", mode).register(meterRegistry));
+        meters.add(Gauge.builder(toMicroMeterName("job-filter-degraded"), jobFilterStats, stats -> stats.isDegraded() ? 1 : 0)
+                .tag("id", id).tag("filter", jobFilterStats.getJobFilter()).tag("mode", mode).register(meterRegistry));
+    }
+
+    @Override
+    public void onProcessingStarted(Job job, long queueWaitInNanos) {
+        if (queueWaitInNanos < 0) return;
+        getJobSignatureTimers(job).queueWait.record(queueWaitInNanos, NANOSECONDS);
+    }
+
+    @Override
+    public void onExecutionFinished(Job job, long executionTimeInNanos, boolean succeeded) {
+        JobSignatureTimers timers = getJobSignatureTimers(job);
+        (succeeded ? timers.executionSucceeded : timers.executionFailed).record(executionTimeInNanos, NANOSECONDS);
+    }
+
+    @Override
+    public void onStateSaved(Job job, long saveTimeInNanos) {
+        getJobSignatureTimers(job).stateSave.record(saveTimeInNanos, NANOSECONDS);
+    }
+
+    private JobSignatureTimers getJobSignatureTimers(Job job) {
+        JobSignatureTimers timers = jobSignatureTimers.get(job.getJobSignature());
+        if (timers != null) return timers;
+
+        return jobSignatureTimers.computeIfAbsent(job.getJobSignature(), jobSignature -> {
+            // why: a tag is reserved atomically so concurrent new job signatures cannot exceed MAX_JOB_SIGNATURE_TAGS
+            boolean hasFreeTag = jobSignatureTagCount.getAndUpdate(count -> count < MAX_JOB_SIGNATURE_TAGS ? count + 1 : count) < MAX_JOB_SIGNATURE_TAGS;
+            return hasFreeTag ? new JobSignatureTimers(jobSignature) : getOtherJobSignatureTimers();
+        });
+    }
+
+    private synchronized JobSignatureTimers getOtherJobSignatureTimers() {
+        if (otherJobSignatureTimers == null) {
+            otherJobSignatureTimers = new JobSignatureTimers(OTHER_JOB_SIGNATURES);
+        }
+        return otherJobSignatureTimers;
+    }
+
+    private Timer registerTimer(String name, String jobSignatureTag, String... extraTags) {
+        Timer timer = Timer.builder(toMicroMeterName(name))
+                .tag("id", this.backgroundJobServer.getId().toString())
+                .tag("signature", jobSignatureTag)
+                .tags(extraTags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(meterRegistry);
+        meters.add(timer);
+        return timer;
+    }
+
+    private JobFilterExecutor getJobFilterExecutor() {
+        return backgroundJobServer.getJobFilters() != null ? backgroundJobServer.getJobFilters().getJobFilterExecutor() : null;
+    }
+
+    private int getOccupiedWorkerCount() {
+        return backgroundJobServer.getJobSteward().getOccupiedWorkerCount();
+    }
+
+    private double getWorkerUtilization(CachedValue<BackgroundJobServerStatus> cache) {
+        int workerPoolSize = cache.get().getWorkerPoolSize();
+        return workerPoolSize > 0 ? (double) getOccupiedWorkerCount() / workerPoolSize : 0;
     }
 
     private FunctionCounter registerFunction(String name, ToDoubleFunction<CachedValue<BackgroundJobServerStatus>> func) {
@@ -70,6 +242,16 @@ public class BackgroundJobServerMetricsBinder implements AutoCloseable {
 
     @Override
     public void close() {
+        backgroundJobServer.removeJobPerformanceListener(this);
+        if (backgroundJobServer.getInstrumentedStorageProvider() != null) {
+            backgroundJobServer.getInstrumentedStorageProvider().removeMethodStatsListener(storageProviderMethodStatsListener);
+        }
+        if (backgroundJobServer.getTaskRuntimeStatsRecorder() != null) {
+            backgroundJobServer.getTaskRuntimeStatsRecorder().removeTaskRuntimeStatsListener(taskRuntimeStatsListener);
+        }
+        if (getJobFilterExecutor() != null) {
+            getJobFilterExecutor().removeJobFilterStatsListener(jobFilterStatsListener);
+        }
         meters.forEach(meter -> {
             try {
                 meter.close();
@@ -78,4 +260,19 @@ public class BackgroundJobServerMetricsBinder implements AutoCloseable {
             }
         });
     }
+
+    private class JobSignatureTimers {
+
+        private final Timer queueWait;
+        private final Timer executionSucceeded;
+        private final Timer executionFailed;
+        private final Timer stateSave;
+
+        private JobSignatureTimers(String jobSignatureTag) {
+            this.queueWait = registerTimer("job-queue-wait", jobSignatureTag);
+            this.executionSucceeded = registerTimer("job-execution", jobSignatureTag, "result", "succeeded");
+            this.executionFailed = registerTimer("job-execution", jobSignatureTag, "result", "failed");
+            this.stateSave = registerTimer("job-state-save", jobSignatureTag);
+        }
+    }
 }
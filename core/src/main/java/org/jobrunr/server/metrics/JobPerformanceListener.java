@@ -0,0 +1,47 @@
+package org.jobrunr.server.metrics;
+
+import org.jobrunr.jobs.Job;
+
+import java.util.List;
+
+/**
+ * Listener that is notified by the {@link org.jobrunr.server.BackgroundJobPerformer} about the timings of each job it performs.
+ * Methods are called on the worker thread that performs the job and must therefore be fast and allocation-light.
+ */
+public interface JobPerformanceListener {
+
+    /**
+     * Called by the {@link org.jobrunr.server.tasks.steward.OnboardNewWorkTask} after it claimed new jobs to process. Contrary to the
+     * other methods, it is called on the thread that onboards new work and only if at least one job was claimed.
+     *
+     * @param jobs the jobs that were claimed
+     * @param claimTimeInNanos the time it took to claim the jobs
+     */
+    default void onJobsClaimed(List<Job> jobs, long claimTimeInNanos) {
+    }
+
+    /**
+     * Called when processing of the job starts.
+     *
+     * @param job the job that starts processing
+     * @param queueWaitInNanos the time between the last enqueued state and the processing state of the job, or -1 if unknown
+     */
+    void onProcessingStarted(Job job, long queueWaitInNanos);
+
+    /**
+     * Called when the job itself (without the state changes) has finished.
+     *
+     * @param job the job that was performed
+     * @param executionTimeInNanos the time it took to run the job
+     * @param succeeded whether the job finished successfully
+     */
+    void onExecutionFinished(Job job, long executionTimeInNanos, boolean succeeded);
+
+    /**
+     * Called after a new state of the job has been saved to the {@link org.jobrunr.storage.StorageProvider}.
+     *
+     * @param job the job that was saved
+     * @param saveTimeInNanos the time it took to save the job
+     */
+    void onStateSaved(Job job, long saveTimeInNanos);
+}
@@ -0,0 +1,91 @@
+package org.jobrunr.server.metrics;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.EnqueuedState;
+import org.jobrunr.jobs.states.FailedState;
+import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.SucceededState;
+import org.jobrunr.storage.JobSignatureStats;
+import org.jobrunr.storage.JobStatsRollup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static java.time.temporal.ChronoUnit.MINUTES;
+
+/**
+ * Incrementally keeps the {@link JobSignatureStats} of the jobs processed by this server per minute. Completed minutes are drained
+ * by the {@link org.jobrunr.server.tasks.steward.PublishJobStatsRollupsTask} and saved as a {@link JobStatsRollup}; the minute that is
+ * still in progress is drained when the {@link org.jobrunr.server.BackgroundJobServer} stops.
+ * <p>
+ * Recording and draining share a single lock so that no increment can be recorded in a minute that is being drained.
+ */
+public class JobStatsRecorder {
+
+    private static final Duration ONE_MINUTE = Duration.ofMinutes(1);
+
+    private final Map<Instant, Map<String, JobSignatureStats>> jobSignatureStatsPerMinute = new HashMap<>();
+
+    public void recordStarted(Job job) {
+        final Optional<ProcessingState> processingState = job.getLastJobStateOfType(ProcessingState.class);
+        final Optional<EnqueuedState> enqueuedState = job.getLastJobStateOfType(EnqueuedState.class);
+        final Duration enqueueToStartLatency = processingState.isPresent() && enqueuedState.isPresent()
+                ? Duration.between(enqueuedState.get().getCreatedAt(), processingState.get().getCreatedAt())
+                : null;
+        record(job, stats -> stats.recordStarted(enqueueToStartLatency));
+    }
+
+    public void recordSucceeded(Job job) {
+        final Duration processingTime = job.getLastJobStateOfType(SucceededState.class).map(SucceededState::getProcessDuration).orElse(null);
+        record(job, stats -> stats.recordSucceeded(processingTime));
+    }
+
+    public void recordFailed(Job job) {
+        final Optional<ProcessingState> processingState = job.getLastJobStateOfType(ProcessingState.class);
+        final Optional<FailedState> failedState = job.getLastJobStateOfType(FailedState.class);
+        final Duration processingTime = processingState.isPresent() && failedState.isPresent()
+                ? Duration.between(processingState.get().getCreatedAt(), failedState.get().getCreatedAt())
+                : null;
+        record(job, stats -> stats.recordFailed(processingTime));
+    }
+
+    /**
+     * Removes and returns the rollups of all minutes that ended before the given instant.
+     *
+     * @param now the current instant
+     * @return a rollup per completed minute
+     */
+    public synchronized List<JobStatsRollup> drainCompletedMinutes(Instant now) {
+        final Instant currentMinute = now.truncatedTo(MINUTES);
+        final List<JobStatsRollup> result = new ArrayList<>();
+        final Iterator<Map.Entry<Instant, Map<String, JobSignatureStats>>> iterator = jobSignatureStatsPerMinute.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Instant, Map<String, JobSignatureStats>> minuteWithJobSignatureStats = iterator.next();
+            if (!minuteWithJobSignatureStats.getKey().isBefore(currentMinute)) continue;
+            result.add(new JobStatsRollup(minuteWithJobSignatureStats.getKey(), ONE_MINUTE, minuteWithJobSignatureStats.getValue().values()));
+            iterator.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Removes and returns the rollups of all minutes, including the minute that is still in progress.
+     *
+     * @return a rollup per minute
+     */
+    public List<JobStatsRollup> drainAllMinutes() {
+        return drainCompletedMinutes(Instant.MAX);
+    }
+
+    private synchronized void record(Job job, Consumer<JobSignatureStats> recorder) {
+        final Map<String, JobSignatureStats> jobSignatureStats = jobSignatureStatsPerMinute.computeIfAbsent(Instant.now().truncatedTo(MINUTES), minute -> new HashMap<>());
+        recorder.accept(jobSignatureStats.computeIfAbsent(job.getJobSignature(), JobSignatureStats::new));
+    }
+}
@@ -0,0 +1,120 @@
+package org.jobrunr.server.metrics;
+
+import org.jobrunr.utils.DurationHistogram;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The runtime statistics of a single periodic server task (e.g. the {@link org.jobrunr.server.tasks.zookeeper.ProcessRecurringJobsTask}).
+ * Run durations are kept in a {@link DurationHistogram} with one bucket per power of 2 milliseconds, so percentiles are accurate within a
+ * factor of 2.
+ * <p>
+ * A task is run at most once per poll interval, which is why a simple lock is used.
+ */
+public class TaskRuntimeStats {
+
+    private static final int POWERS_OF_TWO = 31; // up to ~ 24 days
+
+    private final String task;
+    private final DurationHistogram runDurationHistogram;
+    private long runs;
+    private long runsCutShort;
+    private long errors;
+    private long itemsProcessed;
+    private long lastItemsProcessed;
+    private long totalRunDurationInNanos;
+    private long lastRunDurationInNanos;
+    private String lastError;
+    private Instant lastErrorAt;
+
+    public TaskRuntimeStats(String task) {
+        this.task = task;
+        this.runDurationHistogram = new DurationHistogram(MILLISECONDS, 1, POWERS_OF_TWO);
+    }
+
+    /**
+     * @param runDuration    how long the task took
+     * @param itemsProcessed the amount of items (e.g. jobs) the task processed
+     * @param cutShort       whether the task stopped early because the poll interval time box was about to pass
+     * @param error          the exception thrown by the task or null if the task succeeded
+     */
+    public synchronized void record(Duration runDuration, long itemsProcessed, boolean cutShort, Exception error) {
+        final long runDurationInNanos = runDuration.toNanos();
+        this.runs++;
+        if (cutShort) this.runsCutShort++;
+        this.itemsProcessed += itemsProcessed;
+        this.lastItemsProcessed = itemsProcessed;
+        this.totalRunDurationInNanos += runDurationInNanos;
+        this.lastRunDurationInNanos = runDurationInNanos;
+        this.runDurationHistogram.record(runDurationInNanos);
+        if (error != null) {
+            this.errors++;
+            this.lastError = error.getClass().getName() + ": " + error.getMessage();
+            this.lastErrorAt = Instant.now();
+        }
+    }
+
+    public String getTask() {
+        return task;
+    }
+
+    public synchronized long getRuns() {
+        return runs;
+    }
+
+    public synchronized long getRunsCutShort() {
+        return runsCutShort;
+    }
+
+    public synchronized long getErrors() {
+        return errors;
+    }
+
+    public synchronized long getItemsProcessed() {
+        return itemsProcessed;
+    }
+
+    public synchronized long getLastItemsProcessed() {
+        return lastItemsProcessed;
+    }
+
+    public synchronized long getTotalRunDurationInNanos() {
+        return totalRunDurationInNanos;
+    }
+
+    public synchronized Duration getMaxRunDuration() {
+        return runDurationHistogram.getMax();
+    }
+
+    public synchronized Duration getLastRunDuration() {
+        return Duration.ofNanos(lastRunDurationInNanos);
+    }
+
+    public synchronized String getLastError() {
+        return lastError;
+    }
+
+    public synchronized Instant getLastErrorAt() {
+        return lastErrorAt;
+    }
+
+    public synchronized Duration getRunDurationPercentile(double percentile) {
+        return runDurationHistogram.getPercentile(percentile);
+    }
+
+    public synchronized TaskRuntimeStatsSummary toSummary() {
+        return new TaskRuntimeStatsSummary(this);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return task + ": runs=" + runs + ", runsCutShort=" + runsCutShort + ", errors=" + errors
+                + ", itemsProcessed=" + itemsProcessed + ", lastItemsProcessed=" + lastItemsProcessed
+                + ", p50=" + getRunDurationPercentile(0.5).toMillis() + "ms, p95=" + getRunDurationPercentile(0.95).toMillis() + "ms"
+                + ", max=" + getMaxRunDuration().toMillis() + "ms, last=" + getLastRunDuration().toMillis() + "ms"
+                + (lastError != null ? ", lastError=" + lastError + " at " + lastErrorAt : "");
+    }
+}
@@ -0,0 +1,65 @@
+package org.jobrunr.server.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Keeps the {@link TaskRuntimeStats} of all periodic tasks of a {@link org.jobrunr.server.BackgroundJobServer}. As the JobZooKeepers
+ * are only created once the server is started, listeners are notified whenever the stats of a new task are created.
+ */
+public class TaskRuntimeStatsRecorder {
+
+    private final Map<String, TaskRuntimeStats> taskRuntimeStats = new ConcurrentHashMap<>();
+    private final List<Consumer<TaskRuntimeStats>> taskRuntimeStatsListeners = new CopyOnWriteArrayList<>();
+
+    public void recordRun(String task, Duration runDuration, long itemsProcessed, boolean cutShort, Exception error) {
+        getTaskRuntimeStats(task).record(runDuration, itemsProcessed, cutShort, error);
+    }
+
+    /**
+     * @return the stats of all tasks that ran at least once, sorted by task name
+     */
+    public List<TaskRuntimeStats> getTaskRuntimeStats() {
+        return taskRuntimeStats.values().stream()
+                .sorted(comparing(TaskRuntimeStats::getTask))
+                .collect(toList());
+    }
+
+    public List<TaskRuntimeStatsSummary> getTaskRuntimeStatsSummaries() {
+        return getTaskRuntimeStats().stream()
+                .map(TaskRuntimeStats::toSummary)
+                .collect(toList());
+    }
+
+    /**
+     * Adds a listener that is called once for every task when its stats are created.
+     *
+     * @param listener the listener to add
+     */
+    public void addTaskRuntimeStatsListener(Consumer<TaskRuntimeStats> listener) {
+        taskRuntimeStatsListeners.add(listener);
+    }
+
+    public void removeTaskRuntimeStatsListener(Consumer<TaskRuntimeStats> listener) {
+        taskRuntimeStatsListeners.remove(listener);
+    }
+
+    private TaskRuntimeStats getTaskRuntimeStats(String task) {
+        final TaskRuntimeStats existingTaskRuntimeStats = taskRuntimeStats.get(task);
+        if (existingTaskRuntimeStats != null) return existingTaskRuntimeStats;
+
+        final TaskRuntimeStats newTaskRuntimeStats = new TaskRuntimeStats(task);
+        final TaskRuntimeStats concurrentlyCreatedTaskRuntimeStats = taskRuntimeStats.putIfAbsent(task, newTaskRuntimeStats);
+        if (concurrentlyCreatedTaskRuntimeStats != null) return concurrentlyCreatedTaskRuntimeStats;
+
+        taskRuntimeStatsListeners.forEach(listener -> listener.accept(newTaskRuntimeStats));
+        return newTaskRuntimeStats;
+    }
+}
@@ -0,0 +1,91 @@
+package org.jobrunr.server.metrics;
+
+import java.time.Instant;
+
+/**
+ * A point-in-time summary of the {@link TaskRuntimeStats} of a task. It is published per server as {@link org.jobrunr.storage.JobRunrMetadata}
+ * by the {@link org.jobrunr.server.tasks.steward.PublishTaskRuntimeStatsTask} so the dashboard can show it on the servers page.
+ */
+@SuppressWarnings("FieldMayBeFinal") // because of JSON-B
+public class TaskRuntimeStatsSummary {
+
+    private String task;
+    private long runs;
+    private long runsCutShort;
+    private long errors;
+    private long itemsProcessed;
+    private long lastItemsProcessed;
+    private long lastRunDurationInMillis;
+    private long p50RunDurationInMillis;
+    private long p95RunDurationInMillis;
+    private long maxRunDurationInMillis;
+    private String lastError;
+    private Instant lastErrorAt;
+
+    protected TaskRuntimeStatsSummary() {
+        // for json deserialization
+    }
+
+    TaskRuntimeStatsSummary(TaskRuntimeStats taskRuntimeStats) {
+        this.task = taskRuntimeStats.getTask();
+        this.runs = taskRuntimeStats.getRuns();
+        this.runsCutShort = taskRuntimeStats.getRunsCutShort();
+        this.errors = taskRuntimeStats.getErrors();
+        this.itemsProcessed = taskRuntimeStats.getItemsProcessed();
+        this.lastItemsProcessed = taskRuntimeStats.getLastItemsProcessed();
+        this.lastRunDurationInMillis = taskRuntimeStats.getLastRunDuration().toMillis();
+        this.p50RunDurationInMillis = taskRuntimeStats.getRunDurationPercentile(0.5).toMillis();
+        this.p95RunDurationInMillis = taskRuntimeStats.getRunDurationPercentile(0.95).toMillis();
+        this.maxRunDurationInMillis = taskRuntimeStats.getMaxRunDuration().toMillis();
+        this.lastError = taskRuntimeStats.getLastError();
+        this.lastErrorAt = taskRuntimeStats.getLastErrorAt();
+    }
+
+    public String getTask() {
+        return task;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public long getRunsCutShort() {
+        return runsCutShort;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getItemsProcessed() {
+        return itemsProcessed;
+    }
+
+    public long getLastItemsProcessed() {
+        return lastItemsProcessed;
+    }
+
+    public long getLastRunDurationInMillis() {
+        return lastRunDurationInMillis;
+    }
+
+    public long getP50RunDurationInMillis() {
+        return p50RunDurationInMillis;
+    }
+
+    public long getP95RunDurationInMillis() {
+        return p95RunDurationInMillis;
+    }
+
+    public long getMaxRunDurationInMillis() {
+        return maxRunDurationInMillis;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getLastErrorAt() {
+        return lastErrorAt;
+    }
+}
@@ -33,6 +33,15 @@ public class PeriodicTaskRunInfo extends TaskRunInfo implements AutoCloseable {
         return runTimeDuration.compareTo(pollIntervalTimeBoxDuration) >= 0;
     }
 
+    @Override
+    public void logTaskRun(String task, Duration runDuration, long itemsProcessed, boolean cutShort, Exception error) {
+        taskStatistics.logTaskRun(task, runDuration, itemsProcessed, cutShort, error);
+    }
+
+    public long getRunIndex() {
+        return runIndex;
+    }
+
     public void markRunAsSucceeded() {
         this.runSucceeded = true;
     }
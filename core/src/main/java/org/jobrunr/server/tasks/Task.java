@@ -6,7 +6,10 @@ import org.jobrunr.jobs.filters.JobFilterUtils;
 import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.server.BackgroundJobServerConfigurationReader;
 import org.jobrunr.server.concurrent.UnresolvableConcurrentJobModificationException;
+import org.jobrunr.server.jfr.FlightRecorderEvent;
+import org.jobrunr.server.jfr.JobRunrFlightRecorderEvents;
 import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.InstrumentedStorageProvider;
 import org.jobrunr.storage.StorageProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +31,8 @@ public abstract class Task {
     protected final StorageProvider storageProvider;
     protected final JobFilterUtils jobFilterUtils;
     protected TaskRunInfo runInfo;
+    private long itemsProcessed;
+    private boolean runCutShort;
 
     protected Task(BackgroundJobServer backgroundJobServer) {
         this.LOGGER = LoggerFactory.getLogger(this.getClass());
@@ -42,14 +47,30 @@ public abstract class Task {
      * @param runInfo all information related to the current run (like startTime, ...).
      */
     public void run(TaskRunInfo runInfo) {
+        FlightRecorderEvent taskRunEvent = FlightRecorderEvent.DISABLED;
+        long startTime = System.nanoTime();
+        boolean started = false;
+        Exception error = null;
         try {
             this.runInfo = runInfo;
+            this.itemsProcessed = 0;
+            this.runCutShort = false;
+            InstrumentedStorageProvider.setCaller(getClass().getSimpleName());
             if (pollIntervalInSecondsTimeBoxIsAboutToPass()) return;
-            long startTime = System.nanoTime();
+            started = true;
+            taskRunEvent = JobRunrFlightRecorderEvents.beginTaskRun();
             runTask();
-            long endTime = System.nanoTime();
-            LOGGER.trace("task took {}.", Duration.ofNanos((endTime - startTime)));
+            LOGGER.trace("task took {}.", Duration.ofNanos((System.nanoTime() - startTime)));
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
         } finally {
+            taskRunEvent.with("task", getClass().getSimpleName()).with("runIndex", runIndex(runInfo)).with("succeeded", error == null).commit();
+            if (started) {
+                // why: a run that never started because the time box already passed would skew the run durations and counts
+                runInfo.logTaskRun(getClass().getSimpleName(), Duration.ofNanos(System.nanoTime() - startTime), itemsProcessed, runCutShort, error);
+            }
+            InstrumentedStorageProvider.setCaller(null);
             this.runInfo = null;
         }
     }
@@ -66,17 +87,34 @@ public abstract class Task {
 
         try {
             jobFilterUtils.runOnStateElectionFilter(jobs);
+            FlightRecorderEvent jobStateSaveEvent = JobRunrFlightRecorderEvents.beginJobStateSave();
             storageProvider.save(jobs);
+            itemsProcessed(jobs.size());
+            jobStateSaveEvent.with("state", jobs.get(0).getState()).with("amount", jobs.size()).commit();
             jobFilterUtils.runOnStateAppliedFilters(jobs);
         } catch (ConcurrentJobModificationException concurrentJobModificationException) {
+            FlightRecorderEvent resolutionEvent = JobRunrFlightRecorderEvents.beginConcurrentJobModificationResolution()
+                    .with("amount", concurrentJobModificationException.getConcurrentUpdatedJobs().size());
             try {
                 backgroundJobServer.getConcurrentJobModificationResolver().resolve(concurrentJobModificationException);
+                resolutionEvent.with("resolved", true).commit();
             } catch (UnresolvableConcurrentJobModificationException unresolvableConcurrentJobModificationException) {
+                resolutionEvent.with("resolved", false).commit();
                 throw new SevereJobRunrException("Could not resolve ConcurrentJobModificationException", unresolvableConcurrentJobModificationException);
             }
         }
     }
 
+    /**
+     * Adds the given amount to the items processed in the current run, which is reported in the {@link org.jobrunr.server.metrics.TaskRuntimeStats}.
+     * Jobs saved via {@link #saveAndRunJobFilters(List)} are counted automatically.
+     *
+     * @param amount the amount of items processed
+     */
+    protected void itemsProcessed(long amount) {
+        this.itemsProcessed += amount;
+    }
+
     protected BackgroundJobServerConfigurationReader backgroundJobServerConfiguration() {
         return runInfo.getBackgroundJobServerConfiguration();
     }
@@ -86,6 +124,12 @@ public abstract class Task {
     }
 
     protected boolean pollIntervalInSecondsTimeBoxIsAboutToPass() {
-        return runInfo.pollIntervalInSecondsTimeBoxIsAboutToPass();
+        final boolean pollIntervalInSecondsTimeBoxIsAboutToPass = runInfo.pollIntervalInSecondsTimeBoxIsAboutToPass();
+        if (pollIntervalInSecondsTimeBoxIsAboutToPass) runCutShort = true;
+        return pollIntervalInSecondsTimeBoxIsAboutToPass;
+    }
+
+    private static long runIndex(TaskRunInfo runInfo) {
+        return runInfo instanceof PeriodicTaskRunInfo ? ((PeriodicTaskRunInfo) runInfo).getRunIndex() : -1;
     }
 }
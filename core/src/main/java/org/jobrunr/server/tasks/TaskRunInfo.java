@@ -2,6 +2,7 @@ package org.jobrunr.server.tasks;
 
 import org.jobrunr.server.BackgroundJobServerConfigurationReader;
 
+import java.time.Duration;
 import java.time.Instant;
 
 public abstract class TaskRunInfo {
@@ -25,4 +26,8 @@ public abstract class TaskRunInfo {
     public boolean pollIntervalInSecondsTimeBoxIsAboutToPass() {
         return false;
     }
+
+    public void logTaskRun(String task, Duration runDuration, long itemsProcessed, boolean cutShort, Exception error) {
+        // only periodic tasks keep runtime statistics
+    }
 }
\ No newline at end of file
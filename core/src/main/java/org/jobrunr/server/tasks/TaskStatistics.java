@@ -3,11 +3,17 @@ package org.jobrunr.server.tasks;
 import org.jobrunr.server.BackgroundJobServerConfigurationReader;
 import org.jobrunr.server.dashboard.DashboardNotificationManager;
 import org.jobrunr.server.dashboard.PollIntervalInSecondsTimeBoxIsTooSmallNotification;
+import org.jobrunr.server.metrics.TaskRuntimeStatsRecorder;
+import org.jobrunr.storage.InstrumentedStorageProvider;
+import org.jobrunr.storage.SlowStorageProviderCall;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
 
 
 public class TaskStatistics {
@@ -15,12 +21,20 @@ public class TaskStatistics {
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskStatistics.class);
 
     private final DashboardNotificationManager dashboardNotificationManager;
+    private final InstrumentedStorageProvider instrumentedStorageProvider;
+    private final TaskRuntimeStatsRecorder taskRuntimeStatsRecorder;
     private long runCounter;
     private int exceptionCounter;
     private int runTookToLongCounter;
 
     public TaskStatistics(DashboardNotificationManager dashboardNotificationManager) {
+        this(dashboardNotificationManager, null, null);
+    }
+
+    public TaskStatistics(DashboardNotificationManager dashboardNotificationManager, InstrumentedStorageProvider instrumentedStorageProvider, TaskRuntimeStatsRecorder taskRuntimeStatsRecorder) {
         this.dashboardNotificationManager = dashboardNotificationManager;
+        this.instrumentedStorageProvider = instrumentedStorageProvider;
+        this.taskRuntimeStatsRecorder = taskRuntimeStatsRecorder;
         this.runCounter = 0L;
         this.exceptionCounter = 0;
         this.runTookToLongCounter = 0;
@@ -52,9 +66,23 @@ public class TaskStatistics {
             if (runTookToLongCounter < 2) {
                 runTookToLongCounter++;
             } else {
-                dashboardNotificationManager.notify(new PollIntervalInSecondsTimeBoxIsTooSmallNotification(runIndex, (int) pollInterval.getSeconds(), runStartTime, (int) actualRunDuration.getSeconds()));
+                dashboardNotificationManager.notify(new PollIntervalInSecondsTimeBoxIsTooSmallNotification(runIndex, (int) pollInterval.getSeconds(), runStartTime, (int) actualRunDuration.getSeconds(), getSlowStorageProviderCalls(runStartTime)));
                 runTookToLongCounter = 0;
             }
         }
     }
-}
\ No newline at end of file
+
+    void logTaskRun(String task, Duration runDuration, long itemsProcessed, boolean cutShort, Exception error) {
+        if (cutShort) {
+            LOGGER.debug("{} was cut short after {} as the pollInterval timebox was about to pass", task, runDuration);
+        }
+        if (taskRuntimeStatsRecorder != null) {
+            taskRuntimeStatsRecorder.recordRun(task, runDuration, itemsProcessed, cutShort, error);
+        }
+    }
+
+    private List<SlowStorageProviderCall> getSlowStorageProviderCalls(Instant runStartTime) {
+        if (instrumentedStorageProvider == null) return emptyList();
+        return instrumentedStorageProvider.getSlowCallsStartedAfter(runStartTime);
+    }
+}
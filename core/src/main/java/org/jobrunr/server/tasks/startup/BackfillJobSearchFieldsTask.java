@@ -0,0 +1,48 @@
+package org.jobrunr.server.tasks.startup;
+
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.storage.JobRunrMetadata;
+import org.jobrunr.storage.StorageProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+/**
+ * Stores the job name and the labels of the jobs that were saved before JobRunr stored them separately, so that these jobs can also be
+ * found using {@link StorageProvider#searchJobSummaries(org.jobrunr.storage.JobSearchQuery, org.jobrunr.storage.navigation.KeysetBasedPageRequest)}.
+ */
+public class BackfillJobSearchFieldsTask implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackfillJobSearchFieldsTask.class);
+    static final int BATCH_SIZE = 1000;
+
+    private final StorageProvider storageProvider;
+
+    public BackfillJobSearchFieldsTask(BackgroundJobServer backgroundJobServer) {
+        storageProvider = backgroundJobServer.getStorageProvider();
+    }
+
+    @Override
+    public void run() {
+        if (!storageProvider.supportsSearchingJobs()) return;
+
+        JobRunrMetadata metadata = storageProvider.getMetadata("job_search_fields", "cluster");
+        if (metadata != null && "backfilled".equals(metadata.getValue())) return;
+
+        LOGGER.info("Start backfill of the job name and labels of existing jobs");
+        try {
+            int amountOfBatches = 0;
+            UUID lastJobId = storageProvider.backfillJobSearchFields(null, BATCH_SIZE);
+            while (lastJobId != null) {
+                amountOfBatches++;
+                lastJobId = storageProvider.backfillJobSearchFields(lastJobId, BATCH_SIZE);
+            }
+            storageProvider.saveMetadata(new JobRunrMetadata("job_search_fields", "cluster", "backfilled"));
+            LOGGER.info("Finished backfill of the job name and labels of existing jobs ({} batches)", amountOfBatches);
+        } catch (Exception e) {
+            // why: the jobs that are not backfilled yet are handled the next time a BackgroundJobServer is started
+            LOGGER.error("Error backfilling the job name and labels of existing jobs.", e);
+        }
+    }
+}
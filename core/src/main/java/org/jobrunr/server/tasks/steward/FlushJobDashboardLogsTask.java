@@ -0,0 +1,60 @@
+package org.jobrunr.server.tasks.steward;
+
+import org.jobrunr.jobs.context.JobDashboardLogBuffer;
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.storage.StorageException;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Appends the dashboard log lines and progress updates of the jobs that are being processed to the StorageProvider in a single batch.
+ * A worker also flushes the buffer of its job when it contains many entries and once the job finishes.
+ */
+public class FlushJobDashboardLogsTask extends AbstractJobStewardTask {
+
+    private final boolean storeJobDashboardLogsSeparately;
+
+    public FlushJobDashboardLogsTask(BackgroundJobServer backgroundJobServer) {
+        super(backgroundJobServer);
+        this.storeJobDashboardLogsSeparately = backgroundJobServer.getConfiguration().isStoreJobDashboardLogsSeparately()
+                && storageProviderSupportsJobDashboardLogEntries();
+    }
+
+    @Override
+    protected void runTask() {
+        List<JobDashboardLogEntry> logEntries = backgroundJobServer.getJobSteward().getJobDashboardLogBuffers().stream()
+                .flatMap(jobDashboardLogBuffer -> jobDashboardLogBuffer.drainPendingEntries().stream())
+                .collect(toList());
+        save(logEntries);
+        itemsProcessed(logEntries.size());
+    }
+
+    public void flush(JobDashboardLogBuffer jobDashboardLogBuffer) {
+        save(jobDashboardLogBuffer.drainPendingEntries());
+    }
+
+    public boolean isStoringJobDashboardLogsSeparately() {
+        return storeJobDashboardLogsSeparately;
+    }
+
+    private void save(List<JobDashboardLogEntry> logEntries) {
+        if (logEntries.isEmpty()) return;
+
+        try {
+            storageProvider.saveJobDashboardLogEntries(logEntries);
+        } catch (StorageException e) {
+            // why: dashboard logs are best effort, a job must not fail because its logs could not be saved
+            LOGGER.warn("Could not save {} dashboard log entries", logEntries.size(), e);
+        }
+    }
+
+    private boolean storageProviderSupportsJobDashboardLogEntries() {
+        if (storageProvider.supportsJobDashboardLogEntries()) return true;
+
+        LOGGER.info("{} does not support storing dashboard logs outside of the job - the dashboard logs are stored in the job metadata instead.", storageProvider.getClass().getSimpleName());
+        return false;
+    }
+}
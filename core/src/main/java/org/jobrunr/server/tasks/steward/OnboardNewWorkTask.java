@@ -2,6 +2,9 @@ package org.jobrunr.server.tasks.steward;
 
 import org.jobrunr.jobs.Job;
 import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.jfr.FlightRecorderEvent;
+import org.jobrunr.server.jfr.JobRunrFlightRecorderEvents;
+import org.jobrunr.server.metrics.JobPerformanceListener;
 import org.jobrunr.server.strategy.WorkDistributionStrategy;
 import org.jobrunr.server.tasks.Task;
 import org.jobrunr.server.tasks.TaskRunInfo;
@@ -36,7 +39,12 @@ public class OnboardNewWorkTask extends AbstractJobStewardTask {
                 LOGGER.trace("Looking for enqueued jobs... ");
                 final AmountRequest workPageRequest = workDistributionStrategy.getWorkPageRequest();
                 if (workPageRequest.getLimit() > 0) {
+                    final FlightRecorderEvent jobClaimEvent = JobRunrFlightRecorderEvents.beginJobClaim();
+                    final long claimStartTime = System.nanoTime();
                     final List<Job> enqueuedJobs = storageProvider.getJobsToProcess(backgroundJobServer, workPageRequest);
+                    jobClaimEvent.with("batchSize", workPageRequest.getLimit()).with("claimed", enqueuedJobs.size()).commit();
+                    notifyJobsClaimed(enqueuedJobs, System.nanoTime() - claimStartTime);
+                    itemsProcessed(enqueuedJobs.size());
                     enqueuedJobs.forEach(backgroundJobServer::processJob);
                     LOGGER.debug("Found {} enqueued jobs to process.", enqueuedJobs.size());
                 }
@@ -45,4 +53,11 @@ public class OnboardNewWorkTask extends AbstractJobStewardTask {
             }
         }
     }
+
+    private void notifyJobsClaimed(List<Job> claimedJobs, long claimTimeInNanos) {
+        if (claimedJobs.isEmpty()) return;
+        for (JobPerformanceListener listener : backgroundJobServer.getJobPerformanceListeners()) {
+            listener.onJobsClaimed(claimedJobs, claimTimeInNanos);
+        }
+    }
 }
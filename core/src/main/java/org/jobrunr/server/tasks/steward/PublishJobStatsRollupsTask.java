@@ -0,0 +1,29 @@
+package org.jobrunr.server.tasks.steward;
+
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.metrics.JobStatsRecorder;
+import org.jobrunr.storage.JobStatsHistory;
+import org.jobrunr.storage.JobStatsRollup;
+
+import java.util.List;
+
+public class PublishJobStatsRollupsTask extends AbstractJobStewardTask {
+
+    private final JobStatsRecorder jobStatsRecorder;
+    private final JobStatsHistory jobStatsHistory;
+
+    public PublishJobStatsRollupsTask(BackgroundJobServer backgroundJobServer) {
+        super(backgroundJobServer);
+        this.jobStatsRecorder = backgroundJobServer.getJobStatsRecorder();
+        this.jobStatsHistory = new JobStatsHistory(storageProvider, backgroundJobServer.getJsonMapper());
+    }
+
+    @Override
+    protected void runTask() {
+        List<JobStatsRollup> completedMinuteRollups = jobStatsRecorder.drainCompletedMinutes(runStartTime());
+        if (completedMinuteRollups.isEmpty()) return;
+
+        LOGGER.trace("Publishing {} job stats rollups...", completedMinuteRollups.size());
+        completedMinuteRollups.forEach(rollup -> jobStatsHistory.saveMinuteRollup(backgroundJobServer.getId(), rollup));
+    }
+}
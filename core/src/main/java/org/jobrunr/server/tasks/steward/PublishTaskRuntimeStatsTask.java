@@ -0,0 +1,45 @@
+package org.jobrunr.server.tasks.steward;
+
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.metrics.TaskRuntimeStatsRecorder;
+import org.jobrunr.server.metrics.TaskRuntimeStatsSummary;
+import org.jobrunr.storage.JobRunrMetadata;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Publishes the {@link TaskRuntimeStatsSummary task runtime statistics} of this server as {@link JobRunrMetadata} so they can be shown
+ * on the servers page of the dashboard. Statistics of servers that stopped publishing are removed.
+ */
+public class PublishTaskRuntimeStatsTask extends AbstractJobStewardTask {
+
+    public static final String TASK_RUNTIME_STATS_NAME = "task-runtime-stats";
+
+    private static final Duration PUBLISH_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration STALE_AFTER = PUBLISH_INTERVAL.multipliedBy(10);
+
+    private final TaskRuntimeStatsRecorder taskRuntimeStatsRecorder;
+    private Instant lastPublish;
+
+    public PublishTaskRuntimeStatsTask(BackgroundJobServer backgroundJobServer) {
+        super(backgroundJobServer);
+        this.taskRuntimeStatsRecorder = backgroundJobServer.getTaskRuntimeStatsRecorder();
+    }
+
+    @Override
+    protected void runTask() {
+        if (lastPublish != null && lastPublish.plus(PUBLISH_INTERVAL).isAfter(runStartTime())) return;
+
+        List<TaskRuntimeStatsSummary> taskRuntimeStatsSummaries = taskRuntimeStatsRecorder.getTaskRuntimeStatsSummaries();
+        if (taskRuntimeStatsSummaries.isEmpty()) return;
+
+        LOGGER.trace("Publishing runtime statistics of {} tasks...", taskRuntimeStatsSummaries.size());
+        storageProvider.saveMetadata(new JobRunrMetadata(TASK_RUNTIME_STATS_NAME, backgroundJobServer.getId().toString(), backgroundJobServer.getJsonMapper().serialize(taskRuntimeStatsSummaries)));
+        storageProvider.getMetadata(TASK_RUNTIME_STATS_NAME).stream()
+                .filter(metadata -> metadata.getUpdatedAt().plus(STALE_AFTER).isBefore(runStartTime()))
+                .forEach(metadata -> storageProvider.deleteMetadata(metadata.getName(), metadata.getOwner()));
+        lastPublish = runStartTime();
+    }
+}
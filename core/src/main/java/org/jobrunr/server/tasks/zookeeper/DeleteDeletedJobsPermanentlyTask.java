@@ -15,6 +15,7 @@ public class DeleteDeletedJobsPermanentlyTask extends AbstractJobZooKeeperTask {
     protected void runTask() {
         LOGGER.trace("Looking for deleted jobs that can be deleted permanently...");
         int totalAmountOfPermanentlyDeletedJobs = storageProvider.deleteJobsPermanently(StateName.DELETED, now().minus(backgroundJobServerConfiguration().getPermanentlyDeleteDeletedJobsAfter()));
+        itemsProcessed(totalAmountOfPermanentlyDeletedJobs);
         LOGGER.debug("Found {} deleted jobs that were permanently deleted as part of JobRunr maintenance", totalAmountOfPermanentlyDeletedJobs);
     }
 }
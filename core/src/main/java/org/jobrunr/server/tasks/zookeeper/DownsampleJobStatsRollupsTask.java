@@ -0,0 +1,29 @@
+package org.jobrunr.server.tasks.zookeeper;
+
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.storage.JobStatsHistory;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class DownsampleJobStatsRollupsTask extends AbstractJobZooKeeperTask {
+
+    private static final Duration DOWNSAMPLE_INTERVAL = Duration.ofMinutes(1);
+
+    private final JobStatsHistory jobStatsHistory;
+    private Instant lastDownsample;
+
+    public DownsampleJobStatsRollupsTask(BackgroundJobServer backgroundJobServer) {
+        super(backgroundJobServer);
+        this.jobStatsHistory = new JobStatsHistory(storageProvider, backgroundJobServer.getJsonMapper());
+    }
+
+    @Override
+    protected void runTask() {
+        if (lastDownsample != null && lastDownsample.plus(DOWNSAMPLE_INTERVAL).isAfter(runStartTime())) return;
+
+        LOGGER.trace("Downsampling job stats rollups...");
+        jobStatsHistory.downsample(runStartTime());
+        lastDownsample = runStartTime();
+    }
+}
@@ -72,7 +72,7 @@ public class VirtualThreadJobRunrExecutor implements JobRunrExecutor {
         }
     }
 
-    static ExecutorService createVirtualThreadExecutorService(String name) {
+    public static ExecutorService createVirtualThreadExecutorService(String name) {
         try {
             Method virtualThreadBuilderMethod = findMethod(Thread.class, "ofVirtual").orElseThrow(() -> new NoSuchMethodException("java.lang.Thread.ofVirtual()"));
             Object virtualThreadBuilder = virtualThreadBuilderMethod.invoke(null);
@@ -0,0 +1,261 @@
+package org.jobrunr.server.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import org.jobrunr.jobs.AbstractJob;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.filters.JobClientFilter;
+import org.jobrunr.jobs.filters.JobServerFilter;
+import org.jobrunr.jobs.states.EnqueuedState;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.server.metrics.JobPerformanceListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.jobrunr.jobs.states.StateName.PROCESSING;
+
+/**
+ * Propagates the OpenTelemetry trace context from the code that creates a job to the {@link org.jobrunr.server.BackgroundJobServer}
+ * that processes it, possibly minutes later and on another server:
+ * <ul>
+ *     <li>when a job is created, the W3C traceparent, tracestate and baggage of the current context are stored in the job metadata</li>
+ *     <li>when the job is processed, a consumer span is started that links to the span that created the job. The span and the baggage
+ *     are current while the job runs, so spans created by the job itself become children of it</li>
+ *     <li>the storage calls to claim jobs and to save their state are recorded as spans too</li>
+ * </ul>
+ * Use it via the {@link org.jobrunr.configuration.JobRunrOpenTelemetryIntegration}.
+ */
+public class OpenTelemetryJobTracer implements JobClientFilter, JobServerFilter, JobPerformanceListener {
+
+    public static final String INSTRUMENTATION_NAME = "org.jobrunr";
+    public static final String JOBRUNR_TRACE_CONTEXT_KEY_PREFIX = "otel-";
+    public static final String PROCESS_SPAN_NAME = "jobrunr.job.process";
+    public static final String CLAIM_SPAN_NAME = "jobrunr.job.claim";
+    public static final String SAVE_SPAN_NAME = "jobrunr.job.save";
+
+    public static final AttributeKey<String> MESSAGING_SYSTEM = AttributeKey.stringKey("messaging.system");
+    public static final AttributeKey<Long> MESSAGING_BATCH_MESSAGE_COUNT = AttributeKey.longKey("messaging.batch.message_count");
+    public static final AttributeKey<String> JOB_ID = AttributeKey.stringKey("jobrunr.job.id");
+    public static final AttributeKey<String> JOB_NAME = AttributeKey.stringKey("jobrunr.job.name");
+    public static final AttributeKey<String> JOB_SIGNATURE = AttributeKey.stringKey("jobrunr.job.signature");
+    public static final AttributeKey<String> JOB_STATE = AttributeKey.stringKey("jobrunr.job.state");
+    public static final AttributeKey<Long> JOB_ATTEMPT = AttributeKey.longKey("jobrunr.job.attempt");
+    public static final AttributeKey<Long> JOB_QUEUE_WAIT_IN_MILLIS = AttributeKey.longKey("jobrunr.job.queue_wait_ms");
+
+    private static final TextMapPropagator PROPAGATOR = TextMapPropagator.composite(W3CTraceContextPropagator.getInstance(), W3CBaggagePropagator.getInstance());
+    private static final TextMapGetter<Map<String, Object>> JOB_METADATA_GETTER = new JobMetadataGetter();
+
+    private final Tracer tracer;
+    private final ThreadLocal<JobSpan> currentJobSpan;
+
+    public OpenTelemetryJobTracer(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        this.currentJobSpan = new ThreadLocal<>();
+    }
+
+    @Override
+    public void onCreating(AbstractJob job) {
+        if (!(job instanceof Job)) return;
+        PROPAGATOR.inject(Context.current(), ((Job) job).getMetadata(), (metadata, key, value) -> metadata.put(JOBRUNR_TRACE_CONTEXT_KEY_PREFIX + key, value));
+    }
+
+    @Override
+    public void onJobsClaimed(List<Job> jobs, long claimTimeInNanos) {
+        final long endEpochNanos = nowInEpochNanos();
+        final SpanBuilder spanBuilder = tracer.spanBuilder(CLAIM_SPAN_NAME)
+                .setNoParent()
+                .setSpanKind(SpanKind.CLIENT)
+                .setStartTimestamp(endEpochNanos - claimTimeInNanos, NANOSECONDS)
+                .setAttribute(MESSAGING_SYSTEM, "jobrunr")
+                .setAttribute(MESSAGING_BATCH_MESSAGE_COUNT, (long) jobs.size());
+        for (Job job : jobs) {
+            final SpanContext producerSpanContext = Span.fromContext(extractTraceContext(job)).getSpanContext();
+            if (producerSpanContext.isValid()) {
+                spanBuilder.addLink(producerSpanContext, Attributes.of(JOB_ID, job.getId().toString()));
+            }
+        }
+        spanBuilder.startSpan().end(endEpochNanos, NANOSECONDS);
+    }
+
+    @Override
+    public void onProcessingStarted(Job job, long queueWaitInNanos) {
+        // the process span is started when the processing state is saved or at the latest when the job filters run
+    }
+
+    @Override
+    public void onProcessing(Job job) {
+        getOrStartProcessSpan(job, nowInEpochNanos()).makeCurrent();
+    }
+
+    @Override
+    public void onProcessingSucceeded(Job job) {
+        final JobSpan jobSpan = getProcessSpan(job);
+        if (jobSpan == null) return;
+        jobSpan.closeScope();
+    }
+
+    @Override
+    public void onProcessingFailed(Job job, Exception e) {
+        final JobSpan jobSpan = getProcessSpan(job);
+        if (jobSpan == null) return;
+        jobSpan.span.recordException(e);
+        jobSpan.span.setStatus(StatusCode.ERROR, e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        jobSpan.closeScope();
+    }
+
+    @Override
+    public void onExecutionFinished(Job job, long executionTimeInNanos, boolean succeeded) {
+        // the outcome is recorded by the job filter methods as they have access to the exception
+    }
+
+    @Override
+    public void onStateSaved(Job job, long saveTimeInNanos) {
+        final long endEpochNanos = nowInEpochNanos();
+        final long startEpochNanos = endEpochNanos - saveTimeInNanos;
+        final JobSpan jobSpan = getOrStartProcessSpan(job, startEpochNanos);
+        tracer.spanBuilder(SAVE_SPAN_NAME)
+                .setParent(jobSpan.context)
+                .setSpanKind(SpanKind.CLIENT)
+                .setStartTimestamp(startEpochNanos, NANOSECONDS)
+                .setAttribute(JOB_ID, job.getId().toString())
+                .setAttribute(JOB_STATE, job.getState().name())
+                .startSpan()
+                .end(endEpochNanos, NANOSECONDS);
+        if (!job.hasState(PROCESSING)) {
+            jobSpan.end(endEpochNanos);
+            currentJobSpan.remove();
+        }
+    }
+
+    /**
+     * @param job the job to extract the trace context from
+     * @return the context containing the span and the baggage that were current when the job was created, or the root context if
+     * the job was created without a trace context
+     */
+    public static Context extractTraceContext(Job job) {
+        return PROPAGATOR.extract(Context.root(), job.getMetadata(), JOB_METADATA_GETTER);
+    }
+
+    private JobSpan getProcessSpan(Job job) {
+        final JobSpan jobSpan = currentJobSpan.get();
+        return jobSpan != null && jobSpan.isFor(job) ? jobSpan : null;
+    }
+
+    private JobSpan getOrStartProcessSpan(Job job, long startEpochNanos) {
+        final JobSpan existingJobSpan = currentJobSpan.get();
+        if (existingJobSpan != null) {
+            if (existingJobSpan.isFor(job)) return existingJobSpan;
+            // why: the final state of the previous job on this thread could not be saved
+            existingJobSpan.end(startEpochNanos);
+        }
+
+        final Context producerContext = extractTraceContext(job);
+        final SpanContext producerSpanContext = Span.fromContext(producerContext).getSpanContext();
+        final Context parentContext = Context.root().with(Baggage.fromContext(producerContext));
+        final SpanBuilder spanBuilder = tracer.spanBuilder(PROCESS_SPAN_NAME)
+                .setParent(parentContext)
+                .setSpanKind(SpanKind.CONSUMER)
+                .setStartTimestamp(startEpochNanos, NANOSECONDS)
+                .setAttribute(MESSAGING_SYSTEM, "jobrunr")
+                .setAttribute(JOB_ID, job.getId().toString())
+                .setAttribute(JOB_NAME, job.getJobName())
+                .setAttribute(JOB_SIGNATURE, job.getJobSignature())
+                .setAttribute(JOB_ATTEMPT, job.getAmountOfFailures() + 1L);
+        if (producerSpanContext.isValid()) {
+            spanBuilder.addLink(producerSpanContext);
+        }
+        final Duration queueWait = getQueueWait(job);
+        if (queueWait != null) {
+            spanBuilder.setAttribute(JOB_QUEUE_WAIT_IN_MILLIS, queueWait.toMillis());
+        }
+        final Span span = spanBuilder.startSpan();
+        final JobSpan jobSpan = new JobSpan(job.getId(), parentContext.with(span), span);
+        currentJobSpan.set(jobSpan);
+        return jobSpan;
+    }
+
+    private static Duration getQueueWait(Job job) {
+        if (job.getJobStates().size() < 2 || !(job.getJobState() instanceof ProcessingState)) return null;
+        final JobState previousState = job.getJobState(-2);
+        if (!(previousState instanceof EnqueuedState)) return null;
+        return Duration.between(previousState.getCreatedAt(), job.getJobState().getCreatedAt());
+    }
+
+    private static long nowInEpochNanos() {
+        final Instant now = Instant.now();
+        return SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+
+    private static class JobSpan {
+
+        private final UUID jobId;
+        private final Context context;
+        private final Span span;
+        private Scope scope;
+
+        private JobSpan(UUID jobId, Context context, Span span) {
+            this.jobId = jobId;
+            this.context = context;
+            this.span = span;
+        }
+
+        private boolean isFor(Job job) {
+            return jobId.equals(job.getId());
+        }
+
+        private void makeCurrent() {
+            if (scope == null) scope = context.makeCurrent();
+        }
+
+        private void closeScope() {
+            if (scope == null) return;
+            scope.close();
+            scope = null;
+        }
+
+        private void end(long endEpochNanos) {
+            closeScope();
+            span.end(endEpochNanos, NANOSECONDS);
+        }
+    }
+
+    private static class JobMetadataGetter implements TextMapGetter<Map<String, Object>> {
+
+        @Override
+        public Iterable<String> keys(Map<String, Object> metadata) {
+            return metadata.keySet().stream()
+                    .filter(key -> key.startsWith(JOBRUNR_TRACE_CONTEXT_KEY_PREFIX))
+                    .map(key -> key.substring(JOBRUNR_TRACE_CONTEXT_KEY_PREFIX.length()))
+                    .collect(toList());
+        }
+
+        @Override
+        public String get(Map<String, Object> metadata, String key) {
+            if (metadata == null) return null;
+            final Object value = metadata.get(JOBRUNR_TRACE_CONTEXT_KEY_PREFIX + key);
+            return value != null ? value.toString() : null;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package org.jobrunr.storage;
 
 import org.jobrunr.jobs.Job;
-import org.jobrunr.jobs.JobId;
 import org.jobrunr.storage.listeners.BackgroundJobServerStatusChangeListener;
+import org.jobrunr.storage.listeners.EnqueuedJobsChangeListener;
 import org.jobrunr.storage.listeners.JobChangeListener;
 import org.jobrunr.storage.listeners.JobStatsChangeListener;
 import org.jobrunr.storage.listeners.MetadataChangeListener;
@@ -13,18 +13,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
 
 public abstract class AbstractStorageProvider implements StorageProvider, AutoCloseable {
 
@@ -36,6 +41,9 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
     private final ReentrantLock timerReentrantLock;
     private final ReentrantLock notifyJobStatsChangeListenersReentrantLock;
     private volatile Timer timer;
+    private volatile Duration jobStatsMaxStaleness;
+    private volatile JobStats lastJobStats;
+    private final Map<StorageProviderChangeListener, Integer> lastNotifiedJobVersions;
 
     protected AbstractStorageProvider(RateLimiter changeListenerNotificationRateLimit) {
         this.onChangeListeners = ConcurrentHashMap.newKeySet();
@@ -43,6 +51,8 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
         this.changeListenerNotificationRateLimit = changeListenerNotificationRateLimit;
         this.timerReentrantLock = new ReentrantLock();
         this.notifyJobStatsChangeListenersReentrantLock = new ReentrantLock();
+        this.jobStatsMaxStaleness = Duration.ZERO;
+        this.lastNotifiedJobVersions = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -53,13 +63,16 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
     @Override
     public void addJobStorageOnChangeListener(StorageProviderChangeListener listener) {
         onChangeListeners.add(listener);
-        startTimerToSendUpdates();
+        if (isNotifiedByTimer(listener)) {
+            startTimerToSendUpdates();
+        }
     }
 
     @Override
     public void removeJobStorageOnChangeListener(StorageProviderChangeListener listener) {
         onChangeListeners.remove(listener);
-        if (onChangeListeners.isEmpty()) {
+        lastNotifiedJobVersions.remove(listener);
+        if (onChangeListeners.stream().noneMatch(AbstractStorageProvider::isNotifiedByTimer)) {
             stopTimerToSendUpdates();
         }
     }
@@ -68,6 +81,7 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
     public void close() {
         stopTimerToSendUpdates();
         onChangeListeners.clear();
+        lastNotifiedJobVersions.clear();
     }
 
     @Override
@@ -92,6 +106,28 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
         }
     }
 
+    /**
+     * Allows {@link #getJobStats()} to return {@link JobStats} that are at most the given duration old instead of querying the
+     * storage every time. By default, {@link JobStats} are never reused.
+     *
+     * @param jobStatsMaxStaleness how old the returned {@link JobStats} may be.
+     */
+    public void setJobStatsMaxStaleness(Duration jobStatsMaxStaleness) {
+        this.jobStatsMaxStaleness = jobStatsMaxStaleness;
+    }
+
+    protected JobStats getJobStats(Supplier<JobStats> jobStatsSupplier) {
+        final JobStats jobStats = lastJobStats;
+        if (jobStats != null && jobStats.getTimeStamp().plus(jobStatsMaxStaleness).isAfter(Instant.now())) {
+            return jobStats;
+        }
+        final JobStats newJobStats = jobStatsSupplier.get();
+        if (!jobStatsMaxStaleness.isZero()) {
+            lastJobStats = newJobStats;
+        }
+        return newJobStats;
+    }
+
     protected void notifyJobStatsOnChangeListenersIf(boolean mustNotify) {
         if (mustNotify) {
             notifyJobStatsOnChangeListeners();
@@ -123,6 +159,14 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
         }
     }
 
+    @Override
+    public void onTransactionCommitted(List<Job> jobs) {
+        if (jobs.isEmpty()) return;
+
+        notifyJobStatsOnChangeListeners();
+        notifyEnqueuedJobsChangeListeners((int) jobs.stream().filter(job -> job.hasState(ENQUEUED)).count());
+    }
+
     protected void notifyMetadataChangeListeners(boolean mustNotify) {
         if (mustNotify) {
             notifyMetadataChangeListeners();
@@ -146,33 +190,60 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
         }
     }
 
-    private void notifyJobChangeListeners() {
+    synchronized void notifyJobChangeListeners() {
         try {
-            final Map<JobId, List<JobChangeListener>> listenerByJob = StreamUtils
+            final Map<UUID, List<JobChangeListener>> listenersByJobId = StreamUtils
                     .ofType(onChangeListeners, JobChangeListener.class)
-                    .collect(groupingBy(JobChangeListener::getJobId));
-            if (!listenerByJob.isEmpty()) {
-                listenerByJob.forEach((jobId, listeners) -> {
-                    try {
-                        Job job = getJobById(jobId);
-                        listeners.forEach(listener -> listener.onChange(job));
-                    } catch (JobNotFoundException jobNotFoundException) {
-                        // somebody is listening for a Job that does not exist
-                        listeners.forEach(jobChangeListener -> {
-                            try {
-                                jobChangeListener.close();
-                            } catch (Exception e) {
-                                // Not relevant?
-                            }
-                        });
+                    .collect(groupingBy(listener -> listener.getJobId().asUUID()));
+            if (listenersByJobId.isEmpty()) return;
+
+            // only fetch and deserialize the jobs for which a listener has not yet seen the latest version
+            final Map<UUID, Integer> jobVersions = getJobVersions(listenersByJobId.keySet());
+            final List<UUID> changedJobIds = new ArrayList<>();
+            listenersByJobId.forEach((jobId, listeners) -> {
+                final Integer jobVersion = jobVersions.get(jobId);
+                if (jobVersion == null) {
+                    // somebody is listening for a Job that does not exist
+                    listeners.forEach(this::closeJobChangeListener);
+                } else if (listeners.stream().anyMatch(listener -> !jobVersion.equals(lastNotifiedJobVersions.get(listener)))) {
+                    changedJobIds.add(jobId);
+                }
+            });
+            if (changedJobIds.isEmpty()) return;
+
+            for (Job job : getJobsByIds(changedJobIds)) {
+                for (JobChangeListener listener : listenersByJobId.get(job.getId())) {
+                    if (!Integer.valueOf(job.getVersion()).equals(lastNotifiedJobVersions.get(listener))) {
+                        lastNotifiedJobVersions.put(listener, job.getVersion());
+                        listener.onChange(job);
                     }
-                });
+                }
             }
         } catch (Exception e) {
             logError(e);
         }
     }
 
+    private void closeJobChangeListener(JobChangeListener jobChangeListener) {
+        try {
+            jobChangeListener.close();
+        } catch (Exception e) {
+            // Not relevant?
+        }
+    }
+
+    protected void notifyEnqueuedJobsChangeListeners(int amountOfNewEnqueuedJobs) {
+        if (amountOfNewEnqueuedJobs < 1) return;
+
+        try {
+            StreamUtils
+                    .ofType(onChangeListeners, EnqueuedJobsChangeListener.class)
+                    .forEach(listener -> listener.onChange(amountOfNewEnqueuedJobs));
+        } catch (Exception e) {
+            LOGGER.warn("Error notifying EnqueuedJobsChangeListeners", e);
+        }
+    }
+
     private void notifyBackgroundJobServerStatusChangeListeners() {
         try {
             final List<BackgroundJobServerStatusChangeListener> serverChangeListeners = StreamUtils
@@ -187,6 +258,14 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
         }
     }
 
+    private static boolean isNotifiedByTimer(StorageProviderChangeListener listener) {
+        // why: EnqueuedJobsChangeListeners are notified directly when jobs are enqueued, only the other listeners poll for changes
+        return listener instanceof JobStatsChangeListener
+                || listener instanceof JobChangeListener
+                || listener instanceof MetadataChangeListener
+                || listener instanceof BackgroundJobServerStatusChangeListener;
+    }
+
     void startTimerToSendUpdates() {
         if (timer == null && timerReentrantLock.tryLock()) {
             timer = new Timer(true);
@@ -2,8 +2,10 @@ package org.jobrunr.storage;
 
 import org.jobrunr.jobs.AbstractJob;
 import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.JobSummary;
 import org.jobrunr.jobs.JobVersioner;
 import org.jobrunr.jobs.RecurringJob;
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.CarbonAwareAwaitingState;
 import org.jobrunr.jobs.states.SchedulableState;
@@ -11,12 +13,16 @@ import org.jobrunr.jobs.states.ScheduledState;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
 import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
 import org.jobrunr.storage.navigation.OrderTerm;
 import org.jobrunr.utils.resilience.RateLimiter;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,6 +38,7 @@ import static java.util.Arrays.asList;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.reverseOrder;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 import static org.jobrunr.jobs.states.StateName.AWAITING;
 import static org.jobrunr.jobs.states.StateName.DELETED;
@@ -54,7 +61,11 @@ import static org.jobrunr.utils.resilience.RateLimiter.SECOND;
 
 public class InMemoryStorageProvider extends AbstractStorageProvider {
 
+    // why: the dashboard logs of a job are kept in a ring buffer so a job that logs a lot can not exhaust the memory
+    static final int MAX_DASHBOARD_LOG_ENTRIES_PER_JOB = 10_000;
+
     private final Map<UUID, Job> jobQueue = new ConcurrentHashMap<>();
+    private final Map<UUID, Deque<JobDashboardLogEntry>> jobDashboardLogs = new ConcurrentHashMap<>();
     private final Map<UUID, BackgroundJobServerStatus> backgroundJobServers = new ConcurrentHashMap<>();
     private final List<RecurringJob> recurringJobs = new CopyOnWriteArrayList<>();
     private final Map<String, JobRunrMetadata> metadata = new ConcurrentHashMap<>();
@@ -147,6 +158,23 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
         return deepClone(jobQueue.get(id));
     }
 
+    @Override
+    public List<Job> getJobsByIds(Collection<UUID> ids) {
+        return ids.stream()
+                .map(jobQueue::get)
+                .filter(Objects::nonNull)
+                .map(this::deepClone)
+                .collect(toList());
+    }
+
+    @Override
+    public Map<UUID, Integer> getJobVersions(Collection<UUID> ids) {
+        return ids.stream()
+                .map(jobQueue::get)
+                .filter(Objects::nonNull)
+                .collect(toMap(Job::getId, Job::getVersion));
+    }
+
     @Override
     public long countJobs(StateName state) {
         return getJobsStream(state).count();
@@ -171,6 +199,60 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
                 .collect(toList());
     }
 
+    @Override
+    public boolean supportsSearchingJobs() {
+        return true;
+    }
+
+    @Override
+    public Page<JobSummary> searchJobSummaries(JobSearchQuery query, KeysetBasedPageRequest pageRequest) {
+        long totalJobs = pageRequest.getApproximateTotal() != null ? pageRequest.getApproximateTotal() : jobQueue.values().stream().filter(query::matches).count();
+        if (totalJobs == 0) return pageRequest.emptyPage();
+        return pageRequest.mapToNewPage(totalJobs, jobQueue.values().stream()
+                .filter(query::matches)
+                .filter(job -> isAfterKeysetBoundary(job, pageRequest))
+                .sorted(getJobComparator(pageRequest))
+                .limit(pageRequest.getLimit())
+                .map(JobSummary::new)
+                .collect(toList()));
+    }
+
+    @Override
+    public boolean supportsJobDashboardLogEntries() {
+        return true;
+    }
+
+    @Override
+    public void saveJobDashboardLogEntries(List<JobDashboardLogEntry> logEntries) {
+        for (JobDashboardLogEntry logEntry : logEntries) {
+            if (!jobQueue.containsKey(logEntry.getJobId())) continue;
+
+            Deque<JobDashboardLogEntry> logEntriesOfJob = jobDashboardLogs.computeIfAbsent(logEntry.getJobId(), id -> new ArrayDeque<>());
+            synchronized (logEntriesOfJob) {
+                if (logEntriesOfJob.size() >= MAX_DASHBOARD_LOG_ENTRIES_PER_JOB) logEntriesOfJob.removeFirst();
+                logEntriesOfJob.addLast(logEntry);
+            }
+        }
+    }
+
+    @Override
+    public List<JobDashboardLogEntry> getJobDashboardLogLines(UUID jobId, int stateIndex, int afterSequenceNbr, int limit) {
+        return getJobDashboardLogEntries(jobId, stateIndex)
+                .filter(logEntry -> !logEntry.isProgress())
+                .filter(logEntry -> logEntry.getSequenceNbr() > afterSequenceNbr)
+                .sorted(comparing(JobDashboardLogEntry::getSequenceNbr))
+                .limit(limit)
+                .collect(toList());
+    }
+
+    @Override
+    public JobDashboardLogEntry getJobDashboardProgress(UUID jobId, int stateIndex) {
+        return getJobDashboardLogEntries(jobId, stateIndex)
+                .filter(JobDashboardLogEntry::isProgress)
+                .max(comparing(JobDashboardLogEntry::getSequenceNbr))
+                .orElse(null);
+    }
+
     @Override
     public List<Job> getCarbonAwareJobList(Instant deadlineBefore, AmountRequest amountRequest) {
         return getJobsStream(AWAITING, amountRequest)
@@ -240,6 +322,7 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
     @Override
     public int deletePermanently(UUID id) {
         boolean removed = jobQueue.keySet().remove(id);
+        jobDashboardLogs.remove(id);
         notifyJobStatsOnChangeListenersIf(removed);
         return removed ? 1 : 0;
     }
@@ -262,6 +345,7 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
                 .map(Job::getId)
                 .collect(toList());
         jobQueue.keySet().removeAll(jobsToRemove);
+        jobDashboardLogs.keySet().removeAll(jobsToRemove);
         notifyJobStatsOnChangeListenersIf(!jobsToRemove.isEmpty());
         return jobsToRemove.size();
     }
@@ -357,6 +441,7 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
 
     private Stream<Job> getJobsStream(StateName state, AmountRequest amountRequest) {
         return getJobsStream(state)
+                .filter(job -> isAfterKeysetBoundary(job, amountRequest))
                 .sorted(getJobComparator(amountRequest));
     }
 
@@ -365,6 +450,17 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
                 .filter(job -> job.hasState(state));
     }
 
+    private Stream<JobDashboardLogEntry> getJobDashboardLogEntries(UUID jobId, int stateIndex) {
+        Deque<JobDashboardLogEntry> logEntriesOfJob = jobDashboardLogs.get(jobId);
+        if (logEntriesOfJob == null) return Stream.empty();
+        synchronized (logEntriesOfJob) {
+            return logEntriesOfJob.stream()
+                    .filter(logEntry -> logEntry.getStateIndex() == stateIndex)
+                    .collect(toList())
+                    .stream();
+        }
+    }
+
     private Job deepClone(Job job) {
         final String serializedJobAsString = jobMapper.serializeJob(job);
         final Job result = jobMapper.deserializeJob(serializedJobAsString);
@@ -398,9 +494,26 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
                     return (OrderTerm.Order.ASC == orderTerm.getOrder()) ? jobComparator : jobComparator.reversed();
                 })
                 .collect(toList());
-        return comparators.stream()
+        final Comparator<Job> jobComparator = comparators.stream()
                 .reduce(Comparator::thenComparing)
                 .orElse((unusedJobA, unusedJobB) -> 0); // default order
+        if (amountRequest instanceof KeysetBasedPageRequest) {
+            final Comparator<Job> jobIdComparator = comparing(Job::getId);
+            return jobComparator.thenComparing(OrderTerm.Order.ASC == ((KeysetBasedPageRequest) amountRequest).getSeekOrderTerm().getOrder() ? jobIdComparator : jobIdComparator.reversed());
+        }
+        return jobComparator;
+    }
+
+    private boolean isAfterKeysetBoundary(Job job, AmountRequest amountRequest) {
+        if (!(amountRequest instanceof KeysetBasedPageRequest) || ((KeysetBasedPageRequest) amountRequest).getBoundary() == null) return true;
+
+        final KeysetBasedPageRequest keysetBasedPageRequest = (KeysetBasedPageRequest) amountRequest;
+        final OrderTerm seekOrderTerm = keysetBasedPageRequest.getSeekOrderTerm();
+        final Instant seekValue = (Instant) Job.ALLOWED_SORT_COLUMNS.get(seekOrderTerm.getFieldName()).apply(job);
+        if (seekValue == null) return false;
+        int result = seekValue.compareTo(keysetBasedPageRequest.getBoundary());
+        if (result == 0) result = job.getId().compareTo(keysetBasedPageRequest.getBoundaryId());
+        return OrderTerm.Order.ASC == seekOrderTerm.getOrder() ? result > 0 : result < 0;
     }
 
 }
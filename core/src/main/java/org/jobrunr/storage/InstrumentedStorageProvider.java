@@ -0,0 +1,471 @@
+package org.jobrunr.storage;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.JobId;
+import org.jobrunr.jobs.JobSummary;
+import org.jobrunr.jobs.RecurringJob;
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
+import org.jobrunr.storage.listeners.StorageProviderChangeListener;
+import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
+import org.jobrunr.storage.navigation.PageRequest;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link StorageProvider} decorator that records the latency, the amount of rows and the errors of every call per method. Calls
+ * that take longer than the slow call threshold are kept in a bounded ring buffer together with a summary of their arguments and
+ * the task that made the call, so it can be found out which storage call is eating the poll interval time box.
+ */
+public class InstrumentedStorageProvider implements StorageProvider {
+
+    public static final Duration DEFAULT_SLOW_CALL_THRESHOLD = Duration.ofMillis(500);
+    public static final int DEFAULT_SLOW_CALL_BUFFER_SIZE = 50;
+
+    private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+
+    private final StorageProvider storageProvider;
+    private final long slowCallThresholdInNanos;
+    private final Map<String, StorageProviderMethodStats> methodStats;
+    private final List<Consumer<StorageProviderMethodStats>> methodStatsListeners;
+    private final SlowStorageProviderCall[] slowCalls;
+    private int slowCallIndex;
+
+    public InstrumentedStorageProvider(StorageProvider storageProvider) {
+        this(storageProvider, DEFAULT_SLOW_CALL_THRESHOLD, DEFAULT_SLOW_CALL_BUFFER_SIZE);
+    }
+
+    public InstrumentedStorageProvider(StorageProvider storageProvider, Duration slowCallThreshold, int slowCallBufferSize) {
+        if (slowCallBufferSize < 1) throw new IllegalArgumentException("The slow call buffer size must be at least 1.");
+        this.storageProvider = storageProvider;
+        this.slowCallThresholdInNanos = slowCallThreshold.toNanos();
+        this.methodStats = new ConcurrentHashMap<>();
+        this.methodStatsListeners = new CopyOnWriteArrayList<>();
+        this.slowCalls = new SlowStorageProviderCall[slowCallBufferSize];
+    }
+
+    /**
+     * Marks the current thread as running the given task (e.g. a JobZooKeeper task) so slow calls can be attributed to it.
+     *
+     * @param caller the name of the task that will use the StorageProvider on the current thread, or null to clear it
+     */
+    public static void setCaller(String caller) {
+        if (caller == null) {
+            CALLER.remove();
+        } else {
+            CALLER.set(caller);
+        }
+    }
+
+    public Duration getSlowCallThreshold() {
+        return Duration.ofNanos(slowCallThresholdInNanos);
+    }
+
+    public Collection<StorageProviderMethodStats> getMethodStats() {
+        return unmodifiableCollection(methodStats.values());
+    }
+
+    /**
+     * Adds a listener that is called once for every {@link StorageProviderMethodStats} that is created (which happens on the first
+     * call of a method), e.g. to register it with a metrics library.
+     *
+     * @param listener the listener to add
+     */
+    public void addMethodStatsListener(Consumer<StorageProviderMethodStats> listener) {
+        methodStatsListeners.add(listener);
+    }
+
+    public void removeMethodStatsListener(Consumer<StorageProviderMethodStats> listener) {
+        methodStatsListeners.remove(listener);
+    }
+
+    /**
+     * @return the slow calls that are still in the ring buffer, the most recent first
+     */
+    public synchronized List<SlowStorageProviderCall> getSlowCalls() {
+        final List<SlowStorageProviderCall> result = new ArrayList<>(slowCalls.length);
+        for (int i = 1; i <= slowCalls.length; i++) {
+            SlowStorageProviderCall slowCall = slowCalls[Math.floorMod(slowCallIndex - i, slowCalls.length)];
+            if (slowCall != null) result.add(slowCall);
+        }
+        return result;
+    }
+
+    public List<SlowStorageProviderCall> getSlowCallsStartedAfter(Instant instant) {
+        return getSlowCalls().stream()
+                .filter(slowCall -> !slowCall.getStartedAt().isBefore(instant))
+                .collect(toList());
+    }
+
+    public StorageProvider getStorageProvider() {
+        return storageProvider;
+    }
+
+    @Override
+    public StorageProviderInfo getStorageProviderInfo() {
+        return storageProvider.getStorageProviderInfo();
+    }
+
+    @Override
+    public void setUpStorageProvider(DatabaseOptions databaseOptions) {
+        storageProvider.setUpStorageProvider(databaseOptions);
+    }
+
+    @Override
+    public void addJobStorageOnChangeListener(StorageProviderChangeListener listener) {
+        storageProvider.addJobStorageOnChangeListener(listener);
+    }
+
+    @Override
+    public void removeJobStorageOnChangeListener(StorageProviderChangeListener listener) {
+        storageProvider.removeJobStorageOnChangeListener(listener);
+    }
+
+    @Override
+    public void setJobMapper(JobMapper jobMapper) {
+        storageProvider.setJobMapper(jobMapper);
+    }
+
+    @Override
+    public UnitOfWork startUnitOfWork() {
+        return storageProvider.startUnitOfWork();
+    }
+
+    @Override
+    public void announceBackgroundJobServer(BackgroundJobServerStatus serverStatus) {
+        instrument("announceBackgroundJobServer", () -> {
+            storageProvider.announceBackgroundJobServer(serverStatus);
+            return null;
+        }, serverStatus.getId());
+    }
+
+    @Override
+    public boolean signalBackgroundJobServerAlive(BackgroundJobServerStatus serverStatus) {
+        return instrument("signalBackgroundJobServerAlive", () -> storageProvider.signalBackgroundJobServerAlive(serverStatus), serverStatus.getId());
+    }
+
+    @Override
+    public void signalBackgroundJobServerStopped(BackgroundJobServerStatus serverStatus) {
+        instrument("signalBackgroundJobServerStopped", () -> {
+            storageProvider.signalBackgroundJobServerStopped(serverStatus);
+            return null;
+        }, serverStatus.getId());
+    }
+
+    @Override
+    public List<BackgroundJobServerStatus> getBackgroundJobServers() {
+        return instrument("getBackgroundJobServers", storageProvider::getBackgroundJobServers);
+    }
+
+    @Override
+    public UUID getLongestRunningBackgroundJobServerId() {
+        return instrument("getLongestRunningBackgroundJobServerId", storageProvider::getLongestRunningBackgroundJobServerId);
+    }
+
+    @Override
+    public int removeTimedOutBackgroundJobServers(Instant heartbeatOlderThan) {
+        return instrument("removeTimedOutBackgroundJobServers", () -> storageProvider.removeTimedOutBackgroundJobServers(heartbeatOlderThan), heartbeatOlderThan);
+    }
+
+    @Override
+    public void saveMetadata(JobRunrMetadata metadata) {
+        instrument("saveMetadata", () -> {
+            storageProvider.saveMetadata(metadata);
+            return null;
+        }, metadata.getId());
+    }
+
+    @Override
+    public List<JobRunrMetadata> getMetadata(String name) {
+        return instrument("getMetadata(name)", () -> storageProvider.getMetadata(name), name);
+    }
+
+    @Override
+    public JobRunrMetadata getMetadata(String name, String owner) {
+        return instrument("getMetadata(name,owner)", () -> storageProvider.getMetadata(name, owner), name, owner);
+    }
+
+    @Override
+    public void deleteMetadata(String name) {
+        instrument("deleteMetadata(name)", () -> {
+            storageProvider.deleteMetadata(name);
+            return null;
+        }, name);
+    }
+
+    @Override
+    public void deleteMetadata(String name, String owner) {
+        instrument("deleteMetadata(name,owner)", () -> {
+            storageProvider.deleteMetadata(name, owner);
+            return null;
+        }, name, owner);
+    }
+
+    @Override
+    public Job save(Job job) {
+        return instrument("save(job)", () -> storageProvider.save(job), job);
+    }
+
+    @Override
+    public List<Job> save(List<Job> jobs) {
+        return instrument("save(jobs)", () -> storageProvider.save(jobs), jobs);
+    }
+
+    @Override
+    public int deletePermanently(UUID id) {
+        return instrument("deletePermanently", () -> storageProvider.deletePermanently(id), id);
+    }
+
+    @Override
+    public Job getJobById(UUID id) {
+        return instrument("getJobById", () -> storageProvider.getJobById(id), id);
+    }
+
+    @Override
+    public Job getJobById(JobId jobId) {
+        return instrument("getJobById", () -> storageProvider.getJobById(jobId), jobId.asUUID());
+    }
+
+    @Override
+    public List<Job> getJobsByIds(Collection<UUID> ids) {
+        return instrument("getJobsByIds", () -> storageProvider.getJobsByIds(ids), ids);
+    }
+
+    @Override
+    public Map<UUID, Integer> getJobVersions(Collection<UUID> ids) {
+        return instrument("getJobVersions", () -> storageProvider.getJobVersions(ids), ids);
+    }
+
+    @Override
+    public long countJobs(StateName state) {
+        return instrument("countJobs", () -> storageProvider.countJobs(state), state);
+    }
+
+    @Override
+    public List<Job> getJobList(StateName state, Instant updatedBefore, AmountRequest amountRequest) {
+        return instrument("getJobList(state,updatedBefore)", () -> storageProvider.getJobList(state, updatedBefore, amountRequest), state, updatedBefore, amountRequest);
+    }
+
+    @Override
+    public List<Job> getJobList(StateName state, AmountRequest amountRequest) {
+        return instrument("getJobList(state)", () -> storageProvider.getJobList(state, amountRequest), state, amountRequest);
+    }
+
+    @Override
+    public Page<Job> getJobs(StateName state, PageRequest pageRequest) {
+        return instrument("getJobs", () -> storageProvider.getJobs(state, pageRequest), state, pageRequest);
+    }
+
+    @Override
+    public Page<JobSummary> getJobSummaries(StateName state, PageRequest pageRequest) {
+        return instrument("getJobSummaries", () -> storageProvider.getJobSummaries(state, pageRequest), state, pageRequest);
+    }
+
+    @Override
+    public boolean supportsSearchingJobs() {
+        return storageProvider.supportsSearchingJobs();
+    }
+
+    @Override
+    public Page<JobSummary> searchJobSummaries(JobSearchQuery query, KeysetBasedPageRequest pageRequest) {
+        return instrument("searchJobSummaries", () -> storageProvider.searchJobSummaries(query, pageRequest), query, pageRequest);
+    }
+
+    @Override
+    public boolean supportsSavingInTransaction() {
+        return storageProvider.supportsSavingInTransaction();
+    }
+
+    @Override
+    public List<Job> saveInTransaction(Connection connection, List<Job> jobs) {
+        return instrument("saveInTransaction(jobs)", () -> storageProvider.saveInTransaction(connection, jobs), jobs);
+    }
+
+    @Override
+    public void onTransactionCommitted(List<Job> jobs) {
+        storageProvider.onTransactionCommitted(jobs);
+    }
+
+    @Override
+    public boolean supportsJobDashboardLogEntries() {
+        return storageProvider.supportsJobDashboardLogEntries();
+    }
+
+    @Override
+    public void saveJobDashboardLogEntries(List<JobDashboardLogEntry> logEntries) {
+        instrument("saveJobDashboardLogEntries", () -> {
+            storageProvider.saveJobDashboardLogEntries(logEntries);
+            return null;
+        }, logEntries.size());
+    }
+
+    @Override
+    public List<JobDashboardLogEntry> getJobDashboardLogLines(UUID jobId, int stateIndex, int afterSequenceNbr, int limit) {
+        return instrument("getJobDashboardLogLines", () -> storageProvider.getJobDashboardLogLines(jobId, stateIndex, afterSequenceNbr, limit), jobId, stateIndex, afterSequenceNbr, limit);
+    }
+
+    @Override
+    public JobDashboardLogEntry getJobDashboardProgress(UUID jobId, int stateIndex) {
+        return instrument("getJobDashboardProgress", () -> storageProvider.getJobDashboardProgress(jobId, stateIndex), jobId, stateIndex);
+    }
+
+    @Override
+    public List<Job> getCarbonAwareJobList(Instant deadlineBefore, AmountRequest amountRequest) {
+        return instrument("getCarbonAwareJobList", () -> storageProvider.getCarbonAwareJobList(deadlineBefore, amountRequest), deadlineBefore, amountRequest);
+    }
+
+    @Override
+    public List<Job> getScheduledJobs(Instant scheduledBefore, AmountRequest amountRequest) {
+        return instrument("getScheduledJobs", () -> storageProvider.getScheduledJobs(scheduledBefore, amountRequest), scheduledBefore, amountRequest);
+    }
+
+    @Override
+    public List<Job> getJobsToProcess(BackgroundJobServer backgroundJobServer, AmountRequest amountRequest) {
+        return instrument("getJobsToProcess", () -> storageProvider.getJobsToProcess(backgroundJobServer, amountRequest), amountRequest);
+    }
+
+    @Override
+    public int deleteJobsPermanently(StateName state, Instant updatedBefore) {
+        return instrument("deleteJobsPermanently", () -> storageProvider.deleteJobsPermanently(state, updatedBefore), state, updatedBefore);
+    }
+
+    @Override
+    public Set<String> getDistinctJobSignatures(StateName... states) {
+        return instrument("getDistinctJobSignatures", () -> storageProvider.getDistinctJobSignatures(states), (Object) states);
+    }
+
+    @Override
+    public Instant getRecurringJobLatestScheduledInstant(String recurringJobId, StateName... states) {
+        return instrument("getRecurringJobLatestScheduledInstant", () -> storageProvider.getRecurringJobLatestScheduledInstant(recurringJobId, states), recurringJobId, states);
+    }
+
+    @Override
+    public RecurringJob saveRecurringJob(RecurringJob recurringJob) {
+        return instrument("saveRecurringJob", () -> storageProvider.saveRecurringJob(recurringJob), recurringJob.getId());
+    }
+
+    @Override
+    public RecurringJobsResult getRecurringJobs() {
+        return instrument("getRecurringJobs", storageProvider::getRecurringJobs);
+    }
+
+    @Override
+    public boolean recurringJobsUpdated(Long recurringJobsUpdatedHash) {
+        return instrument("recurringJobsUpdated", () -> storageProvider.recurringJobsUpdated(recurringJobsUpdatedHash), recurringJobsUpdatedHash);
+    }
+
+    @Override
+    public int deleteRecurringJob(String id) {
+        return instrument("deleteRecurringJob", () -> storageProvider.deleteRecurringJob(id), id);
+    }
+
+    @Override
+    public JobStats getJobStats() {
+        return instrument("getJobStats", storageProvider::getJobStats);
+    }
+
+    @Override
+    public void publishTotalAmountOfSucceededJobs(int amount) {
+        instrument("publishTotalAmountOfSucceededJobs", () -> {
+            storageProvider.publishTotalAmountOfSucceededJobs(amount);
+            return null;
+        }, amount);
+    }
+
+    @Override
+    public void close() {
+        storageProvider.close();
+    }
+
+    @Override
+    public void validatePollInterval(Duration pollInterval) {
+        storageProvider.validatePollInterval(pollInterval);
+    }
+
+    @Override
+    public void validateRecurringJobInterval(Duration durationBetweenRecurringJobInstances) {
+        storageProvider.validateRecurringJobInterval(durationBetweenRecurringJobInstances);
+    }
+
+    private <T> T instrument(String method, Supplier<T> call, Object... arguments) {
+        final long startTime = System.nanoTime();
+        boolean failed = true;
+        T result = null;
+        try {
+            result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            final long durationInNanos = System.nanoTime() - startTime;
+            getMethodStats(method).record(durationInNanos, amountOfRows(result), failed);
+            if (durationInNanos >= slowCallThresholdInNanos) {
+                addSlowCall(new SlowStorageProviderCall(Instant.now().minusNanos(durationInNanos), method, summarize(arguments), Duration.ofNanos(durationInNanos), caller()));
+            }
+        }
+    }
+
+    private StorageProviderMethodStats getMethodStats(String method) {
+        final StorageProviderMethodStats existingMethodStats = methodStats.get(method);
+        if (existingMethodStats != null) return existingMethodStats;
+
+        final StorageProviderMethodStats newMethodStats = new StorageProviderMethodStats(method);
+        final StorageProviderMethodStats concurrentlyCreatedMethodStats = methodStats.putIfAbsent(method, newMethodStats);
+        if (concurrentlyCreatedMethodStats != null) return concurrentlyCreatedMethodStats;
+
+        methodStatsListeners.forEach(listener -> listener.accept(newMethodStats));
+        return newMethodStats;
+    }
+
+    private synchronized void addSlowCall(SlowStorageProviderCall slowCall) {
+        slowCalls[slowCallIndex] = slowCall;
+        slowCallIndex = (slowCallIndex + 1) % slowCalls.length;
+    }
+
+    private static long amountOfRows(Object result) {
+        if (result instanceof Collection) return ((Collection<?>) result).size();
+        if (result instanceof Map) return ((Map<?, ?>) result).size();
+        if (result instanceof Page) return ((Page<?>) result).getItems().size();
+        if (result instanceof Integer) return (Integer) result; // amount of deleted rows
+        if (result instanceof Job || result instanceof RecurringJob || result instanceof JobRunrMetadata) return 1;
+        return 0;
+    }
+
+    private static String caller() {
+        final String caller = CALLER.get();
+        return caller != null ? caller : Thread.currentThread().getName();
+    }
+
+    private static String summarize(Object[] arguments) {
+        return Arrays.stream(arguments).map(InstrumentedStorageProvider::summarize).collect(joining(", "));
+    }
+
+    private static String summarize(Object argument) {
+        if (argument == null) return "null";
+        if (argument instanceof Collection) return ((Collection<?>) argument).size() + " items";
+        if (argument instanceof Object[]) return Arrays.toString((Object[]) argument);
+        if (argument instanceof Job) return "Job(" + ((Job) argument).getId() + ")";
+        if (argument instanceof AmountRequest) return "limit " + ((AmountRequest) argument).getLimit();
+        return argument.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package org.jobrunr.storage;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.JobSummary;
+import org.jobrunr.jobs.states.StateName;
+
+import static org.jobrunr.utils.StringUtils.isNullOrEmpty;
+
+/**
+ * Criteria to search {@link Job jobs} on one of the indexed fields: a label, the start of the job name or the job signature.
+ * The search can optionally be narrowed down to a single {@link StateName}.
+ */
+public class JobSearchQuery {
+
+    public enum SearchField {
+        LABEL,
+        JOB_NAME_PREFIX,
+        JOB_SIGNATURE
+    }
+
+    private final SearchField searchField;
+    private final String value;
+    private final StateName state;
+
+    private JobSearchQuery(SearchField searchField, String value, StateName state) {
+        if (isNullOrEmpty(value)) throw new IllegalArgumentException("A value to search on is required.");
+        this.searchField = searchField;
+        this.value = value;
+        this.state = state;
+    }
+
+    public static JobSearchQuery byLabel(String label) {
+        return new JobSearchQuery(SearchField.LABEL, label, null);
+    }
+
+    public static JobSearchQuery byJobNamePrefix(String jobNamePrefix) {
+        return new JobSearchQuery(SearchField.JOB_NAME_PREFIX, jobNamePrefix, null);
+    }
+
+    public static JobSearchQuery byJobSignature(String jobSignature) {
+        return new JobSearchQuery(SearchField.JOB_SIGNATURE, jobSignature, null);
+    }
+
+    public JobSearchQuery withState(StateName state) {
+        return new JobSearchQuery(searchField, value, state);
+    }
+
+    public SearchField getSearchField() {
+        return searchField;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public StateName getState() {
+        return state;
+    }
+
+    public boolean matches(Job job) {
+        return matches(new JobSummary(job));
+    }
+
+    public boolean matches(JobSummary jobSummary) {
+        if (state != null && state != jobSummary.getState()) return false;
+
+        switch (searchField) {
+            case LABEL:
+                return jobSummary.getLabels().contains(value);
+            case JOB_NAME_PREFIX:
+                return jobSummary.getJobName() != null && jobSummary.getJobName().startsWith(value);
+            case JOB_SIGNATURE:
+                return value.equals(jobSummary.getJobSignature());
+            default:
+                throw new IllegalStateException("Unknown search field " + searchField);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JobSearchQuery{" +
+                "searchField=" + searchField +
+                ", value='" + value + '\'' +
+                ", state=" + state +
+                '}';
+    }
+}
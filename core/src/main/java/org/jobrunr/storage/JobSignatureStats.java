@@ -0,0 +1,109 @@
+package org.jobrunr.storage;
+
+import org.jobrunr.utils.DurationHistogram;
+
+import java.time.Duration;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Throughput and latency of all jobs with the same job signature during a period. Latencies are kept as the counts of a
+ * {@link DurationHistogram} with 4 buckets per power of 2 milliseconds so stats of different servers and periods can be merged without
+ * losing the percentiles. Percentiles are therefore accurate within ~20%.
+ */
+@SuppressWarnings("FieldMayBeFinal") // because of JSON-B
+public class JobSignatureStats {
+
+    private static final int BUCKETS_PER_POWER_OF_TWO = 4;
+    private static final int POWERS_OF_TWO = 40; // ~ 35 years
+
+    private String jobSignature;
+    private long started;
+    private long succeeded;
+    private long failed;
+    private long[] enqueueToStartLatencies;
+    private long[] processingTimes;
+
+    protected JobSignatureStats() {
+        // for json deserialization
+    }
+
+    public JobSignatureStats(String jobSignature) {
+        this.jobSignature = jobSignature;
+        this.enqueueToStartLatencies = new long[0];
+        this.processingTimes = new long[0];
+    }
+
+    public String getJobSignature() {
+        return jobSignature;
+    }
+
+    public long getStarted() {
+        return started;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public Duration getEnqueueToStartLatencyPercentile(double percentile) {
+        return getPercentile(enqueueToStartLatencies, percentile);
+    }
+
+    public Duration getProcessingTimePercentile(double percentile) {
+        return getPercentile(processingTimes, percentile);
+    }
+
+    public void recordStarted(Duration enqueueToStartLatency) {
+        started++;
+        if (enqueueToStartLatency != null) enqueueToStartLatencies = record(enqueueToStartLatencies, enqueueToStartLatency);
+    }
+
+    public void recordSucceeded(Duration processingTime) {
+        succeeded++;
+        if (processingTime != null) processingTimes = record(processingTimes, processingTime);
+    }
+
+    public void recordFailed(Duration processingTime) {
+        failed++;
+        if (processingTime != null) processingTimes = record(processingTimes, processingTime);
+    }
+
+    public JobSignatureStats merge(JobSignatureStats other) {
+        started += other.started;
+        succeeded += other.succeeded;
+        failed += other.failed;
+        enqueueToStartLatencies = merge(enqueueToStartLatencies, other.enqueueToStartLatencies);
+        processingTimes = merge(processingTimes, other.processingTimes);
+        return this;
+    }
+
+    public JobSignatureStats copy(String jobSignature) {
+        return new JobSignatureStats(jobSignature).merge(this);
+    }
+
+    private static long[] record(long[] histogram, Duration duration) {
+        final DurationHistogram result = toHistogram(histogram);
+        result.record(duration);
+        return result.toCounts();
+    }
+
+    private static long[] merge(long[] histogram, long[] otherHistogram) {
+        if (otherHistogram == null || otherHistogram.length == 0) return histogram;
+        return toHistogram(histogram).merge(toHistogram(otherHistogram)).toCounts();
+    }
+
+    private static Duration getPercentile(long[] histogram, double percentile) {
+        final DurationHistogram durationHistogram = toHistogram(histogram);
+        if (durationHistogram.getCount() == 0) return null;
+        return durationHistogram.getPercentile(percentile);
+    }
+
+    private static DurationHistogram toHistogram(long[] histogram) {
+        return DurationHistogram.fromCounts(MILLISECONDS, BUCKETS_PER_POWER_OF_TWO, POWERS_OF_TWO, histogram);
+    }
+}
@@ -0,0 +1,125 @@
+package org.jobrunr.storage;
+
+import org.jobrunr.utils.mapper.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Cluster-wide history of {@link JobStatsRollup JobStatsRollups}, stored as {@link JobRunrMetadata}.
+ * <p>
+ * Each server saves its own rollup per minute (owner is the minute and the server id) so servers never overwrite each other; the
+ * rollups of all servers are merged when reading. The master server downsamples minute rollups that are older than
+ * {@link #MINUTE_ROLLUPS_RETENTION} to hour rollups, which are kept for {@link #HOUR_ROLLUPS_RETENTION}.
+ */
+public class JobStatsHistory {
+
+    public static final String MINUTE_ROLLUPS_NAME = "job-stats-rollup-minute";
+    public static final String HOUR_ROLLUPS_NAME = "job-stats-rollup-hour";
+    public static final Duration MINUTE_ROLLUPS_RETENTION = Duration.ofHours(2);
+    public static final Duration HOUR_ROLLUPS_RETENTION = Duration.ofDays(7);
+
+    private static final Duration ONE_MINUTE = Duration.ofMinutes(1);
+    private static final Duration ONE_HOUR = Duration.ofHours(1);
+
+    private final StorageProvider storageProvider;
+    private final JsonMapper jsonMapper;
+
+    public JobStatsHistory(StorageProvider storageProvider, JsonMapper jsonMapper) {
+        this.storageProvider = storageProvider;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Saves the rollup of a minute for the given server. If the server already saved a rollup for that minute (e.g. the partial minute
+     * saved when it stopped before being restarted), both rollups are merged.
+     *
+     * @param serverId the id of the server that recorded the rollup
+     * @param rollup   the rollup of a single minute
+     */
+    public void saveMinuteRollup(UUID serverId, JobStatsRollup rollup) {
+        final String owner = rollup.getTimestamp().getEpochSecond() + "-" + serverId;
+        final JobRunrMetadata existingRollup = storageProvider.getMetadata(MINUTE_ROLLUPS_NAME, owner);
+        final JobStatsRollup rollupToSave = existingRollup == null
+                ? rollup
+                : JobStatsRollup.merge(rollup.getTimestamp(), rollup.getDuration(), asList(toRollup(existingRollup), rollup));
+        storageProvider.saveMetadata(new JobRunrMetadata(MINUTE_ROLLUPS_NAME, owner, jsonMapper.serialize(rollupToSave)));
+    }
+
+    /**
+     * Returns the rollups of all servers merged per minute (for recent history) and per hour (for older history), ordered by timestamp.
+     *
+     * @return the cluster-wide history of job stats
+     */
+    public List<JobStatsRollup> getHistory() {
+        final List<JobStatsRollup> result = new ArrayList<>();
+        result.addAll(mergePerPeriod(readRollups(HOUR_ROLLUPS_NAME), ONE_HOUR));
+        result.addAll(mergePerPeriod(readRollups(MINUTE_ROLLUPS_NAME), ONE_MINUTE));
+        result.sort(comparing(JobStatsRollup::getTimestamp).thenComparing(JobStatsRollup::getDuration));
+        return result;
+    }
+
+    /**
+     * Merges all minute rollups older than {@link #MINUTE_ROLLUPS_RETENTION} into hour rollups and deletes hour rollups older than
+     * {@link #HOUR_ROLLUPS_RETENTION}. Minute rollups that arrive late are merged into the existing hour rollup.
+     *
+     * @param now the current instant
+     */
+    public void downsample(Instant now) {
+        final Instant minuteRollupsBefore = now.minus(MINUTE_ROLLUPS_RETENTION).truncatedTo(ChronoUnit.HOURS);
+        final Map<Instant, List<JobRunrMetadata>> minuteRollupsToDownsamplePerHour = storageProvider.getMetadata(MINUTE_ROLLUPS_NAME).stream()
+                .filter(metadata -> timestampOf(metadata).isBefore(minuteRollupsBefore))
+                .collect(groupingBy(metadata -> timestampOf(metadata).truncatedTo(ChronoUnit.HOURS), TreeMap::new, toList()));
+
+        for (Map.Entry<Instant, List<JobRunrMetadata>> minuteRollupsOfHour : minuteRollupsToDownsamplePerHour.entrySet()) {
+            final Instant hour = minuteRollupsOfHour.getKey();
+            final List<JobStatsRollup> rollupsToMerge = minuteRollupsOfHour.getValue().stream().map(this::toRollup).collect(toList());
+            final JobRunrMetadata existingHourRollup = storageProvider.getMetadata(HOUR_ROLLUPS_NAME, String.valueOf(hour.getEpochSecond()));
+            if (existingHourRollup != null) rollupsToMerge.add(toRollup(existingHourRollup));
+
+            final JobStatsRollup hourRollup = JobStatsRollup.merge(hour, ONE_HOUR, rollupsToMerge);
+            storageProvider.saveMetadata(new JobRunrMetadata(HOUR_ROLLUPS_NAME, String.valueOf(hour.getEpochSecond()), jsonMapper.serialize(hourRollup)));
+            minuteRollupsOfHour.getValue().forEach(metadata -> storageProvider.deleteMetadata(MINUTE_ROLLUPS_NAME, metadata.getOwner()));
+        }
+
+        final Instant hourRollupsBefore = now.minus(HOUR_ROLLUPS_RETENTION);
+        storageProvider.getMetadata(HOUR_ROLLUPS_NAME).stream()
+                .filter(metadata -> timestampOf(metadata).isBefore(hourRollupsBefore))
+                .forEach(metadata -> storageProvider.deleteMetadata(HOUR_ROLLUPS_NAME, metadata.getOwner()));
+    }
+
+    private List<JobStatsRollup> readRollups(String name) {
+        return storageProvider.getMetadata(name).stream()
+                .map(this::toRollup)
+                .collect(toList());
+    }
+
+    private static List<JobStatsRollup> mergePerPeriod(List<JobStatsRollup> rollups, Duration period) {
+        return rollups.stream()
+                .collect(groupingBy(JobStatsRollup::getTimestamp, TreeMap::new, toList()))
+                .entrySet().stream()
+                .map(rollupsOfPeriod -> JobStatsRollup.merge(rollupsOfPeriod.getKey(), period, rollupsOfPeriod.getValue()))
+                .collect(toList());
+    }
+
+    private JobStatsRollup toRollup(JobRunrMetadata metadata) {
+        return jsonMapper.deserialize(metadata.getValue(), JobStatsRollup.class);
+    }
+
+    private static Instant timestampOf(JobRunrMetadata metadata) {
+        final String owner = metadata.getOwner();
+        final int separatorIndex = owner.indexOf('-');
+        return Instant.ofEpochSecond(Long.parseLong(separatorIndex < 0 ? owner : owner.substring(0, separatorIndex)));
+    }
+}
@@ -0,0 +1,93 @@
+package org.jobrunr.storage;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The {@link JobSignatureStats} of all jobs that started or finished in the period [timestamp, timestamp + duration). Rollups of
+ * the same period (e.g. of different servers) and of successive periods (when downsampling) can be merged.
+ * <p>
+ * To keep the rollup compact, at most {@link #MAX_JOB_SIGNATURES} job signatures are kept, the others are merged into
+ * {@link #OTHER_JOB_SIGNATURES}.
+ */
+@SuppressWarnings("FieldMayBeFinal") // because of JSON-B
+public class JobStatsRollup {
+
+    public static final int MAX_JOB_SIGNATURES = 100;
+    public static final String OTHER_JOB_SIGNATURES = "other";
+
+    private Instant timestamp;
+    private Duration duration;
+    // use ArrayList instead of List to avoid Jackson deserialization issues (https://github.com/FasterXML/jackson-databind/issues/3892)
+    private ArrayList<JobSignatureStats> jobSignatureStats;
+
+    protected JobStatsRollup() {
+        // for json deserialization
+    }
+
+    public JobStatsRollup(Instant timestamp, Duration duration, Collection<JobSignatureStats> jobSignatureStats) {
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.jobSignatureStats = limitJobSignatures(jobSignatureStats);
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public List<JobSignatureStats> getJobSignatureStats() {
+        return unmodifiableList(jobSignatureStats);
+    }
+
+    /**
+     * Returns the stats of all job signatures together.
+     *
+     * @return the stats of all job signatures together
+     */
+    public JobSignatureStats getTotal() {
+        final JobSignatureStats total = new JobSignatureStats(null);
+        jobSignatureStats.forEach(total::merge);
+        return total;
+    }
+
+    /**
+     * Merges rollups into a single rollup for the given period.
+     *
+     * @param timestamp the start of the period
+     * @param duration  the duration of the period
+     * @param rollups   the rollups to merge, which must all lie within the given period
+     * @return a single rollup containing the stats of all given rollups
+     */
+    public static JobStatsRollup merge(Instant timestamp, Duration duration, Collection<JobStatsRollup> rollups) {
+        final Map<String, JobSignatureStats> mergedJobSignatureStats = new TreeMap<>();
+        rollups.stream()
+                .flatMap(rollup -> rollup.jobSignatureStats.stream())
+                .forEach(stats -> mergedJobSignatureStats
+                        .computeIfAbsent(stats.getJobSignature(), JobSignatureStats::new)
+                        .merge(stats));
+        return new JobStatsRollup(timestamp, duration, mergedJobSignatureStats.values());
+    }
+
+    private static ArrayList<JobSignatureStats> limitJobSignatures(Collection<JobSignatureStats> jobSignatureStats) {
+        final ArrayList<JobSignatureStats> result = new ArrayList<>(jobSignatureStats);
+        if (result.size() <= MAX_JOB_SIGNATURES) return result;
+
+        result.sort((a, b) -> Long.compare(b.getStarted() + b.getSucceeded() + b.getFailed(), a.getStarted() + a.getSucceeded() + a.getFailed()));
+        final JobSignatureStats other = new JobSignatureStats(OTHER_JOB_SIGNATURES);
+        result.subList(MAX_JOB_SIGNATURES - 1, result.size()).forEach(other::merge);
+        final ArrayList<JobSignatureStats> limitedResult = new ArrayList<>(result.subList(0, MAX_JOB_SIGNATURES - 1));
+        limitedResult.add(other);
+        return limitedResult;
+    }
+}
@@ -4,7 +4,9 @@ import org.jobrunr.storage.navigation.PageRequest;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
+import static java.util.stream.Collectors.toList;
 import static org.jobrunr.utils.CollectionUtils.isNotNullOrEmpty;
 
 public class Page<T> {
@@ -37,6 +39,23 @@ public class Page<T> {
         this.items = new ArrayList<>(items);
     }
 
+    private Page(Page<?> page, List<T> items) {
+        this.total = page.total;
+        this.totalPages = page.totalPages;
+        this.limit = page.limit;
+        this.offset = page.offset;
+        this.currentPage = page.currentPage;
+        this.hasPrevious = page.hasPrevious;
+        this.hasNext = page.hasNext;
+        this.previousPageRequest = page.previousPageRequest;
+        this.nextPageRequest = page.nextPageRequest;
+        this.items = new ArrayList<>(items);
+    }
+
+    public <R> Page<R> map(Function<T, R> mapper) {
+        return new Page<>(this, items.stream().map(mapper).collect(toList()));
+    }
+
     public Long getTotal() {
         return total;
     }
@@ -1,6 +1,7 @@
 package org.jobrunr.storage;
 
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
 import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
 
 public class Paging {
@@ -64,4 +65,23 @@ public class Paging {
             return new OffsetBasedPageRequest(StorageProviderUtils.Jobs.FIELD_SCHEDULED_AT + ":ASC", offset, amount);
         }
     }
-}
\ No newline at end of file
+
+    public static class KeysetBasedPage {
+
+        public static KeysetBasedPageRequest next(Page page) {
+            return KeysetBasedPageRequest.fromString(page.getNextPageRequest());
+        }
+
+        public static KeysetBasedPageRequest previous(Page page) {
+            return KeysetBasedPageRequest.fromString(page.getPreviousPageRequest());
+        }
+
+        public static KeysetBasedPageRequest ascOnUpdatedAt(int amount) {
+            return new KeysetBasedPageRequest(StorageProviderUtils.Jobs.FIELD_UPDATED_AT + ":ASC", amount);
+        }
+
+        public static KeysetBasedPageRequest descOnUpdatedAt(int amount) {
+            return new KeysetBasedPageRequest(StorageProviderUtils.Jobs.FIELD_UPDATED_AT + ":DESC", amount);
+        }
+    }
+}
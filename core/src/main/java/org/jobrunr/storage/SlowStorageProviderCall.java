@@ -0,0 +1,52 @@
+package org.jobrunr.storage;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A {@link StorageProvider} call that took longer than the slow call threshold of the {@link InstrumentedStorageProvider}.
+ */
+public class SlowStorageProviderCall {
+
+    private final Instant startedAt;
+    private final String method;
+    private final String arguments;
+    private final Duration duration;
+    private final String caller;
+
+    public SlowStorageProviderCall(Instant startedAt, String method, String arguments, Duration duration, String caller) {
+        this.startedAt = startedAt;
+        this.method = method;
+        this.arguments = arguments;
+        this.duration = duration;
+        this.caller = caller;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getArguments() {
+        return arguments;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return the task (e.g. a JobZooKeeper task) or thread that made the call
+     */
+    public String getCaller() {
+        return caller;
+    }
+
+    @Override
+    public String toString() {
+        return method + "(" + arguments + ") took " + duration.toMillis() + "ms (called by " + caller + " at " + startedAt + ")";
+    }
+}
@@ -2,7 +2,9 @@ package org.jobrunr.storage;
 
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.JobId;
+import org.jobrunr.jobs.JobSummary;
 import org.jobrunr.jobs.RecurringJob;
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
 import org.jobrunr.jobs.filters.JobFilterUtils;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.StateName;
@@ -10,16 +12,22 @@ import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
 import org.jobrunr.storage.listeners.StorageProviderChangeListener;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
 import org.jobrunr.storage.navigation.PageRequest;
 
+import java.sql.Connection;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 import static org.jobrunr.jobs.states.StateName.ENQUEUED;
 import static org.jobrunr.jobs.states.StateName.PROCESSING;
@@ -126,6 +134,36 @@ public interface StorageProvider extends AutoCloseable {
         return getJobById(jobId.asUUID());
     }
 
+    /**
+     * Returns all the {@link Job Jobs} with the given ids in a single roundtrip. Ids of jobs that do not exist are ignored and the
+     * order of the returned jobs is not guaranteed.
+     *
+     * @param ids the ids of the Jobs to fetch
+     * @return the requested Jobs that exist
+     */
+    default List<Job> getJobsByIds(Collection<UUID> ids) {
+        final List<Job> result = new ArrayList<>();
+        for (UUID id : ids) {
+            try {
+                result.add(getJobById(id));
+            } catch (JobNotFoundException e) {
+                // ignored as documented
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the version of each of the {@link Job Jobs} with the given ids without deserializing them. This allows to check
+     * cheaply whether jobs changed. Ids of jobs that do not exist are not present in the returned map.
+     *
+     * @param ids the ids of the Jobs to fetch the version of
+     * @return a map containing the version of each requested Job that exists
+     */
+    default Map<UUID, Integer> getJobVersions(Collection<UUID> ids) {
+        return getJobsByIds(ids).stream().collect(toMap(Job::getId, Job::getVersion));
+    }
+
     /**
      * Counts all the jobs matching the given {@link StateName}.
      *
@@ -154,11 +192,130 @@ public interface StorageProvider extends AutoCloseable {
     List<Job> getJobList(StateName state, AmountRequest amountRequest);
 
     default Page<Job> getJobs(StateName state, PageRequest pageRequest) {
-        long totalJobs = countJobs(state);
+        long totalJobs = pageRequest.getApproximateTotal() != null ? pageRequest.getApproximateTotal() : countJobs(state);
         if (totalJobs == 0) return pageRequest.emptyPage();
         return pageRequest.mapToNewPage(totalJobs, getJobList(state, pageRequest));
     }
 
+    /**
+     * Returns a page of {@link JobSummary job summaries} matching the given {@link StateName}. StorageProviders can serve these
+     * summaries without deserializing the complete {@link Job}, which makes them well suited for list views.
+     *
+     * @param state       the StateName to test each {@link Job} against
+     * @param pageRequest the page and the order in which to return the {@link JobSummary job summaries}.
+     * @return a page of job summaries matching the given {@link StateName}.
+     */
+    default Page<JobSummary> getJobSummaries(StateName state, PageRequest pageRequest) {
+        return getJobs(state, pageRequest).map(JobSummary::new);
+    }
+
+    /**
+     * @return whether this StorageProvider supports {@link #searchJobSummaries(JobSearchQuery, KeysetBasedPageRequest)}
+     */
+    default boolean supportsSearchingJobs() {
+        return false;
+    }
+
+    /**
+     * Returns a page of {@link JobSummary job summaries} matching the given {@link JobSearchQuery} (a label, the start of the job name
+     * or the job signature). StorageProviders answer these queries using an index so they remain cheap for large amounts of jobs.
+     *
+     * @param query       the JobSearchQuery to test each {@link Job} against
+     * @param pageRequest the page and the order in which to return the {@link JobSummary job summaries}.
+     * @return a page of job summaries matching the given {@link JobSearchQuery}.
+     */
+    default Page<JobSummary> searchJobSummaries(JobSearchQuery query, KeysetBasedPageRequest pageRequest) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support searching jobs.");
+    }
+
+    /**
+     * Stores the job name and the labels used by {@link #searchJobSummaries(JobSearchQuery, KeysetBasedPageRequest)} for a batch of jobs which
+     * were saved by a version of JobRunr that did not store them yet. The jobs are handled in the order of their id so the backfill can be
+     * done batch by batch.
+     *
+     * @param afterJobId the id of the last job of the previous batch or null to start with the first job
+     * @param batchSize  the maximum amount of jobs to handle
+     * @return the id of the last job that was handled or null if there are no more jobs to backfill
+     */
+    default UUID backfillJobSearchFields(UUID afterJobId, int batchSize) {
+        return null;
+    }
+
+    /**
+     * @return whether this StorageProvider supports storing {@link JobDashboardLogEntry dashboard log entries} outside of the job (see
+     * {@link #saveJobDashboardLogEntries(List)}). If not, the dashboard logs are stored in the job metadata.
+     */
+    default boolean supportsJobDashboardLogEntries() {
+        return false;
+    }
+
+    /**
+     * Appends the given {@link JobDashboardLogEntry dashboard log entries} (log lines and progress updates) of jobs that are being processed.
+     * These entries are stored outside of the job, so they do not need to be rewritten each time the job is saved. They are deleted together
+     * with the job.
+     *
+     * @param logEntries the entries to append
+     */
+    default void saveJobDashboardLogEntries(List<JobDashboardLogEntry> logEntries) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support storing dashboard logs outside of the job.");
+    }
+
+    /**
+     * Returns the dashboard log lines (so no progress updates) of the given processing attempt of a job, ordered by their sequence number.
+     *
+     * @param jobId            the id of the job
+     * @param stateIndex       the state index of the processing attempt
+     * @param afterSequenceNbr only log lines with a higher sequence number are returned (use 0 to start from the first log line)
+     * @param limit            the maximum amount of log lines to return
+     * @return the log lines of the given processing attempt of the job
+     */
+    default List<JobDashboardLogEntry> getJobDashboardLogLines(UUID jobId, int stateIndex, int afterSequenceNbr, int limit) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support storing dashboard logs outside of the job.");
+    }
+
+    /**
+     * Returns the latest progress update of the given processing attempt of a job.
+     *
+     * @param jobId      the id of the job
+     * @param stateIndex the state index of the processing attempt
+     * @return the latest progress update or null if the processing attempt has no progress bar
+     */
+    default JobDashboardLogEntry getJobDashboardProgress(UUID jobId, int stateIndex) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support storing dashboard logs outside of the job.");
+    }
+
+    /**
+     * @return whether this StorageProvider supports {@link #saveInTransaction(Connection, List)}
+     */
+    default boolean supportsSavingInTransaction() {
+        return false;
+    }
+
+    /**
+     * Inserts the given new jobs using the given connection of the caller, without committing. The jobs thus become part of the transaction of the
+     * caller: they are only visible to the {@link BackgroundJobServer} once the caller commits and they are gone if the caller rolls back (outbox semantics).
+     * The connection must point to the database used by this StorageProvider and must have auto-commit disabled.
+     * <p>
+     * Once the transaction is committed, {@link #onTransactionCommitted(List)} should be called so that jobs can be processed without waiting
+     * for the next poll interval.
+     *
+     * @param connection the connection of the caller on which a transaction is in progress
+     * @param jobs       the new jobs to insert
+     * @return the saved jobs
+     */
+    default List<Job> saveInTransaction(Connection connection, List<Job> jobs) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support saving jobs within the transaction of the caller.");
+    }
+
+    /**
+     * Notifies the {@link StorageProviderChangeListener}s that the transaction in which the given jobs were saved using
+     * {@link #saveInTransaction(Connection, List)} was committed. By default, this is a no-op.
+     *
+     * @param jobs the jobs that were saved in the committed transaction
+     */
+    default void onTransactionCommitted(List<Job> jobs) {
+    }
+
     default List<Job> getJobsToProcess(BackgroundJobServer backgroundJobServer, AmountRequest amountRequest) {
         JobFilterUtils jobFilterUtils = new JobFilterUtils(backgroundJobServer.getJobFilters());
         List<Job> jobs = getJobList(ENQUEUED, amountRequest);
@@ -189,7 +346,7 @@ public interface StorageProvider extends AutoCloseable {
     List<Job> getScheduledJobs(Instant scheduledBefore, AmountRequest amountRequest);
 
     default Page<Job> getScheduledJobs(Instant scheduledBefore, PageRequest pageRequest) {
-        long totalJobs = countJobs(SCHEDULED);
+        long totalJobs = pageRequest.getApproximateTotal() != null ? pageRequest.getApproximateTotal() : countJobs(SCHEDULED);
         if (totalJobs == 0) return pageRequest.emptyPage();
         return pageRequest.mapToNewPage(totalJobs, getScheduledJobs(scheduledBefore, (AmountRequest) pageRequest));
     }
@@ -259,6 +416,38 @@ public interface StorageProvider extends AutoCloseable {
 
     void validateRecurringJobInterval(Duration durationBetweenRecurringJobInstances);
 
+    /**
+     * Starts a unit of work for the current thread. Until the returned {@link UnitOfWork} is closed, a StorageProvider may reuse the same
+     * underlying resources (e.g. one database connection) for all storage calls done by the current thread.
+     * <p>
+     * Each storage call still keeps its own atomicity guarantees. Unit of works can be nested, in which case the outermost one wins.
+     * By default, this is a no-op.
+     *
+     * @return the unit of work which must be closed when done.
+     */
+    default UnitOfWork startUnitOfWork() {
+        return () -> {
+        };
+    }
+
+    default void inUnitOfWork(Runnable runnable) {
+        try (UnitOfWork ignored = startUnitOfWork()) {
+            runnable.run();
+        }
+    }
+
+    default <T> T inUnitOfWork(Supplier<T> supplier) {
+        try (UnitOfWork ignored = startUnitOfWork()) {
+            return supplier.get();
+        }
+    }
+
+    interface UnitOfWork extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
     class StorageProviderInfo {
 
         private final StorageProvider storageProvider;
@@ -0,0 +1,77 @@
+package org.jobrunr.storage;
+
+import org.jobrunr.utils.DurationHistogram;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Call statistics of a single {@link StorageProvider} method as recorded by the {@link InstrumentedStorageProvider}. Latencies are
+ * kept in a lock-free {@link DurationHistogram} with one bucket per power of 2 microseconds, so percentiles are accurate within a
+ * factor of 2.
+ */
+public class StorageProviderMethodStats {
+
+    private static final int POWERS_OF_TWO = 39; // up to ~ 6 days
+
+    private final String method;
+    private final LongAdder calls;
+    private final LongAdder errors;
+    private final LongAdder rows;
+    private final LongAdder totalTimeInNanos;
+    private final DurationHistogram latencyHistogram;
+
+    public StorageProviderMethodStats(String method) {
+        this.method = method;
+        this.calls = new LongAdder();
+        this.errors = new LongAdder();
+        this.rows = new LongAdder();
+        this.totalTimeInNanos = new LongAdder();
+        this.latencyHistogram = new DurationHistogram(MICROSECONDS, 1, POWERS_OF_TWO);
+    }
+
+    void record(long durationInNanos, long amountOfRows, boolean failed) {
+        calls.increment();
+        if (failed) errors.increment();
+        if (amountOfRows > 0) rows.add(amountOfRows);
+        totalTimeInNanos.add(durationInNanos);
+        latencyHistogram.record(durationInNanos);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getTotalTimeInNanos() {
+        return totalTimeInNanos.sum();
+    }
+
+    public Duration getMaxTime() {
+        return latencyHistogram.getMax();
+    }
+
+    public Duration getTimePercentile(double percentile) {
+        return latencyHistogram.getPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return method + ": calls=" + getCalls() + ", errors=" + getErrors() + ", rows=" + getRows()
+                + ", p50=" + getTimePercentile(0.5).toMillis() + "ms, p95=" + getTimePercentile(0.95).toMillis() + "ms"
+                + ", p99=" + getTimePercentile(0.99).toMillis() + "ms, max=" + getMaxTime().toMillis() + "ms";
+    }
+}
@@ -51,6 +51,8 @@ public class StorageProviderUtils {
         public static final String FIELD_UPDATED_AT = "updatedAt";
         public static final String FIELD_SCHEDULED_AT = "scheduledAt";
         public static final String FIELD_RECURRING_JOB_ID = "recurringJobId";
+        public static final String FIELD_JOB_NAME = "jobName";
+        public static final String FIELD_LABELS = "labels";
     }
 
     public static class RecurringJobs {
@@ -122,6 +124,22 @@ public class StorageProviderUtils {
 
     }
 
+    public static final class JobDashboardLogs {
+        private JobDashboardLogs() {
+        }
+
+        public static final String NAME = "job_logs";
+        public static final String FIELD_JOB_ID = "jobId";
+        public static final String FIELD_STATE_INDEX = "stateIndex";
+        public static final String FIELD_SEQUENCE_NBR = "sequenceNbr";
+        public static final String FIELD_ENTRY_TYPE = "entryType";
+        public static final String FIELD_CREATED_AT = "createdAt";
+        public static final String FIELD_MESSAGE = "message";
+        public static final String FIELD_TOTAL_AMOUNT = "totalAmount";
+        public static final String FIELD_SUCCEEDED_AMOUNT = "succeededAmount";
+        public static final String FIELD_FAILED_AMOUNT = "failedAmount";
+    }
+
     public static final class Metadata {
         private Metadata() {
         }
@@ -2,20 +2,27 @@ package org.jobrunr.storage;
 
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.JobId;
+import org.jobrunr.jobs.JobSummary;
 import org.jobrunr.jobs.RecurringJob;
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
 import org.jobrunr.storage.listeners.StorageProviderChangeListener;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
+import org.jobrunr.storage.navigation.PageRequest;
 import org.jobrunr.utils.annotations.LockingJob;
 import org.jobrunr.utils.resilience.Lock;
 import org.jobrunr.utils.resilience.MultiLock;
 
+import java.sql.Connection;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -52,6 +59,11 @@ public class ThreadSafeStorageProvider implements StorageProvider {
         storageProvider.setJobMapper(jobMapper);
     }
 
+    @Override
+    public UnitOfWork startUnitOfWork() {
+        return storageProvider.startUnitOfWork();
+    }
+
     @Override
     public void announceBackgroundJobServer(BackgroundJobServerStatus serverStatus) {
         storageProvider.announceBackgroundJobServer(serverStatus);
@@ -133,6 +145,16 @@ public class ThreadSafeStorageProvider implements StorageProvider {
         return storageProvider.getJobById(id);
     }
 
+    @Override
+    public List<Job> getJobsByIds(Collection<UUID> ids) {
+        return storageProvider.getJobsByIds(ids);
+    }
+
+    @Override
+    public Map<UUID, Integer> getJobVersions(Collection<UUID> ids) {
+        return storageProvider.getJobVersions(ids);
+    }
+
     @Override
     public long countJobs(StateName state) {
         return storageProvider.countJobs(state);
@@ -148,6 +170,66 @@ public class ThreadSafeStorageProvider implements StorageProvider {
         return storageProvider.getJobList(state, amountRequest);
     }
 
+    @Override
+    public Page<Job> getJobs(StateName state, PageRequest pageRequest) {
+        return storageProvider.getJobs(state, pageRequest);
+    }
+
+    @Override
+    public Page<JobSummary> getJobSummaries(StateName state, PageRequest pageRequest) {
+        return storageProvider.getJobSummaries(state, pageRequest);
+    }
+
+    @Override
+    public boolean supportsSearchingJobs() {
+        return storageProvider.supportsSearchingJobs();
+    }
+
+    @Override
+    public Page<JobSummary> searchJobSummaries(JobSearchQuery query, KeysetBasedPageRequest pageRequest) {
+        return storageProvider.searchJobSummaries(query, pageRequest);
+    }
+
+    @Override
+    public UUID backfillJobSearchFields(UUID afterJobId, int batchSize) {
+        return storageProvider.backfillJobSearchFields(afterJobId, batchSize);
+    }
+
+    @Override
+    public boolean supportsSavingInTransaction() {
+        return storageProvider.supportsSavingInTransaction();
+    }
+
+    @Override
+    public List<Job> saveInTransaction(Connection connection, List<Job> jobs) {
+        return storageProvider.saveInTransaction(connection, jobs);
+    }
+
+    @Override
+    public void onTransactionCommitted(List<Job> jobs) {
+        storageProvider.onTransactionCommitted(jobs);
+    }
+
+    @Override
+    public boolean supportsJobDashboardLogEntries() {
+        return storageProvider.supportsJobDashboardLogEntries();
+    }
+
+    @Override
+    public void saveJobDashboardLogEntries(List<JobDashboardLogEntry> logEntries) {
+        storageProvider.saveJobDashboardLogEntries(logEntries);
+    }
+
+    @Override
+    public List<JobDashboardLogEntry> getJobDashboardLogLines(UUID jobId, int stateIndex, int afterSequenceNbr, int limit) {
+        return storageProvider.getJobDashboardLogLines(jobId, stateIndex, afterSequenceNbr, limit);
+    }
+
+    @Override
+    public JobDashboardLogEntry getJobDashboardProgress(UUID jobId, int stateIndex) {
+        return storageProvider.getJobDashboardProgress(jobId, stateIndex);
+    }
+
     @Override
     public List<Job> getCarbonAwareJobList(Instant deadlineBefore, AmountRequest amountRequest) {
         return storageProvider.getCarbonAwareJobList(deadlineBefore, amountRequest);
@@ -0,0 +1,500 @@
+package org.jobrunr.storage.journal;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.storage.StorageException;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.utils.annotations.VisibleFor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A local write-ahead journal for newly created jobs, so that enqueueing a job does not depend on the availability and the latency
+ * of the {@link StorageProvider}.
+ * <p>
+ * {@link #append(Job)} returns once the job is written and fsynced to an append-only segment file. All jobs that are appended
+ * concurrently are written by a single writer thread and share one fsync. A drainer thread saves the journaled jobs in batches using
+ * {@link StorageProvider#save(List)}; if the StorageProvider is not available, it retries with an exponential backoff. A segment is
+ * deleted once all its jobs are saved.
+ * <p>
+ * Jobs that were journaled but not yet saved when the JVM stopped are replayed on the next start. As a job may be replayed after it
+ * was saved, jobs that already exist in the StorageProvider are skipped based on their id. A journaled job is thus saved at least once,
+ * but it is not yet visible in the StorageProvider when {@link #append(Job)} returns.
+ */
+public class EnqueueJournal implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnqueueJournal.class);
+    private static final String LOCK_FILE_NAME = "enqueue-journal.lock";
+    // why: a file lock does not protect against a second journal in the same JVM and closing its channel would release our lock
+    private static final Set<Path> JOURNAL_DIRECTORIES_IN_USE = ConcurrentHashMap.newKeySet();
+
+    private final StorageProvider storageProvider;
+    private final JobMapper jobMapper;
+    private final EnqueueJournalConfiguration configuration;
+    private final BlockingQueue<PendingAppend> pendingAppends;
+    private final Queue<JournalEntry> journalEntries;
+    private final AtomicInteger journalDepth;
+    private final Map<Long, AtomicInteger> unsavedJobsPerSegment;
+    private final AtomicLong drainedJobs;
+    private final AtomicLong failedDrainAttempts;
+    private final Object drainLock;
+    private Path lockedJournalDirectory;
+    private FileChannel lockFileChannel;
+    private FileLock lock;
+    private EnqueueJournalSegment activeSegment;
+    private volatile long activeSegmentNbr;
+    private boolean activeSegmentIsCorrupt;
+    private volatile boolean running;
+    private Thread writerThread;
+    private ScheduledExecutorService drainer;
+    private Duration drainRetryBackoff;
+    private Instant nextDrainAttempt;
+
+    public EnqueueJournal(StorageProvider storageProvider, JobMapper jobMapper, EnqueueJournalConfiguration configuration) {
+        this.storageProvider = storageProvider;
+        this.jobMapper = jobMapper;
+        this.configuration = configuration;
+        this.pendingAppends = new LinkedBlockingQueue<>();
+        this.journalEntries = new ConcurrentLinkedQueue<>();
+        this.journalDepth = new AtomicInteger();
+        this.unsavedJobsPerSegment = new ConcurrentHashMap<>();
+        this.drainedJobs = new AtomicLong();
+        this.failedDrainAttempts = new AtomicLong();
+        this.drainLock = new Object();
+        this.drainRetryBackoff = Duration.ZERO;
+        this.nextDrainAttempt = Instant.MIN;
+    }
+
+    /**
+     * Locks the journal directory, replays the jobs that were journaled but not yet saved by a previous run and starts the writer and
+     * drainer threads.
+     */
+    public synchronized void start() {
+        if (running) return;
+
+        try {
+            Path journalDirectory = configuration.getJournalDirectory();
+            Files.createDirectories(journalDirectory);
+            lockJournalDirectory(journalDirectory);
+            long lastSegmentNbr = replaySegments(journalDirectory);
+            activeSegment = createSegment(journalDirectory, lastSegmentNbr + 1);
+            activeSegmentNbr = activeSegment.getSegmentNbr();
+        } catch (IOException e) {
+            releaseLock();
+            throw new StorageException("Could not open the enqueue journal in " + configuration.getJournalDirectory(), e);
+        }
+
+        running = true;
+        writerThread = new Thread(this::writePendingAppends, "jobrunr-enqueue-journal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jobrunr-enqueue-journal-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long drainIntervalInMillis = Math.max(1, configuration.getDrainInterval().toMillis());
+        drainer.scheduleWithFixedDelay(this::drainIfNotBackingOff, 0, drainIntervalInMillis, MILLISECONDS);
+        LOGGER.info("Enqueue journal started in {} with {} journaled jobs to save", configuration.getJournalDirectory(), journalDepth.get());
+    }
+
+    /**
+     * Writes the given job to the journal and waits until it is fsynced.
+     *
+     * @param job the new job to journal
+     * @throws StorageException if the job could not be journaled
+     */
+    public void append(Job job) {
+        append(singletonList(job));
+    }
+
+    /**
+     * Writes the given jobs to the journal and waits until they are fsynced.
+     *
+     * @param jobs the new jobs to journal
+     * @throws StorageException if the jobs could not be journaled
+     */
+    public void append(List<Job> jobs) {
+        if (jobs.isEmpty()) return;
+        if (!running) throw new StorageException("The enqueue journal is not running.");
+
+        PendingAppend pendingAppend = new PendingAppend(jobs.stream().map(jobMapper::serializeJob).collect(toList()));
+        pendingAppends.add(pendingAppend);
+        try {
+            pendingAppend.written.get(configuration.getAppendTimeout().toMillis(), MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new StorageException("Could not write the jobs to the enqueue journal", e.getCause());
+        } catch (TimeoutException e) {
+            throw new StorageException("Timed out while writing the jobs to the enqueue journal", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while writing the jobs to the enqueue journal", e);
+        }
+    }
+
+    /**
+     * @return the amount of journaled jobs that are not yet saved in the StorageProvider
+     */
+    public int getJournalDepth() {
+        return journalDepth.get();
+    }
+
+    /**
+     * @return how long the oldest journaled job that is not yet saved in the StorageProvider has been waiting
+     */
+    public Duration getDrainLag() {
+        JournalEntry oldestJournalEntry = journalEntries.peek();
+        if (oldestJournalEntry == null) return Duration.ZERO;
+        return Duration.between(oldestJournalEntry.journaledAt, Instant.now());
+    }
+
+    public long getDrainedJobCount() {
+        return drainedJobs.get();
+    }
+
+    public long getFailedDrainAttemptCount() {
+        return failedDrainAttempts.get();
+    }
+
+    /**
+     * Stops accepting new jobs, tries to save the journaled jobs a last time and releases the journal directory. Jobs that could not
+     * be saved stay in the journal and are replayed on the next start.
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) return;
+
+        running = false;
+        try {
+            writerThread.join(configuration.getAppendTimeout().toMillis());
+            PendingAppend pendingAppend;
+            while ((pendingAppend = pendingAppends.poll()) != null) {
+                pendingAppend.written.completeExceptionally(new StorageException("The enqueue journal is closed."));
+            }
+            drainer.shutdown();
+            drainer.awaitTermination(configuration.getAppendTimeout().toMillis(), MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+        closeActiveSegment();
+        releaseLock();
+        LOGGER.info("Enqueue journal stopped with {} journaled jobs to save", journalDepth.get());
+    }
+
+    /**
+     * Saves the journaled jobs in batches until all are saved or the StorageProvider fails.
+     *
+     * @return the amount of jobs that were saved
+     */
+    @VisibleFor("testing")
+    int drain() {
+        synchronized (drainLock) {
+            return drainBatches();
+        }
+    }
+
+    private void drainIfNotBackingOff() {
+        synchronized (drainLock) {
+            if (Instant.now().isBefore(nextDrainAttempt)) return;
+            drainBatches();
+        }
+    }
+
+    private int drainBatches() {
+        int drainedJobsInThisRun = 0;
+        List<JournalEntry> batch = nextBatch();
+        while (!batch.isEmpty()) {
+            try {
+                saveIdempotently(batch);
+            } catch (Exception e) {
+                failedDrainAttempts.incrementAndGet();
+                drainRetryBackoff = nextDrainRetryBackoff();
+                nextDrainAttempt = Instant.now().plus(drainRetryBackoff);
+                LOGGER.warn("Could not save {} journaled jobs, {} jobs are waiting in the enqueue journal - retrying in {}", batch.size(), journalDepth.get(), drainRetryBackoff, e);
+                return drainedJobsInThisRun;
+            }
+            batch.forEach(journalEntry -> {
+                journalEntries.poll();
+                journalDepth.decrementAndGet();
+                acknowledge(journalEntry);
+            });
+            drainedJobs.addAndGet(batch.size());
+            drainedJobsInThisRun += batch.size();
+            drainRetryBackoff = Duration.ZERO;
+            batch = nextBatch();
+        }
+        return drainedJobsInThisRun;
+    }
+
+    private List<JournalEntry> nextBatch() {
+        // only the drainer removes entries from the head of the queue, so the entries that are iterated here are the ones that are polled afterwards
+        List<JournalEntry> batch = new ArrayList<>();
+        Iterator<JournalEntry> iterator = journalEntries.iterator();
+        while (iterator.hasNext() && batch.size() < configuration.getDrainBatchSize()) {
+            batch.add(iterator.next());
+        }
+        return batch;
+    }
+
+    private void saveIdempotently(List<JournalEntry> batch) {
+        try {
+            storageProvider.save(deserializeJobs(batch));
+        } catch (StorageException e) {
+            // why: after a replay some jobs may already be saved. Depending on the StorageProvider, this results in a ConcurrentJobModificationException
+            // or in a StorageException (e.g. a duplicate key in a SQL database) - save fresh copies of the jobs that do not exist yet instead
+            List<Job> jobs = deserializeJobs(batch);
+            Set<UUID> existingJobIds = storageProvider.getJobVersions(jobs.stream().map(Job::getId).collect(toList())).keySet();
+            if (existingJobIds.isEmpty()) throw e;
+
+            LOGGER.debug("Skipped {} journaled Jobs as they already exist", existingJobIds.size());
+            storageProvider.save(jobs.stream().filter(job -> !existingJobIds.contains(job.getId())).collect(toList()));
+        }
+    }
+
+    private List<Job> deserializeJobs(List<JournalEntry> batch) {
+        return batch.stream().map(journalEntry -> jobMapper.deserializeJob(journalEntry.serializedJob)).collect(toList());
+    }
+
+    private Duration nextDrainRetryBackoff() {
+        Duration drainInterval = configuration.getDrainInterval();
+        Duration nextBackoff = drainRetryBackoff.isZero() ? drainInterval : drainRetryBackoff.multipliedBy(2);
+        return nextBackoff.compareTo(configuration.getMaxDrainRetryBackoff()) > 0 ? configuration.getMaxDrainRetryBackoff() : nextBackoff;
+    }
+
+    private void writePendingAppends() {
+        List<PendingAppend> appends = new ArrayList<>();
+        while (running || !pendingAppends.isEmpty()) {
+            try {
+                PendingAppend pendingAppend = pendingAppends.poll(Math.max(1, configuration.getDrainInterval().toMillis()), MILLISECONDS);
+                if (pendingAppend == null) {
+                    startNewSegmentIfActiveSegmentIsSaved();
+                    continue;
+                }
+                appends.add(pendingAppend);
+                pendingAppends.drainTo(appends);
+                write(appends);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOGGER.error("Could not write {} jobs to the enqueue journal", appends.size(), e);
+                appends.forEach(append -> append.written.completeExceptionally(e));
+            } finally {
+                appends.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingAppend> appends) throws IOException {
+        List<JournalEntry> writtenEntries = new ArrayList<>();
+        Map<Long, Long> segmentSizesBeforeWrite = new LinkedHashMap<>();
+        segmentSizesBeforeWrite.put(activeSegment.getSegmentNbr(), activeSegment.getSize());
+        Instant journaledAt = Instant.now();
+        try {
+            for (PendingAppend append : appends) {
+                for (String serializedJob : append.serializedJobs) {
+                    if (activeSegmentIsCorrupt || activeSegment.getSize() >= configuration.getMaxSegmentSizeInBytes()) {
+                        startNewSegment();
+                        segmentSizesBeforeWrite.put(activeSegment.getSegmentNbr(), 0L);
+                    }
+                    activeSegment.append(serializedJob);
+                    unsavedJobsPerSegment.computeIfAbsent(activeSegment.getSegmentNbr(), segmentNbr -> new AtomicInteger()).incrementAndGet();
+                    writtenEntries.add(new JournalEntry(activeSegment.getSegmentNbr(), serializedJob, journaledAt));
+                }
+            }
+            activeSegment.force();
+        } catch (IOException | RuntimeException e) {
+            rollBack(segmentSizesBeforeWrite, writtenEntries);
+            throw e;
+        }
+
+        journalEntries.addAll(writtenEntries);
+        journalDepth.addAndGet(writtenEntries.size());
+        appends.forEach(append -> append.written.complete(null));
+    }
+
+    /**
+     * Removes the records of a batch that could not be journaled, so that they are not replayed on the next start and so that the next
+     * batches are not written behind a partially written record. If the active segment cannot be truncated, the next batch starts a new segment.
+     */
+    private void rollBack(Map<Long, Long> segmentSizesBeforeWrite, List<JournalEntry> writtenEntries) {
+        writtenEntries.forEach(journalEntry -> unsavedJobsPerSegment.get(journalEntry.segmentNbr).decrementAndGet());
+        segmentSizesBeforeWrite.forEach((segmentNbr, sizeBeforeWrite) -> {
+            try {
+                if (segmentNbr == activeSegment.getSegmentNbr()) {
+                    activeSegment.truncate(sizeBeforeWrite);
+                } else if (sizeBeforeWrite == 0) {
+                    unsavedJobsPerSegment.remove(segmentNbr);
+                    Files.deleteIfExists(EnqueueJournalSegment.path(configuration.getJournalDirectory(), segmentNbr));
+                } else {
+                    EnqueueJournalSegment.truncate(configuration.getJournalDirectory(), segmentNbr, sizeBeforeWrite);
+                }
+            } catch (IOException e) {
+                LOGGER.error("Could not roll back enqueue journal segment {} - jobs that could not be journaled may be replayed on the next start", segmentNbr, e);
+                if (segmentNbr == activeSegment.getSegmentNbr()) activeSegmentIsCorrupt = true;
+            }
+        });
+    }
+
+    private void startNewSegmentIfActiveSegmentIsSaved() throws IOException {
+        AtomicInteger unsavedJobs = unsavedJobsPerSegment.get(activeSegment.getSegmentNbr());
+        if (activeSegment.getSize() > 0 && unsavedJobs != null && unsavedJobs.get() == 0) {
+            startNewSegment();
+        }
+    }
+
+    private void startNewSegment() throws IOException {
+        EnqueueJournalSegment previousSegment = activeSegment;
+        // a corrupt segment only ends with records that were never acknowledged, so there is nothing to fsync
+        if (!activeSegmentIsCorrupt) previousSegment.force();
+        activeSegment = createSegment(configuration.getJournalDirectory(), previousSegment.getSegmentNbr() + 1);
+        activeSegmentNbr = activeSegment.getSegmentNbr();
+        activeSegmentIsCorrupt = false;
+        previousSegment.close();
+        deleteSegmentIfSaved(previousSegment.getSegmentNbr());
+    }
+
+    @VisibleFor("testing")
+    EnqueueJournalSegment createSegment(Path journalDirectory, long segmentNbr) throws IOException {
+        return EnqueueJournalSegment.create(journalDirectory, segmentNbr);
+    }
+
+    private void acknowledge(JournalEntry journalEntry) {
+        AtomicInteger unsavedJobs = unsavedJobsPerSegment.get(journalEntry.segmentNbr);
+        if (unsavedJobs != null && unsavedJobs.decrementAndGet() == 0) {
+            deleteSegmentIfSaved(journalEntry.segmentNbr);
+        }
+    }
+
+    private void deleteSegmentIfSaved(long segmentNbr) {
+        AtomicInteger unsavedJobs = unsavedJobsPerSegment.get(segmentNbr);
+        if (segmentNbr == activeSegmentNbr) return;
+        if (unsavedJobs != null && (unsavedJobs.get() > 0 || !unsavedJobsPerSegment.remove(segmentNbr, unsavedJobs))) return;
+
+        try {
+            Files.deleteIfExists(EnqueueJournalSegment.path(configuration.getJournalDirectory(), segmentNbr));
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete enqueue journal segment {} - its jobs will be replayed on the next start", segmentNbr, e);
+        }
+    }
+
+    private long replaySegments(Path journalDirectory) throws IOException {
+        long lastSegmentNbr = 0;
+        for (long segmentNbr : EnqueueJournalSegment.findSegmentNbrs(journalDirectory)) {
+            List<String> serializedJobs = EnqueueJournalSegment.readSerializedJobs(journalDirectory, segmentNbr);
+            Instant replayedAt = Instant.now();
+            if (!serializedJobs.isEmpty()) {
+                unsavedJobsPerSegment.put(segmentNbr, new AtomicInteger(serializedJobs.size()));
+                serializedJobs.forEach(serializedJob -> journalEntries.add(new JournalEntry(segmentNbr, serializedJob, replayedAt)));
+                journalDepth.addAndGet(serializedJobs.size());
+            } else {
+                Files.deleteIfExists(EnqueueJournalSegment.path(journalDirectory, segmentNbr));
+            }
+            lastSegmentNbr = segmentNbr;
+        }
+        return lastSegmentNbr;
+    }
+
+    private void lockJournalDirectory(Path journalDirectory) throws IOException {
+        Path normalizedJournalDirectory = journalDirectory.toRealPath();
+        if (!JOURNAL_DIRECTORIES_IN_USE.add(normalizedJournalDirectory)) {
+            throw new IllegalStateException("The enqueue journal directory " + journalDirectory + " is already in use by another enqueue journal.");
+        }
+        lockedJournalDirectory = normalizedJournalDirectory;
+        lockFileChannel = FileChannel.open(journalDirectory.resolve(LOCK_FILE_NAME), CREATE, WRITE);
+        try {
+            lock = lockFileChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            releaseLock();
+            throw new IllegalStateException("The enqueue journal directory " + journalDirectory + " is already in use by another JVM.");
+        }
+    }
+
+    private void closeActiveSegment() {
+        try {
+            activeSegment.close();
+            if (activeSegment.getSize() == 0 || unsavedJobsPerSegment.getOrDefault(activeSegmentNbr, new AtomicInteger()).get() == 0) {
+                unsavedJobsPerSegment.remove(activeSegmentNbr);
+                Files.deleteIfExists(EnqueueJournalSegment.path(configuration.getJournalDirectory(), activeSegmentNbr));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not close the enqueue journal segment {}", activeSegmentNbr, e);
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            if (lock != null) lock.release();
+            if (lockFileChannel != null) lockFileChannel.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not release the lock on the enqueue journal directory {}", configuration.getJournalDirectory(), e);
+        } finally {
+            lock = null;
+            lockFileChannel = null;
+            if (lockedJournalDirectory != null) JOURNAL_DIRECTORIES_IN_USE.remove(lockedJournalDirectory);
+            lockedJournalDirectory = null;
+        }
+    }
+
+    private static class PendingAppend {
+
+        private final List<String> serializedJobs;
+        private final CompletableFuture<Void> written;
+
+        private PendingAppend(List<String> serializedJobs) {
+            this.serializedJobs = serializedJobs;
+            this.written = new CompletableFuture<>();
+        }
+    }
+
+    private static class JournalEntry {
+
+        private final long segmentNbr;
+        private final String serializedJob;
+        private final Instant journaledAt;
+
+        private JournalEntry(long segmentNbr, String serializedJob, Instant journaledAt) {
+            this.segmentNbr = segmentNbr;
+            this.serializedJob = serializedJob;
+            this.journaledAt = journaledAt;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.jobrunr.storage.journal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The configuration of the {@link EnqueueJournal}.
+ */
+public class EnqueueJournalConfiguration {
+
+    public static final long DEFAULT_MAX_SEGMENT_SIZE_IN_BYTES = 16 * 1024 * 1024;
+    public static final int DEFAULT_DRAIN_BATCH_SIZE = 1000;
+    public static final Duration DEFAULT_DRAIN_INTERVAL = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_DRAIN_RETRY_BACKOFF = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_APPEND_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Path journalDirectory;
+    private long maxSegmentSizeInBytes = DEFAULT_MAX_SEGMENT_SIZE_IN_BYTES;
+    private int drainBatchSize = DEFAULT_DRAIN_BATCH_SIZE;
+    private Duration drainInterval = DEFAULT_DRAIN_INTERVAL;
+    private Duration maxDrainRetryBackoff = DEFAULT_MAX_DRAIN_RETRY_BACKOFF;
+    private Duration appendTimeout = DEFAULT_APPEND_TIMEOUT;
+
+    private EnqueueJournalConfiguration(Path journalDirectory) {
+        if (journalDirectory == null) throw new IllegalArgumentException("The journal directory is required.");
+        this.journalDirectory = journalDirectory;
+    }
+
+    /**
+     * Returns the default configuration for an {@link EnqueueJournal} that keeps its segments in the given directory. The directory
+     * can only be used by a single JVM at a time.
+     *
+     * @param journalDirectory the directory in which the journal segments are stored
+     * @return the default configuration
+     */
+    public static EnqueueJournalConfiguration usingStandardEnqueueJournalConfiguration(Path journalDirectory) {
+        return new EnqueueJournalConfiguration(journalDirectory);
+    }
+
+    /**
+     * Allows to set the size after which a new journal segment is started. Segments are deleted once all their jobs are saved in the
+     * StorageProvider.
+     *
+     * @param maxSegmentSizeInBytes the maximum size of a journal segment
+     * @return the same configuration instance which provides a fluent api
+     */
+    public EnqueueJournalConfiguration andMaxSegmentSizeInBytes(long maxSegmentSizeInBytes) {
+        if (maxSegmentSizeInBytes < 1024) throw new IllegalArgumentException("The maximum segment size must be at least 1024 bytes.");
+        this.maxSegmentSizeInBytes = maxSegmentSizeInBytes;
+        return this;
+    }
+
+    /**
+     * Allows to set the maximum amount of jobs that are saved in the StorageProvider in a single batch.
+     *
+     * @param drainBatchSize the maximum amount of jobs to save at once
+     * @return the same configuration instance which provides a fluent api
+     */
+    public EnqueueJournalConfiguration andDrainBatchSize(int drainBatchSize) {
+        if (drainBatchSize < 1) throw new IllegalArgumentException("The drain batch size must be at least 1.");
+        this.drainBatchSize = drainBatchSize;
+        return this;
+    }
+
+    /**
+     * Allows to set how often the journal checks for jobs that must be saved in the StorageProvider.
+     *
+     * @param drainInterval the interval between two drains
+     * @return the same configuration instance which provides a fluent api
+     */
+    public EnqueueJournalConfiguration andDrainInterval(Duration drainInterval) {
+        this.drainInterval = drainInterval;
+        return this;
+    }
+
+    /**
+     * Allows to set the maximum time to wait before trying to save the journaled jobs again if the StorageProvider is not available.
+     * The time to wait doubles after each failed attempt, starting from the drain interval.
+     *
+     * @param maxDrainRetryBackoff the maximum time to wait between two failed attempts
+     * @return the same configuration instance which provides a fluent api
+     */
+    public EnqueueJournalConfiguration andMaxDrainRetryBackoff(Duration maxDrainRetryBackoff) {
+        this.maxDrainRetryBackoff = maxDrainRetryBackoff;
+        return this;
+    }
+
+    /**
+     * Allows to set how long enqueueing a job may wait for the job to be written to disk.
+     *
+     * @param appendTimeout the maximum time to wait until a job is journaled
+     * @return the same configuration instance which provides a fluent api
+     */
+    public EnqueueJournalConfiguration andAppendTimeout(Duration appendTimeout) {
+        this.appendTimeout = appendTimeout;
+        return this;
+    }
+
+    public Path getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    public long getMaxSegmentSizeInBytes() {
+        return maxSegmentSizeInBytes;
+    }
+
+    public int getDrainBatchSize() {
+        return drainBatchSize;
+    }
+
+    public Duration getDrainInterval() {
+        return drainInterval;
+    }
+
+    public Duration getMaxDrainRetryBackoff() {
+        return maxDrainRetryBackoff;
+    }
+
+    public Duration getAppendTimeout() {
+        return appendTimeout;
+    }
+}
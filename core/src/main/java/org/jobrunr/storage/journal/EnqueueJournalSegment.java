@@ -0,0 +1,150 @@
+package org.jobrunr.storage.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An append-only file of the {@link EnqueueJournal}. Each record consists of the length and the CRC32 checksum of the serialized job,
+ * followed by the serialized job itself. A record that is only partially written (e.g. because the JVM crashed) ends the segment.
+ */
+class EnqueueJournalSegment implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnqueueJournalSegment.class);
+
+    static final String FILE_PREFIX = "enqueue-journal-";
+    static final String FILE_SUFFIX = ".log";
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private final long segmentNbr;
+    private final FileChannel fileChannel;
+    private long size;
+
+    EnqueueJournalSegment(long segmentNbr, FileChannel fileChannel) {
+        this.segmentNbr = segmentNbr;
+        this.fileChannel = fileChannel;
+    }
+
+    static EnqueueJournalSegment create(Path journalDirectory, long segmentNbr) throws IOException {
+        return new EnqueueJournalSegment(segmentNbr, FileChannel.open(path(journalDirectory, segmentNbr), CREATE_NEW, WRITE));
+    }
+
+    /**
+     * Truncates a segment that is no longer written to, e.g. to remove the records of a batch that could not be journaled.
+     */
+    static void truncate(Path journalDirectory, long segmentNbr, long size) throws IOException {
+        Path segment = path(journalDirectory, segmentNbr);
+        if (!Files.exists(segment)) return;
+        try (FileChannel channel = FileChannel.open(segment, WRITE)) {
+            channel.truncate(size);
+            channel.force(false);
+        }
+    }
+
+    static Path path(Path journalDirectory, long segmentNbr) {
+        return journalDirectory.resolve(String.format("%s%020d%s", FILE_PREFIX, segmentNbr, FILE_SUFFIX));
+    }
+
+    static List<Long> findSegmentNbrs(Path journalDirectory) throws IOException {
+        List<Long> segmentNbrs = new ArrayList<>();
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(journalDirectory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path segment : segments) {
+                String fileName = segment.getFileName().toString();
+                try {
+                    segmentNbrs.add(Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    LOGGER.warn("Ignoring unknown file {} in enqueue journal directory {}", fileName, journalDirectory);
+                }
+            }
+        }
+        segmentNbrs.sort(Long::compare);
+        return segmentNbrs;
+    }
+
+    static List<String> readSerializedJobs(Path journalDirectory, long segmentNbr) throws IOException {
+        List<String> serializedJobs = new ArrayList<>();
+        Path segment = path(journalDirectory, segmentNbr);
+        try (FileChannel channel = FileChannel.open(segment, READ)) {
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            while (readFully(channel, header)) {
+                header.flip();
+                int length = header.getInt();
+                long checksum = header.getInt() & 0xFFFFFFFFL;
+                header.clear();
+                if (length < 0 || length > channel.size() - channel.position()) {
+                    LOGGER.warn("Enqueue journal segment {} ends with an incomplete record which is ignored", segment);
+                    break;
+                }
+                ByteBuffer serializedJob = ByteBuffer.allocate(length);
+                if (!readFully(channel, serializedJob) || checksum(serializedJob.array()) != checksum) {
+                    LOGGER.warn("Enqueue journal segment {} ends with a corrupt record which is ignored", segment);
+                    break;
+                }
+                serializedJobs.add(new String(serializedJob.array(), UTF_8));
+            }
+        }
+        return serializedJobs;
+    }
+
+    long getSegmentNbr() {
+        return segmentNbr;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    void append(String serializedJob) throws IOException {
+        byte[] bytes = serializedJob.getBytes(UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + bytes.length);
+        record.putInt(bytes.length);
+        record.putInt((int) checksum(bytes));
+        record.put(bytes);
+        record.flip();
+        while (record.hasRemaining()) {
+            size += fileChannel.write(record);
+        }
+    }
+
+    void truncate(long size) throws IOException {
+        fileChannel.truncate(size);
+        fileChannel.position(size);
+        this.size = size;
+    }
+
+    void force() throws IOException {
+        fileChannel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) return false;
+        }
+        return true;
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 0, bytes.length);
+        return crc32.getValue();
+    }
+}
@@ -0,0 +1,11 @@
+package org.jobrunr.storage.listeners;
+
+/**
+ * Is notified when new enqueued jobs became visible in the StorageProvider outside of the regular poll interval, e.g. after the
+ * transaction in which they were saved was committed (see {@link org.jobrunr.storage.StorageProvider#saveInTransaction(java.sql.Connection, java.util.List)}).
+ */
+public interface EnqueuedJobsChangeListener extends StorageProviderChangeListener {
+
+    void onChange(int amountOfNewEnqueuedJobs);
+
+}
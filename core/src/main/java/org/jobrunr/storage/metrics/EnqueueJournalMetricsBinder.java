@@ -0,0 +1,44 @@
+package org.jobrunr.storage.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.jobrunr.storage.journal.EnqueueJournal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Binds the depth and the drain lag of an {@link EnqueueJournal} to a {@link MeterRegistry}.
+ */
+public class EnqueueJournalMetricsBinder implements AutoCloseable {
+
+    private final List<Meter> meters;
+
+    public EnqueueJournalMetricsBinder(EnqueueJournal enqueueJournal, MeterRegistry meterRegistry) {
+        this.meters = new ArrayList<>();
+        meters.add(Gauge.builder(toMicroMeterName("depth"), enqueueJournal, EnqueueJournal::getJournalDepth).register(meterRegistry));
+        meters.add(TimeGauge.builder(toMicroMeterName("drain-lag"), enqueueJournal, MILLISECONDS, journal -> journal.getDrainLag().toMillis()).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("drained-jobs"), enqueueJournal, EnqueueJournal::getDrainedJobCount).register(meterRegistry));
+        meters.add(FunctionCounter.builder(toMicroMeterName("failed-drain-attempts"), enqueueJournal, EnqueueJournal::getFailedDrainAttemptCount).register(meterRegistry));
+    }
+
+    private String toMicroMeterName(String name) {
+        return "jobrunr.enqueue-journal." + name;
+    }
+
+    @Override
+    public void close() {
+        meters.forEach(meter -> {
+            try {
+                meter.close();
+            } catch (Exception e) {
+                // nothing more we can do
+            }
+        });
+    }
+}
@@ -0,0 +1,149 @@
+package org.jobrunr.storage.navigation;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.JobSummary;
+import org.jobrunr.storage.Page;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.reverse;
+import static java.util.Collections.singletonList;
+import static org.jobrunr.jobs.Job.ALLOWED_SORT_COLUMNS;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_UPDATED_AT;
+import static org.jobrunr.utils.StringUtils.isNotNullOrEmpty;
+import static org.jobrunr.utils.StringUtils.isNullOrEmpty;
+import static org.jobrunr.utils.StringUtils.lenientSubstringBetween;
+
+/**
+ * A {@link PageRequest} that seeks to the next (or previous) page using the sort value and the id of the last (or first) job of the
+ * current page instead of an offset. This makes deep pages as cheap as the first page.
+ * <p>
+ * Only the first order term is used, the job id is always used as tie-breaker. As counting all jobs of a state is expensive,
+ * the total of the first page is carried over to the next pages and is thus approximate.
+ */
+public class KeysetBasedPageRequest extends PageRequest {
+
+    private final Instant boundary;
+    private final UUID boundaryId;
+    private final boolean backwards;
+    private final Long approximateTotal;
+
+    KeysetBasedPageRequest() {
+        this(null, DEFAULT_LIMIT); // needed for deserialization
+    }
+
+    public KeysetBasedPageRequest(String order, int limit) {
+        this(order, limit, null, null, false, null);
+    }
+
+    public KeysetBasedPageRequest(String order, int limit, Instant boundary, UUID boundaryId, boolean backwards, Long approximateTotal) {
+        super(order, limit);
+        this.boundary = boundary;
+        this.boundaryId = boundaryId;
+        this.backwards = backwards;
+        this.approximateTotal = approximateTotal;
+    }
+
+    public Instant getBoundary() {
+        return boundary;
+    }
+
+    public UUID getBoundaryId() {
+        return boundaryId;
+    }
+
+    public boolean isBackwards() {
+        return backwards;
+    }
+
+    @Override
+    public Long getApproximateTotal() {
+        return approximateTotal;
+    }
+
+    /**
+     * Returns the order term to seek on, reversed if this request fetches the previous page.
+     *
+     * @return the order term to seek on
+     */
+    public OrderTerm getSeekOrderTerm() {
+        final List<OrderTerm> orderTerms = super.getAllOrderTerms(ALLOWED_SORT_COLUMNS.keySet());
+        final OrderTerm orderTerm = orderTerms.isEmpty() ? new OrderTerm(FIELD_UPDATED_AT, OrderTerm.Order.ASC) : orderTerms.get(0);
+        if (!backwards) return orderTerm;
+        return new OrderTerm(orderTerm.getFieldName(), orderTerm.getOrder() == OrderTerm.Order.ASC ? OrderTerm.Order.DESC : OrderTerm.Order.ASC);
+    }
+
+    @Override
+    public List<OrderTerm> getAllOrderTerms(Set<String> allowedOrderTerms) {
+        final OrderTerm seekOrderTerm = getSeekOrderTerm();
+        if (!allowedOrderTerms.contains(seekOrderTerm.getFieldName())) return emptyList();
+        return singletonList(seekOrderTerm);
+    }
+
+    @Override
+    public String asString() {
+        String result = "order=" + getOrder() + "&limit=" + getLimit();
+        if (boundary != null) {
+            result += "&boundary=" + boundary + "&boundaryId=" + boundaryId + "&backwards=" + backwards;
+        }
+        if (approximateTotal != null) {
+            result += "&approximateTotal=" + approximateTotal;
+        }
+        return result;
+    }
+
+    public static KeysetBasedPageRequest fromString(String keysetBasedPageRequestAsString) {
+        if (isNullOrEmpty(keysetBasedPageRequestAsString)) return null;
+
+        String order = lenientSubstringBetween(keysetBasedPageRequestAsString, "order=", "&");
+        String limit = lenientSubstringBetween(keysetBasedPageRequestAsString, "limit=", "&");
+        String boundary = lenientSubstringBetween(keysetBasedPageRequestAsString, "boundary=", "&");
+        String boundaryId = lenientSubstringBetween(keysetBasedPageRequestAsString, "boundaryId=", "&");
+        String backwards = lenientSubstringBetween(keysetBasedPageRequestAsString, "backwards=", "&");
+        String approximateTotal = lenientSubstringBetween(keysetBasedPageRequestAsString, "approximateTotal=", "&");
+        return new KeysetBasedPageRequest(
+                order,
+                isNotNullOrEmpty(limit) ? Integer.parseInt(limit) : DEFAULT_LIMIT,
+                isNotNullOrEmpty(boundary) ? Instant.parse(boundary) : null,
+                isNotNullOrEmpty(boundaryId) ? UUID.fromString(boundaryId) : null,
+                Boolean.parseBoolean(backwards),
+                isNotNullOrEmpty(approximateTotal) ? Long.parseLong(approximateTotal) : null
+        );
+    }
+
+    @Override
+    public <T> Page<T> mapToNewPage(long total, List<T> items) {
+        final List<T> pageItems = new ArrayList<>(items);
+        if (backwards) reverse(pageItems);
+        if (pageItems.isEmpty()) return new Page<>(total, pageItems, this, null, null);
+
+        final boolean hasMoreItemsInSeekDirection = items.size() >= getLimit();
+        final boolean hasPreviousPage = backwards ? hasMoreItemsInSeekDirection : boundary != null;
+        final boolean hasNextPage = backwards || hasMoreItemsInSeekDirection;
+        return new Page<>(total, pageItems, this,
+                hasPreviousPage ? boundedBy(pageItems.get(0), true, total) : null,
+                hasNextPage ? boundedBy(pageItems.get(pageItems.size() - 1), false, total) : null);
+    }
+
+    @Override
+    public <T> Page<T> emptyPage() {
+        return new Page<>(0, emptyList(), this, null, null);
+    }
+
+    private KeysetBasedPageRequest boundedBy(Object item, boolean backwards, long total) {
+        final String seekField = getSeekOrderTerm().getFieldName();
+        if (item instanceof Job) {
+            final Job job = (Job) item;
+            return new KeysetBasedPageRequest(order, limit, (Instant) ALLOWED_SORT_COLUMNS.get(seekField).apply(job), job.getId(), backwards, total);
+        } else if (item instanceof JobSummary) {
+            final JobSummary jobSummary = (JobSummary) item;
+            return new KeysetBasedPageRequest(order, limit, JobSummary.ALLOWED_SORT_COLUMNS.get(seekField).apply(jobSummary), jobSummary.getId(), backwards, total);
+        }
+        throw new IllegalArgumentException("Keyset based paging is only supported for jobs and job summaries.");
+    }
+}
@@ -13,4 +13,13 @@ public abstract class PageRequest extends AmountRequest {
     public abstract <T> Page<T> mapToNewPage(long count, List<T> items);
 
     public abstract <T> Page<T> emptyPage();
+
+    /**
+     * Returns the total amount of items if it is already known (e.g. carried over from a previous page) or null if it needs to be counted.
+     *
+     * @return the known total amount of items or null
+     */
+    public Long getApproximateTotal() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.mongodb.client.MongoDatabase;
 import org.bson.Document;
 import org.jobrunr.JobRunrException;
 import org.jobrunr.storage.StorageProviderUtils.BackgroundJobServers;
+import org.jobrunr.storage.StorageProviderUtils.JobDashboardLogs;
 import org.jobrunr.storage.StorageProviderUtils.Jobs;
 import org.jobrunr.storage.StorageProviderUtils.Metadata;
 import org.jobrunr.storage.StorageProviderUtils.RecurringJobs;
@@ -50,7 +51,7 @@ public class MongoDBCreator extends NoSqlDatabaseCreator<MongoMigration> {
     }
 
     public void validateCollections() {
-        final List<String> requiredCollectionNames = asList(Jobs.NAME, RecurringJobs.NAME, BackgroundJobServers.NAME, Metadata.NAME);
+        final List<String> requiredCollectionNames = asList(Jobs.NAME, JobDashboardLogs.NAME, RecurringJobs.NAME, BackgroundJobServers.NAME, Metadata.NAME);
         final List<String> availableCollectionNames = listCollectionNames(jobrunrDatabase);
         for (String requiredCollectionName : requiredCollectionNames) {
             if (!availableCollectionNames.contains(elementPrefixer(collectionPrefix, requiredCollectionName))) {
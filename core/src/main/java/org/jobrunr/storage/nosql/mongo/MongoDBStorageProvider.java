@@ -3,6 +3,7 @@ package org.jobrunr.storage.nosql.mongo;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoException;
 import com.mongodb.MongoWriteException;
+import com.mongodb.ReadPreference;
 import com.mongodb.ServerAddress;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
@@ -27,8 +28,10 @@ import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.JobListVersioner;
+import org.jobrunr.jobs.JobSummary;
 import org.jobrunr.jobs.JobVersioner;
 import org.jobrunr.jobs.RecurringJob;
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.AbstractStorageProvider;
@@ -36,14 +39,19 @@ import org.jobrunr.storage.BackgroundJobServerStatus;
 import org.jobrunr.storage.ConcurrentJobModificationException;
 import org.jobrunr.storage.JobNotFoundException;
 import org.jobrunr.storage.JobRunrMetadata;
+import org.jobrunr.storage.JobSearchQuery;
 import org.jobrunr.storage.JobStats;
+import org.jobrunr.storage.Page;
 import org.jobrunr.storage.RecurringJobsResult;
 import org.jobrunr.storage.ServerTimedOutException;
 import org.jobrunr.storage.StorageException;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
 import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
+import org.jobrunr.storage.navigation.PageRequest;
 import org.jobrunr.storage.nosql.NoSqlStorageProvider;
 import org.jobrunr.storage.nosql.mongo.mapper.BackgroundJobServerStatusDocumentMapper;
+import org.jobrunr.storage.nosql.mongo.mapper.JobDashboardLogEntryDocumentMapper;
 import org.jobrunr.storage.nosql.mongo.mapper.JobDocumentMapper;
 import org.jobrunr.storage.nosql.mongo.mapper.MetadataDocumentMapper;
 import org.jobrunr.storage.nosql.mongo.mapper.MongoDBAmountRequestMapper;
@@ -53,6 +61,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -70,9 +79,12 @@ import static com.mongodb.client.model.Aggregates.project;
 import static com.mongodb.client.model.Aggregates.sort;
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.exists;
+import static com.mongodb.client.model.Filters.gt;
 import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.lt;
 import static com.mongodb.client.model.Filters.ne;
+import static com.mongodb.client.model.Filters.regex;
 import static com.mongodb.client.model.Projections.excludeId;
 import static com.mongodb.client.model.Projections.fields;
 import static com.mongodb.client.model.Projections.include;
@@ -98,6 +110,7 @@ import static org.jobrunr.storage.StorageProviderUtils.BackgroundJobServers;
 import static org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
 import static org.jobrunr.storage.StorageProviderUtils.DatabaseOptions.CREATE;
 import static org.jobrunr.storage.StorageProviderUtils.DatabaseOptions.SKIP_CREATE;
+import static org.jobrunr.storage.StorageProviderUtils.JobDashboardLogs;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_UPDATED_AT;
 import static org.jobrunr.storage.StorageProviderUtils.Metadata;
@@ -120,6 +133,7 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
     private final MongoClient mongoClient;
     private final MongoDatabase jobrunrDatabase;
     private final MongoCollection<Document> jobCollection;
+    private final MongoCollection<Document> jobDashboardLogCollection;
     private final MongoCollection<Document> recurringJobCollection;
     private final MongoCollection<Document> backgroundJobServerCollection;
     private final MongoCollection<Document> metadataCollection;
@@ -128,6 +142,8 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
     private JobDocumentMapper jobDocumentMapper;
     private BackgroundJobServerStatusDocumentMapper backgroundJobServerStatusDocumentMapper;
     private MetadataDocumentMapper metadataDocumentMapper;
+    private JobDashboardLogEntryDocumentMapper jobDashboardLogEntryDocumentMapper;
+    private ReadPreference readPreference;
 
     public MongoDBStorageProvider(String hostName, int port) {
         this(MongoClients.create(
@@ -175,11 +191,13 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         this.databaseName = ofNullable(dbName).orElse(DEFAULT_DB_NAME);
         this.collectionPrefix = collectionPrefix;
         this.mongoClient = mongoClient;
+        this.readPreference = ReadPreference.primary();
 
         setUpStorageProvider(databaseOptions);
 
         jobrunrDatabase = mongoClient.getDatabase(databaseName);
         jobCollection = jobrunrDatabase.getCollection(elementPrefixer(collectionPrefix, Jobs.NAME), Document.class);
+        jobDashboardLogCollection = jobrunrDatabase.getCollection(elementPrefixer(collectionPrefix, JobDashboardLogs.NAME), Document.class);
         recurringJobCollection = jobrunrDatabase.getCollection(elementPrefixer(collectionPrefix, RecurringJobs.NAME), Document.class);
         backgroundJobServerCollection = jobrunrDatabase.getCollection(elementPrefixer(collectionPrefix, BackgroundJobServers.NAME), Document.class);
         metadataCollection = jobrunrDatabase.getCollection(elementPrefixer(collectionPrefix, Metadata.NAME), Document.class);
@@ -190,6 +208,17 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         this.jobDocumentMapper = new JobDocumentMapper(jobMapper);
         this.backgroundJobServerStatusDocumentMapper = new BackgroundJobServerStatusDocumentMapper();
         this.metadataDocumentMapper = new MetadataDocumentMapper();
+        this.jobDashboardLogEntryDocumentMapper = new JobDashboardLogEntryDocumentMapper();
+    }
+
+    /**
+     * Routes the staleness-tolerant reads of the dashboard and the metrics (job stats, paged job lists and background job servers)
+     * using the given {@link ReadPreference}, e.g. {@link ReadPreference#secondaryPreferred()}. Claiming and updating jobs always uses the primary.
+     *
+     * @param readPreference the {@link ReadPreference} to use for dashboard and metrics reads.
+     */
+    public void setReadPreference(ReadPreference readPreference) {
+        this.readPreference = readPreference;
     }
 
     @Override
@@ -227,6 +256,7 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
     @Override
     public List<BackgroundJobServerStatus> getBackgroundJobServers() {
         return this.backgroundJobServerCollection
+                .withReadPreference(readPreference)
                 .find()
                 .sort(ascending(BackgroundJobServers.FIELD_FIRST_HEARTBEAT))
                 .map(backgroundJobServerStatusDocumentMapper::toBackgroundJobServerStatus)
@@ -320,6 +350,7 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
     @Override
     public int deletePermanently(UUID id) {
         final DeleteResult result = jobCollection.deleteOne(eq(toMongoId(Jobs.FIELD_ID), id));
+        jobDashboardLogCollection.deleteMany(eq(JobDashboardLogs.FIELD_JOB_ID, id));
         final int deletedCount = (int) result.getDeletedCount();
         notifyJobStatsOnChangeListenersIf(deletedCount > 0);
         return deletedCount;
@@ -334,6 +365,25 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         throw new JobNotFoundException(id);
     }
 
+    @Override
+    public List<Job> getJobsByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+        return jobCollection.find(in(toMongoId(Jobs.FIELD_ID), ids))
+                .projection(include(Jobs.FIELD_JOB_AS_JSON))
+                .map(jobDocumentMapper::toJob)
+                .into(new ArrayList<>());
+    }
+
+    @Override
+    public Map<UUID, Integer> getJobVersions(Collection<UUID> ids) {
+        final Map<UUID, Integer> result = new HashMap<>();
+        if (ids.isEmpty()) return result;
+        jobCollection.find(in(toMongoId(Jobs.FIELD_ID), ids))
+                .projection(include(toMongoId(Jobs.FIELD_ID), Jobs.FIELD_VERSION))
+                .forEach(document -> result.put(getIdAsUUID(document), document.getInteger(Jobs.FIELD_VERSION)));
+        return result;
+    }
+
     @Override
     public long countJobs(StateName state) {
         return jobCollection.countDocuments(eq(Jobs.FIELD_STATE, state.name()));
@@ -349,6 +399,112 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         return findJobs(eq(Jobs.FIELD_STATE, state.name()), amountRequest);
     }
 
+    @Override
+    public Page<Job> getJobs(StateName state, PageRequest pageRequest) {
+        final MongoCollection<Document> jobCollectionForReads = jobCollection.withReadPreference(readPreference);
+        long totalJobs = pageRequest.getApproximateTotal() != null ? pageRequest.getApproximateTotal() : jobCollectionForReads.countDocuments(eq(Jobs.FIELD_STATE, state.name()));
+        if (totalJobs == 0) return pageRequest.emptyPage();
+        return pageRequest.mapToNewPage(totalJobs, findJobs(jobCollectionForReads, eq(Jobs.FIELD_STATE, state.name()), pageRequest));
+    }
+
+    @Override
+    public Page<JobSummary> getJobSummaries(StateName state, PageRequest pageRequest) {
+        final MongoCollection<Document> jobCollectionForReads = jobCollection.withReadPreference(readPreference);
+        long totalJobs = pageRequest.getApproximateTotal() != null ? pageRequest.getApproximateTotal() : jobCollectionForReads.countDocuments(eq(Jobs.FIELD_STATE, state.name()));
+        if (totalJobs == 0) return pageRequest.emptyPage();
+        return pageRequest.mapToNewPage(totalJobs, jobCollectionForReads
+                .find(pageRequestMapper.mapToQuery(eq(Jobs.FIELD_STATE, state.name()), pageRequest))
+                .sort(pageRequestMapper.mapToSort(pageRequest))
+                .skip((pageRequest instanceof OffsetBasedPageRequest) ? (int) ((OffsetBasedPageRequest) pageRequest).getOffset() : 0)
+                .limit(pageRequest.getLimit())
+                .projection(include(toMongoId(Jobs.FIELD_ID), Jobs.FIELD_JOB_NAME, Jobs.FIELD_JOB_SIGNATURE, Jobs.FIELD_LABELS, Jobs.FIELD_STATE, Jobs.FIELD_CREATED_AT, Jobs.FIELD_UPDATED_AT, Jobs.FIELD_SCHEDULED_AT, Jobs.FIELD_RECURRING_JOB_ID))
+                .map(jobDocumentMapper::toJobSummary)
+                .into(new ArrayList<>()));
+    }
+
+    @Override
+    public boolean supportsSearchingJobs() {
+        return true;
+    }
+
+    @Override
+    public Page<JobSummary> searchJobSummaries(JobSearchQuery query, KeysetBasedPageRequest pageRequest) {
+        final MongoCollection<Document> jobCollectionForReads = jobCollection.withReadPreference(readPreference);
+        final Bson searchFilter = toSearchFilter(query);
+        long totalJobs = pageRequest.getApproximateTotal() != null ? pageRequest.getApproximateTotal() : jobCollectionForReads.countDocuments(searchFilter);
+        if (totalJobs == 0) return pageRequest.emptyPage();
+        return pageRequest.mapToNewPage(totalJobs, jobCollectionForReads
+                .find(pageRequestMapper.mapToQuery(searchFilter, pageRequest))
+                .sort(pageRequestMapper.mapToSort(pageRequest))
+                .limit(pageRequest.getLimit())
+                .projection(include(toMongoId(Jobs.FIELD_ID), Jobs.FIELD_JOB_NAME, Jobs.FIELD_JOB_SIGNATURE, Jobs.FIELD_LABELS, Jobs.FIELD_STATE, Jobs.FIELD_CREATED_AT, Jobs.FIELD_UPDATED_AT, Jobs.FIELD_SCHEDULED_AT, Jobs.FIELD_RECURRING_JOB_ID))
+                .map(jobDocumentMapper::toJobSummary)
+                .into(new ArrayList<>()));
+    }
+
+    @Override
+    public UUID backfillJobSearchFields(UUID afterJobId, int batchSize) {
+        // why: jobs saved by a previous version of JobRunr have no labels field, the field is always present for newer jobs
+        final Bson withoutSearchFields = afterJobId == null
+                ? exists(Jobs.FIELD_LABELS, false)
+                : and(exists(Jobs.FIELD_LABELS, false), gt(toMongoId(Jobs.FIELD_ID), afterJobId));
+        final List<Job> jobs = jobCollection.find(withoutSearchFields)
+                .sort(ascending(toMongoId(Jobs.FIELD_ID)))
+                .limit(batchSize)
+                .projection(include(Jobs.FIELD_JOB_AS_JSON))
+                .map(jobDocumentMapper::toJob)
+                .into(new ArrayList<>());
+        if (jobs.isEmpty()) return null;
+
+        jobCollection.bulkWrite(jobs.stream().map(jobDocumentMapper::toUpdateSearchFieldsModel).collect(toList()));
+        return jobs.get(jobs.size() - 1).getId();
+    }
+
+    @Override
+    public boolean supportsJobDashboardLogEntries() {
+        return true;
+    }
+
+    @Override
+    public void saveJobDashboardLogEntries(List<JobDashboardLogEntry> logEntries) {
+        if (logEntries.isEmpty()) return;
+
+        try {
+            jobDashboardLogCollection.insertMany(logEntries.stream().map(jobDashboardLogEntryDocumentMapper::toInsertDocument).collect(toList()));
+        } catch (MongoException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public List<JobDashboardLogEntry> getJobDashboardLogLines(UUID jobId, int stateIndex, int afterSequenceNbr, int limit) {
+        return jobDashboardLogCollection
+                .withReadPreference(readPreference)
+                .find(and(
+                        eq(JobDashboardLogs.FIELD_JOB_ID, jobId),
+                        eq(JobDashboardLogs.FIELD_STATE_INDEX, stateIndex),
+                        gt(JobDashboardLogs.FIELD_SEQUENCE_NBR, afterSequenceNbr),
+                        ne(JobDashboardLogs.FIELD_ENTRY_TYPE, JobDashboardLogEntry.Type.PROGRESS.name())))
+                .sort(ascending(JobDashboardLogs.FIELD_SEQUENCE_NBR))
+                .limit(limit)
+                .map(jobDashboardLogEntryDocumentMapper::toJobDashboardLogEntry)
+                .into(new ArrayList<>());
+    }
+
+    @Override
+    public JobDashboardLogEntry getJobDashboardProgress(UUID jobId, int stateIndex) {
+        return jobDashboardLogCollection
+                .withReadPreference(readPreference)
+                .find(and(
+                        eq(JobDashboardLogs.FIELD_JOB_ID, jobId),
+                        eq(JobDashboardLogs.FIELD_STATE_INDEX, stateIndex),
+                        eq(JobDashboardLogs.FIELD_ENTRY_TYPE, JobDashboardLogEntry.Type.PROGRESS.name())))
+                .sort(descending(JobDashboardLogs.FIELD_SEQUENCE_NBR))
+                .limit(1)
+                .map(jobDashboardLogEntryDocumentMapper::toJobDashboardLogEntry)
+                .first();
+    }
+
     @Override
     public List<Job> getCarbonAwareJobList(Instant deadlineBefore, AmountRequest amountRequest) {
         return findJobs(and(eq(Jobs.FIELD_STATE, AWAITING), lt(Jobs.FIELD_SCHEDULED_AT, toMicroSeconds(deadlineBefore))), amountRequest);
@@ -399,7 +555,9 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
 
     @Override
     public int deleteJobsPermanently(StateName state, Instant updatedBefore) {
-        final DeleteResult deleteResult = jobCollection.deleteMany(and(eq(Jobs.FIELD_STATE, state.name()), lt(FIELD_UPDATED_AT, toMicroSeconds(updatedBefore))));
+        final Bson jobsToDelete = and(eq(Jobs.FIELD_STATE, state.name()), lt(FIELD_UPDATED_AT, toMicroSeconds(updatedBefore)));
+        deleteJobDashboardLogEntriesOfJobs(jobsToDelete);
+        final DeleteResult deleteResult = jobCollection.deleteMany(jobsToDelete);
         final long deletedCount = deleteResult.getDeletedCount();
         notifyJobStatsOnChangeListenersIf(deletedCount > 0);
         return (int) deletedCount;
@@ -461,11 +619,20 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
 
     @Override
     public JobStats getJobStats() {
+        return getJobStats(this::queryJobStats);
+    }
+
+    @Override
+    public void publishTotalAmountOfSucceededJobs(int amount) {
+        metadataCollection.updateOne(eq(toMongoId(Metadata.FIELD_ID), Metadata.STATS_ID), Updates.inc(Metadata.FIELD_VALUE, amount), new UpdateOptions().upsert(true));
+    }
+
+    private JobStats queryJobStats() {
         Instant instant = Instant.now();
-        final Document succeededJobStats = metadataCollection.find(eq(toMongoId(Metadata.FIELD_ID), Metadata.STATS_ID)).first();
+        final Document succeededJobStats = metadataCollection.withReadPreference(readPreference).find(eq(toMongoId(Metadata.FIELD_ID), Metadata.STATS_ID)).first();
         final long allTimeSucceededCount = (succeededJobStats != null ? ((Number) succeededJobStats.get(Metadata.FIELD_VALUE)).longValue() : 0L);
 
-        final List<Document> stateAggregation = jobCollection.aggregate(asList(
+        final List<Document> stateAggregation = jobCollection.withReadPreference(readPreference).aggregate(asList(
                         match(ne(Jobs.FIELD_STATE, null)),
                         project(fields(excludeId(), include(Jobs.FIELD_STATE))),
                         group("$state", Accumulators.sum(Jobs.FIELD_STATE, 1)),
@@ -482,8 +649,8 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         Long deletedCount = getCount(DELETED, stateAggregation);
 
         final long total = scheduledCount + enqueuedCount + processingCount + succeededCount + failedCount;
-        final int recurringJobCount = (int) recurringJobCollection.countDocuments();
-        final int backgroundJobServerCount = (int) backgroundJobServerCollection.countDocuments();
+        final int recurringJobCount = (int) recurringJobCollection.withReadPreference(readPreference).countDocuments();
+        final int backgroundJobServerCount = (int) backgroundJobServerCollection.withReadPreference(readPreference).countDocuments();
 
         return new JobStats(
                 instant,
@@ -501,24 +668,56 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         );
     }
 
-    @Override
-    public void publishTotalAmountOfSucceededJobs(int amount) {
-        metadataCollection.updateOne(eq(toMongoId(Metadata.FIELD_ID), Metadata.STATS_ID), Updates.inc(Metadata.FIELD_VALUE, amount), new UpdateOptions().upsert(true));
-    }
-
     private Long getCount(StateName stateName, List<Document> aggregates) {
         Predicate<Document> statePredicate = document -> stateName.name().equals(document.get(toMongoId(Jobs.FIELD_ID)));
         BiFunction<Optional<Document>, Integer, Integer> count = (document, defaultValue) -> document.map(doc -> doc.getInteger(Jobs.FIELD_STATE)).orElse(defaultValue);
         return (long) count.apply(aggregates.stream().filter(statePredicate).findFirst(), 0);
     }
 
+    private static Bson toSearchFilter(JobSearchQuery query) {
+        final Bson searchFilter;
+        switch (query.getSearchField()) {
+            case LABEL:
+                searchFilter = eq(Jobs.FIELD_LABELS, query.getValue());
+                break;
+            case JOB_NAME_PREFIX:
+                // an anchored regex without special characters can use the jobName index
+                searchFilter = regex(Jobs.FIELD_JOB_NAME, "^" + query.getValue().replaceAll("[\\\\^$.|?*+()\\[\\]{}]", "\\\\$0"));
+                break;
+            case JOB_SIGNATURE:
+                searchFilter = eq(Jobs.FIELD_JOB_SIGNATURE, query.getValue());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown search field " + query.getSearchField());
+        }
+        return query.getState() != null ? and(eq(Jobs.FIELD_STATE, query.getState().name()), searchFilter) : searchFilter;
+    }
+
     public static String toMongoId(String id) {
         return "_" + id;
     }
 
+    private void deleteJobDashboardLogEntriesOfJobs(Bson jobsToDelete) {
+        final List<UUID> jobIds = new ArrayList<>();
+        for (Document document : jobCollection.find(jobsToDelete).projection(include(toMongoId(Jobs.FIELD_ID)))) {
+            jobIds.add(getIdAsUUID(document));
+            if (jobIds.size() == 1000) {
+                jobDashboardLogCollection.deleteMany(in(JobDashboardLogs.FIELD_JOB_ID, jobIds));
+                jobIds.clear();
+            }
+        }
+        if (!jobIds.isEmpty()) {
+            jobDashboardLogCollection.deleteMany(in(JobDashboardLogs.FIELD_JOB_ID, jobIds));
+        }
+    }
+
     private List<Job> findJobs(Bson query, AmountRequest amountRequest) {
+        return findJobs(jobCollection, query, amountRequest);
+    }
+
+    private List<Job> findJobs(MongoCollection<Document> jobCollection, Bson query, AmountRequest amountRequest) {
         return jobCollection
-                .find(query)
+                .find(pageRequestMapper.mapToQuery(query, amountRequest))
                 .sort(pageRequestMapper.mapToSort(amountRequest))
                 .skip((amountRequest instanceof OffsetBasedPageRequest) ? (int) ((OffsetBasedPageRequest) amountRequest).getOffset() : 0)
                 .limit(amountRequest.getLimit())
@@ -0,0 +1,42 @@
+package org.jobrunr.storage.nosql.mongo.mapper;
+
+import org.bson.Document;
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
+import org.jobrunr.jobs.context.JobDashboardLogEntry.Type;
+
+import java.util.UUID;
+
+import static org.jobrunr.storage.StorageProviderUtils.JobDashboardLogs;
+import static org.jobrunr.storage.nosql.mongo.MongoUtils.fromMicroseconds;
+import static org.jobrunr.storage.nosql.mongo.MongoUtils.toMicroSeconds;
+
+public class JobDashboardLogEntryDocumentMapper {
+
+    public Document toInsertDocument(JobDashboardLogEntry logEntry) {
+        final Document document = new Document();
+        document.put(JobDashboardLogs.FIELD_JOB_ID, logEntry.getJobId());
+        document.put(JobDashboardLogs.FIELD_STATE_INDEX, logEntry.getStateIndex());
+        document.put(JobDashboardLogs.FIELD_SEQUENCE_NBR, logEntry.getSequenceNbr());
+        document.put(JobDashboardLogs.FIELD_ENTRY_TYPE, logEntry.getType().name());
+        document.put(JobDashboardLogs.FIELD_CREATED_AT, toMicroSeconds(logEntry.getCreatedAt()));
+        document.put(JobDashboardLogs.FIELD_MESSAGE, logEntry.getMessage());
+        document.put(JobDashboardLogs.FIELD_TOTAL_AMOUNT, logEntry.getTotalAmount());
+        document.put(JobDashboardLogs.FIELD_SUCCEEDED_AMOUNT, logEntry.getSucceededAmount());
+        document.put(JobDashboardLogs.FIELD_FAILED_AMOUNT, logEntry.getFailedAmount());
+        return document;
+    }
+
+    public JobDashboardLogEntry toJobDashboardLogEntry(Document document) {
+        return new JobDashboardLogEntry(
+                document.get(JobDashboardLogs.FIELD_JOB_ID, UUID.class),
+                document.getInteger(JobDashboardLogs.FIELD_STATE_INDEX),
+                document.getInteger(JobDashboardLogs.FIELD_SEQUENCE_NBR),
+                Type.valueOf(document.getString(JobDashboardLogs.FIELD_ENTRY_TYPE)),
+                fromMicroseconds(document.getLong(JobDashboardLogs.FIELD_CREATED_AT)),
+                document.getString(JobDashboardLogs.FIELD_MESSAGE),
+                document.getLong(JobDashboardLogs.FIELD_TOTAL_AMOUNT),
+                document.getLong(JobDashboardLogs.FIELD_SUCCEEDED_AMOUNT),
+                document.getLong(JobDashboardLogs.FIELD_FAILED_AMOUNT)
+        );
+    }
+}
@@ -6,9 +6,11 @@ import com.mongodb.client.model.UpdateOptions;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.JobSummary;
 import org.jobrunr.jobs.RecurringJob;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.SchedulableState;
+import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.StorageProviderUtils.Jobs;
 import org.jobrunr.storage.StorageProviderUtils.RecurringJobs;
 
@@ -16,6 +18,8 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.jobrunr.storage.nosql.mongo.MongoDBStorageProvider.toMongoId;
+import static org.jobrunr.storage.nosql.mongo.MongoUtils.fromMicroseconds;
+import static org.jobrunr.storage.nosql.mongo.MongoUtils.getIdAsUUID;
 import static org.jobrunr.storage.nosql.mongo.MongoUtils.toMicroSeconds;
 
 public class JobDocumentMapper {
@@ -38,6 +42,8 @@ public class JobDocumentMapper {
             document.put(Jobs.FIELD_SCHEDULED_AT, toMicroSeconds(((SchedulableState) job.getJobState()).getScheduledAt()));
         }
         job.getRecurringJobId().ifPresent(recurringJobId -> document.put(Jobs.FIELD_RECURRING_JOB_ID, recurringJobId));
+        document.put(Jobs.FIELD_JOB_NAME, job.getJobName());
+        document.put(Jobs.FIELD_LABELS, job.getLabels());
         return document;
     }
 
@@ -54,6 +60,13 @@ public class JobDocumentMapper {
         return new Document("$set", document);
     }
 
+    public UpdateOneModel<Document> toUpdateSearchFieldsModel(Job job) {
+        Document document = new Document();
+        document.put(Jobs.FIELD_JOB_NAME, job.getJobName());
+        document.put(Jobs.FIELD_LABELS, job.getLabels());
+        return new UpdateOneModel<>(new Document(toMongoId(Jobs.FIELD_ID), job.getId()), new Document("$set", document));
+    }
+
     public UpdateOneModel<Document> toUpdateOneModel(Job job) {
         Document filterDocument = new Document();
         filterDocument.append(toMongoId(Jobs.FIELD_ID), job.getId());
@@ -73,6 +86,20 @@ public class JobDocumentMapper {
         return jobMapper.deserializeJob(document.get(Jobs.FIELD_JOB_AS_JSON).toString());
     }
 
+    @SuppressWarnings("unchecked")
+    public JobSummary toJobSummary(Document document) {
+        return new JobSummary(
+                getIdAsUUID(document),
+                document.getString(Jobs.FIELD_JOB_NAME),
+                document.getString(Jobs.FIELD_JOB_SIGNATURE),
+                (List<String>) document.get(Jobs.FIELD_LABELS),
+                StateName.valueOf(document.getString(Jobs.FIELD_STATE)),
+                fromMicroseconds(document.getLong(Jobs.FIELD_CREATED_AT)),
+                fromMicroseconds(document.getLong(Jobs.FIELD_UPDATED_AT)),
+                fromMicroseconds(document.getLong(Jobs.FIELD_SCHEDULED_AT)),
+                document.getString(Jobs.FIELD_RECURRING_JOB_ID));
+    }
+
     public Document toInsertDocument(RecurringJob recurringJob) {
         final Document document = new Document();
         document.put(toMongoId(RecurringJobs.FIELD_ID), recurringJob.getId());
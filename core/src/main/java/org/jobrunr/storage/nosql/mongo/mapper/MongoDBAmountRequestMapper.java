@@ -2,15 +2,25 @@ package org.jobrunr.storage.nosql.mongo.mapper;
 
 import com.mongodb.client.model.Sorts;
 import org.bson.conversions.Bson;
+import org.jobrunr.storage.StorageProviderUtils.Jobs;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
 import org.jobrunr.storage.navigation.OrderTerm;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.lt;
+import static com.mongodb.client.model.Filters.or;
 import static com.mongodb.client.model.Sorts.ascending;
 import static com.mongodb.client.model.Sorts.descending;
 import static org.jobrunr.jobs.Job.ALLOWED_SORT_COLUMNS;
+import static org.jobrunr.storage.nosql.mongo.MongoDBStorageProvider.toMongoId;
+import static org.jobrunr.storage.nosql.mongo.MongoUtils.toMicroSeconds;
 
 public class MongoDBAmountRequestMapper {
 
@@ -20,10 +30,30 @@ public class MongoDBAmountRequestMapper {
         for (OrderTerm orderTerm : orderTerms) {
             result.add(OrderTerm.Order.ASC == orderTerm.getOrder() ? ascending(orderTerm.getFieldName()) : descending(orderTerm.getFieldName()));
         }
+        if (amountRequest instanceof KeysetBasedPageRequest) {
+            final OrderTerm seekOrderTerm = ((KeysetBasedPageRequest) amountRequest).getSeekOrderTerm();
+            result.add(OrderTerm.Order.ASC == seekOrderTerm.getOrder() ? ascending(toMongoId(Jobs.FIELD_ID)) : descending(toMongoId(Jobs.FIELD_ID)));
+        }
         if (result.size() == 1) {
             return result.get(0);
         }
         return Sorts.orderBy(result);
     }
 
+    public Bson mapToQuery(Bson query, AmountRequest amountRequest) {
+        if (!(amountRequest instanceof KeysetBasedPageRequest) || ((KeysetBasedPageRequest) amountRequest).getBoundary() == null) {
+            return query;
+        }
+
+        final KeysetBasedPageRequest keysetBasedPageRequest = (KeysetBasedPageRequest) amountRequest;
+        final OrderTerm seekOrderTerm = keysetBasedPageRequest.getSeekOrderTerm();
+        final String seekField = seekOrderTerm.getFieldName();
+        final long boundary = toMicroSeconds(keysetBasedPageRequest.getBoundary());
+        final UUID boundaryId = keysetBasedPageRequest.getBoundaryId();
+        if (OrderTerm.Order.ASC == seekOrderTerm.getOrder()) {
+            return and(query, or(gt(seekField, boundary), and(eq(seekField, boundary), gt(toMongoId(Jobs.FIELD_ID), boundaryId))));
+        }
+        return and(query, or(lt(seekField, boundary), and(eq(seekField, boundary), lt(toMongoId(Jobs.FIELD_ID), boundaryId))));
+    }
+
 }
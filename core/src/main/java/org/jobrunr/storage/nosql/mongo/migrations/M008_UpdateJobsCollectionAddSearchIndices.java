@@ -0,0 +1,40 @@
+package org.jobrunr.storage.nosql.mongo.migrations;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import org.bson.Document;
+import org.jobrunr.storage.StorageProviderUtils.Jobs;
+
+import static com.mongodb.client.model.Indexes.ascending;
+import static com.mongodb.client.model.Indexes.compoundIndex;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_JOB_NAME;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_JOB_SIGNATURE;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_LABELS;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_UPDATED_AT;
+import static org.jobrunr.storage.StorageProviderUtils.elementPrefixer;
+
+public class M008_UpdateJobsCollectionAddSearchIndices extends MongoMigration {
+
+    @Override
+    public void runMigration(MongoDatabase jobrunrDatabase, String collectionPrefix) {
+        String collectionName = elementPrefixer(collectionPrefix, Jobs.NAME);
+
+        MongoCollection<Document> jobCollection = jobrunrDatabase.getCollection(collectionName, Document.class);
+
+        // multikey idx for searching jobs by label
+        createIndex(jobCollection,
+                compoundIndex(ascending(FIELD_LABELS), ascending(FIELD_UPDATED_AT)),
+                new IndexOptions().name("jobsByLabelIdx"));
+
+        // idx for searching jobs by the start of their name
+        createIndex(jobCollection,
+                ascending(FIELD_JOB_NAME),
+                new IndexOptions().name("jobsByJobNameIdx"));
+
+        // idx for searching jobs by their signature
+        createIndex(jobCollection,
+                compoundIndex(ascending(FIELD_JOB_SIGNATURE), ascending(FIELD_UPDATED_AT)),
+                new IndexOptions().name("jobsByJobSignatureIdx"));
+    }
+}
@@ -0,0 +1,28 @@
+package org.jobrunr.storage.nosql.mongo.migrations;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import org.bson.Document;
+import org.jobrunr.storage.StorageProviderUtils.JobDashboardLogs;
+
+import static com.mongodb.client.model.Indexes.ascending;
+import static com.mongodb.client.model.Indexes.compoundIndex;
+import static org.jobrunr.storage.StorageProviderUtils.JobDashboardLogs.FIELD_JOB_ID;
+import static org.jobrunr.storage.StorageProviderUtils.JobDashboardLogs.FIELD_SEQUENCE_NBR;
+import static org.jobrunr.storage.StorageProviderUtils.JobDashboardLogs.FIELD_STATE_INDEX;
+import static org.jobrunr.storage.StorageProviderUtils.elementPrefixer;
+
+public class M009_CreateJobDashboardLogsCollection extends MongoMigration {
+
+    @Override
+    public void runMigration(MongoDatabase jobrunrDatabase, String collectionPrefix) {
+        String collectionName = elementPrefixer(collectionPrefix, JobDashboardLogs.NAME);
+        createCollection(jobrunrDatabase, collectionName);
+
+        MongoCollection<Document> jobDashboardLogsCollection = jobrunrDatabase.getCollection(collectionName, Document.class);
+        createIndex(jobDashboardLogsCollection,
+                compoundIndex(ascending(FIELD_JOB_ID), ascending(FIELD_STATE_INDEX), ascending(FIELD_SEQUENCE_NBR)),
+                new IndexOptions().name("jobLogsByJobIdIdx").unique(true));
+    }
+}
@@ -51,7 +51,7 @@ import static org.jobrunr.utils.StringUtils.isNullOrEmpty;
 public class DatabaseCreator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseCreator.class);
-    private static final String[] JOBRUNR_TABLES = new String[]{"jobrunr_jobs", "jobrunr_recurring_jobs", "jobrunr_backgroundjobservers", "jobrunr_metadata"};
+    private static final String[] JOBRUNR_TABLES = new String[]{"jobrunr_jobs", "jobrunr_job_labels", "jobrunr_job_logs", "jobrunr_recurring_jobs", "jobrunr_backgroundjobservers", "jobrunr_metadata"};
 
     private final ConnectionProvider connectionProvider;
     private final TablePrefixStatementUpdater tablePrefixStatementUpdater;
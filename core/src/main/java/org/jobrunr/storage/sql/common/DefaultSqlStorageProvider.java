@@ -1,7 +1,9 @@
 package org.jobrunr.storage.sql.common;
 
 import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.JobSummary;
 import org.jobrunr.jobs.RecurringJob;
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
 import org.jobrunr.jobs.filters.JobFilterUtils;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.StateName;
@@ -11,15 +13,20 @@ import org.jobrunr.storage.BackgroundJobServerStatus;
 import org.jobrunr.storage.ConcurrentJobModificationException;
 import org.jobrunr.storage.JobNotFoundException;
 import org.jobrunr.storage.JobRunrMetadata;
+import org.jobrunr.storage.JobSearchQuery;
 import org.jobrunr.storage.JobStats;
+import org.jobrunr.storage.Page;
 import org.jobrunr.storage.RecurringJobsResult;
 import org.jobrunr.storage.StorageException;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
 import org.jobrunr.storage.StorageProviderUtils.RecurringJobs;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
+import org.jobrunr.storage.navigation.PageRequest;
 import org.jobrunr.storage.sql.SqlStorageProvider;
 import org.jobrunr.storage.sql.common.db.Dialect;
 import org.jobrunr.storage.sql.common.db.Transaction;
+import org.jobrunr.storage.sql.common.db.UnitOfWorkConnectionProvider;
 import org.jobrunr.utils.resilience.RateLimiter;
 
 import javax.sql.DataSource;
@@ -27,7 +34,10 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -38,15 +48,22 @@ import static org.jobrunr.jobs.states.StateName.PROCESSING;
 import static org.jobrunr.jobs.states.StateName.SCHEDULED;
 import static org.jobrunr.storage.StorageProviderUtils.DatabaseOptions.CREATE;
 import static org.jobrunr.storage.StorageProviderUtils.DatabaseOptions.SKIP_CREATE;
+import static org.jobrunr.utils.CollectionUtils.partition;
 import static org.jobrunr.utils.resilience.RateLimiter.Builder.rateLimit;
 import static org.jobrunr.utils.resilience.RateLimiter.SECOND;
 
 public class DefaultSqlStorageProvider extends AbstractStorageProvider implements SqlStorageProvider {
 
+    // Oracle does not allow more than 1000 expressions in an IN list
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
     protected final DataSource dataSource;
     protected final Dialect dialect;
     protected final String tablePrefix;
+    private final UnitOfWorkConnectionProvider connectionProvider;
+    private volatile DataSource readOnlyDataSource;
     private JobMapper jobMapper;
+    private JobTable.Binders jobTableBinders;
 
     public DefaultSqlStorageProvider(DataSource dataSource, Dialect dialect, DatabaseOptions databaseOptions) {
         this(dataSource, dialect, databaseOptions, rateLimit().at1Request().per(SECOND));
@@ -65,12 +82,24 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         this.dataSource = dataSource;
         this.dialect = dialect;
         this.tablePrefix = tablePrefix;
+        this.connectionProvider = new UnitOfWorkConnectionProvider(dataSource);
         setUpStorageProvider(databaseOptions);
     }
 
     @Override
     public void setJobMapper(JobMapper jobMapper) {
         this.jobMapper = jobMapper;
+        this.jobTableBinders = new JobTable.Binders(dialect, tablePrefix, jobMapper);
+    }
+
+    /**
+     * Routes the staleness-tolerant reads of the dashboard and the metrics (job stats, paged job lists and background job servers)
+     * to the given read-only {@link DataSource}, e.g. one pointing to a read replica. Claiming and updating jobs always uses the primary {@link DataSource}.
+     *
+     * @param readOnlyDataSource the {@link DataSource} to use for dashboard and metrics reads.
+     */
+    public void setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
     }
 
     @Override
@@ -84,9 +113,14 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         }
     }
 
+    @Override
+    public UnitOfWork startUnitOfWork() {
+        return connectionProvider.startUnitOfWork();
+    }
+
     @Override
     public void announceBackgroundJobServer(BackgroundJobServerStatus serverStatus) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             backgroundJobServerTable(conn).announce(serverStatus);
             transaction.commit();
         } catch (SQLException e) {
@@ -96,7 +130,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public boolean signalBackgroundJobServerAlive(BackgroundJobServerStatus serverStatus) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             final boolean isServerAlive = backgroundJobServerTable(conn).signalServerAlive(serverStatus);
             transaction.commit();
             return isServerAlive;
@@ -107,7 +141,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public void signalBackgroundJobServerStopped(BackgroundJobServerStatus serverStatus) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             backgroundJobServerTable(conn).signalServerStopped(serverStatus);
             transaction.commit();
         } catch (SQLException e) {
@@ -118,7 +152,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public List<BackgroundJobServerStatus> getBackgroundJobServers() {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getReadOnlyConnection()) {
             return backgroundJobServerTable(conn).getAll();
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -127,7 +161,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public UUID getLongestRunningBackgroundJobServerId() {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return backgroundJobServerTable(conn).getLongestRunningBackgroundJobServerId();
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -136,7 +170,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public int removeTimedOutBackgroundJobServers(Instant heartbeatOlderThan) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             final int deletedBackgroundJobServers = backgroundJobServerTable(conn).removeAllWithLastHeartbeatOlderThan(heartbeatOlderThan);
             transaction.commit();
             return deletedBackgroundJobServers;
@@ -147,7 +181,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public void saveMetadata(JobRunrMetadata metadata) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             metadataTable(conn).save(metadata);
             transaction.commit();
             notifyMetadataChangeListeners();
@@ -158,7 +192,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public List<JobRunrMetadata> getMetadata(String name) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return metadataTable(conn).getAll(name);
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -167,7 +201,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public JobRunrMetadata getMetadata(String name, String owner) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return metadataTable(conn).get(name, owner);
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -176,7 +210,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public void deleteMetadata(String name) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             final int amountDeleted = metadataTable(conn).deleteByName(name);
             transaction.commit();
             notifyMetadataChangeListeners(amountDeleted > 0);
@@ -187,7 +221,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public void deleteMetadata(String name, String owner) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             final int amountDeleted = metadataTable(conn).deleteByNameAndOwner(name, owner);
             transaction.commit();
             notifyMetadataChangeListeners(amountDeleted > 0);
@@ -198,7 +232,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public Job save(Job jobToSave) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             final Job savedJob = jobTable(conn).save(jobToSave);
             transaction.commit();
             notifyJobStatsOnChangeListeners();
@@ -210,7 +244,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public List<Job> save(List<Job> jobs) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             try {
                 final List<Job> savedJobs = jobTable(conn).save(jobs);
                 transaction.commit();
@@ -227,9 +261,30 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         }
     }
 
+    @Override
+    public boolean supportsSavingInTransaction() {
+        return true;
+    }
+
+    @Override
+    public List<Job> saveInTransaction(Connection connection, List<Job> jobs) {
+        if (jobs.stream().anyMatch(job -> job.getVersion() != 0)) {
+            throw new IllegalArgumentException("Only new jobs can be saved within the transaction of the caller.");
+        }
+        try {
+            if (connection.getAutoCommit()) {
+                throw new IllegalStateException("The connection must have auto-commit disabled to save jobs within the transaction of the caller.");
+            }
+            // why: no Transaction here as the caller decides whether the jobs are committed or rolled back
+            return jobTable(connection).save(jobs);
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
     @Override
     public Job getJobById(UUID id) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return jobTable(conn)
                     .selectJobById(id)
                     .orElseThrow(() -> new JobNotFoundException(id));
@@ -238,9 +293,37 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         }
     }
 
+    @Override
+    public List<Job> getJobsByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+        try (final Connection conn = getConnection()) {
+            final List<Job> result = new ArrayList<>();
+            for (List<UUID> idsBatch : partition(ids, MAX_IDS_PER_QUERY)) {
+                result.addAll(jobTable(conn).selectJobsByIds(idsBatch));
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public Map<UUID, Integer> getJobVersions(Collection<UUID> ids) {
+        if (ids.isEmpty()) return new HashMap<>();
+        try (final Connection conn = getConnection()) {
+            final Map<UUID, Integer> result = new HashMap<>();
+            for (List<UUID> idsBatch : partition(ids, MAX_IDS_PER_QUERY)) {
+                result.putAll(jobTable(conn).selectJobVersionsByIds(idsBatch));
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
     @Override
     public long countJobs(StateName state) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return jobTable(conn).countJobs(state);
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -249,7 +332,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public List<Job> getJobList(StateName state, Instant updatedBefore, AmountRequest amountRequest) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return jobTable(conn).selectJobsByState(state, updatedBefore, amountRequest);
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -258,16 +341,107 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public List<Job> getJobList(StateName state, AmountRequest amountRequest) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return jobTable(conn).selectJobsByState(state, amountRequest);
         } catch (SQLException e) {
             throw new StorageException(e);
         }
     }
 
+    @Override
+    public Page<Job> getJobs(StateName state, PageRequest pageRequest) {
+        try (final Connection conn = getReadOnlyConnection()) {
+            final JobTable jobTable = jobTable(conn);
+            long totalJobs = pageRequest.getApproximateTotal() != null ? pageRequest.getApproximateTotal() : jobTable.countJobs(state);
+            if (totalJobs == 0) return pageRequest.emptyPage();
+            return pageRequest.mapToNewPage(totalJobs, jobTable.selectJobsByState(state, pageRequest));
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public Page<JobSummary> getJobSummaries(StateName state, PageRequest pageRequest) {
+        try (final Connection conn = getReadOnlyConnection()) {
+            final JobTable jobTable = jobTable(conn);
+            long totalJobs = pageRequest.getApproximateTotal() != null ? pageRequest.getApproximateTotal() : jobTable.countJobs(state);
+            if (totalJobs == 0) return pageRequest.emptyPage();
+            return pageRequest.mapToNewPage(totalJobs, jobTable.selectJobSummariesByState(state, pageRequest));
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public boolean supportsSearchingJobs() {
+        return true;
+    }
+
+    @Override
+    public Page<JobSummary> searchJobSummaries(JobSearchQuery query, KeysetBasedPageRequest pageRequest) {
+        try (final Connection conn = getReadOnlyConnection()) {
+            final JobTable jobTable = jobTable(conn);
+            long totalJobs = pageRequest.getApproximateTotal() != null ? pageRequest.getApproximateTotal() : jobTable.countJobs(query);
+            if (totalJobs == 0) return pageRequest.emptyPage();
+            return pageRequest.mapToNewPage(totalJobs, jobTable.selectJobSummaries(query, pageRequest));
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public UUID backfillJobSearchFields(UUID afterJobId, int batchSize) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
+            final JobTable jobTable = jobTable(conn);
+            final List<Job> jobs = jobTable.selectJobsWithoutSearchFields(afterJobId, batchSize);
+            if (jobs.isEmpty()) return null;
+
+            jobTable.updateSearchFields(jobs);
+            transaction.commit();
+            return jobs.get(jobs.size() - 1).getId();
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public boolean supportsJobDashboardLogEntries() {
+        return true;
+    }
+
+    @Override
+    public void saveJobDashboardLogEntries(List<JobDashboardLogEntry> logEntries) {
+        if (logEntries.isEmpty()) return;
+
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
+            jobDashboardLogTable(conn).insertLogEntries(logEntries);
+            transaction.commit();
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public List<JobDashboardLogEntry> getJobDashboardLogLines(UUID jobId, int stateIndex, int afterSequenceNbr, int limit) {
+        try (final Connection conn = getReadOnlyConnection()) {
+            return jobDashboardLogTable(conn).selectLogLines(jobId, stateIndex, afterSequenceNbr, limit);
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public JobDashboardLogEntry getJobDashboardProgress(UUID jobId, int stateIndex) {
+        try (final Connection conn = getReadOnlyConnection()) {
+            return jobDashboardLogTable(conn).selectLatestProgress(jobId, stateIndex);
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
     @Override
     public List<Job> getCarbonAwareJobList(Instant deadlineBefore, AmountRequest amountRequest) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return jobTable(conn).selectJobsWithStateBefore(AWAITING, deadlineBefore, amountRequest);
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -276,7 +450,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public List<Job> getScheduledJobs(Instant scheduledBefore, AmountRequest amountRequest) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return jobTable(conn).selectJobsWithStateBefore(SCHEDULED, scheduledBefore, amountRequest);
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -286,12 +460,13 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
     @Override
     public List<Job> getJobsToProcess(BackgroundJobServer backgroundJobServer, AmountRequest amountRequest) {
         JobFilterUtils jobFilterUtils = new JobFilterUtils(backgroundJobServer.getJobFilters());
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
-            List<Job> jobs = jobTable(conn).selectJobsToProcess(amountRequest);
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
+            JobTable jobTable = jobTable(conn);
+            List<Job> jobs = jobTable.selectJobsToProcess(amountRequest);
             try {
                 jobs.forEach(job -> job.startProcessingOn(backgroundJobServer));
                 jobFilterUtils.runOnStateElectionFilter(jobs);
-                List<Job> jobsToProcess = jobTable(conn).save(jobs);
+                List<Job> jobsToProcess = jobTable.save(jobs);
                 transaction.commit();
                 jobFilterUtils.runOnStateAppliedFilters(jobsToProcess);
                 return jobsToProcess.stream().filter(job -> job.hasState(PROCESSING)).collect(toList());
@@ -310,7 +485,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public int deletePermanently(UUID id) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             final int amountDeleted = jobTable(conn).deletePermanently(id);
             transaction.commit();
             notifyJobStatsOnChangeListenersIf(amountDeleted > 0);
@@ -322,7 +497,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public int deleteJobsPermanently(StateName state, Instant updatedBefore) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             final int amountDeleted = jobTable(conn).deleteJobsByStateAndUpdatedBefore(state, updatedBefore);
             transaction.commit();
             notifyJobStatsOnChangeListenersIf(amountDeleted > 0);
@@ -334,7 +509,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public Set<String> getDistinctJobSignatures(StateName... states) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return jobTable(conn).getDistinctJobSignatures(states);
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -343,7 +518,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public Instant getRecurringJobLatestScheduledInstant(String recurringJobId, StateName... states) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return jobTable(conn).getRecurringJobLatestScheduledInstant(recurringJobId, states);
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -352,7 +527,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public RecurringJob saveRecurringJob(RecurringJob recurringJob) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             final RecurringJob savedRecurringJob = recurringJobTable(conn).save(recurringJob);
             transaction.commit();
             return savedRecurringJob;
@@ -363,7 +538,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public RecurringJobsResult getRecurringJobs() {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             return new RecurringJobsResult(recurringJobTable(conn).selectAll());
         } catch (SQLException e) {
             throw new StorageException(e);
@@ -372,7 +547,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public boolean recurringJobsUpdated(Long recurringJobsUpdatedHash) {
-        try (final Connection conn = dataSource.getConnection()) {
+        try (final Connection conn = getConnection()) {
             Long lastModifiedHash = recurringJobTable(conn).selectSum(RecurringJobs.FIELD_CREATED_AT);
             return !recurringJobsUpdatedHash.equals(lastModifiedHash);
         } catch (SQLException e) {
@@ -382,7 +557,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public int deleteRecurringJob(String id) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             final int deletedRecurringJobCount = recurringJobTable(conn).deleteById(id);
             transaction.commit();
             return deletedRecurringJobCount;
@@ -393,16 +568,18 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public JobStats getJobStats() {
-        try (final Connection conn = dataSource.getConnection()) {
-            return jobStatsView(conn).getJobStats();
-        } catch (SQLException e) {
-            throw new StorageException(e);
-        }
+        return getJobStats(() -> {
+            try (final Connection conn = getReadOnlyConnection()) {
+                return jobStatsView(conn).getJobStats();
+            } catch (SQLException e) {
+                throw new StorageException(e);
+            }
+        });
     }
 
     @Override
     public void publishTotalAmountOfSucceededJobs(int amount) {
-        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+        try (final Connection conn = getConnection(); final Transaction transaction = new Transaction(conn)) {
             metadataTable(conn).incrementCounter("succeeded-jobs-counter-cluster", amount);
             transaction.commit();
         } catch (SQLException e) {
@@ -414,8 +591,21 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         return new DatabaseCreator(dataSource, tablePrefix, getClass());
     }
 
+    protected Connection getConnection() throws SQLException {
+        return connectionProvider.getConnection();
+    }
+
+    protected Connection getReadOnlyConnection() throws SQLException {
+        if (readOnlyDataSource == null) return getConnection();
+        return readOnlyDataSource.getConnection();
+    }
+
     protected JobTable jobTable(Connection connection) {
-        return new JobTable(connection, dialect, tablePrefix, jobMapper);
+        return new JobTable(connection, dialect, tablePrefix, jobTableBinders);
+    }
+
+    protected JobDashboardLogTable jobDashboardLogTable(Connection connection) {
+        return new JobDashboardLogTable(connection, dialect, tablePrefix);
     }
 
     protected RecurringJobTable recurringJobTable(Connection connection) {
@@ -0,0 +1,99 @@
+package org.jobrunr.storage.sql.common;
+
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
+import org.jobrunr.jobs.context.JobDashboardLogEntry.Type;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.storage.sql.common.db.Dialect;
+import org.jobrunr.storage.sql.common.db.Sql;
+import org.jobrunr.storage.sql.common.db.SqlResultSet;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.jobrunr.storage.StorageProviderUtils.elementPrefixer;
+
+/**
+ * Append-only side table with the dashboard log lines and progress updates of jobs (see {@link JobDashboardLogEntry}). Rows are only
+ * inserted while a job is processing and are deleted together with the job.
+ */
+public class JobDashboardLogTable extends Sql<JobDashboardLogEntry> {
+
+    public static final String TABLE_NAME = "jobrunr_job_logs";
+
+    private static final String COLUMNS = "jobId, stateIndex, sequenceNbr, entryType, createdAt, message, totalAmount, succeededAmount, failedAmount";
+
+    private final String jobTableName;
+
+    public JobDashboardLogTable(Connection connection, Dialect dialect, String tablePrefix) {
+        this.jobTableName = elementPrefixer(tablePrefix, "jobrunr_jobs");
+        this
+                .using(connection, dialect, tablePrefix, TABLE_NAME)
+                .with("jobId", JobDashboardLogEntry::getJobId)
+                .with("stateIndex", JobDashboardLogEntry::getStateIndex)
+                .with("sequenceNbr", JobDashboardLogEntry::getSequenceNbr)
+                .with("entryType", logEntry -> logEntry.getType().name())
+                .with("createdAt", JobDashboardLogEntry::getCreatedAt)
+                .with("message", JobDashboardLogEntry::getMessage)
+                .with("totalAmount", JobDashboardLogEntry::getTotalAmount)
+                .with("succeededAmount", JobDashboardLogEntry::getSucceededAmount)
+                .with("failedAmount", JobDashboardLogEntry::getFailedAmount);
+    }
+
+    public void insertLogEntries(List<JobDashboardLogEntry> logEntries) throws SQLException {
+        if (logEntries.isEmpty()) return;
+
+        insertAll(logEntries, "into jobrunr_job_logs (" + COLUMNS + ") values (:jobId, :stateIndex, :sequenceNbr, :entryType, :createdAt, :message, :totalAmount, :succeededAmount, :failedAmount)");
+    }
+
+    public List<JobDashboardLogEntry> selectLogLines(UUID jobId, int stateIndex, int afterSequenceNbr, int limit) {
+        return with("jobId", jobId)
+                .with("stateIndex", stateIndex)
+                .with("afterSequenceNbr", afterSequenceNbr)
+                .with("entryType", Type.PROGRESS.name())
+                .with("limit", limit)
+                .select(COLUMNS + " from jobrunr_job_logs where jobId = :jobId and stateIndex = :stateIndex and sequenceNbr > :afterSequenceNbr and entryType <> :entryType ORDER BY sequenceNbr ASC ", dialect.limit())
+                .map(this::toLogEntry)
+                .collect(toList());
+    }
+
+    public JobDashboardLogEntry selectLatestProgress(UUID jobId, int stateIndex) {
+        return with("jobId", jobId)
+                .with("stateIndex", stateIndex)
+                .with("entryType", Type.PROGRESS.name())
+                .with("limit", 1)
+                .select(COLUMNS + " from jobrunr_job_logs where jobId = :jobId and stateIndex = :stateIndex and entryType = :entryType ORDER BY sequenceNbr DESC ", dialect.limit())
+                .map(this::toLogEntry)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public void deleteLogEntries(List<UUID> jobIds) throws SQLException {
+        with("ids", jobIds)
+                .delete("from jobrunr_job_logs where jobId in (" + range(0, jobIds.size()).mapToObj(i -> ":ids-" + i).collect(joining(",")) + ")");
+    }
+
+    public void deleteLogEntriesOfJobsByStateAndUpdatedBefore(StateName state, Instant updatedBefore) throws SQLException {
+        with("state", state)
+                .with("updatedBefore", updatedBefore)
+                .delete("from jobrunr_job_logs where jobId in (select id from " + jobTableName + " where state = :state AND updatedAt <= :updatedBefore)");
+    }
+
+    private JobDashboardLogEntry toLogEntry(SqlResultSet resultSet) {
+        return new JobDashboardLogEntry(
+                resultSet.asUUID("jobId"),
+                resultSet.asInt("stateIndex"),
+                resultSet.asInt("sequenceNbr"),
+                Type.valueOf(resultSet.asString("entryType")),
+                resultSet.asInstant("createdAt"),
+                resultSet.asString("message"),
+                resultSet.asNullableLong("totalAmount"),
+                resultSet.asNullableLong("succeededAmount"),
+                resultSet.asNullableLong("failedAmount"));
+    }
+}
@@ -0,0 +1,76 @@
+package org.jobrunr.storage.sql.common;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.storage.sql.common.db.Dialect;
+import org.jobrunr.storage.sql.common.db.Sql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.jobrunr.storage.StorageProviderUtils.elementPrefixer;
+
+/**
+ * Side table with one row per label of a {@link Job} so jobs can be searched by label using an index instead of scanning the
+ * jobAsJson column. Labels of a job cannot change once it is created, so rows are only inserted when the job is inserted and
+ * deleted together with the job.
+ */
+public class JobLabelTable extends Sql<JobLabelTable.JobLabel> {
+
+    public static final String TABLE_NAME = "jobrunr_job_labels";
+
+    private final String jobTableName;
+
+    public JobLabelTable(Connection connection, Dialect dialect, String tablePrefix) {
+        this.jobTableName = elementPrefixer(tablePrefix, "jobrunr_jobs");
+        this
+                .using(connection, dialect, tablePrefix, TABLE_NAME)
+                .with("jobId", JobLabel::getJobId)
+                .with("label", JobLabel::getLabel);
+    }
+
+    public void insertLabels(List<Job> jobs) throws SQLException {
+        final List<JobLabel> jobLabels = jobs.stream()
+                .flatMap(job -> job.getLabels().stream().map(label -> new JobLabel(job.getId(), label)))
+                .collect(toList());
+        if (jobLabels.isEmpty()) return;
+
+        insertAll(jobLabels, "into jobrunr_job_labels (jobId, label) values (:jobId, :label)");
+    }
+
+    public void deleteLabels(List<UUID> jobIds) throws SQLException {
+        with("ids", jobIds)
+                .delete("from jobrunr_job_labels where jobId in (" + range(0, jobIds.size()).mapToObj(i -> ":ids-" + i).collect(joining(",")) + ")");
+    }
+
+    public void deleteLabelsOfJobsByStateAndUpdatedBefore(StateName state, Instant updatedBefore) throws SQLException {
+        with("state", state)
+                .with("updatedBefore", updatedBefore)
+                .delete("from jobrunr_job_labels where jobId in (select id from " + jobTableName + " where state = :state AND updatedAt <= :updatedBefore)");
+    }
+
+    public static class JobLabel {
+
+        private final UUID jobId;
+        private final String label;
+
+        JobLabel(UUID jobId, String label) {
+            this.jobId = jobId;
+            this.label = label;
+        }
+
+        public UUID getJobId() {
+            return jobId;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+}
@@ -3,12 +3,15 @@ package org.jobrunr.storage.sql.common;
 import org.jobrunr.jobs.AbstractJob;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.JobListVersioner;
+import org.jobrunr.jobs.JobSummary;
 import org.jobrunr.jobs.JobVersioner;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.SchedulableState;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.JobSearchQuery;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
 import org.jobrunr.storage.sql.common.db.ConcurrentSqlModificationException;
 import org.jobrunr.storage.sql.common.db.Dialect;
 import org.jobrunr.storage.sql.common.db.Sql;
@@ -19,50 +22,79 @@ import org.jobrunr.utils.JobUtils;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.IntStream.range;
 import static org.jobrunr.jobs.states.StateName.ENQUEUED;
 import static org.jobrunr.jobs.states.StateName.areAllStateNames;
 import static org.jobrunr.storage.Paging.AmountBasedList.descOnScheduledAt;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_CREATED_AT;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_ID;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_JOB_AS_JSON;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_JOB_NAME;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_JOB_SIGNATURE;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_LABELS;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_RECURRING_JOB_ID;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_SCHEDULED_AT;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_STATE;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_UPDATED_AT;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_VERSION;
+import static org.jobrunr.storage.StorageProviderUtils.elementPrefixer;
 import static org.jobrunr.storage.sql.common.db.ConcurrentSqlModificationException.concurrentDatabaseModificationException;
 import static org.jobrunr.utils.CollectionUtils.asSet;
+import static org.jobrunr.utils.StringUtils.isNullOrEmpty;
 import static org.jobrunr.utils.reflection.ReflectionUtils.cast;
 
 public class JobTable extends Sql<Job> {
 
-    protected static final String INSERT_STATEMENT = "into jobrunr_jobs (id, version, jobAsJson, jobSignature, state, createdAt, updatedAt, scheduledAt, recurringJobId) " +
-            "values (:id, :version, :jobAsJson, :jobSignature, :state, :createdAt, :updatedAt, :scheduledAt, :recurringJobId)";
+    protected static final String INSERT_STATEMENT = "into jobrunr_jobs (id, version, jobAsJson, jobSignature, state, createdAt, updatedAt, scheduledAt, recurringJobId, jobName, labels) " +
+            "values (:id, :version, :jobAsJson, :jobSignature, :state, :createdAt, :updatedAt, :scheduledAt, :recurringJobId, :jobName, :labels)";
+    private static final String JOB_SUMMARY_COLUMNS = "id, jobName, jobSignature, labels, state, createdAt, updatedAt, scheduledAt, recurringJobId";
+    private static final int MAX_JOB_NAME_LENGTH = 512;
+    private static final char LABEL_SEPARATOR = ',';
+    private static final char LABEL_ESCAPE_CHARACTER = '\\';
+    private static final int MULTI_ROW_INSERT_THRESHOLD = 10;
+    private static final String LIKE_ESCAPE_CHARACTER = "!";
     private static final String UPDATE_STATEMENT = "jobrunr_jobs SET version = :version, jobAsJson = :jobAsJson, state = :state, updatedAt =:updatedAt, scheduledAt = :scheduledAt WHERE id = :id and version = :previousVersion";
 
+    private final Connection connection;
+    private final String tablePrefix;
     private final JobMapper jobMapper;
     private final SqlJobPageRequestMapper pageRequestMapper;
+    private final String jobLabelTableName;
+    private JobLabelTable jobLabelTable;
+    private JobDashboardLogTable jobDashboardLogTable;
 
     public JobTable(Connection connection, Dialect dialect, String tablePrefix, JobMapper jobMapper) {
-        this.pageRequestMapper = new SqlJobPageRequestMapper(this, dialect);
-        this.jobMapper = jobMapper;
+        this(connection, dialect, tablePrefix, new Binders(dialect, tablePrefix, jobMapper));
+    }
+
+    public JobTable(Connection connection, Dialect dialect, String tablePrefix, Binders binders) {
+        this.connection = connection;
+        this.tablePrefix = tablePrefix;
+        this.jobMapper = binders.jobMapper;
+        this.pageRequestMapper = binders.pageRequestMapper;
+        this.jobLabelTableName = binders.jobLabelTableName;
         this
                 .using(connection, dialect, tablePrefix, "jobrunr_jobs")
-                .withVersion(AbstractJob::getVersion)
-                .with(FIELD_JOB_AS_JSON, jobMapper::serializeJob)
-                .with(FIELD_JOB_SIGNATURE, JobUtils::getJobSignature)
-                .with(FIELD_SCHEDULED_AT, job -> job.getLastJobStateOfType(SchedulableState.class).map(SchedulableState::getScheduledAt).orElse(null))
-                .with(FIELD_RECURRING_JOB_ID, job -> job.getRecurringJobId().orElse(null));
+                .withParamSuppliers(binders.paramSuppliers);
     }
 
     public JobTable withId(UUID id) {
@@ -70,6 +102,11 @@ public class JobTable extends Sql<Job> {
         return this;
     }
 
+    public JobTable withIds(List<UUID> ids) {
+        with("ids", ids);
+        return this;
+    }
+
     public JobTable withState(StateName state) {
         with(FIELD_STATE, state);
         return this;
@@ -134,6 +171,18 @@ public class JobTable extends Sql<Job> {
                 .findFirst();
     }
 
+    public List<Job> selectJobsByIds(List<UUID> ids) {
+        return withIds(ids)
+                .selectJobs("jobAsJson from jobrunr_jobs where id in (" + range(0, ids.size()).mapToObj(i -> ":ids-" + i).collect(joining(",")) + ")")
+                .collect(toList());
+    }
+
+    public Map<UUID, Integer> selectJobVersionsByIds(List<UUID> ids) {
+        return withIds(ids)
+                .select("id, version from jobrunr_jobs where id in (" + range(0, ids.size()).mapToObj(i -> ":ids-" + i).collect(joining(",")) + ")")
+                .collect(toMap(resultSet -> resultSet.asUUID(FIELD_ID), resultSet -> resultSet.asInt(FIELD_VERSION)));
+    }
+
     public long countJobs(StateName state) throws SQLException {
         return withState(state)
                 .selectCount("from jobrunr_jobs where state = :state");
@@ -141,27 +190,64 @@ public class JobTable extends Sql<Job> {
 
     public List<Job> selectJobsByState(StateName state, AmountRequest amountRequest) {
         return withState(state)
-                .selectJobs("jobAsJson from jobrunr_jobs where state = :state", pageRequestMapper.map(amountRequest))
+                .selectJobs("jobAsJson from jobrunr_jobs where state = :state", pageRequestMapper.map(amountRequest, this))
+                .collect(toList());
+    }
+
+    public List<JobSummary> selectJobSummariesByState(StateName state, AmountRequest amountRequest) {
+        return withState(state)
+                .select(JOB_SUMMARY_COLUMNS + " from jobrunr_jobs where state = :state", pageRequestMapper.map(amountRequest, this))
+                .map(this::toJobSummary)
                 .collect(toList());
     }
 
+    public long countJobs(JobSearchQuery query) throws SQLException {
+        return withSearchQuery(query)
+                .selectCount("from jobrunr_jobs where " + searchCondition(query));
+    }
+
+    public List<JobSummary> selectJobSummaries(JobSearchQuery query, KeysetBasedPageRequest pageRequest) {
+        return withSearchQuery(query)
+                .select(JOB_SUMMARY_COLUMNS + " from jobrunr_jobs where " + searchCondition(query), pageRequestMapper.map(pageRequest, this))
+                .map(this::toJobSummary)
+                .collect(toList());
+    }
+
+    public List<Job> selectJobsWithoutSearchFields(UUID afterJobId, int limit) {
+        with("limit", limit);
+        if (afterJobId == null) {
+            return selectJobs("jobAsJson from jobrunr_jobs where jobName is null ORDER BY id ASC ", dialect.limit())
+                    .collect(toList());
+        }
+        return withId(afterJobId)
+                .selectJobs("jobAsJson from jobrunr_jobs where jobName is null and id > :id ORDER BY id ASC ", dialect.limit())
+                .collect(toList());
+    }
+
+    public void updateSearchFields(List<Job> jobs) throws SQLException {
+        updateAll(jobs, "jobrunr_jobs SET jobName = :jobName, labels = :labels WHERE id = :id");
+        // why: another BackgroundJobServer may be backfilling the same jobs
+        jobLabelTable().deleteLabels(jobs.stream().map(Job::getId).collect(toList()));
+        jobLabelTable().insertLabels(jobs);
+    }
+
     public List<Job> selectJobsToProcess(AmountRequest amountRequest) {
         return withState(ENQUEUED)
-                .selectJobs("jobAsJson from jobrunr_jobs where state = :state", pageRequestMapper.map(amountRequest) + dialect.selectForUpdateSkipLocked())
+                .selectJobs("jobAsJson from jobrunr_jobs where state = :state", pageRequestMapper.map(amountRequest, this) + dialect.selectForUpdateSkipLocked())
                 .collect(toList());
     }
 
     public List<Job> selectJobsByState(StateName state, Instant updatedBefore, AmountRequest amountRequest) {
         return withState(state)
                 .withUpdatedBefore(updatedBefore)
-                .selectJobs("jobAsJson from jobrunr_jobs where state = :state AND updatedAt <= :updatedBefore", pageRequestMapper.map(amountRequest))
+                .selectJobs("jobAsJson from jobrunr_jobs where state = :state AND updatedAt <= :updatedBefore", pageRequestMapper.map(amountRequest, this))
                 .collect(toList());
     }
 
     public List<Job> selectJobsWithStateBefore(StateName state, Instant scheduledBefore, AmountRequest amountRequest) {
         return withState(state)
                 .withScheduledAt(scheduledBefore)
-                .selectJobs("jobAsJson from jobrunr_jobs where state = :state and scheduledAt <= :scheduledAt", pageRequestMapper.map(amountRequest))
+                .selectJobs("jobAsJson from jobrunr_jobs where state = :state and scheduledAt <= :scheduledAt", pageRequestMapper.map(amountRequest, this))
                 .collect(toList());
     }
 
@@ -174,21 +260,26 @@ public class JobTable extends Sql<Job> {
     public Instant getRecurringJobLatestScheduledInstant(String recurringJobId, StateName... states) throws SQLException {
         if (areAllStateNames(states)) {
             return with(FIELD_RECURRING_JOB_ID, recurringJobId)
-                    .select("scheduledAt from jobrunr_jobs where recurringJobId = :recurringJobId AND scheduledAt IS NOT NULL", pageRequestMapper.map(descOnScheduledAt(1)))
+                    .select("scheduledAt from jobrunr_jobs where recurringJobId = :recurringJobId AND scheduledAt IS NOT NULL", pageRequestMapper.map(descOnScheduledAt(1), this))
                     .map(rs -> rs.asInstant("scheduledAt"))
                     .findFirst().orElse(null);
         }
         return with(FIELD_RECURRING_JOB_ID, recurringJobId)
-                .select("scheduledAt FROM jobrunr_jobs WHERE recurringJobId = :recurringJobId AND scheduledAt IS NOT NULL AND state IN (" + stream(states).map(stateName -> "'" + stateName.name() + "'").collect(joining(",")) + ")", pageRequestMapper.map(descOnScheduledAt(1)))
+                .select("scheduledAt FROM jobrunr_jobs WHERE recurringJobId = :recurringJobId AND scheduledAt IS NOT NULL AND state IN (" + stream(states).map(stateName -> "'" + stateName.name() + "'").collect(joining(",")) + ")", pageRequestMapper.map(descOnScheduledAt(1), this))
                 .map(rs -> rs.asInstant("scheduledAt"))
                 .findFirst().orElse(null);
     }
 
     public int deletePermanently(UUID... ids) throws SQLException {
-        return delete("from jobrunr_jobs where id in (" + stream(ids).map(uuid -> "'" + uuid.toString() + "'").collect(joining(",")) + ")");
+        jobLabelTable().deleteLabels(asList(ids));
+        jobDashboardLogTable().deleteLogEntries(asList(ids));
+        return with("ids", asList(ids))
+                .delete("from jobrunr_jobs where id in (" + range(0, ids.length).mapToObj(i -> ":ids-" + i).collect(joining(",")) + ")");
     }
 
     public int deleteJobsByStateAndUpdatedBefore(StateName state, Instant updatedBefore) throws SQLException {
+        jobLabelTable().deleteLabelsOfJobsByStateAndUpdatedBefore(state, updatedBefore);
+        jobDashboardLogTable().deleteLogEntriesOfJobsByStateAndUpdatedBefore(state, updatedBefore);
         return withState(state)
                 .withUpdatedBefore(updatedBefore)
                 .delete("from jobrunr_jobs where state = :state AND updatedAt <= :updatedBefore");
@@ -203,6 +294,7 @@ public class JobTable extends Sql<Job> {
             }
             throw e;
         }
+        jobLabelTable().insertLabels(singletonList(jobToSave));
     }
 
     void updateOneJob(Job jobToSave) throws SQLException {
@@ -217,13 +309,70 @@ public class JobTable extends Sql<Job> {
     }
 
     void insertAllJobs(List<Job> jobs) throws SQLException {
-        insertAll(jobs, "into jobrunr_jobs values (:id, :version, :jobAsJson, :jobSignature, :state, :createdAt, :updatedAt, :scheduledAt, :recurringJobId)");
+        try {
+            if (jobs.size() >= MULTI_ROW_INSERT_THRESHOLD && dialect.maxRowsPerMultiRowInsert() > 1) {
+                insertAllUsingMultiRowValues(jobs, INSERT_STATEMENT);
+            } else {
+                insertAll(jobs, INSERT_STATEMENT);
+            }
+            jobLabelTable().insertLabels(jobs);
+        } catch (ConcurrentSqlModificationException e) {
+            // the jobs that were inserted are committed nonetheless, so their labels must be inserted as well
+            final List<Object> failedJobs = e.getFailedItems();
+            jobLabelTable().insertLabels(jobs.stream().filter(job -> !failedJobs.contains(job)).collect(toList()));
+            throw e;
+        }
     }
 
     void updateAllJobs(List<Job> jobs) throws SQLException {
         updateAll(jobs, "jobrunr_jobs SET version = :version, jobAsJson = :jobAsJson, state = :state, updatedAt =:updatedAt, scheduledAt = :scheduledAt WHERE id = :id and version = :previousVersion");
     }
 
+    private JobTable withSearchQuery(JobSearchQuery query) {
+        if (query.getState() != null) withState(query.getState());
+        if (query.getSearchField() == JobSearchQuery.SearchField.JOB_NAME_PREFIX) {
+            with("searchValue", escapeLikePattern(query.getValue()) + "%");
+        } else {
+            with("searchValue", query.getValue());
+        }
+        return this;
+    }
+
+    private String searchCondition(JobSearchQuery query) {
+        final String stateCondition = query.getState() != null ? " AND state = :state" : "";
+        switch (query.getSearchField()) {
+            case LABEL:
+                return "id in (select jobId from " + jobLabelTableName + " where label = :searchValue)" + stateCondition;
+            case JOB_NAME_PREFIX:
+                return "jobName like :searchValue escape '" + LIKE_ESCAPE_CHARACTER + "'" + stateCondition;
+            case JOB_SIGNATURE:
+                return "jobSignature = :searchValue" + stateCondition;
+            default:
+                throw new IllegalArgumentException("Unknown search field " + query.getSearchField());
+        }
+    }
+
+    private JobLabelTable jobLabelTable() {
+        if (jobLabelTable == null) {
+            jobLabelTable = new JobLabelTable(connection, dialect, tablePrefix);
+        }
+        return jobLabelTable;
+    }
+
+    private JobDashboardLogTable jobDashboardLogTable() {
+        if (jobDashboardLogTable == null) {
+            jobDashboardLogTable = new JobDashboardLogTable(connection, dialect, tablePrefix);
+        }
+        return jobDashboardLogTable;
+    }
+
+    private static String escapeLikePattern(String value) {
+        return value
+                .replace(LIKE_ESCAPE_CHARACTER, LIKE_ESCAPE_CHARACTER + LIKE_ESCAPE_CHARACTER)
+                .replace("%", LIKE_ESCAPE_CHARACTER + "%")
+                .replace("_", LIKE_ESCAPE_CHARACTER + "_");
+    }
+
     private Stream<Job> selectJobs(String statement) {
         return selectJobs(statement, "");
     }
@@ -236,4 +385,83 @@ public class JobTable extends Sql<Job> {
     private Job toJob(SqlResultSet resultSet) {
         return jobMapper.deserializeJob(resultSet.asString("jobAsJson"));
     }
+
+    private JobSummary toJobSummary(SqlResultSet resultSet) {
+        final String labels = resultSet.asString(FIELD_LABELS);
+        return new JobSummary(
+                resultSet.asUUID(FIELD_ID),
+                resultSet.asString(FIELD_JOB_NAME),
+                resultSet.asString(FIELD_JOB_SIGNATURE),
+                isNullOrEmpty(labels) ? emptyList() : splitLabels(labels),
+                StateName.valueOf(resultSet.asString(FIELD_STATE)),
+                resultSet.asInstant(FIELD_CREATED_AT),
+                resultSet.asInstant(FIELD_UPDATED_AT),
+                resultSet.asInstant(FIELD_SCHEDULED_AT),
+                resultSet.asString(FIELD_RECURRING_JOB_ID));
+    }
+
+    // why: labels may contain the separator themselves, so the separator and the escape character are escaped within each label
+    static String joinLabels(List<String> labels) {
+        final StringBuilder result = new StringBuilder();
+        for (String label : labels) {
+            if (result.length() > 0) result.append(LABEL_SEPARATOR);
+            for (char c : label.toCharArray()) {
+                if (c == LABEL_SEPARATOR || c == LABEL_ESCAPE_CHARACTER) result.append(LABEL_ESCAPE_CHARACTER);
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    static List<String> splitLabels(String labels) {
+        final List<String> result = new ArrayList<>();
+        final StringBuilder label = new StringBuilder();
+        boolean escaped = false;
+        for (char c : labels.toCharArray()) {
+            if (escaped) {
+                label.append(c);
+                escaped = false;
+            } else if (c == LABEL_ESCAPE_CHARACTER) {
+                escaped = true;
+            } else if (c == LABEL_SEPARATOR) {
+                result.add(label.toString());
+                label.setLength(0);
+            } else {
+                label.append(c);
+            }
+        }
+        result.add(label.toString());
+        return result;
+    }
+
+    /**
+     * The parts of a {@link JobTable} that do not depend on the {@link Connection}. A storage provider creates them once and reuses
+     * them for every {@link JobTable} so the parameter binders and page request mappers are not recreated for every database call.
+     */
+    public static class Binders {
+
+        private final JobMapper jobMapper;
+        private final Map<String, Function<Job, ?>> paramSuppliers;
+        private final SqlJobPageRequestMapper pageRequestMapper;
+        private final String jobLabelTableName;
+
+        public Binders(Dialect dialect, String tablePrefix, JobMapper jobMapper) {
+            final Map<String, Function<Job, ?>> paramSuppliers = new HashMap<>();
+            paramSuppliers.put(FIELD_VERSION, AbstractJob::getVersion);
+            paramSuppliers.put(FIELD_ID, Job::getId);
+            paramSuppliers.put(FIELD_STATE, Job::getState);
+            paramSuppliers.put(FIELD_CREATED_AT, Job::getCreatedAt);
+            paramSuppliers.put(FIELD_UPDATED_AT, Job::getUpdatedAt);
+            paramSuppliers.put(FIELD_JOB_AS_JSON, jobMapper::serializeJob);
+            paramSuppliers.put(FIELD_JOB_SIGNATURE, JobUtils::getJobSignature);
+            paramSuppliers.put(FIELD_SCHEDULED_AT, job -> job.getLastJobStateOfType(SchedulableState.class).map(SchedulableState::getScheduledAt).orElse(null));
+            paramSuppliers.put(FIELD_RECURRING_JOB_ID, job -> job.getRecurringJobId().orElse(null));
+            paramSuppliers.put(FIELD_JOB_NAME, job -> job.getJobName() != null && job.getJobName().length() > MAX_JOB_NAME_LENGTH ? job.getJobName().substring(0, MAX_JOB_NAME_LENGTH) : job.getJobName());
+            paramSuppliers.put(FIELD_LABELS, job -> job.getLabels().isEmpty() ? null : joinLabels(job.getLabels()));
+            this.jobMapper = jobMapper;
+            this.paramSuppliers = unmodifiableMap(paramSuppliers);
+            this.pageRequestMapper = new SqlJobPageRequestMapper(dialect);
+            this.jobLabelTableName = elementPrefixer(tablePrefix, JobLabelTable.TABLE_NAME);
+        }
+    }
 }
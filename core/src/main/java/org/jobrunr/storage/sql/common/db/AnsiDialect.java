@@ -11,4 +11,9 @@ public class AnsiDialect implements Dialect {
     public String limitAndOffset() {
         return "LIMIT :limit OFFSET :offset";
     }
+
+    @Override
+    public int maxRowsPerMultiRowInsert() {
+        return 100;
+    }
 }
\ No newline at end of file
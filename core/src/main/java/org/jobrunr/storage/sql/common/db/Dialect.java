@@ -23,6 +23,22 @@ public interface Dialect {
         return "";
     }
 
+    /**
+     * Returns the maximum amount of rows that can be inserted using one multi-row {@code INSERT ... VALUES (...), (...)} statement.
+     * A value of 0 means that the database does not support multi-row inserts and JDBC batching is used instead.
+     */
+    default int maxRowsPerMultiRowInsert() {
+        return 0;
+    }
+
+    /**
+     * Returns the maximum amount of parameters one statement may contain or 0 if the database has no such limit. Multi-row inserts are
+     * split so that they never exceed this limit.
+     */
+    default int maxParametersPerStatement() {
+        return 0;
+    }
+
     default String escape(String toEscape) {
         return toEscape;
     }
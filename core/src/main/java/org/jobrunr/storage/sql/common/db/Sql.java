@@ -2,15 +2,20 @@ package org.jobrunr.storage.sql.common.db;
 
 import org.jobrunr.utils.annotations.VisibleFor;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -19,7 +24,11 @@ import java.util.stream.StreamSupport;
 import static java.util.Arrays.stream;
 import static org.jobrunr.JobRunrException.shouldNotHappenException;
 import static org.jobrunr.storage.sql.common.db.ConcurrentSqlModificationException.concurrentDatabaseModificationException;
-import static org.jobrunr.utils.reflection.ReflectionUtils.getValueFromFieldOrProperty;
+import static org.jobrunr.utils.StringUtils.capitalize;
+import static org.jobrunr.utils.reflection.ReflectionUtils.findField;
+import static org.jobrunr.utils.reflection.ReflectionUtils.findMethod;
+import static org.jobrunr.utils.reflection.ReflectionUtils.getValueFromField;
+import static org.jobrunr.utils.reflection.ReflectionUtils.getValueFromGetMethod;
 import static org.jobrunr.utils.reflection.ReflectionUtils.objectContainsFieldOrProperty;
 
 public class Sql<T> {
@@ -28,12 +37,12 @@ public class Sql<T> {
     private static final String DELETE = "delete ";
 
     private final Map<String, Object> params;
-    private final Map<String, Function<T, ?>> paramSuppliers;
+    private Map<String, Function<T, ?>> paramSuppliers;
 
     protected Dialect dialect;
     private String tablePrefix;
 
-    private static final Map<Integer, SqlStatement> parsedStatementCache = new ConcurrentHashMap<>();
+    private static final Map<String, SqlStatement> parsedStatementCache = new ConcurrentHashMap<>();
     private String tableName;
     private Connection connection;
 
@@ -69,6 +78,15 @@ public class Sql<T> {
         return this;
     }
 
+    /**
+     * Uses the given parameter suppliers instead of the ones added using {@link #with(String, Function)}. As the suppliers can be
+     * shared by many {@link Sql} instances, the given map should be unmodifiable and no suppliers can be added afterwards.
+     */
+    protected Sql<T> withParamSuppliers(Map<String, Function<T, ?>> paramSuppliers) {
+        this.paramSuppliers = paramSuppliers;
+        return this;
+    }
+
     public Stream<SqlResultSet> select(String statement) {
         return select(statement, "");
     }
@@ -151,15 +169,56 @@ public class Sql<T> {
         }
     }
 
+    /**
+     * Inserts all items using multi-row {@code INSERT ... VALUES (...), (...)} statements containing at most {@link Dialect#maxRowsPerMultiRowInsert()} rows
+     * and at most {@link Dialect#maxParametersPerStatement()} parameters.
+     * The given statement must be a single row insert statement (e.g. {@code into table (a, b) values (:a, :b)}).
+     */
+    public void insertAllUsingMultiRowValues(List<T> batchCollection, String statement) throws SQLException {
+        if (batchCollection.isEmpty()) return;
+
+        int rowsPerStatement = rowsPerMultiRowStatement(statement);
+        int amountOfFullChunks = batchCollection.size() / rowsPerStatement;
+        if (amountOfFullChunks > 0) {
+            SqlStatement sqlStatement = parse(multiRowStatement(statement, rowsPerStatement));
+            try (PreparedStatement ps = prepareStatement(sqlStatement)) {
+                List<Function<T, ?>> paramBinders = paramBinders(sqlStatement, batchCollection.get(0));
+                for (int chunk = 0; chunk < amountOfFullChunks; chunk++) {
+                    bindParamsForRows(sqlStatement, ps, paramBinders, batchCollection.subList(chunk * rowsPerStatement, (chunk + 1) * rowsPerStatement));
+                    ps.addBatch();
+                }
+                int[] result = ps.executeBatch();
+                if (result.length != amountOfFullChunks || stream(result).anyMatch(i -> i != rowsPerStatement && i != Statement.SUCCESS_NO_INFO)) {
+                    throw shouldNotHappenException("Could not insert all objects - different result size: originalCollectionSize=" + batchCollection.size() + "; " + Arrays.toString(result));
+                }
+            }
+        }
+
+        List<T> remainingItems = batchCollection.subList(amountOfFullChunks * rowsPerStatement, batchCollection.size());
+        if (!remainingItems.isEmpty()) {
+            SqlStatement sqlStatement = parse(multiRowStatement(statement, remainingItems.size()));
+            try (PreparedStatement ps = prepareStatement(sqlStatement)) {
+                bindParamsForRows(sqlStatement, ps, paramBinders(sqlStatement, remainingItems.get(0)), remainingItems);
+                int updated = ps.executeUpdate();
+                if (updated != remainingItems.size()) {
+                    throw shouldNotHappenException("Could not insert all objects - different result size: originalCollectionSize=" + batchCollection.size() + "; " + updated);
+                }
+            }
+        }
+        params.clear();
+    }
+
     private int[] insertOrUpdateAll(List<T> batchCollection, String statement) throws SQLException {
         if (batchCollection.isEmpty()) return new int[0];
 
         SqlStatement sqlStatement = parse(statement);
         try (PreparedStatement ps = prepareStatement(sqlStatement)) {
+            List<Function<T, ?>> paramBinders = paramBinders(sqlStatement, batchCollection.get(0));
             for (T object : batchCollection) {
-                setParams(sqlStatement, ps, object);
+                bindParams(sqlStatement, ps, paramBinders, object);
                 ps.addBatch();
             }
+            params.clear();
             return ps.executeBatch();
         }
     }
@@ -176,18 +235,45 @@ public class Sql<T> {
     }
 
     private void setParams(SqlStatement sqlStatement, PreparedStatement ps, T object) throws SQLException {
-        for (int i = 0; i < sqlStatement.getParamNames().size(); i++) {
-            String paramName = sqlStatement.getParamNames().get(i);
-            Object paramValue = getParamValue(paramName, object);
-            dialect.setParam(ps, i + 1, paramName, paramValue);
-        }
+        bindParams(sqlStatement, ps, paramBinders(sqlStatement, object), object);
         params.clear();
     }
 
+    private void bindParams(SqlStatement sqlStatement, PreparedStatement ps, List<Function<T, ?>> paramBinders, T object) throws SQLException {
+        List<String> paramNames = sqlStatement.getParamNames();
+        for (int i = 0; i < paramNames.size(); i++) {
+            dialect.setParam(ps, i + 1, paramNames.get(i), paramBinders.get(i).apply(object));
+        }
+    }
+
+    private void bindParamsForRows(SqlStatement sqlStatement, PreparedStatement ps, List<Function<T, ?>> paramBinders, List<T> rows) throws SQLException {
+        List<String> paramNames = sqlStatement.getParamNames();
+        int paramsPerRow = paramNames.size() / rows.size();
+        for (int i = 0; i < paramNames.size(); i++) {
+            dialect.setParam(ps, i + 1, paramNames.get(i), paramBinders.get(i).apply(rows.get(i / paramsPerRow)));
+        }
+    }
+
+    private int rowsPerMultiRowStatement(String statement) {
+        int rowsPerStatement = dialect.maxRowsPerMultiRowInsert();
+        int maxParametersPerStatement = dialect.maxParametersPerStatement();
+        if (maxParametersPerStatement > 0) {
+            int paramsPerRow = parse(INSERT + statement).getParamNames().size();
+            rowsPerStatement = Math.min(rowsPerStatement, maxParametersPerStatement / Math.max(1, paramsPerRow));
+        }
+        return Math.max(1, rowsPerStatement);
+    }
+
+    private static String multiRowStatement(String statement, int amountOfRows) {
+        int valuesIndex = statement.toLowerCase().lastIndexOf("values ") + "values ".length();
+        String valuesTemplate = statement.substring(valuesIndex);
+        return INSERT + statement.substring(0, valuesIndex) + String.join(", ", Collections.nCopies(amountOfRows, valuesTemplate));
+    }
+
     final SqlStatement parse(String originalSql) {
         return parsedStatementCache.computeIfAbsent(
                 SqlStatement.statementKey(tablePrefix, originalSql),
-                hash -> parseStatement(originalSql));
+                key -> parseStatement(originalSql));
     }
 
     @VisibleFor("testing")
@@ -195,20 +281,47 @@ public class Sql<T> {
         return new SqlStatement(tablePrefix, tableName, dialect, originalSql);
     }
 
-    private Object getParamValue(String paramName, T object) {
+    /**
+     * Resolves how each parameter of the statement gets its value once per statement execution, so binding the rows of a batch
+     * does not need any map lookups or reflective field/property lookups.
+     */
+    private List<Function<T, ?>> paramBinders(SqlStatement sqlStatement, T object) {
+        List<String> paramNames = sqlStatement.getParamNames();
+        List<Function<T, ?>> paramBinders = new ArrayList<>(paramNames.size());
+        for (String paramName : paramNames) {
+            paramBinders.add(paramBinder(paramName, object));
+        }
+        return paramBinders;
+    }
+
+    private Function<T, ?> paramBinder(String paramName, T object) {
         if (params.containsKey(paramName)) {
-            return params.get(paramName);
+            Object value = params.get(paramName);
+            return item -> value;
         } else if (paramSuppliers.containsKey(paramName)) {
-            return paramSuppliers.get(paramName).apply(object);
+            return paramSuppliers.get(paramName);
         } else if (objectContainsFieldOrProperty(object, paramName)) {
-            return getValueFromFieldOrProperty(object, paramName);
+            return fieldOrPropertyBinder(object.getClass(), paramName);
         } else if ("previousVersion".equals(paramName)) {
-            return ((int) paramSuppliers.get("version").apply(object)) - 1;
+            Function<T, ?> versionSupplier = paramSuppliers.get("version");
+            return item -> ((int) versionSupplier.apply(item)) - 1;
         } else if (paramName.contains("-") && params.containsKey(paramName.split("-")[0])) {
             String[] splitParam = paramName.split("-");
-            return ((List<?>) params.get(splitParam[0])).get(Integer.parseInt(splitParam[1]));
+            Object value = ((List<?>) params.get(splitParam[0])).get(Integer.parseInt(splitParam[1]));
+            return item -> value;
         } else {
             throw new IllegalArgumentException(String.format("Parameter %s is not known.", paramName));
         }
     }
+
+    private Function<T, ?> fieldOrPropertyBinder(Class<?> clazz, String paramName) {
+        Optional<Field> optionalField = findField(clazz, paramName);
+        if (optionalField.isPresent()) {
+            Field field = optionalField.get();
+            return item -> getValueFromField(field, item);
+        }
+        Method getter = findMethod(clazz, "get" + capitalize(paramName))
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Could not get value '%s' from object with class %s", paramName, clazz)));
+        return item -> getValueFromGetMethod(getter, item);
+    }
 }
@@ -45,6 +45,10 @@ public class SqlResultSet {
         return autobox(val(name), Long.class);
     }
 
+    public Long asNullableLong(String name) {
+        return autobox(val(name), Long.class);
+    }
+
     public Instant asInstant(String name) {
         return autobox(valAsUTCTimestamp(name), Instant.class);
     }
@@ -1,7 +1,9 @@
 package org.jobrunr.storage.sql.common.db;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static java.sql.Statement.SUCCESS_NO_INFO;
 import static java.util.stream.Collectors.toList;
@@ -26,6 +28,13 @@ public class SqlUtils {
         return result;
     }
 
+    public static byte[] uuidToBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
     private static boolean hasBatchInsertOrUpdateSucceeded(int insertOrUpdateResult) {
         return insertOrUpdateResult == SUCCESS_NO_INFO || insertOrUpdateResult > 0;
     }
@@ -0,0 +1,69 @@
+package org.jobrunr.storage.sql.common.db;
+
+import org.jobrunr.storage.StorageException;
+import org.jobrunr.storage.StorageProvider.UnitOfWork;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out connections from the {@link DataSource}, except when a {@link UnitOfWork} is active on the current thread. In that case,
+ * the connection of the unit of work is returned and closing it is a no-op until the unit of work itself is closed.
+ */
+public class UnitOfWorkConnectionProvider {
+
+    private final DataSource dataSource;
+    private final ThreadLocal<Connection> unitOfWorkConnection;
+
+    public UnitOfWorkConnectionProvider(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.unitOfWorkConnection = new ThreadLocal<>();
+    }
+
+    public Connection getConnection() throws SQLException {
+        final Connection connection = unitOfWorkConnection.get();
+        if (connection != null) return connection;
+        return dataSource.getConnection();
+    }
+
+    public UnitOfWork startUnitOfWork() {
+        if (unitOfWorkConnection.get() != null) {
+            // nested unit of work: the outermost one owns the connection
+            return () -> {
+            };
+        }
+        try {
+            final Connection connection = dataSource.getConnection();
+            unitOfWorkConnection.set(nonClosingConnection(connection));
+            return () -> endUnitOfWork(connection);
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    private void endUnitOfWork(Connection connection) {
+        unitOfWorkConnection.remove();
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+            connection.close();
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    private static Connection nonClosingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{Connection.class}, (proxy, method, args) -> {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) return null;
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package org.jobrunr.storage.sql.common.mapper;
+
+import org.jobrunr.storage.navigation.KeysetBasedPageRequest;
+import org.jobrunr.storage.navigation.OrderTerm;
+import org.jobrunr.storage.sql.common.db.Dialect;
+import org.jobrunr.storage.sql.common.db.Sql;
+
+import java.util.Set;
+
+public class SqlKeysetBasedPageRequestMapper extends SqlAmountRequestMapper {
+
+    public SqlKeysetBasedPageRequestMapper(Dialect dialect, Set<String> allowedSortColumns) {
+        super(dialect, allowedSortColumns);
+    }
+
+    public String mapToSqlQuery(KeysetBasedPageRequest pageRequest, Sql table) {
+        final OrderTerm seekOrderTerm = pageRequest.getSeekOrderTerm();
+        final String seekField = seekOrderTerm.getFieldName();
+        final String seekOrder = seekOrderTerm.getOrder().name();
+        table.with("limit", pageRequest.getLimit());
+        if (pageRequest.getBoundary() == null) {
+            return " ORDER BY " + seekField + " " + seekOrder + ", id " + seekOrder + " " + dialect.limit();
+        }
+
+        final String comparator = seekOrderTerm.getOrder() == OrderTerm.Order.ASC ? ">" : "<";
+        table.with("boundary", pageRequest.getBoundary());
+        table.with("boundaryId", pageRequest.getBoundaryId());
+        return " AND (" + seekField + " " + comparator + " :boundary OR (" + seekField + " = :boundary AND id " + comparator + " :boundaryId))"
+                + " ORDER BY " + seekField + " " + seekOrder + ", id " + seekOrder + " " + dialect.limit();
+    }
+}
@@ -6,6 +6,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 
 public class H2Dialect extends AnsiDialect {
 
@@ -20,4 +21,9 @@ public class H2Dialect extends AnsiDialect {
         Instant roundedInstant = instant.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
         super.setTimestamp(ps, i, paramName, roundedInstant);
     }
+
+    @Override
+    public void setUUID(PreparedStatement ps, int i, String paramName, UUID uuidValue) throws SQLException {
+        ps.setObject(i, uuidValue);
+    }
 }
\ No newline at end of file
@@ -2,12 +2,21 @@ package org.jobrunr.storage.sql.mariadb;
 
 import org.jobrunr.storage.sql.common.db.AnsiDialect;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidToBytes;
 import static org.jobrunr.utils.VersionNumber.v;
 
 public class MariaDbDialect extends AnsiDialect {
 
     private final boolean supportsSelectForUpdateSkipLocked;
 
+    public MariaDbDialect() {
+        this.supportsSelectForUpdateSkipLocked = false;
+    }
+
     public MariaDbDialect(String databaseName, String databaseVersion) {
         this.supportsSelectForUpdateSkipLocked = isMariaDb("10.6", databaseName, databaseVersion);
     }
@@ -17,6 +26,11 @@ public class MariaDbDialect extends AnsiDialect {
         return supportsSelectForUpdateSkipLocked ? " FOR UPDATE SKIP LOCKED" : "";
     }
 
+    @Override
+    public void setUUID(PreparedStatement ps, int i, String paramName, UUID uuidValue) throws SQLException {
+        ps.setBytes(i, uuidToBytes(uuidValue));
+    }
+
     private boolean isMariaDb(String expectedVersion, String databaseName, String databaseVersion) {
         return databaseName.equalsIgnoreCase("MariaDB") && v(databaseVersion).hasMajorAndMinorVersionHigherOrEqualTo(expectedVersion);
     }
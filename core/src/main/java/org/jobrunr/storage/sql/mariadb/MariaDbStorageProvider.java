@@ -3,7 +3,6 @@ package org.jobrunr.storage.sql.mariadb;
 import org.jobrunr.storage.BackgroundJobServerStatus;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
 import org.jobrunr.storage.sql.common.DefaultSqlStorageProvider;
-import org.jobrunr.storage.sql.common.db.AnsiDialect;
 import org.jobrunr.storage.sql.common.db.Dialect;
 import org.jobrunr.utils.exceptions.Exceptions;
 
@@ -72,6 +71,6 @@ public class MariaDbStorageProvider extends DefaultSqlStorageProvider {
         } catch (SQLException e) {
             // unable to determine DB version
         }
-        return new AnsiDialect();
+        return new MariaDbDialect();
     }
 }
@@ -2,12 +2,21 @@ package org.jobrunr.storage.sql.mysql;
 
 import org.jobrunr.storage.sql.common.db.AnsiDialect;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidToBytes;
 import static org.jobrunr.utils.VersionNumber.v;
 
 public class MySqlDialect extends AnsiDialect {
 
     private final boolean supportsSelectForUpdateSkipLocked;
 
+    public MySqlDialect() {
+        this.supportsSelectForUpdateSkipLocked = false;
+    }
+
     public MySqlDialect(String databaseName, String databaseVersion) {
         this.supportsSelectForUpdateSkipLocked = isMySQL("8.0.1", databaseName, databaseVersion);
     }
@@ -17,6 +26,11 @@ public class MySqlDialect extends AnsiDialect {
         return supportsSelectForUpdateSkipLocked ? " FOR UPDATE SKIP LOCKED" : "";
     }
 
+    @Override
+    public void setUUID(PreparedStatement ps, int i, String paramName, UUID uuidValue) throws SQLException {
+        ps.setBytes(i, uuidToBytes(uuidValue));
+    }
+
     private boolean isMySQL(String expectedVersion, String databaseName, String databaseVersion) {
         return databaseName.equalsIgnoreCase("MySQL") && v(databaseVersion).hasMajorMinorAndPatchVersionHigherOrEqualTo(expectedVersion);
     }
@@ -2,6 +2,12 @@ package org.jobrunr.storage.sql.oracle;
 
 import org.jobrunr.storage.sql.common.db.Dialect;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidToBytes;
+
 public class OracleDialect implements Dialect {
 
     @Override
@@ -30,4 +36,9 @@ public class OracleDialect implements Dialect {
         }
         return toEscape;
     }
+
+    @Override
+    public void setUUID(PreparedStatement ps, int i, String paramName, UUID uuidValue) throws SQLException {
+        ps.setBytes(i, uuidToBytes(uuidValue));
+    }
 }
@@ -2,10 +2,19 @@ package org.jobrunr.storage.sql.postgres;
 
 import org.jobrunr.storage.sql.common.db.AnsiDialect;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
 public class PostgresDialect extends AnsiDialect {
 
     @Override
     public String selectForUpdateSkipLocked() {
         return " FOR UPDATE SKIP LOCKED";
     }
+
+    @Override
+    public void setUUID(PreparedStatement ps, int i, String paramName, UUID uuidValue) throws SQLException {
+        ps.setObject(i, uuidValue);
+    }
 }
@@ -17,6 +17,17 @@ public class SQLServerDialect implements Dialect {
         return "OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY";
     }
 
+    @Override
+    public int maxRowsPerMultiRowInsert() {
+        // SQL Server allows at most 1000 rows in a VALUES clause
+        return 1000;
+    }
+
+    @Override
+    public int maxParametersPerStatement() {
+        return 2100;
+    }
+
     @Override
     public String escape(String toEscape) {
         if (toEscape.endsWith(selectForUpdateSkipLocked())) {
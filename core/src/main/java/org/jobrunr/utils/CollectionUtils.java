@@ -67,6 +67,15 @@ public class CollectionUtils {
         return result;
     }
 
+    public static <T> List<List<T>> partition(Collection<T> items, int maxPartitionSize) {
+        final List<T> itemsAsList = new ArrayList<>(items);
+        final List<List<T>> result = new ArrayList<>();
+        for (int i = 0; i < itemsAsList.size(); i += maxPartitionSize) {
+            result.add(itemsAsList.subList(i, Math.min(i + maxPartitionSize, itemsAsList.size())));
+        }
+        return result;
+    }
+
     public static <T> Optional<T> findFirst(List<T> items) {
         return ofNullable(getFirst(items));
     }
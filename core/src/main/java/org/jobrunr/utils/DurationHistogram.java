@@ -0,0 +1,133 @@
+package org.jobrunr.utils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations with a fixed amount of buckets per power of 2 of the given unit, so percentiles are accurate within
+ * a factor of 2<sup>1/bucketsPerPowerOfTwo</sup>. Durations shorter than one unit go into the first bucket, durations longer than the
+ * last power of 2 into the last one.
+ * <p>
+ * Histograms with the same unit and buckets per power of 2 can be merged, which is why the buckets can be exported and imported as an
+ * array of counts.
+ */
+public class DurationHistogram {
+
+    private final long unitInNanos;
+    private final int bucketsPerPowerOfTwo;
+    private final AtomicLongArray buckets;
+    private final AtomicLong maxInNanos;
+
+    /**
+     * @param unit                 the unit of the first bucket (e.g. milliseconds)
+     * @param bucketsPerPowerOfTwo the amount of buckets per power of 2 of the unit
+     * @param powersOfTwo          the amount of powers of 2 of the unit to keep buckets for
+     */
+    public DurationHistogram(TimeUnit unit, int bucketsPerPowerOfTwo, int powersOfTwo) {
+        this(unit, bucketsPerPowerOfTwo, powersOfTwo, new long[0], 0);
+    }
+
+    private DurationHistogram(TimeUnit unit, int bucketsPerPowerOfTwo, int powersOfTwo, long[] counts, long maxInNanos) {
+        this.unitInNanos = unit.toNanos(1);
+        this.bucketsPerPowerOfTwo = bucketsPerPowerOfTwo;
+        this.buckets = new AtomicLongArray(Arrays.copyOf(counts, 1 + powersOfTwo * bucketsPerPowerOfTwo));
+        this.maxInNanos = new AtomicLong(maxInNanos);
+    }
+
+    /**
+     * Creates a histogram from counts exported using {@link #toCounts()}. As the exact maximum is not known, percentiles are not capped.
+     *
+     * @param unit                 the unit of the first bucket (e.g. milliseconds)
+     * @param bucketsPerPowerOfTwo the amount of buckets per power of 2 of the unit
+     * @param powersOfTwo          the amount of powers of 2 of the unit to keep buckets for
+     * @param counts               the count per bucket
+     * @return a histogram with the given counts
+     */
+    public static DurationHistogram fromCounts(TimeUnit unit, int bucketsPerPowerOfTwo, int powersOfTwo, long[] counts) {
+        return new DurationHistogram(unit, bucketsPerPowerOfTwo, powersOfTwo, counts, Long.MAX_VALUE);
+    }
+
+    public void record(Duration duration) {
+        record(duration.toNanos());
+    }
+
+    public void record(long durationInNanos) {
+        buckets.incrementAndGet(bucketIndex(durationInNanos));
+        maxInNanos.accumulateAndGet(durationInNanos, Math::max);
+    }
+
+    public DurationHistogram merge(DurationHistogram other) {
+        if (unitInNanos != other.unitInNanos || bucketsPerPowerOfTwo != other.bucketsPerPowerOfTwo) {
+            throw new IllegalArgumentException("Only histograms with the same unit and buckets per power of 2 can be merged.");
+        }
+        for (int i = 0; i < Math.min(buckets.length(), other.buckets.length()); i++) {
+            buckets.addAndGet(i, other.buckets.get(i));
+        }
+        maxInNanos.accumulateAndGet(other.maxInNanos.get(), Math::max);
+        return this;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @return the longest recorded duration, which is unknown for histograms created using {@link #fromCounts(TimeUnit, int, int, long[])}
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(maxInNanos.get());
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given percentile, capped at the longest recorded duration.
+     *
+     * @param percentile the percentile between 0 and 1 (e.g. 0.95)
+     * @return the duration of the given percentile or {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getPercentile(double percentile) {
+        final long count = getCount();
+        if (count == 0) return Duration.ZERO;
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long cumulative = 0;
+        int bucketIndex = 0;
+        for (; bucketIndex < buckets.length() - 1; bucketIndex++) {
+            cumulative += buckets.get(bucketIndex);
+            if (cumulative >= rank) break;
+        }
+        return Duration.ofNanos(Math.min(bucketUpperBoundInNanos(bucketIndex), maxInNanos.get()));
+    }
+
+    /**
+     * @return the count per bucket, without the trailing empty buckets
+     */
+    public long[] toCounts() {
+        int length = buckets.length();
+        while (length > 0 && buckets.get(length - 1) == 0) length--;
+        final long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = buckets.get(i);
+        }
+        return result;
+    }
+
+    private int bucketIndex(long durationInNanos) {
+        final long units = durationInNanos / unitInNanos;
+        if (units < 1) return 0;
+
+        final int powerOfTwo = 63 - Long.numberOfLeadingZeros(units);
+        final int bucketWithinPowerOfTwo = (int) Math.floor(bucketsPerPowerOfTwo * Math.log((double) units / (1L << powerOfTwo)) / Math.log(2));
+        return Math.min(buckets.length() - 1, 1 + powerOfTwo * bucketsPerPowerOfTwo + bucketWithinPowerOfTwo);
+    }
+
+    private long bucketUpperBoundInNanos(int bucketIndex) {
+        return Math.round(Math.pow(2, (double) bucketIndex / bucketsPerPowerOfTwo) * unitInNanos);
+    }
+}
@@ -25,6 +25,7 @@ import org.jobrunr.jobs.states.EnqueuedState;
 import org.jobrunr.jobs.states.FailedState;
 import org.jobrunr.jobs.states.JobState;
 import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.RetriesSummaryState;
 import org.jobrunr.jobs.states.ScheduledState;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.jobs.states.SucceededState;
@@ -70,7 +71,7 @@ public class GraalVMUtils {
             // Java core types
             ArrayList.class, ConcurrentHashMap.class, ConcurrentLinkedQueue.class, CopyOnWriteArrayList.class, Duration.class, HashSet.class, Instant.class, UUID.class,
             // JobRunr States
-            AbstractJobState.class, DeletedState.class, EnqueuedState.class, FailedState.class, JobState.class, ProcessingState.class, ScheduledState.class, StateName.class, SucceededState.class,
+            AbstractJobState.class, DeletedState.class, EnqueuedState.class, FailedState.class, JobState.class, ProcessingState.class, RetriesSummaryState.class, ScheduledState.class, StateName.class, SucceededState.class,
             // JobRunr Job
             AbstractJob.class, Job.class, JobDetails.class, JobDetailsAsmGenerator.class, JobParameter.class, RecurringJob.class, JobParameterNotDeserializableException.class,
             // JobRunr annotation
@@ -1,5 +1,6 @@
 package org.jobrunr.utils.reflection.autobox;
 
+import java.nio.ByteBuffer;
 import java.util.UUID;
 
 import static org.jobrunr.utils.reflection.ReflectionUtils.cast;
@@ -16,6 +17,9 @@ public class UUIDTypeAutoboxer implements TypeAutoboxer<UUID> {
             return (UUID) value;
         } else if (value instanceof String) {
             return cast(UUID.fromString((String) value));
+        } else if (value instanceof byte[] && ((byte[]) value).length == 16) {
+            ByteBuffer byteBuffer = ByteBuffer.wrap((byte[]) value);
+            return new UUID(byteBuffer.getLong(), byteBuffer.getLong());
         }
         throw new UnsupportedOperationException(String.format("Cannot autobox %s of type %s to %s", value, value.getClass().getName(), UUID.class.getName()));
     }
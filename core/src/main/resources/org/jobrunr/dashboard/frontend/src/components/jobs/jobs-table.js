@@ -12,7 +12,7 @@ import {styled} from "@mui/material/styles";
 import {SwitchableTimeFormatter, SwitchableTimeRangeFormatter} from "../utils/time-ago";
 import Tooltip from '@mui/material/Tooltip';
 import {EnergySavingsLeaf} from "@mui/icons-material";
-import {getJobMostRecentState, getJobPreviousState, isCarbonAwaitingState} from "../utils/job-utils";
+import {getJobMostRecentState, getJobPreviousState, isCarbonAwaitingState, isJobStateListedUsingJobSummaries} from "../utils/job-utils";
 import LoadingIndicator from "../LoadingIndicator.js";
 
 const IdColumn = styled(TableCell)`
@@ -27,7 +27,10 @@ const JobsTable = ({jobPage, jobState, isLoading}) => {
     const navigate = useNavigate();
 
     let column;
-    let columnFunction = (job) => getJobMostRecentState(job).createdAt;
+    // a job summary is last updated when its most recent state was created
+    let columnFunction = isJobStateListedUsingJobSummaries(jobState)
+        ? (job) => job.updatedAt
+        : (job) => getJobMostRecentState(job).createdAt;
     switch (jobState) {
         case 'AWAITING':
             column = "Created";
@@ -55,9 +58,21 @@ const JobsTable = ({jobPage, jobState, isLoading}) => {
         // code block
     }
 
+    // keyset based pages have no page number, so it is kept in the url and the total is adjusted to whether there is a next page
+    const isKeysetBasedPage = jobPage.currentPage < 0;
+    const currentPage = isKeysetBasedPage ? Number(new URLSearchParams(location.search).get("page") ?? 0) : jobPage.currentPage;
+    const count = !isKeysetBasedPage ? jobPage.total
+        : jobPage.hasNext ? Math.max(jobPage.total, (currentPage + 2) * jobPage.limit)
+            : currentPage * jobPage.limit + jobPage.items.length;
+
     const handleChangePage = (event, newPage) => {
         let urlSearchParams = new URLSearchParams(location.search);
         urlSearchParams.set("page", newPage);
+        if (isKeysetBasedPage && newPage > 0) {
+            urlSearchParams.set("pageRequest", newPage > currentPage ? jobPage.nextPageRequest : jobPage.previousPageRequest);
+        } else {
+            urlSearchParams.delete("pageRequest");
+        }
         navigate(`?${urlSearchParams.toString()}`);
     };
 
@@ -129,9 +144,9 @@ const JobsTable = ({jobPage, jobState, isLoading}) => {
                     id="jobs-table-pagination"
                     component="div"
                     rowsPerPageOptions={[]}
-                    count={jobPage.total}
+                    count={count}
                     rowsPerPage={jobPage.limit}
-                    page={jobPage.currentPage}
+                    page={currentPage}
                     onPageChange={handleChangePage}
                 />
             </>
@@ -5,7 +5,7 @@ import Paper from '@mui/material/Paper';
 import Box from "@mui/material/Box";
 import LoadingIndicator from "../LoadingIndicator";
 import JobsTable from "./jobs-table";
-import {jobStateToHumanReadableName} from "../utils/job-utils";
+import {isJobStateListedUsingJobSummaries, jobStateToHumanReadableName} from "../utils/job-utils";
 import VersionFooter from "../utils/version-footer";
 import {JobRunrProNotice} from "../utils/jobrunr-pro-notice";
 
@@ -15,6 +15,7 @@ const JobsView = () => {
 
     const urlSearchParams = new URLSearchParams(location.search);
     const page = urlSearchParams.get('page');
+    const pageRequest = urlSearchParams.get('pageRequest');
     const jobState = urlSearchParams.get('state') ?? 'ENQUEUED';
     const [currentFetchKey, setCurrentFetchKey] = useState(undefined);
     const [jobPage, setJobPage] = useState({total: 0, limit: 20, currentPage: 0, items: []});
@@ -30,13 +31,18 @@ const JobsView = () => {
         default:
     }
 
-    const fetchKey = `${page}-${jobState}-${sort}-${location.key}`;
+    const fetchKey = `${page}-${pageRequest}-${jobState}-${sort}-${location.key}`;
 
     useEffect(() => {
         const abortController = new AbortController();
         const offset = (page) * 20;
         const limit = 20;
-        let url = `/api/jobs?state=${jobState.toUpperCase()}&offset=${offset}&limit=${limit}&order=${sort}`;
+        // the pages are browsed using keyset paging, only a page that is opened directly (e.g. a bookmark) falls back to an offset
+        let paging = `paging=keyset&limit=${limit}&order=${sort}`;
+        if (pageRequest) paging = `paging=keyset&${pageRequest}`;
+        else if (offset > 0) paging = `offset=${offset}&limit=${limit}&order=${sort}`;
+        const path = isJobStateListedUsingJobSummaries(jobState) ? '/api/job-summaries' : '/api/jobs';
+        let url = `${path}?state=${jobState.toUpperCase()}&${paging}`;
         fetch(url, {signal: abortController.signal})
             .then(res => res.json())
             .then(response => {
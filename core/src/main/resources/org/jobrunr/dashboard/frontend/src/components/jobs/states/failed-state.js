@@ -2,9 +2,12 @@ import Typography from "@mui/material/Typography";
 import {JobState} from "./job-state";
 
 const Failed = ({jobState}) => {
+    const title = jobState.failedAttempts
+        ? `Job processing failed ${jobState.failedAttempts} times since ${new Date(jobState.firstAttemptAt).toLocaleString()} - last failure: ${jobState.message}`
+        : `Job processing failed - ${jobState.message}`;
     return (
         <JobState
-            title={`Job processing failed - ${jobState.message}`}
+            title={title}
             state="failed"
             date={jobState.createdAt}
         >
@@ -1,4 +1,5 @@
-import {useState} from "react";
+import {useEffect, useState} from "react";
+import Button from "@mui/material/Button";
 import {styled} from "@mui/material/styles";
 import LinearProgress, {linearProgressClasses} from '@mui/material/LinearProgress';
 import {JobState} from "./job-state";
@@ -42,24 +43,65 @@ const ColoredLinearProgress = styled(LinearProgress)(() => ({
     }
 }));
 
+// the logs are keyed by the number of the state in the complete job history, so also counting the states summarized by a compaction
+const getJobStateNbr = (job, index) => {
+    return job.jobHistory.slice(0, index + 1).reduce((jobStateNbr, jobState) => jobStateNbr + (jobState.compactedStates || 1), 0);
+}
+
 const getLogs = (job, index) => {
-    if (job.metadata && job.metadata['jobRunrDashboardLog-' + (index + 1)]) {
-        return job.metadata['jobRunrDashboardLog-' + (index + 1)].logLines;
+    const jobStateNbr = getJobStateNbr(job, index);
+    if (job.metadata && job.metadata['jobRunrDashboardLog-' + jobStateNbr]) {
+        return job.metadata['jobRunrDashboardLog-' + jobStateNbr].logLines;
     }
     return [];
 }
 
 const getProgressBar = (job, index) => {
-    if (job.metadata && job.metadata['jobRunrDashboardProgressBar-' + (index + 1)]) {
-        return job.metadata['jobRunrDashboardProgressBar-' + (index + 1)];
+    const jobStateNbr = getJobStateNbr(job, index);
+    if (job.metadata && job.metadata['jobRunrDashboardProgressBar-' + jobStateNbr]) {
+        return job.metadata['jobRunrDashboardProgressBar-' + jobStateNbr];
     }
     return null;
 }
 
+const hasMetadataLogs = (job, index) => {
+    const jobStateNbr = getJobStateNbr(job, index);
+    return job.metadata && (job.metadata['jobRunrDashboardLog-' + jobStateNbr] || job.metadata['jobRunrDashboardProgressBar-' + jobStateNbr]);
+}
+
+const useStoredLogs = (job, index, enabled) => {
+    const [storedLogs, setStoredLogs] = useState({logLines: [], progress: null, lastSequenceNbr: 0, hasMore: false});
+
+    const fetchLogs = (after) => {
+        return fetch(`/api/jobs/${job.id}/logs?stateIndex=${getJobStateNbr(job, index)}&after=${after}`)
+            .then(res => res.ok ? res.json() : null)
+            .then(response => {
+                if (!response) return;
+                setStoredLogs(previous => ({
+                    logLines: [...previous.logLines, ...response.logLines],
+                    progress: response.progress || previous.progress,
+                    lastSequenceNbr: response.lastSequenceNbr,
+                    hasMore: response.hasMore
+                }));
+            })
+            .catch(error => console.warn(error));
+    };
+
+    useEffect(() => {
+        if (!enabled) return;
+        fetchLogs(storedLogs.lastSequenceNbr);
+        // eslint-disable-next-line react-hooks/exhaustive-deps
+    }, [enabled, job.id, job.version]);
+
+    return [storedLogs, () => fetchLogs(storedLogs.lastSequenceNbr)];
+}
+
 const Processing = ({index, job, jobState}) => {
     const [expanded, setExpanded] = useState(job.jobHistory.length === (index + 1));
-    const logs = getLogs(job, index);
-    const progressBar = getProgressBar(job, index);
+    const usesStoredLogs = !hasMetadataLogs(job, index);
+    const [storedLogs, loadMoreStoredLogs] = useStoredLogs(job, index, expanded && usesStoredLogs);
+    const logs = usesStoredLogs ? storedLogs.logLines : getLogs(job, index);
+    const progressBar = usesStoredLogs ? storedLogs.progress : getProgressBar(job, index);
 
     const handleChange = () => {
         setExpanded(!expanded);
@@ -83,8 +125,8 @@ const Processing = ({index, job, jobState}) => {
             </div>
             {logs.length > 0 &&
                 <Console>
-                    {logs.map((log) => (
-                        <dl key={log.logInstant} className={log.level}>
+                    {logs.map((log, logIndex) => (
+                        <dl key={logIndex} className={log.level}>
                             <dt>
                                 <SuffixFreeTimeAgo date={new Date(log.logInstant)} now={() => new Date(jobState.createdAt)} live="false"/>
                             </dt>
@@ -93,6 +135,11 @@ const Processing = ({index, job, jobState}) => {
                     ))}
                 </Console>
             }
+            {usesStoredLogs && storedLogs.hasMore &&
+                <div style={{padding: "8px 16px"}}>
+                    <Button size="small" onClick={loadMoreStoredLogs}>Load more log lines</Button>
+                </div>
+            }
         </JobState>
     )
 };
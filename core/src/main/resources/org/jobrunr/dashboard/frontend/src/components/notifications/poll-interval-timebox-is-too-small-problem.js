@@ -22,7 +22,10 @@ export const PollIntervalInSecondsIsTooSmallProblemNotification = ({problem, ...
                         &nbsp;The poll interval in seconds time box was exceeded <TimeAgo
                             style={{textDecoration: 'underline', textDecorationStyle: 'dotted'}}
                             date={new Date(issue.createdAt)}
-                            title={new Date(issue.createdAt).toString()}/>.</li>
+                            title={new Date(issue.createdAt).toString()}/>.
+                        {issue.value?.includes("Slowest StorageProvider calls") &&
+                            <><br/><small>{issue.value}</small></>}
+                    </li>
                 })}
             </ul>
         </DismissibleClusterProblemNotification>
@@ -0,0 +1,73 @@
+import {useEffect, useState} from 'react';
+import Typography from '@mui/material/Typography';
+import Table from '@mui/material/Table';
+import TableBody from '@mui/material/TableBody';
+import TableCell from '@mui/material/TableCell';
+import TableContainer from '@mui/material/TableContainer';
+import TableHead from '@mui/material/TableHead';
+import TableRow from '@mui/material/TableRow';
+import Tooltip from '@mui/material/Tooltip';
+import Box from "@mui/material/Box";
+
+const ServerTaskStats = ({serverId}) => {
+    const [taskStats, setTaskStats] = useState(null);
+
+    useEffect(() => {
+        const abortController = new AbortController();
+        fetch(`/api/metadata/task-runtime-stats/${serverId}?format=jsonValue`, {signal: abortController.signal})
+            .then(res => res.status === 200 ? res.json() : [])
+            .then(setTaskStats)
+            .catch(() => setTaskStats([]));
+        return () => abortController.abort();
+    }, [serverId]);
+
+    if (!taskStats || taskStats.length < 1) return null;
+
+    return (
+        <Box mt={3}>
+            <Typography variant="h6">Periodic tasks</Typography>
+            <Typography variant="body2" color="textSecondary">
+                Runtime statistics of the tasks that run every poll interval, use them to size the poll interval.
+            </Typography>
+            <TableContainer>
+                <Table size="small" style={{width: "100%"}} aria-label="task runtime statistics">
+                    <TableHead>
+                        <TableRow>
+                            <TableCell>Task</TableCell>
+                            <TableCell align="right">Runs</TableCell>
+                            <TableCell align="right">p50 / p95 / max</TableCell>
+                            <TableCell align="right">Last run</TableCell>
+                            <TableCell align="right">Items (last / total)</TableCell>
+                            <TableCell align="right">Cut short</TableCell>
+                            <TableCell align="right">Errors</TableCell>
+                        </TableRow>
+                    </TableHead>
+                    <TableBody>
+                        {taskStats.map(stats => (
+                            <TableRow key={stats.task}>
+                                <TableCell>{stats.task}</TableCell>
+                                <TableCell align="right">{stats.runs}</TableCell>
+                                <TableCell align="right">
+                                    {stats.p50RunDurationInMillis} / {stats.p95RunDurationInMillis} / {stats.maxRunDurationInMillis} ms
+                                </TableCell>
+                                <TableCell align="right">{stats.lastRunDurationInMillis} ms</TableCell>
+                                <TableCell align="right">{stats.lastItemsProcessed} / {stats.itemsProcessed}</TableCell>
+                                <TableCell align="right">{stats.runsCutShort}</TableCell>
+                                <TableCell align="right">
+                                    {stats.lastError
+                                        ? <Tooltip title={`${stats.lastError} (${new Date(stats.lastErrorAt).toString()})`}>
+                                            <span>{stats.errors}</span>
+                                        </Tooltip>
+                                        : stats.errors
+                                    }
+                                </TableCell>
+                            </TableRow>
+                        ))}
+                    </TableBody>
+                </Table>
+            </TableContainer>
+        </Box>
+    );
+};
+
+export default ServerTaskStats;
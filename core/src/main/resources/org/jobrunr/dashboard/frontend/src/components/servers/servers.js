@@ -21,6 +21,7 @@ import VersionFooter from "../utils/version-footer";
 import {ItemsNotFound} from "../utils/items-not-found";
 import {useServers} from "../../hooks/useServers";
 import {openEventSource} from "../../stores/serversStore";
+import ServerTaskStats from "./server-task-stats";
 
 const spin = keyframes`
     from {
@@ -136,7 +137,7 @@ const Servers = memo(() => {
             <VersionFooter/>
 
             {currentServer &&
-                <Dialog fullWidth maxWidth="sm" scroll="paper" onClose={handleClose}
+                <Dialog fullWidth maxWidth="md" scroll="paper" onClose={handleClose}
                         aria-labelledby="customized-dialog-title" open={open}>
                     <MuiDialogTitle id="customized-dialog-title" onClose={handleClose}>
                         Server info <code>{currentServer.id}</code>
@@ -238,6 +239,7 @@ const Servers = memo(() => {
                                 </TableBody>
                             </Table>
                         </TableContainer>
+                        <ServerTaskStats serverId={currentServer.id}/>
                     </MuiDialogContent>
                 </Dialog>
             }
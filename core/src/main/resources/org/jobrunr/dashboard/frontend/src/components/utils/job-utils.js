@@ -19,6 +19,10 @@ export function jobStateToHumanReadableName(jobState) {
     }
 }
 
+// the job summaries contain no job history, so only the job states whose list view does not show state specific details use them
+const jobStatesListedUsingJobSummaries = ['ENQUEUED', 'SUCCEEDED', 'FAILED', 'DELETED'];
+export const isJobStateListedUsingJobSummaries = (jobState) => jobStatesListedUsingJobSummaries.includes(jobState.toUpperCase());
+
 export const getJobPreviousState = (job) => job?.jobHistory[job.jobHistory.length - 2];
 export const getJobMostRecentState = (job) => job?.jobHistory[job.jobHistory.length - 1];
 
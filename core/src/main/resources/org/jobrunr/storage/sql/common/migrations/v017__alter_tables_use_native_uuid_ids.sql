@@ -0,0 +1 @@
+-- Empty migration so all databases follow the same numbering
\ No newline at end of file
@@ -0,0 +1,4 @@
+ALTER TABLE jobrunr_jobs
+    ADD jobName VARCHAR(512);
+ALTER TABLE jobrunr_jobs
+    ADD labels VARCHAR(256);
\ No newline at end of file
@@ -0,0 +1,2 @@
+ALTER TABLE jobrunr_jobs
+    ALTER COLUMN labels SET DATA TYPE VARCHAR(512);
\ No newline at end of file
@@ -0,0 +1,7 @@
+CREATE TABLE jobrunr_job_labels
+(
+    jobId NCHAR(36) NOT NULL,
+    label NVARCHAR(128) NOT NULL,
+    PRIMARY KEY (label, jobId)
+);
+CREATE INDEX jobrunr_job_lbls_jobid_idx ON jobrunr_job_labels (jobId);
\ No newline at end of file
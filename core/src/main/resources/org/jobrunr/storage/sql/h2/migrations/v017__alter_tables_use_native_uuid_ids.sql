@@ -0,0 +1,4 @@
+ALTER TABLE jobrunr_jobs
+    ALTER COLUMN id SET DATA TYPE UUID;
+ALTER TABLE jobrunr_backgroundjobservers
+    ALTER COLUMN id SET DATA TYPE UUID;
@@ -0,0 +1,19 @@
+ALTER TABLE jobrunr_jobs
+    ADD COLUMN binaryId BINARY(16);
+UPDATE jobrunr_jobs
+SET binaryId = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE jobrunr_jobs
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN binaryId id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE jobrunr_backgroundjobservers
+    ADD COLUMN binaryId BINARY(16);
+UPDATE jobrunr_backgroundjobservers
+SET binaryId = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE jobrunr_backgroundjobservers
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN binaryId id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
@@ -0,0 +1,13 @@
+CREATE TABLE jobrunr_job_logs
+(
+    jobId           BINARY(16) NOT NULL,
+    stateIndex      INT NOT NULL,
+    sequenceNbr     INT NOT NULL,
+    entryType       VARCHAR(16) NOT NULL,
+    createdAt       DATETIME(6) NOT NULL,
+    message         VARCHAR(2000),
+    totalAmount     BIGINT,
+    succeededAmount BIGINT,
+    failedAmount    BIGINT,
+    PRIMARY KEY (jobId, stateIndex, sequenceNbr)
+);
\ No newline at end of file
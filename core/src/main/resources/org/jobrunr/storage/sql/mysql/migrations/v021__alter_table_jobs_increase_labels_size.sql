@@ -0,0 +1,2 @@
+ALTER TABLE jobrunr_jobs
+    MODIFY labels VARCHAR(512);
\ No newline at end of file
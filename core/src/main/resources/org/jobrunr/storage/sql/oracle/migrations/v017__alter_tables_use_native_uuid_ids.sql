@@ -0,0 +1,29 @@
+ALTER TABLE jobrunr_jobs
+    ADD binaryId RAW(16);
+UPDATE jobrunr_jobs
+SET binaryId = HEXTORAW(REPLACE(id, '-', ''));
+ALTER TABLE jobrunr_jobs
+    DROP PRIMARY KEY;
+ALTER TABLE jobrunr_jobs
+    DROP COLUMN id;
+ALTER TABLE jobrunr_jobs
+    RENAME COLUMN binaryId TO id;
+ALTER TABLE jobrunr_jobs
+    MODIFY id NOT NULL;
+ALTER TABLE jobrunr_jobs
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE jobrunr_backgroundjobservers
+    ADD binaryId RAW(16);
+UPDATE jobrunr_backgroundjobservers
+SET binaryId = HEXTORAW(REPLACE(id, '-', ''));
+ALTER TABLE jobrunr_backgroundjobservers
+    DROP PRIMARY KEY;
+ALTER TABLE jobrunr_backgroundjobservers
+    DROP COLUMN id;
+ALTER TABLE jobrunr_backgroundjobservers
+    RENAME COLUMN binaryId TO id;
+ALTER TABLE jobrunr_backgroundjobservers
+    MODIFY id NOT NULL;
+ALTER TABLE jobrunr_backgroundjobservers
+    ADD PRIMARY KEY (id);
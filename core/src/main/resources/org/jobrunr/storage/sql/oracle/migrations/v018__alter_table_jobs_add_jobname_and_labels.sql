@@ -0,0 +1,4 @@
+ALTER TABLE jobrunr_jobs
+    ADD jobName NVARCHAR2(512);
+ALTER TABLE jobrunr_jobs
+    ADD labels NVARCHAR2(256);
\ No newline at end of file
@@ -0,0 +1,13 @@
+CREATE TABLE jobrunr_job_logs
+(
+    jobId           RAW(16) NOT NULL,
+    stateIndex      NUMBER(10) NOT NULL,
+    sequenceNbr     NUMBER(10) NOT NULL,
+    entryType       NVARCHAR2(16) NOT NULL,
+    createdAt       TIMESTAMP(6) NOT NULL,
+    message         NVARCHAR2(2000),
+    totalAmount     NUMBER(19),
+    succeededAmount NUMBER(19),
+    failedAmount    NUMBER(19),
+    PRIMARY KEY (jobId, stateIndex, sequenceNbr)
+);
\ No newline at end of file
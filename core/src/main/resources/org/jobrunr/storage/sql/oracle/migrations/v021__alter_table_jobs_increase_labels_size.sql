@@ -0,0 +1,2 @@
+ALTER TABLE jobrunr_jobs
+    MODIFY labels NVARCHAR2(512);
\ No newline at end of file
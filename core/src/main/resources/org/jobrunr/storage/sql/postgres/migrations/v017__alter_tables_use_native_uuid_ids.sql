@@ -0,0 +1,4 @@
+ALTER TABLE jobrunr_jobs
+    ALTER COLUMN id TYPE UUID USING CAST(id AS UUID);
+ALTER TABLE jobrunr_backgroundjobservers
+    ALTER COLUMN id TYPE UUID USING CAST(id AS UUID);
@@ -0,0 +1,8 @@
+CREATE TABLE jobrunr_job_labels
+(
+    jobId UUID NOT NULL,
+    label VARCHAR(128) NOT NULL,
+    PRIMARY KEY (label, jobId)
+);
+CREATE INDEX jobrunr_job_lbls_jobid_idx ON jobrunr_job_labels (jobId);
+CREATE INDEX jobrunr_job_name_idx ON jobrunr_jobs (jobName varchar_pattern_ops);
\ No newline at end of file
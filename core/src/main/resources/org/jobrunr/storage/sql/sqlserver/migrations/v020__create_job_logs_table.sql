@@ -0,0 +1,13 @@
+CREATE TABLE jobrunr_job_logs
+(
+    jobId           NCHAR(36) NOT NULL,
+    stateIndex      INT NOT NULL,
+    sequenceNbr     INT NOT NULL,
+    entryType       NVARCHAR(16) NOT NULL,
+    createdAt       DATETIME2 NOT NULL,
+    message         NVARCHAR(2000),
+    totalAmount     BIGINT,
+    succeededAmount BIGINT,
+    failedAmount    BIGINT,
+    PRIMARY KEY (jobId, stateIndex, sequenceNbr)
+);
\ No newline at end of file
@@ -99,8 +99,14 @@ class PackageDependenciesTest {
             .that().resideInAPackage("org.jobrunr.server..")
             .and().resideOutsideOfPackage("org.jobrunr.server.jmx..")
             .and().resideOutsideOfPackage("org.jobrunr.server.metrics..")
+            .and().resideOutsideOfPackage("org.jobrunr.server.tracing..")
             .should().onlyDependOnClassesThat().resideInAnyPackage("org.jobrunr..", "org.slf4j..", "java..");
 
+    @ArchTest
+    ArchRule jobRunrServerTracingClassesDependenciesTest = classes()
+            .that().resideInAPackage("org.jobrunr.server.tracing..")
+            .should().onlyDependOnClassesThat().resideInAnyPackage("org.jobrunr..", "io.opentelemetry..", "java..");
+
     @ArchTest
     ArchRule jobRunrServerClassesShouldNotDependOnJavaAwtDependenciesTest = noClasses()
             .that().resideInAPackage("org.jobrunr.server..")
@@ -56,11 +56,25 @@ class JobRunrSseHandlerTest {
 
         jobRunrSseHandler.close();
 
-        verify(storageProvider, times(2)).removeJobStorageOnChangeListener(any());
+        verify(storageProvider, times(1)).removeJobStorageOnChangeListener(any());
         final Timer timerAfterClosingSseHandler = getInternalState(storageProvider, "timer");
         assertThat(timerAfterClosingSseHandler).isNull();
     }
 
+    @Test
+    void sseExchangesForJobStatsShareOneStorageProviderListener() throws IOException {
+        final HttpExchange httpExchange1 = createHttpExchangeMock();
+        when(httpExchange1.getRequestURI()).thenReturn(URI.create("/sse/jobstats"));
+
+        final HttpExchange httpExchange2 = createHttpExchangeMock();
+        when(httpExchange2.getRequestURI()).thenReturn(URI.create("/sse/jobstats"));
+
+        jobRunrSseHandler.handle(httpExchange1);
+        jobRunrSseHandler.handle(httpExchange2);
+
+        verify(storageProvider, times(1)).addJobStorageOnChangeListener(any());
+    }
+
     private HttpExchange createHttpExchangeMock() {
         final HttpExchange httpExchange = mock(HttpExchange.class);
         when(httpExchange.getResponseBody()).thenReturn(new ByteArrayOutputStream());
@@ -0,0 +1,92 @@
+package org.jobrunr.dashboard.server;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.jobrunr.dashboard.server.ServiceUnavailableRejectionPolicy.serviceUnavailableFilter;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ServiceUnavailableRejectionPolicyTest {
+
+    private CountDownLatch busyRequest;
+    private ThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setUpExecutorWithOneBusyThread() {
+        busyRequest = new CountDownLatch(1);
+        executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new ServiceUnavailableRejectionPolicy(4));
+        executor.execute(() -> {
+            try {
+                busyRequest.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @AfterEach
+    void stopExecutor() {
+        busyRequest.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rejectedRequestIsAnsweredWithServiceUnavailableOnAnotherThread() throws IOException {
+        final HttpExchange httpExchange = createHttpExchangeMock();
+        final Filter.Chain chain = mock(Filter.Chain.class);
+        final Thread callingThread = Thread.currentThread();
+        final Thread[] handlingThread = new Thread[1];
+
+        executor.execute(() -> {
+            handlingThread[0] = Thread.currentThread();
+            doFilter(httpExchange, chain);
+        });
+
+        await().untilAsserted(() -> verify(httpExchange).sendResponseHeaders(503, -1));
+        assertThat(handlingThread[0]).isNotEqualTo(callingThread);
+        assertThat(httpExchange.getResponseHeaders().getFirst("Retry-After")).isEqualTo("1");
+        verify(chain, never()).doFilter(httpExchange);
+    }
+
+    @Test
+    void acceptedRequestIsHandledByTheHttpExchangeHandler() throws IOException {
+        final HttpExchange httpExchange = createHttpExchangeMock();
+        final Filter.Chain chain = mock(Filter.Chain.class);
+
+        busyRequest.countDown();
+        await().until(() -> executor.getActiveCount() == 0);
+        executor.execute(() -> doFilter(httpExchange, chain));
+
+        await().untilAsserted(() -> verify(chain).doFilter(httpExchange));
+        verify(httpExchange, never()).sendResponseHeaders(503, -1);
+    }
+
+    private static void doFilter(HttpExchange httpExchange, Filter.Chain chain) {
+        try {
+            serviceUnavailableFilter().doFilter(httpExchange, chain);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static HttpExchange createHttpExchangeMock() {
+        final HttpExchange httpExchange = mock(HttpExchange.class);
+        when(httpExchange.getResponseHeaders()).thenReturn(new Headers());
+        return httpExchange;
+    }
+}
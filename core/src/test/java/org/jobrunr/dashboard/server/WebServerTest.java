@@ -3,6 +3,10 @@ package org.jobrunr.dashboard.server;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,4 +28,14 @@ class WebServerTest {
         verify(httpExchangeHandlerMock).close();
     }
 
-}
\ No newline at end of file
+    @Test
+    void platformThreadsWebServerUsesBoundedThreadPool() {
+        final ExecutorService executorService = WebServerThreadType.PlatformThreads.createExecutorService(4);
+        try {
+            assertThat(executorService).isInstanceOf(ThreadPoolExecutor.class);
+            assertThat(((ThreadPoolExecutor) executorService).getMaximumPoolSize()).isEqualTo(4);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -9,14 +9,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,12 +34,15 @@ class StaticFileHttpHandlerTest {
     @Mock
     Headers headers;
 
+    Headers requestHeaders;
     StaticFileHttpHandler staticFileHttpHandler;
-    OutputStream outputStream;
+    ByteArrayOutputStream outputStream;
 
     @BeforeEach
     void setupHttpExchange() {
         lenient().when(httpExchange.getResponseHeaders()).thenReturn(headers);
+        requestHeaders = new Headers();
+        lenient().when(httpExchange.getRequestHeaders()).thenReturn(requestHeaders);
         outputStream = new ByteArrayOutputStream();
         lenient().when(httpExchange.getResponseBody()).thenReturn(outputStream);
 
@@ -48,7 +55,7 @@ class StaticFileHttpHandlerTest {
 
         staticFileHttpHandler.handle(httpExchange);
 
-        verify(httpExchange).sendResponseHeaders(200, 0);
+        verify(httpExchange).sendResponseHeaders(eq(200), anyLong());
     }
 
     @Test
@@ -57,7 +64,7 @@ class StaticFileHttpHandlerTest {
 
         staticFileHttpHandler.handle(httpExchange);
 
-        verify(httpExchange).sendResponseHeaders(200, 0);
+        verify(httpExchange).sendResponseHeaders(eq(200), anyLong());
     }
 
     @Test
@@ -66,7 +73,7 @@ class StaticFileHttpHandlerTest {
 
         staticFileHttpHandler.handle(httpExchange);
 
-        verify(httpExchange).sendResponseHeaders(200, 0);
+        verify(httpExchange).sendResponseHeaders(eq(200), anyLong());
         assertThat(outputStream.toString()).isEqualTo(getResourceContent("dashboard/test/test.html"));
     }
 
@@ -79,6 +86,86 @@ class StaticFileHttpHandlerTest {
         verify(httpExchange).sendResponseHeaders(404, -1L);
     }
 
+    @Test
+    void servesHtmlWithNewNonceForEachRequest() throws IOException {
+        when(httpExchange.getRequestURI()).thenReturn(URI.create("/dashboard/index.html"));
+
+        staticFileHttpHandler.handle(httpExchange);
+        final String firstResponse = outputStream.toString();
+        outputStream.reset();
+        staticFileHttpHandler.handle(httpExchange);
+        final String secondResponse = outputStream.toString();
+
+        assertThat(firstResponse).doesNotContain("%CSP_NONCE%").isNotEqualTo(secondResponse);
+    }
+
+    @Test
+    void servesGzippedStaticFileIfAccepted() throws IOException {
+        when(httpExchange.getRequestURI()).thenReturn(URI.create("/dashboard/static/js/test.js"));
+        requestHeaders.add("Accept-Encoding", "gzip, deflate, br");
+
+        staticFileHttpHandler.handle(httpExchange);
+
+        verify(headers).add("Content-Encoding", "gzip");
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray())); OutputStream unzipped = new ByteArrayOutputStream()) {
+            IOUtils.copyStream(inputStream, unzipped);
+            assertThat(unzipped.toString()).isEqualTo(getResourceContent("dashboard/test/static/js/test.js"));
+        }
+    }
+
+    @Test
+    void returns304IfStaticFileNotModified() throws IOException {
+        when(httpExchange.getRequestURI()).thenReturn(URI.create("/dashboard/static/js/test.js"));
+        final String eTag = staticFileHttpHandler.getStaticAsset("static/js/test.js").getETag();
+        requestHeaders.add("If-None-Match", eTag);
+
+        staticFileHttpHandler.handle(httpExchange);
+
+        verify(headers).add("ETag", eTag);
+        verify(headers).add("Vary", "Accept-Encoding");
+        verify(httpExchange).sendResponseHeaders(304, -1L);
+        assertThat(outputStream.size()).isZero();
+    }
+
+    @Test
+    void gzippedStaticFileHasItsOwnETag() throws IOException {
+        when(httpExchange.getRequestURI()).thenReturn(URI.create("/dashboard/static/js/test.js"));
+        requestHeaders.add("Accept-Encoding", "gzip");
+        final StaticAsset staticAsset = staticFileHttpHandler.getStaticAsset("static/js/test.js");
+
+        staticFileHttpHandler.handle(httpExchange);
+
+        assertThat(staticAsset.getGzippedETag()).isNotEqualTo(staticAsset.getETag()).endsWith("-gzip\"");
+        verify(headers).add("ETag", staticAsset.getGzippedETag());
+        verify(headers).add("Vary", "Accept-Encoding");
+        verify(httpExchange).sendResponseHeaders(eq(200), anyLong());
+    }
+
+    @Test
+    void returns304WithVaryHeaderIfGzippedStaticFileNotModified() throws IOException {
+        when(httpExchange.getRequestURI()).thenReturn(URI.create("/dashboard/static/js/test.js"));
+        requestHeaders.add("Accept-Encoding", "gzip");
+        requestHeaders.add("If-None-Match", staticFileHttpHandler.getStaticAsset("static/js/test.js").getGzippedETag());
+
+        staticFileHttpHandler.handle(httpExchange);
+
+        verify(headers).add("Vary", "Accept-Encoding");
+        verify(httpExchange).sendResponseHeaders(304, -1L);
+        assertThat(outputStream.size()).isZero();
+    }
+
+    @Test
+    void eTagOfIdentityVariantDoesNotMatchGzippedVariant() throws IOException {
+        when(httpExchange.getRequestURI()).thenReturn(URI.create("/dashboard/static/js/test.js"));
+        requestHeaders.add("Accept-Encoding", "gzip");
+        requestHeaders.add("If-None-Match", staticFileHttpHandler.getStaticAsset("static/js/test.js").getETag());
+
+        staticFileHttpHandler.handle(httpExchange);
+
+        verify(headers).add("Content-Encoding", "gzip");
+        verify(httpExchange).sendResponseHeaders(eq(200), anyLong());
+    }
+
     private String getResourceContent(String resourcePath) throws IOException {
         URL resource = this.getClass().getClassLoader().getResource(resourcePath);
         if (resource == null) return null;
@@ -0,0 +1,126 @@
+package org.jobrunr.dashboard.server.sse;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServerSentEventHandlerTest {
+
+    private List<SseExchange> createdSseExchanges;
+    private ServerSentEventHandler serverSentEventHandler;
+
+    @BeforeEach
+    void setUp() {
+        createdSseExchanges = new ArrayList<>();
+        serverSentEventHandler = new ServerSentEventHandler("/sse", Duration.ofSeconds(30)) {
+            @Override
+            protected SseExchange createSseExchange(HttpExchange httpExchange) throws IOException {
+                final SseExchange sseExchange = new SseExchange(httpExchange);
+                createdSseExchanges.add(sseExchange);
+                return sseExchange;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        serverSentEventHandler.close();
+    }
+
+    @Test
+    void heartbeatIsSentToActiveSseExchanges() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serverSentEventHandler.handle(createHttpExchangeMock(outputStream));
+
+        serverSentEventHandler.sendHeartbeatsAndCloseIdleSseExchanges(Instant.now());
+
+        await().untilAsserted(() -> assertThat(outputStream.toString(UTF_8)).endsWith(":\n\n"));
+        assertThat(createdSseExchanges.get(0).isClosed()).isFalse();
+    }
+
+    @Test
+    void sseExchangesThatCouldNotBeWrittenToWithinIdleTimeoutAreClosed() throws IOException {
+        serverSentEventHandler.handle(createHttpExchangeMock(new ByteArrayOutputStream()));
+
+        serverSentEventHandler.sendHeartbeatsAndCloseIdleSseExchanges(Instant.now().plusSeconds(31));
+
+        await().untilAsserted(() -> assertThat(createdSseExchanges.get(0).isClosed()).isTrue());
+    }
+
+    @Test
+    void blockedSseExchangeDoesNotBlockHeartbeatsOfOtherSseExchangesAndIsClosedAfterWriteTimeout() throws IOException {
+        final BlockingOutputStream blockingOutputStream = new BlockingOutputStream();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serverSentEventHandler.handle(createHttpExchangeMock(blockingOutputStream));
+        serverSentEventHandler.handle(createHttpExchangeMock(outputStream));
+
+        serverSentEventHandler.sendHeartbeatsAndCloseIdleSseExchanges(Instant.now());
+
+        await().untilAsserted(() -> assertThat(outputStream.toString(UTF_8)).endsWith(":\n\n"));
+        await().until(blockingOutputStream::isBlocked);
+        assertThat(createdSseExchanges.get(0).isClosed()).isFalse();
+
+        serverSentEventHandler.sendHeartbeatsAndCloseIdleSseExchanges(Instant.now().plusSeconds(11));
+
+        await().untilAsserted(() -> assertThat(createdSseExchanges.get(0).isClosed()).isTrue());
+        assertThat(createdSseExchanges.get(1).isClosed()).isFalse();
+    }
+
+    private HttpExchange createHttpExchangeMock(OutputStream outputStream) {
+        final HttpExchange httpExchange = mock(HttpExchange.class);
+        when(httpExchange.getResponseBody()).thenReturn(outputStream);
+        when(httpExchange.getResponseHeaders()).thenReturn(new Headers());
+        return httpExchange;
+    }
+
+    /**
+     * Mimics the socket of a client that stopped reading: writes block until the writing thread is interrupted, which closes the stream.
+     */
+    private static class BlockingOutputStream extends OutputStream {
+
+        private final CountDownLatch neverReleased = new CountDownLatch(1);
+        private volatile boolean blocked;
+        private volatile boolean closed;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) throw new IOException("Stream closed");
+            try {
+                blocked = true;
+                neverReleased.await();
+            } catch (InterruptedException e) {
+                closed = true;
+                throw new InterruptedIOException("Write interrupted");
+            } finally {
+                blocked = false;
+            }
+        }
+
+        boolean isBlocked() {
+            return blocked;
+        }
+    }
+}
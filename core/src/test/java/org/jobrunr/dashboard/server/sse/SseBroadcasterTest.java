@@ -0,0 +1,167 @@
+package org.jobrunr.dashboard.server.sse;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SseBroadcasterTest {
+
+    private Queue<Runnable> pendingWrites;
+    private SseBroadcaster sseBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        pendingWrites = new ArrayDeque<>();
+        sseBroadcaster = new SseBroadcaster(pendingWrites::add);
+    }
+
+    @Test
+    void broadcastSendsSameEventToAllSubscribers() throws IOException {
+        final ByteArrayOutputStream outputStream1 = new ByteArrayOutputStream();
+        final ByteArrayOutputStream outputStream2 = new ByteArrayOutputStream();
+        sseBroadcaster.subscribe(createHttpExchangeMock(outputStream1));
+        sseBroadcaster.subscribe(createHttpExchangeMock(outputStream2));
+
+        sseBroadcaster.broadcast("{\"value\":1}");
+        runPendingWrites();
+
+        assertThat(outputStream1.toString(UTF_8)).isEqualTo("\n\nevent\ndata: {\"value\":1}\n\n");
+        assertThat(outputStream2.toString(UTF_8)).isEqualTo("\n\nevent\ndata: {\"value\":1}\n\n");
+    }
+
+    @Test
+    void slowSubscriberOnlyReceivesLatestEvent() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sseBroadcaster.subscribe(createHttpExchangeMock(outputStream));
+
+        sseBroadcaster.broadcast("{\"value\":1}");
+        sseBroadcaster.broadcast("{\"value\":2}");
+        sseBroadcaster.broadcast("{\"value\":3}");
+
+        assertThat(pendingWrites).hasSize(1);
+        runPendingWrites();
+
+        assertThat(outputStream.toString(UTF_8)).isEqualTo("\n\nevent\ndata: {\"value\":3}\n\n");
+    }
+
+    @Test
+    void sameEventIsNotBroadcastTwice() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sseBroadcaster.subscribe(createHttpExchangeMock(outputStream));
+
+        sseBroadcaster.broadcast("{\"value\":1}");
+        runPendingWrites();
+        sseBroadcaster.broadcast("{\"value\":1}");
+
+        assertThat(pendingWrites).isEmpty();
+    }
+
+    @Test
+    void newSubscriberReceivesLastEvent() throws IOException {
+        sseBroadcaster.broadcast("{\"value\":1}");
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sseBroadcaster.subscribe(createHttpExchangeMock(outputStream));
+        runPendingWrites();
+
+        assertThat(outputStream.toString(UTF_8)).isEqualTo("\n\nevent\ndata: {\"value\":1}\n\n");
+    }
+
+    @Test
+    void closedSubscribersAreRemoved() throws IOException {
+        final SseExchange sseExchange = sseBroadcaster.subscribe(createHttpExchangeMock(new ByteArrayOutputStream()));
+        assertThat(sseBroadcaster.getSubscriberCount()).isEqualTo(1);
+
+        sseExchange.close();
+
+        assertThat(sseBroadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void subscriberIsNotClosedIfTheExecutorIsSaturatedButReceivesTheEventOnceAnotherWriteFinished() throws IOException {
+        final SseBroadcaster saturatedSseBroadcaster = new SseBroadcaster(runnable -> {
+            if (!pendingWrites.isEmpty()) throw new RejectedExecutionException("saturated");
+            pendingWrites.add(runnable);
+        });
+        final ByteArrayOutputStream outputStream1 = new ByteArrayOutputStream();
+        final ByteArrayOutputStream outputStream2 = new ByteArrayOutputStream();
+        final SseExchange sseExchange1 = saturatedSseBroadcaster.subscribe(createHttpExchangeMock(outputStream1));
+        final SseExchange sseExchange2 = saturatedSseBroadcaster.subscribe(createHttpExchangeMock(outputStream2));
+
+        saturatedSseBroadcaster.broadcast("{\"value\":1}");
+
+        assertThat(pendingWrites).hasSize(1);
+        assertThat(sseExchange1.isClosed()).isFalse();
+        assertThat(sseExchange2.isClosed()).isFalse();
+        assertThat(saturatedSseBroadcaster.getSubscriberCount()).isEqualTo(2);
+
+        runPendingWrites();
+
+        assertThat(outputStream1.toString(UTF_8)).isEqualTo("\n\nevent\ndata: {\"value\":1}\n\n");
+        assertThat(outputStream2.toString(UTF_8)).isEqualTo("\n\nevent\ndata: {\"value\":1}\n\n");
+    }
+
+    @Test
+    void subscriberIsClosedIfTheExecutorIsShutDown() throws IOException {
+        final ExecutorService executorService = SseBroadcaster.newBoundedExecutorService(1, 1);
+        executorService.shutdown();
+        final SseBroadcaster shutDownSseBroadcaster = new SseBroadcaster(executorService);
+        final SseExchange sseExchange = shutDownSseBroadcaster.subscribe(createHttpExchangeMock(new ByteArrayOutputStream()));
+
+        shutDownSseBroadcaster.broadcast("{\"value\":1}");
+
+        assertThat(sseExchange.isClosed()).isTrue();
+        assertThat(shutDownSseBroadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void defaultExecutorIsBounded() {
+        final CountDownLatch blockedSends = new CountDownLatch(1);
+        final ExecutorService executorService = SseBroadcaster.newBoundedExecutorService(1, 1);
+        try {
+            executorService.execute(() -> awaitQuietly(blockedSends));
+            executorService.execute(() -> awaitQuietly(blockedSends));
+
+            assertThatThrownBy(() -> executorService.execute(() -> awaitQuietly(blockedSends))).isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            blockedSends.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch countDownLatch) {
+        try {
+            countDownLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runPendingWrites() {
+        while (!pendingWrites.isEmpty()) {
+            pendingWrites.poll().run();
+        }
+    }
+
+    private HttpExchange createHttpExchangeMock(ByteArrayOutputStream outputStream) {
+        final HttpExchange httpExchange = mock(HttpExchange.class);
+        when(httpExchange.getResponseBody()).thenReturn(outputStream);
+        when(httpExchange.getResponseHeaders()).thenReturn(new Headers());
+        return httpExchange;
+    }
+}
@@ -3,7 +3,7 @@ package org.jobrunr.dashboard.sse;
 import org.jobrunr.utils.mapper.JsonMapper;
 import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
 
-public class JacksonJobStatsSseExchangeTest extends AbstractJobStatsSseExchangeTest {
+public class JacksonJobStatsSseBroadcasterTest extends AbstractJobStatsSseBroadcasterTest {
 
     @Override
     protected JsonMapper jsonMapper() {
@@ -0,0 +1,77 @@
+package org.jobrunr.dashboard.ui.model;
+
+import org.jobrunr.storage.Page;
+import org.jobrunr.storage.RecurringJobsResult;
+import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.jobs.RecurringJobTestBuilder.aDefaultRecurringJob;
+
+class RecurringJobUIModelsTest {
+
+    private RecurringJobUIModels recurringJobUIModels;
+
+    @BeforeEach
+    void setUp() {
+        recurringJobUIModels = new RecurringJobUIModels(new RecurringJobsResult(asList(
+                aDefaultRecurringJob().withId("b-import-sales").withName("Import sales data").build(),
+                aDefaultRecurringJob().withId("a-send-mails").withName("Send newsletter").build(),
+                aDefaultRecurringJob().withId("c-cleanup").withName("Cleanup sales reports").build()
+        )));
+    }
+
+    @Test
+    void getPageSortsOnRequestedField() {
+        Page<RecurringJobUIModel> pageSortedOnId = recurringJobUIModels.getPage(new OffsetBasedPageRequest("id:ASC", 0, 20), null);
+        assertThat(pageSortedOnId.getItems()).extracting("id").containsExactly("a-send-mails", "b-import-sales", "c-cleanup");
+
+        Page<RecurringJobUIModel> pageSortedOnNameDesc = recurringJobUIModels.getPage(new OffsetBasedPageRequest("jobName:DESC", 0, 20), null);
+        assertThat(pageSortedOnNameDesc.getItems()).extracting("id").containsExactly("a-send-mails", "b-import-sales", "c-cleanup");
+
+        Page<RecurringJobUIModel> pageSortedOnNameAsc = recurringJobUIModels.getPage(new OffsetBasedPageRequest("jobName:ASC", 0, 20), null);
+        assertThat(pageSortedOnNameAsc.getItems()).extracting("id").containsExactly("c-cleanup", "b-import-sales", "a-send-mails");
+    }
+
+    @Test
+    void getPageReturnsRequestedPage() {
+        Page<RecurringJobUIModel> page = recurringJobUIModels.getPage(new OffsetBasedPageRequest("id:ASC", 2, 2), null);
+
+        assertThat(page.getTotal()).isEqualTo(3);
+        assertThat(page.getItems()).extracting("id").containsExactly("c-cleanup");
+    }
+
+    @Test
+    void getPageFiltersOnIdAndName() {
+        Page<RecurringJobUIModel> page = recurringJobUIModels.getPage(new OffsetBasedPageRequest("id:ASC", 0, 20), "SALES");
+
+        assertThat(page.getTotal()).isEqualTo(2);
+        assertThat(page.getItems()).extracting("id").containsExactly("b-import-sales", "c-cleanup");
+    }
+
+    @Test
+    void recurringJobsCanBeFoundById() {
+        assertThat(recurringJobUIModels.getRecurringJobById("a-send-mails")).hasValueSatisfying(recurringJob -> assertThat(recurringJob.getJobName()).isEqualTo("Send newsletter"));
+        assertThat(recurringJobUIModels.getRecurringJobById("unknown")).isEmpty();
+    }
+
+    @Test
+    void withNextRunsAfterOnlyRecalculatesNextRunsInThePast() {
+        assertThat(recurringJobUIModels.withNextRunsAfter(Instant.now())).isSameAs(recurringJobUIModels);
+
+        Instant inTwentyFiveHours = Instant.now().plusSeconds(3600 * 25);
+        assertThat(recurringJobUIModels.getPage(new OffsetBasedPageRequest("id:ASC", 0, 20), null).getItems())
+                .allSatisfy(recurringJobUIModel -> assertThat(recurringJobUIModel.getNextRun()).isBefore(inTwentyFiveHours));
+
+        RecurringJobUIModels updatedRecurringJobUIModels = recurringJobUIModels.withNextRunsAfter(inTwentyFiveHours);
+        assertThat(updatedRecurringJobUIModels).isNotSameAs(recurringJobUIModels);
+        assertThat(updatedRecurringJobUIModels.getPage(new OffsetBasedPageRequest("id:ASC", 0, 20), null).getItems())
+                .allSatisfy(recurringJobUIModel -> assertThat(recurringJobUIModel.getNextRun()).isAfter(inTwentyFiveHours));
+        assertThat(updatedRecurringJobUIModels.size()).isEqualTo(3);
+        assertThat(updatedRecurringJobUIModels.getLastModifiedHash()).isEqualTo(recurringJobUIModels.getLastModifiedHash());
+    }
+}
@@ -0,0 +1,115 @@
+package org.jobrunr.jobs.context;
+
+import org.jobrunr.jobs.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.jobrunr.jobs.JobTestBuilder.aJobInProgress;
+
+class JobDashboardLogBufferTest {
+
+    private Job job;
+    private List<JobDashboardLogEntry> flushedEntries;
+    private JobDashboardLogBuffer jobDashboardLogBuffer;
+
+    @BeforeEach
+    void setUpJobDashboardLogBuffer() {
+        job = aJobInProgress().build();
+        flushedEntries = new ArrayList<>();
+        jobDashboardLogBuffer = new JobDashboardLogBuffer(job, 5, 3, buffer -> flushedEntries.addAll(buffer.drainPendingEntries()));
+    }
+
+    @AfterEach
+    void unbindJobDashboardLogBuffer() {
+        JobDashboardLogBuffer.unbind();
+    }
+
+    @Test
+    void logLinesAreWrittenToTheBufferAndNotToTheJobMetadata() {
+        JobDashboardLogger jobDashboardLogger = new JobDashboardLogger(job, jobDashboardLogBuffer);
+
+        jobDashboardLogger.info("info");
+        jobDashboardLogger.warn("warn");
+
+        assertThat(job.getMetadata()).isEmpty();
+        assertThat(jobDashboardLogBuffer.drainPendingEntries())
+                .extracting(JobDashboardLogEntry::getStateIndex, JobDashboardLogEntry::getSequenceNbr, JobDashboardLogEntry::getType, JobDashboardLogEntry::getMessage)
+                .containsExactly(
+                        tuple(2, 1, JobDashboardLogEntry.Type.INFO, "info"),
+                        tuple(2, 2, JobDashboardLogEntry.Type.WARN, "warn"));
+    }
+
+    @Test
+    void bufferIsFlushedOnceTheThresholdIsReached() {
+        JobDashboardLogger jobDashboardLogger = new JobDashboardLogger(job, jobDashboardLogBuffer);
+
+        jobDashboardLogger.info("line 1");
+        jobDashboardLogger.info("line 2");
+        assertThat(flushedEntries).isEmpty();
+
+        jobDashboardLogger.info("line 3");
+        assertThat(flushedEntries).hasSize(3);
+        assertThat(jobDashboardLogBuffer.getPendingEntryCount()).isZero();
+    }
+
+    @Test
+    void logLinesAreTruncatedOnceTheMaximumIsReached() {
+        JobDashboardLogger jobDashboardLogger = new JobDashboardLogger(job, jobDashboardLogBuffer);
+
+        for (int i = 1; i <= 10; i++) {
+            jobDashboardLogger.info("line " + i);
+        }
+        jobDashboardLogBuffer.close();
+        flushedEntries.addAll(jobDashboardLogBuffer.drainPendingEntries());
+
+        assertThat(jobDashboardLogBuffer.getTruncatedLogLineCount()).isEqualTo(5);
+        assertThat(flushedEntries)
+                .extracting(JobDashboardLogEntry::getMessage)
+                .containsExactly("line 1", "line 2", "line 3", "line 4", "line 5",
+                        "The maximum of 5 log lines is reached - further log lines are not shown.",
+                        "5 log lines were not shown as the maximum of 5 log lines was reached.");
+    }
+
+    @Test
+    void progressUpdatesAreCoalesced() {
+        JobDashboardProgressBar jobDashboardProgressBar = new JobDashboardProgressBar(job, 10L, jobDashboardLogBuffer);
+
+        jobDashboardProgressBar.incrementSucceeded();
+        jobDashboardProgressBar.incrementSucceeded();
+        jobDashboardProgressBar.incrementFailed();
+
+        List<JobDashboardLogEntry> entries = jobDashboardLogBuffer.drainPendingEntries();
+        assertThat(job.getMetadata()).isEmpty();
+        assertThat(entries)
+                .extracting(JobDashboardLogEntry::getType, JobDashboardLogEntry::getTotalAmount, JobDashboardLogEntry::getSucceededAmount, JobDashboardLogEntry::getFailedAmount)
+                .containsExactly(tuple(JobDashboardLogEntry.Type.PROGRESS, 10L, 2L, 1L));
+        assertThat(jobDashboardLogBuffer.drainPendingEntries()).isEmpty();
+    }
+
+    @Test
+    void jobContextUsesTheBufferBoundToTheThreadOnlyForItsJob() {
+        JobDashboardLogBuffer.bind(jobDashboardLogBuffer);
+
+        new JobContext(aJobInProgress().build()).logger().info("other job");
+        assertThat(jobDashboardLogBuffer.getPendingEntryCount()).isZero();
+
+        new JobContext(job).logger().info("this job");
+        assertThat(jobDashboardLogBuffer.getPendingEntryCount()).isEqualTo(1);
+        assertThat(job.getMetadata()).isEmpty();
+    }
+
+    @Test
+    void longMessagesAreTruncated() {
+        JobDashboardLogEntry logEntry = JobDashboardLogEntry.logLine(job.getId(), 2, 1, JobDashboardLogger.Level.INFO, "a".repeat(5000));
+
+        assertThat(logEntry.getMessage())
+                .hasSize(JobDashboardLogEntry.MAX_MESSAGE_LENGTH)
+                .endsWith("...");
+    }
+}
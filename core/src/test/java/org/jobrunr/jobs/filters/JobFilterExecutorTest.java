@@ -0,0 +1,237 @@
+package org.jobrunr.jobs.filters;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.stubs.Mocks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.jobrunr.jobs.JobTestBuilder.aJobInProgress;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.jobs.filters.JobFilterExecutor.DEFAULT_DEGRADED_THRESHOLD;
+
+class JobFilterExecutorTest {
+
+    BackgroundJobServer backgroundJobServer = Mocks.ofBackgroundJobServer();
+
+    RecordingFilter syncFilter;
+    AsyncRecordingFilter asyncFilter;
+    JobDefaultFilters jobDefaultFilters;
+    JobFilterExecutor jobFilterExecutor;
+
+    @BeforeEach
+    void setUp() {
+        syncFilter = new RecordingFilter();
+        asyncFilter = new AsyncRecordingFilter();
+        jobDefaultFilters = new JobDefaultFilters(syncFilter, asyncFilter);
+        jobFilterExecutor = jobDefaultFilters.getJobFilterExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncFilter.unblock();
+        jobFilterExecutor.stopAsyncExecution(ofSeconds(5));
+    }
+
+    @Test
+    void asyncJobFiltersRunOnCallingThreadIfAsyncExecutionIsNotStarted() {
+        Job job = aJobInProgress().build();
+
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters();
+
+        assertThat(syncFilter.threads).containsExactly(Thread.currentThread().getName());
+        assertThat(asyncFilter.threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void asyncJobFiltersRunOnJobFilterThreadOnceAsyncExecutionIsStarted() {
+        jobFilterExecutor.startAsyncExecution(1, 10);
+        Job job = aJobInProgress().build();
+
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters();
+
+        await().atMost(ofSeconds(5)).until(() -> asyncFilter.threads.size() == 1);
+        assertThat(syncFilter.threads).containsExactly(Thread.currentThread().getName());
+        assertThat(asyncFilter.threads.get(0)).contains("backgroundjob-filter-pool");
+    }
+
+    @Test
+    void asyncApplyStateFiltersGetTheStatesOfTheMomentTheyWereApplied() {
+        jobFilterExecutor.startAsyncExecution(1, 10);
+        asyncFilter.block();
+        Job job = anEnqueuedJob().build();
+        job.getStateChangesForJobFilters(); // clear
+        job.startProcessingOn(backgroundJobServer);
+
+        new JobPerformingFilters(job, jobDefaultFilters).runOnStateAppliedFilters();
+        job.succeeded();
+        asyncFilter.unblock();
+
+        await().atMost(ofSeconds(5)).until(() -> asyncFilter.stateChanges.size() == 1);
+        assertThat(asyncFilter.stateChanges).containsExactly("ENQUEUED->PROCESSING");
+        assertThat(syncFilter.stateChanges).containsExactly("ENQUEUED->PROCESSING");
+    }
+
+    @Test
+    void callerRunsAsyncJobFilterIfQueueIsFull() {
+        jobFilterExecutor.startAsyncExecution(1, 1);
+        asyncFilter.block();
+        Job job = aJobInProgress().build();
+
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters(); // blocks the filter thread
+        await().atMost(ofSeconds(5)).until(() -> asyncFilter.blockedInvocations.getCount() == 0);
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters(); // queued
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters(); // run by caller
+
+        assertThat(asyncFilter.threads).contains(Thread.currentThread().getName());
+        assertThat(statsOf(AsyncRecordingFilter.class).getAsyncInvocationsRunByCaller()).isEqualTo(1);
+
+        asyncFilter.unblock();
+        await().atMost(ofSeconds(5)).until(() -> statsOf(AsyncRecordingFilter.class).getInvocations() == 3);
+    }
+
+    @Test
+    void jobFilterIsMarkedDegradedIfItExceedsItsTimeBudgetRepeatedlyAndRecoversIfItRunsWithinTimeBudgetAgain() {
+        jobFilterExecutor.setTimeBudget(ofMillis(5));
+        Job job = aJobInProgress().build();
+
+        syncFilter.duration = ofMillis(10);
+        for (int i = 0; i < DEFAULT_DEGRADED_THRESHOLD - 1; i++) {
+            new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters();
+        }
+        assertThat(statsOf(RecordingFilter.class).isDegraded()).isFalse();
+
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters();
+        assertThat(statsOf(RecordingFilter.class).isDegraded()).isTrue();
+        assertThat(statsOf(RecordingFilter.class).getInvocationsOverTimeBudget()).isEqualTo(DEFAULT_DEGRADED_THRESHOLD);
+
+        syncFilter.duration = Duration.ZERO;
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters();
+        assertThat(statsOf(RecordingFilter.class).isDegraded()).isFalse();
+        assertThat(statsOf(RecordingFilter.class).getInvocations()).isEqualTo(DEFAULT_DEGRADED_THRESHOLD + 1);
+    }
+
+    @Test
+    void invocationsOfDegradedAsyncJobFilterAreDroppedIfQueueIsFull() {
+        jobFilterExecutor.setTimeBudget(ofMillis(5));
+        asyncFilter.duration = ofMillis(10);
+        Job job = aJobInProgress().build();
+        for (int i = 0; i < DEFAULT_DEGRADED_THRESHOLD; i++) {
+            new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters();
+        }
+        assertThat(statsOf(AsyncRecordingFilter.class).isDegraded()).isTrue();
+
+        jobFilterExecutor.startAsyncExecution(1, 1);
+        asyncFilter.block();
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters(); // blocks the filter thread
+        await().atMost(ofSeconds(5)).until(() -> asyncFilter.blockedInvocations.getCount() == 0);
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters(); // queued
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters(); // dropped
+
+        assertThat(statsOf(AsyncRecordingFilter.class).getAsyncInvocationsDropped()).isEqualTo(1);
+        assertThat(statsOf(AsyncRecordingFilter.class).getAsyncInvocationsRunByCaller()).isZero();
+    }
+
+    @Test
+    void failuresOfJobFiltersAreRecorded() {
+        Job job = aJobInProgress().build();
+        syncFilter.failure = new IllegalStateException("boom");
+
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters();
+
+        assertThat(statsOf(RecordingFilter.class).getFailures()).isEqualTo(1);
+        assertThat(statsOf(AsyncRecordingFilter.class).getFailures()).isZero();
+    }
+
+    @Test
+    void statsListenerIsCalledOnceForEveryNewJobFilter() {
+        List<String> registeredJobFilters = new CopyOnWriteArrayList<>();
+        jobFilterExecutor.addJobFilterStatsListener(stats -> registeredJobFilters.add(stats.getJobFilter()));
+        Job job = aJobInProgress().build();
+
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingFilters();
+        new JobPerformingFilters(job, jobDefaultFilters).runOnJobProcessingSucceededFilters();
+
+        assertThat(registeredJobFilters).containsExactlyInAnyOrder(RecordingFilter.class.getName(), AsyncRecordingFilter.class.getName());
+    }
+
+    private JobFilterStats statsOf(Class<? extends JobFilter> jobFilterClass) {
+        return jobFilterExecutor.getJobFilterStats().stream()
+                .filter(stats -> stats.getJobFilter().equals(jobFilterClass.getName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No stats for " + jobFilterClass.getName()));
+    }
+
+    public static class RecordingFilter implements ApplyStateFilter, JobServerFilter {
+
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final List<String> stateChanges = new CopyOnWriteArrayList<>();
+        volatile Duration duration = Duration.ZERO;
+        volatile RuntimeException failure;
+        volatile CountDownLatch blockedInvocations = new CountDownLatch(0);
+        volatile CountDownLatch unblock = new CountDownLatch(0);
+        private CountDownLatch blockNextInvocation;
+
+        @Override
+        public void onStateApplied(Job job, JobState oldState, JobState newState) {
+            stateChanges.add(oldState.getName() + "->" + newState.getName());
+            record();
+        }
+
+        @Override
+        public void onProcessing(Job job) {
+            record();
+        }
+
+        @Override
+        public void onProcessingSucceeded(Job job) {
+            record();
+        }
+
+        synchronized void block() {
+            blockedInvocations = new CountDownLatch(1);
+            unblock = new CountDownLatch(1);
+            blockNextInvocation = unblock;
+        }
+
+        void unblock() {
+            unblock.countDown();
+        }
+
+        private void record() {
+            threads.add(Thread.currentThread().getName());
+            try {
+                CountDownLatch block = takeBlockNextInvocation();
+                if (block != null) {
+                    blockedInvocations.countDown();
+                    block.await(5, SECONDS);
+                }
+                Thread.sleep(duration.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) throw failure;
+        }
+
+        private synchronized CountDownLatch takeBlockNextInvocation() {
+            CountDownLatch result = blockNextInvocation;
+            blockNextInvocation = null;
+            return result;
+        }
+    }
+
+    public static class AsyncRecordingFilter extends RecordingFilter implements AsyncJobFilter {
+    }
+}
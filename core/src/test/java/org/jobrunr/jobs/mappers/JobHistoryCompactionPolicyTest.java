@@ -0,0 +1,260 @@
+package org.jobrunr.jobs.mappers;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.JobTestBuilder;
+import org.jobrunr.jobs.context.JobDashboardLogger.JobDashboardLogLines;
+import org.jobrunr.jobs.context.JobDashboardProgressBar.JobDashboardProgress;
+import org.jobrunr.jobs.filters.RetryFilter;
+import org.jobrunr.jobs.states.FailedState;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.RetriesSummaryState;
+import org.jobrunr.jobs.states.ScheduledState;
+import org.jobrunr.stubs.Mocks;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.time.Instant.now;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jobrunr.jobs.JobDetailsTestBuilder.systemOutPrintLnJobDetails;
+import static org.jobrunr.jobs.JobTestBuilder.aFailedJob;
+import static org.jobrunr.jobs.JobTestBuilder.aJob;
+import static org.jobrunr.jobs.context.JobDashboardLogger.logKey;
+import static org.jobrunr.jobs.context.JobDashboardProgressBar.progressBarKey;
+import static org.jobrunr.jobs.mappers.JobHistoryCompactionPolicy.DEFAULT_AMOUNT_OF_LAST_STATES_TO_KEEP;
+import static org.jobrunr.jobs.mappers.JobHistoryCompactionPolicy.noJobHistoryCompaction;
+import static org.jobrunr.jobs.mappers.JobHistoryCompactionPolicy.usingStandardJobHistoryCompactionPolicy;
+
+class JobHistoryCompactionPolicyTest {
+
+    JobMapper jobMapper = new JobMapper(new JacksonJsonMapper());
+    JobMapper compactingJobMapper = new JobMapper(new JacksonJsonMapper(), usingStandardJobHistoryCompactionPolicy());
+
+    @Test
+    void noJobHistoryCompactionReturnsSameJob() {
+        Job job = aJobWithRetries(20).build();
+
+        assertThat(noJobHistoryCompaction().compact(job)).isSameAs(job);
+    }
+
+    @Test
+    void jobWithShortHistoryAndShallowStackTracesIsNotCompacted() {
+        Job job = aFailedJob().build();
+        Job onceCompacted = usingStandardJobHistoryCompactionPolicy().compact(job);
+
+        assertThat(usingStandardJobHistoryCompactionPolicy().compact(onceCompacted)).isSameAs(onceCompacted);
+    }
+
+    @Test
+    void compactedJobIsMuchSmallerWhenSerialized() {
+        Job job = aJobWithRetries(20).build();
+
+        String json = jobMapper.serializeJob(job);
+        String compactedJson = compactingJobMapper.serializeJob(job);
+
+        assertThat(compactedJson.length()).isLessThan(json.length() / 5);
+    }
+
+    @Test
+    void compactedJobKeepsVersionFirstStateAndLastStates() {
+        Job job = aJobWithRetries(20).withVersion(83).build();
+
+        Job compactedJob = jobMapper.deserializeJob(compactingJobMapper.serializeJob(job));
+
+        assertThat(compactedJob.getVersion()).isEqualTo(job.getVersion());
+        assertThat(compactedJob.getId()).isEqualTo(job.getId());
+        assertThat(compactedJob.getJobStates().get(0).getName()).isEqualTo(job.getJobStates().get(0).getName());
+        assertThat(compactedJob.getJobStates().get(0).getCreatedAt()).isEqualTo(job.getJobStates().get(0).getCreatedAt());
+        assertThat(lastStates(compactedJob)).isEqualTo(lastStates(job));
+        assertThat(compactedJob.getJobStates()).hasSize(1 + 1 + DEFAULT_AMOUNT_OF_LAST_STATES_TO_KEEP);
+        assertThat(compactedJob.getJobStates().get(1)).isInstanceOf(RetriesSummaryState.class);
+    }
+
+    @Test
+    void compactedJobDoesNotChangeTheOriginalJob() {
+        Job job = aJobWithRetries(20).build();
+        int amountOfStates = job.getJobStates().size();
+        String stackTrace = job.<FailedState>getLastJobStateOfType(FailedState.class).orElseThrow().getStackTrace();
+
+        compactingJobMapper.serializeJob(job);
+
+        assertThat(job.getJobStates()).hasSize(amountOfStates);
+        assertThat(job.<FailedState>getLastJobStateOfType(FailedState.class).orElseThrow().getStackTrace()).isEqualTo(stackTrace);
+    }
+
+    @Test
+    void retriesSummaryStateKeepsAmountOfFailuresAndPeriod() {
+        Job job = aJobWithRetries(20).build();
+
+        Job compactedJob = jobMapper.deserializeJob(compactingJobMapper.serializeJob(job));
+
+        RetriesSummaryState retriesSummaryState = (RetriesSummaryState) compactedJob.getJobStates().get(1);
+        assertThat(compactedJob.getAmountOfFailures()).isEqualTo(job.getAmountOfFailures()).isEqualTo(21);
+        assertThat(retriesSummaryState.getFirstAttemptAt()).isEqualTo(job.getJobStates().get(1).getCreatedAt());
+        assertThat(retriesSummaryState.getCompactedStates() + 1 + DEFAULT_AMOUNT_OF_LAST_STATES_TO_KEEP).isEqualTo(job.getJobStates().size());
+        assertThat(retriesSummaryState.getMessage()).isEqualTo("An exception occurred");
+        assertThat(retriesSummaryState.getExceptionType()).isEqualTo(IllegalStateException.class.getName());
+    }
+
+    @Test
+    void retryFilterTakesDecisionOnCompactedJobAsOnFullJob() {
+        Job job = aJobWithRetries(20).withAmountOfRetries(25).build();
+        Job compactedJob = jobMapper.deserializeJob(compactingJobMapper.serializeJob(job));
+
+        new RetryFilter().onStateElection(job, job.getJobState());
+        new RetryFilter().onStateElection(compactedJob, compactedJob.getJobState());
+
+        assertThat(job.getJobState()).isInstanceOf(ScheduledState.class);
+        assertThat(compactedJob.getJobState()).isInstanceOf(ScheduledState.class);
+        assertThat(((ScheduledState) compactedJob.getJobState()).getReason())
+                .isEqualTo(((ScheduledState) job.getJobState()).getReason())
+                .isEqualTo("Retry 21 of 25");
+    }
+
+    @Test
+    void retryFilterDoesNotRetryCompactedJobIfMaxAmountOfRetriesIsReached() {
+        Job compactedJob = jobMapper.deserializeJob(compactingJobMapper.serializeJob(aJobWithRetries(20).build()));
+
+        new RetryFilter().onStateElection(compactedJob, compactedJob.getJobState());
+
+        assertThat(compactedJob.getJobState()).isInstanceOf(FailedState.class);
+    }
+
+    @Test
+    void compactingAnAlreadyCompactedJobMergesTheRetriesSummaries() {
+        Job job = aJobWithRetries(20).build();
+        Job compactedJob = jobMapper.deserializeJob(compactingJobMapper.serializeJob(job));
+        for (int i = 0; i < 5; i++) {
+            compactedJob.scheduleAt(now(), "Retry");
+            compactedJob.enqueue();
+            compactedJob.startProcessingOn(Mocks.ofBackgroundJobServer());
+            compactedJob.failed("Another exception occurred", new IllegalStateException());
+        }
+
+        Job recompactedJob = jobMapper.deserializeJob(compactingJobMapper.serializeJob(compactedJob));
+
+        assertThat(recompactedJob.getJobStates()).hasSize(1 + 1 + DEFAULT_AMOUNT_OF_LAST_STATES_TO_KEEP);
+        assertThat(recompactedJob.getJobStates().stream().filter(RetriesSummaryState.class::isInstance)).hasSize(1);
+        assertThat(recompactedJob.getAmountOfFailures()).isEqualTo(26);
+    }
+
+    @Test
+    void stackTraceIsTrimmedToMaxDepthPerCause() {
+        JobHistoryCompactionPolicy policy = usingStandardJobHistoryCompactionPolicy().andMaxStackTraceDepth(5);
+        String stackTrace = new FailedState("a message", deepException(50)).getStackTrace();
+
+        String trimmedStackTrace = policy.trimStackTrace(stackTrace);
+
+        assertThat(trimmedStackTrace.lines().filter(line -> line.trim().startsWith("at "))).hasSize(10); // 5 for the exception, 5 for its cause
+        assertThat(trimmedStackTrace)
+                .startsWith(IllegalStateException.class.getName() + ": Something went wrong")
+                .contains("Caused by: " + IllegalArgumentException.class.getName() + ": the cause")
+                .contains("frames trimmed");
+        assertThat(policy.trimStackTrace(trimmedStackTrace)).isEqualTo(trimmedStackTrace);
+    }
+
+    @Test
+    void repeatedCausesAreOnlyKeptOnce() {
+        JobHistoryCompactionPolicy policy = usingStandardJobHistoryCompactionPolicy();
+        String stackTrace = "java.lang.IllegalStateException: boom\n" +
+                "\tat a.b.C.d(C.java:1)\n" +
+                "Caused by: java.io.IOException: disk full\n" +
+                "\tat a.b.E.f(E.java:2)\n" +
+                "\tat a.b.E.g(E.java:3)\n" +
+                "Caused by: java.io.IOException: disk full\n" +
+                "\tat a.b.E.f(E.java:2)\n" +
+                "\tat a.b.E.g(E.java:3)";
+
+        String trimmedStackTrace = policy.trimStackTrace(stackTrace);
+
+        assertThat(trimmedStackTrace).isEqualTo("java.lang.IllegalStateException: boom\n" +
+                "\tat a.b.C.d(C.java:1)\n" +
+                "Caused by: java.io.IOException: disk full\n" +
+                "\tat a.b.E.f(E.java:2)\n" +
+                "\tat a.b.E.g(E.java:3)\n" +
+                "Caused by: java.io.IOException: disk full\n" +
+                "\t... (same cause as above)");
+        assertThat(policy.trimStackTrace(trimmedStackTrace)).isEqualTo(trimmedStackTrace);
+    }
+
+    @Test
+    void stackTraceIdenticalToLaterFailureIsOmitted() {
+        Job job = aJobWithRetries(2).build();
+
+        Job compactedJob = usingStandardJobHistoryCompactionPolicy().compact(job);
+
+        List<FailedState> failedStates = compactedJob.getJobStates().stream()
+                .filter(FailedState.class::isInstance)
+                .map(FailedState.class::cast)
+                .collect(toList());
+        assertThat(failedStates).hasSize(3);
+        assertThat(failedStates.get(2).getStackTrace()).contains("Caused by:");
+        assertThat(failedStates.get(0).getStackTrace()).startsWith("Stack trace omitted as it is identical to the one of the failure at " + failedStates.get(2).getCreatedAt());
+        assertThat(failedStates.get(1).getStackTrace()).startsWith("Stack trace omitted as it is identical to the one of the failure at " + failedStates.get(2).getCreatedAt());
+    }
+
+    @Test
+    void dashboardLogsStayAttachedToTheirProcessingAttemptAfterCompaction() {
+        Job job = aJobWithRetries(20).build();
+        int lastProcessingStateNbr = job.getJobStates().size() - 1;
+        job.getMetadata().put(logKey(2), new JobDashboardLogLines());
+        job.getMetadata().put(logKey(lastProcessingStateNbr), new JobDashboardLogLines());
+        job.getMetadata().put(progressBarKey(lastProcessingStateNbr), new JobDashboardProgress(10L));
+
+        Job compactedJob = jobMapper.deserializeJob(compactingJobMapper.serializeJob(job));
+
+        assertThat(compactedJob.getJobStates()).hasSizeLessThan(job.getJobStates().size());
+        assertThat(compactedJob.getJobStateNbr()).isEqualTo(job.getJobStateNbr());
+        assertThat(compactedJob.getJobState(-2)).isInstanceOf(ProcessingState.class);
+        assertThat(compactedJob.getJobStateNbr(compactedJob.getJobStates().size() - 2)).isEqualTo(lastProcessingStateNbr);
+        assertThat(compactedJob.getMetadata())
+                .containsKeys(logKey(lastProcessingStateNbr), progressBarKey(lastProcessingStateNbr))
+                .doesNotContainKey(logKey(2));
+        assertThat(jobMapper.deserializeJob(compactingJobMapper.serializeJob(compactedJob)).getJobStateNbr()).isEqualTo(job.getJobStateNbr());
+    }
+
+    @Test
+    void amountOfLastStatesToKeepMustBeAtLeastThree() {
+        assertThatThrownBy(() -> usingStandardJobHistoryCompactionPolicy().andAmountOfLastStatesToKeep(2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> lastStates(Job job) {
+        List<JobState> jobStates = job.getJobStates();
+        return jobStates.subList(jobStates.size() - DEFAULT_AMOUNT_OF_LAST_STATES_TO_KEEP, jobStates.size()).stream()
+                .map(jobState -> jobState.getName() + "@" + jobState.getCreatedAt())
+                .collect(toList());
+    }
+
+    private static JobTestBuilder aJobWithRetries(int amountOfRetries) {
+        JobTestBuilder jobTestBuilder = aJob()
+                .withName("failing job")
+                .withJobDetails(systemOutPrintLnJobDetails("a test"))
+                .withEnqueuedState(now().minusSeconds(24 * 60 * 60L));
+        for (int i = 0; i <= amountOfRetries; i++) {
+            jobTestBuilder
+                    .withProcessingState()
+                    .withFailedState("An exception occurred", deepException(60));
+            if (i < amountOfRetries) {
+                jobTestBuilder
+                        .withState(new ScheduledState(now(), "Retry " + (i + 1) + " of " + amountOfRetries))
+                        .withEnqueuedState();
+            }
+        }
+        return jobTestBuilder;
+    }
+
+    private static Exception deepException(int depth) {
+        if (depth > 0) return deepException(depth - 1);
+        return new IllegalStateException("Something went wrong", deepCause(50));
+    }
+
+    private static Exception deepCause(int depth) {
+        if (depth > 0) return deepCause(depth - 1);
+        return new IllegalArgumentException("the cause");
+    }
+}
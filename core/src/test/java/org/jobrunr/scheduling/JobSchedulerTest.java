@@ -14,18 +14,29 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.MDC;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -104,6 +115,64 @@ class JobSchedulerTest {
         assertThat(jobClientLogFilter.onCreated).isTrue();
     }
 
+    @Test
+    void inTransactionSavesJobsOnTheConnectionOfTheCallerAndCommits() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(storageProvider.supportsSavingInTransaction()).thenReturn(true);
+        when(storageProvider.saveInTransaction(eq(connection), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        jobScheduler.inTransaction(connection, () -> jobScheduler.enqueue(() -> testService.doWork()));
+
+        InOrder inOrder = inOrder(connection, storageProvider);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(storageProvider).saveInTransaction(eq(connection), anyList());
+        inOrder.verify(connection).commit();
+        inOrder.verify(storageProvider).onTransactionCommitted(anyList());
+        inOrder.verify(connection).setAutoCommit(true);
+        verify(connection, never()).rollback();
+    }
+
+    @Test
+    void inTransactionRollsBackIfWorkFails() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(storageProvider.supportsSavingInTransaction()).thenReturn(true);
+
+        assertThatThrownBy(() -> jobScheduler.inTransaction(connection, () -> {
+            throw new IllegalStateException("Order could not be saved");
+        })).isInstanceOf(IllegalStateException.class);
+
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).rollback();
+        inOrder.verify(connection).setAutoCommit(true);
+        verify(connection, never()).commit();
+        verify(storageProvider, never()).onTransactionCommitted(anyList());
+    }
+
+    @Test
+    void inTransactionKeepsOriginalExceptionIfRollbackAndRestoringAutoCommitFail() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(storageProvider.supportsSavingInTransaction()).thenReturn(true);
+        SQLException rollbackException = new SQLException("Connection reset");
+        SQLException restoreAutoCommitException = new SQLException("Connection is closed");
+        doThrow(rollbackException).when(connection).rollback();
+        doNothing().doThrow(restoreAutoCommitException).when(connection).setAutoCommit(anyBoolean());
+
+        assertThatThrownBy(() -> jobScheduler.inTransaction(connection, () -> {
+            throw new IllegalStateException("Order could not be saved");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Order could not be saved")
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(rollbackException, restoreAutoCommitException));
+    }
+
+    @Test
+    void joinTransactionFailsIfStorageProviderDoesNotSupportSavingInTransaction() {
+        assertThatThrownBy(() -> jobScheduler.joinTransaction(mock(Connection.class))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
     private static class JobClientLogFilter implements JobClientFilter, ElectStateFilter, ApplyStateFilter {
 
         private boolean onCreating;
@@ -3,14 +3,18 @@ package org.jobrunr.server;
 import ch.qos.logback.LoggerAssert;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import com.zaxxer.hikari.HikariDataSource;
 import org.jobrunr.SevereJobRunrException;
+import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.server.concurrent.UnresolvableConcurrentJobModificationException;
 import org.jobrunr.server.dashboard.DashboardNotificationManager;
 import org.jobrunr.server.tasks.Task;
 import org.jobrunr.storage.JobRunrMetadata;
 import org.jobrunr.storage.StorageException;
 import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.sql.h2.H2StorageProvider;
 import org.jobrunr.stubs.Mocks;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,12 +24,20 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static java.util.Collections.emptyList;
 import static org.jobrunr.JobRunrAssertions.assertThat;
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -103,6 +115,41 @@ class JobHandlerTest {
         assertThat(logger).hasErrorMessage("FATAL - JobRunr encountered too many storage exceptions. Shutting down. Did you know JobRunr Pro has built-in database fault tolerance? Check out https://www.jobrunr.io/en/documentation/pro/database-fault-tolerance/");
     }
 
+    @Test
+    void jobHandlerBorrowsOneConnectionPerTaskAndReturnsItBeforeTheNextTask() throws SQLException {
+        HikariDataSource dataSource = spy(toHikariDataSource("jdbc:h2:mem:test-job-handler-unit-of-work;DB_CLOSE_DELAY=-1", "sa", "sa"));
+        H2StorageProvider h2StorageProvider = new H2StorageProvider(dataSource);
+        try {
+            h2StorageProvider.setJobMapper(new JobMapper(new JacksonJsonMapper()));
+            when(backgroundJobServer.getStorageProvider()).thenReturn(h2StorageProvider);
+            List<Integer> activeConnectionsDuringTasks = new ArrayList<>();
+            Task taskWithTwoStorageCalls = mockTaskThatUsesStorage(h2StorageProvider, dataSource, activeConnectionsDuringTasks);
+            Task otherTaskWithTwoStorageCalls = mockTaskThatUsesStorage(h2StorageProvider, dataSource, activeConnectionsDuringTasks);
+            JobHandler jobHandler = new JobHandler(backgroundJobServer, taskWithTwoStorageCalls, otherTaskWithTwoStorageCalls) {};
+            clearInvocations(dataSource);
+
+            jobHandler.run();
+
+            verify(dataSource, times(2)).getConnection();
+            assertThat(activeConnectionsDuringTasks).containsExactly(1, 1);
+            assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+        } finally {
+            h2StorageProvider.close();
+            dataSource.close();
+        }
+    }
+
+    private Task mockTaskThatUsesStorage(StorageProvider storageProvider, HikariDataSource dataSource, List<Integer> activeConnectionsDuringTasks) {
+        Task mockedTask = mock(Task.class);
+        doAnswer(invocation -> {
+            storageProvider.getJobStats();
+            storageProvider.getBackgroundJobServers();
+            activeConnectionsDuringTasks.add(dataSource.getHikariPoolMXBean().getActiveConnections());
+            return null;
+        }).when(mockedTask).run(Mockito.any());
+        return mockedTask;
+    }
+
     private Task mockTaskThatThrows(Exception e) {
         Task mockedTask = mock(Task.class);
         doThrow(e)
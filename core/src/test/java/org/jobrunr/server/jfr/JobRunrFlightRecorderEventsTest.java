@@ -0,0 +1,138 @@
+package org.jobrunr.server.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jobrunr.configuration.JobRunr;
+import org.jobrunr.jobs.JobId;
+import org.jobrunr.scheduling.BackgroundJob;
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.storage.InMemoryStorageProvider;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.stubs.TestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.time.Duration.ofMillis;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.TEN_SECONDS;
+import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
+import static org.jobrunr.server.BackgroundJobServerConfiguration.usingStandardBackgroundJobServerConfiguration;
+import static org.jobrunr.server.jfr.JobRunrFlightRecorderEvents.CONCURRENT_JOB_MODIFICATION_RESOLUTION_EVENT;
+import static org.jobrunr.server.jfr.JobRunrFlightRecorderEvents.JOB_CLAIM_EVENT;
+import static org.jobrunr.server.jfr.JobRunrFlightRecorderEvents.JOB_EXECUTION_EVENT;
+import static org.jobrunr.server.jfr.JobRunrFlightRecorderEvents.JOB_STATE_SAVE_EVENT;
+import static org.jobrunr.server.jfr.JobRunrFlightRecorderEvents.TASK_RUN_EVENT;
+
+class JobRunrFlightRecorderEventsTest {
+
+    private StorageProvider storageProvider;
+    private BackgroundJobServer backgroundJobServer;
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        storageProvider = new InMemoryStorageProvider();
+        JobRunr.configure()
+                .useStorageProvider(storageProvider)
+                .useBackgroundJobServer(usingStandardBackgroundJobServerConfiguration().andPollInterval(ofMillis(500)), false)
+                .initialize();
+        backgroundJobServer = JobRunr.getBackgroundJobServer();
+
+        recording = new Recording();
+        recording.enable(JOB_CLAIM_EVENT);
+        recording.enable(JOB_EXECUTION_EVENT);
+        recording.enable(JOB_STATE_SAVE_EVENT);
+        recording.enable(CONCURRENT_JOB_MODIFICATION_RESOLUTION_EVENT);
+        recording.enable(TASK_RUN_EVENT);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        backgroundJobServer.stop();
+        storageProvider.close();
+        recording.close();
+    }
+
+    @Test
+    void eventsAreDisabledIfNoRecordingEnablesThem() {
+        recording.stop();
+
+        assertThat(JobRunrFlightRecorderEvents.beginJobExecution().isEnabled()).isFalse();
+    }
+
+    @Test
+    void eventsAreEmittedForTheJobLifecycleAndTheTaskRuns() throws IOException {
+        backgroundJobServer.start();
+        JobId jobId = BackgroundJob.enqueue(() -> new TestService().doWork());
+        await().atMost(TEN_SECONDS).until(() -> storageProvider.getJobById(jobId).hasState(SUCCEEDED));
+        backgroundJobServer.stop();
+
+        List<RecordedEvent> events = stopRecordingAndReadEvents();
+
+        assertThat(eventsOfType(events, JOB_CLAIM_EVENT))
+                .anySatisfy(event -> {
+                    assertThat(event.getLong("batchSize")).isPositive();
+                    assertThat(event.getLong("claimed")).isEqualTo(1);
+                });
+        assertThat(eventsOfType(events, JOB_EXECUTION_EVENT))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("jobId")).isEqualTo(jobId.toString());
+                    assertThat(event.getString("jobSignature")).isEqualTo("org.jobrunr.stubs.TestService.doWork()");
+                    assertThat(event.getString("outcome")).isEqualTo("SUCCEEDED");
+                });
+        assertThat(eventsOfType(events, JOB_STATE_SAVE_EVENT))
+                .filteredOn(event -> jobId.toString().equals(event.getString("jobId")))
+                .extracting(event -> event.getString("state"))
+                .contains("PROCESSING", "SUCCEEDED");
+        assertThat(eventsOfType(events, TASK_RUN_EVENT))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("task")).isEqualTo("UpdateJobsInProgressTask");
+                    assertThat(event.getLong("runIndex")).isPositive();
+                    assertThat(event.getBoolean("succeeded")).isTrue();
+                });
+    }
+
+    @Test
+    void concurrentJobModificationResolutionEventContainsItsFields() throws IOException {
+        JobRunrFlightRecorderEvents.beginConcurrentJobModificationResolution()
+                .with("amount", 3)
+                .with("resolved", true)
+                .commit();
+
+        List<RecordedEvent> events = stopRecordingAndReadEvents();
+
+        assertThat(eventsOfType(events, CONCURRENT_JOB_MODIFICATION_RESOLUTION_EVENT))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getLong("amount")).isEqualTo(3);
+                    assertThat(event.getBoolean("resolved")).isTrue();
+                    assertThat(event.getEventType().getCategoryNames()).containsExactly("JobRunr", "Jobs");
+                });
+    }
+
+    private List<RecordedEvent> stopRecordingAndReadEvents() throws IOException {
+        recording.stop();
+        Path recordingFile = Files.createTempFile("jobrunr", ".jfr");
+        try {
+            recording.dump(recordingFile);
+            return RecordingFile.readAllEvents(recordingFile);
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    private static List<RecordedEvent> eventsOfType(List<RecordedEvent> events, String eventName) {
+        return events.stream().filter(event -> eventName.equals(event.getEventType().getName())).collect(toList());
+    }
+}
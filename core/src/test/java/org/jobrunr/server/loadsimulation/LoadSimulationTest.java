@@ -0,0 +1,139 @@
+package org.jobrunr.server.loadsimulation;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.storage.InMemoryStorageProvider;
+import org.jobrunr.storage.sql.common.SqlStorageProviderFactory;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.server.loadsimulation.LoadProfile.aLoadProfile;
+import static org.jobrunr.server.loadsimulation.LoadSimulation.aLoadSimulation;
+import static org.jobrunr.server.loadsimulation.ScenarioStep.killMasterAt;
+import static org.jobrunr.server.loadsimulation.ScenarioStep.stallMasterHeartbeatAt;
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+
+/**
+ * These simulations run multiple BackgroundJobServers for several seconds of wall-clock time each, which is why they are not part of
+ * the default test task but run using {@code ./gradlew :core:loadSimulationTest}.
+ */
+@Tag("load-simulation")
+class LoadSimulationTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void loadSimulationProcessesAllJobsAndReportsResults() throws Exception {
+        LoadSimulationResult result = aLoadSimulation(new InMemoryStorageProvider())
+                .withName("in-memory")
+                .withServers(3)
+                .withPollInterval(ofMillis(500))
+                .withLoadDuration(ofSeconds(3))
+                .withLoadProfile(aLoadProfile()
+                        .withEnqueueRatePerSecond(20)
+                        .withScheduleRatePerSecond(5, ofSeconds(1))
+                        .withRecurringJobs(2, ofSeconds(1))
+                        .withJobDuration(ofMillis(5), ofMillis(20))
+                        .withFailureRate(0.2))
+                .run();
+
+        assertThat(result.getServers()).isEqualTo(3);
+        assertThat(result.getJobsCreated()).isGreaterThan(50);
+        assertThat(result.getJobsNotFinished()).isZero();
+        assertThat(result.getJobsSucceeded()).isPositive();
+        assertThat(result.getJobsFailed()).isPositive();
+        assertThat(result.getJobsStartedMoreThanOnce()).isZero();
+        assertThat(result.getThroughputPerSecond()).isPositive();
+        assertThat(result.getP95EnqueueToStartLatencyInMillis()).isGreaterThanOrEqualTo(result.getP50EnqueueToStartLatencyInMillis());
+        assertThat(result.getMasterFailovers()).isEmpty();
+
+        Path resultFile = result.writeTo(tempDir, new JacksonJsonMapper());
+        assertThatJson(Files.readString(resultFile))
+                .isObject()
+                .containsEntry("name", "in-memory")
+                .containsEntry("storageProvider", InMemoryStorageProvider.class.getSimpleName())
+                .containsKeys("throughputPerSecond", "p99EnqueueToStartLatencyInMillis", "concurrentJobModificationExceptions", "masterFailovers");
+    }
+
+    @Test
+    void killingTheMasterResultsInAnotherServerBecomingMasterAndOrphanedJobsAreProcessed() throws Exception {
+        LoadSimulationResult result = aLoadSimulation(new InMemoryStorageProvider())
+                .withServers(3)
+                .withPollInterval(ofMillis(500))
+                .withLoadDuration(ofSeconds(4))
+                .withLoadProfile(aLoadProfile()
+                        .withEnqueueRatePerSecond(20)
+                        .withJobDuration(ofMillis(50), ofMillis(200)))
+                .withScenarioStep(killMasterAt(ofSeconds(1)))
+                .run();
+
+        assertThat(result.getScenarioSteps()).containsExactly("1000ms: kill master");
+        assertThat(result.getMasterFailovers())
+                .singleElement()
+                .satisfies(masterFailover -> {
+                    assertThat(masterFailover.isCompleted()).isTrue();
+                    assertThat(masterFailover.getNewMasterId()).isNotEqualTo(masterFailover.getPreviousMasterId());
+                    assertThat(masterFailover.getFailoverTimeInMillis()).isPositive();
+                });
+        assertThat(result.getJobsNotFinished()).isZero();
+    }
+
+    @Test
+    void stallingTheHeartbeatOfTheMasterResultsInAnotherServerBecomingMaster() throws Exception {
+        LoadSimulationResult result = aLoadSimulation(new InMemoryStorageProvider())
+                .withServers(2)
+                .withPollInterval(ofMillis(500))
+                .withLoadDuration(ofSeconds(5))
+                .withLoadProfile(aLoadProfile().withEnqueueRatePerSecond(10))
+                .withScenarioStep(stallMasterHeartbeatAt(ofSeconds(1), ofSeconds(3)))
+                .run();
+
+        assertThat(result.getMasterFailovers())
+                .singleElement()
+                .satisfies(masterFailover -> assertThat(masterFailover.isCompleted()).isTrue());
+        assertThat(result.getJobsNotFinished()).isZero();
+    }
+
+    @Test
+    void loadSimulationOnH2() throws Exception {
+        try (HikariDataSource dataSource = toHikariDataSource("jdbc:h2:mem:load-simulation;DB_CLOSE_DELAY=-1", "sa", "sa")) {
+            LoadSimulationResult result = aLoadSimulation(SqlStorageProviderFactory.using(dataSource))
+                    .withServers(3)
+                    .withPollInterval(ofMillis(500))
+                    .withLoadDuration(ofSeconds(3))
+                    .withLoadProfile(aLoadProfile().withEnqueueRatePerSecond(20).withScheduleRatePerSecond(5, ofSeconds(1)))
+                    .run();
+
+            assertThat(result.getJobsCreated()).isPositive();
+            assertThat(result.getJobsNotFinished()).isZero();
+            assertThat(result.getJobsSucceeded()).isEqualTo(result.getJobsCreated());
+        }
+    }
+
+    @Test
+    void loadSimulationOnSQLite() throws Exception {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("jobrunr-load-simulation.db"));
+
+        LoadSimulationResult result = aLoadSimulation(SqlStorageProviderFactory.using(dataSource))
+                .withServers(2)
+                .withPollInterval(ofMillis(500))
+                .withLoadDuration(ofSeconds(3))
+                .withLoadProfile(aLoadProfile().withEnqueueRatePerSecond(10))
+                .run();
+
+        assertThat(result.getJobsCreated()).isPositive();
+        assertThat(result.getJobsNotFinished()).isZero();
+        assertThat(result.getJobsSucceeded()).isEqualTo(result.getJobsCreated());
+    }
+}
@@ -1,26 +1,42 @@
 package org.jobrunr.server.metrics;
 
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.cumulative.CumulativeFunctionCounter;
 import io.micrometer.core.instrument.internal.DefaultGauge;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.jobrunr.JobRunrAssertions;
+import org.jobrunr.jobs.Job;
 import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.JobSteward;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.internal.util.reflection.Whitebox;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.time.Instant.now;
 import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
 import static org.jobrunr.storage.BackgroundJobServerStatusTestBuilder.aDefaultBackgroundJobServerStatus;
 import static org.jobrunr.stubs.Mocks.ofBackgroundJobServer;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,9 +47,13 @@ class BackgroundJobServerMetricsBinderTest {
     BackgroundJobServer backgroundJobServer = ofBackgroundJobServer();
     SimpleMeterRegistry simpleMeterRegistry = Mockito.spy(new SimpleMeterRegistry());
 
+    @Mock
+    JobSteward jobSteward;
+
     @BeforeEach
     void setUp() {
         when(backgroundJobServer.getId()).thenReturn(randomUUID());
+        lenient().when(backgroundJobServer.getJobSteward()).thenReturn(jobSteward);
     }
 
     @Test
@@ -42,7 +62,7 @@ class BackgroundJobServerMetricsBinderTest {
             verify(simpleMeterRegistry, times(2)).more();
 
             List<Meter> meters = simpleMeterRegistry.getMeters();
-            assertThat(meters).hasSize(10);
+            assertThat(meters).hasSize(12);
         }
     }
 
@@ -57,7 +77,7 @@ class BackgroundJobServerMetricsBinderTest {
                     .collect(toList());
 
             assertThat(gauges)
-                    .hasSize(8)
+                    .hasSize(10)
                     .allSatisfy(gauge -> {
                         Double value1 = gauge.value();
                         Double value2 = gauge.value();
@@ -77,13 +97,14 @@ class BackgroundJobServerMetricsBinderTest {
                 .withRunning(true)
                 .build();
         when(backgroundJobServer.getServerStatus()).thenReturn(serverStatus);
+        when(jobSteward.getOccupiedWorkerCount()).thenReturn(2);
         try (var ignored1 = new BackgroundJobServerMetricsBinder(backgroundJobServer, simpleMeterRegistry)) {
 
             // WHEN
             List<Meter> meters = simpleMeterRegistry.getMeters();
 
             // THEN
-            assertThat(meters).hasSize(10);
+            assertThat(meters).hasSize(12);
 
             meters.forEach(meter -> JobRunrAssertions.assertThat(meter).hasIdWithTag("id", serverStatus.getId().toString()));
 
@@ -97,6 +118,8 @@ class BackgroundJobServerMetricsBinderTest {
             assertThat(getGauge(meters, "jobrunr.background-job-server.last-heartbeat").value()).isEqualTo((double) lastHeartBeat.getEpochSecond());
             assertThat(getGauge(meters, "jobrunr.background-job-server.system-cpu-load").value()).isEqualTo((double) serverStatus.getSystemCpuLoad());
             assertThat(getGauge(meters, "jobrunr.background-job-server.process-cpu-load").value()).isEqualTo((double) serverStatus.getProcessCpuLoad());
+            assertThat(getGauge(meters, "jobrunr.background-job-server.occupied-workers").value()).isEqualTo(2);
+            assertThat(getGauge(meters, "jobrunr.background-job-server.worker-utilization").value()).isEqualTo(2.0 / serverStatus.getWorkerPoolSize());
         }
     }
 
@@ -114,7 +137,7 @@ class BackgroundJobServerMetricsBinderTest {
             List<Meter> meters = simpleMeterRegistry.getMeters();
 
             // THEN
-            assertThat(meters).hasSize(10);
+            assertThat(meters).hasSize(12);
 
             meters.forEach(meter -> JobRunrAssertions.assertThat(meter).hasIdWithTag("id", serverStatus.getId().toString()));
 
@@ -131,6 +154,92 @@ class BackgroundJobServerMetricsBinderTest {
         }
     }
 
+    @Test
+    void binderRegistersItselfAsJobPerformanceListener() {
+        try (var binder = new BackgroundJobServerMetricsBinder(backgroundJobServer, simpleMeterRegistry)) {
+            verify(backgroundJobServer).addJobPerformanceListener(binder);
+        }
+        verify(backgroundJobServer).removeJobPerformanceListener(any());
+    }
+
+    @Test
+    void jobPerformanceIsRecordedPerJobSignature() {
+        Job job = anEnqueuedJob().build();
+        try (var binder = new BackgroundJobServerMetricsBinder(backgroundJobServer, simpleMeterRegistry)) {
+            binder.onProcessingStarted(job, MILLISECONDS.toNanos(20));
+            binder.onExecutionFinished(job, MILLISECONDS.toNanos(100), true);
+            binder.onExecutionFinished(job, MILLISECONDS.toNanos(50), false);
+            binder.onStateSaved(job, MILLISECONDS.toNanos(5));
+            binder.onStateSaved(job, MILLISECONDS.toNanos(5));
+
+            Timer queueWait = simpleMeterRegistry.get("jobrunr.background-job-server.job-queue-wait").tag("signature", job.getJobSignature()).timer();
+            assertThat(queueWait.count()).isEqualTo(1);
+            assertThat(queueWait.totalTime(MILLISECONDS)).isEqualTo(20);
+            assertThat(simpleMeterRegistry.get("jobrunr.background-job-server.job-execution").tag("result", "succeeded").timer().count()).isEqualTo(1);
+            assertThat(simpleMeterRegistry.get("jobrunr.background-job-server.job-execution").tag("result", "failed").timer().count()).isEqualTo(1);
+            assertThat(simpleMeterRegistry.get("jobrunr.background-job-server.job-state-save").timer().count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void jobSignatureTagsAreLimited() {
+        try (var binder = new BackgroundJobServerMetricsBinder(backgroundJobServer, simpleMeterRegistry)) {
+            Job job = anEnqueuedJob().build();
+            for (int i = 0; i < BackgroundJobServerMetricsBinder.MAX_JOB_SIGNATURE_TAGS + 10; i++) {
+                Whitebox.setInternalState(job, "jobSignature", "jobSignature" + i);
+                binder.onStateSaved(job, MILLISECONDS.toNanos(5));
+            }
+
+            Collection<Timer> timers = simpleMeterRegistry.get("jobrunr.background-job-server.job-state-save").timers();
+            assertThat(timers).hasSize(BackgroundJobServerMetricsBinder.MAX_JOB_SIGNATURE_TAGS + 1);
+            assertThat(simpleMeterRegistry.get("jobrunr.background-job-server.job-state-save").tag("signature", BackgroundJobServerMetricsBinder.OTHER_JOB_SIGNATURES).timer().count()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void jobSignatureTagsAreLimitedWhenNewJobSignaturesAreRecordedConcurrently() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try (var binder = new BackgroundJobServerMetricsBinder(backgroundJobServer, simpleMeterRegistry)) {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            for (int i = 0; i < BackgroundJobServerMetricsBinder.MAX_JOB_SIGNATURE_TAGS * 2; i++) {
+                Job job = anEnqueuedJob().build();
+                Whitebox.setInternalState(job, "jobSignature", "jobSignature" + i);
+                executorService.submit(() -> {
+                    startLatch.await();
+                    binder.onStateSaved(job, MILLISECONDS.toNanos(5));
+                    return null;
+                });
+            }
+            startLatch.countDown();
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, SECONDS)).isTrue();
+
+            Collection<Timer> timers = simpleMeterRegistry.get("jobrunr.background-job-server.job-state-save").timers();
+            assertThat(timers).hasSize(BackgroundJobServerMetricsBinder.MAX_JOB_SIGNATURE_TAGS + 1);
+            assertThat(simpleMeterRegistry.get("jobrunr.background-job-server.job-state-save").tag("signature", BackgroundJobServerMetricsBinder.OTHER_JOB_SIGNATURES).timer().count())
+                    .isEqualTo(BackgroundJobServerMetricsBinder.MAX_JOB_SIGNATURE_TAGS);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void taskRuntimeStatsAreRegisteredPerTask() {
+        TaskRuntimeStatsRecorder taskRuntimeStatsRecorder = backgroundJobServer.getTaskRuntimeStatsRecorder();
+        try (var ignored = new BackgroundJobServerMetricsBinder(backgroundJobServer, simpleMeterRegistry)) {
+            taskRuntimeStatsRecorder.recordRun("ProcessRecurringJobsTask", Duration.ofMillis(200), 5, false, null);
+            taskRuntimeStatsRecorder.recordRun("ProcessRecurringJobsTask", Duration.ofMillis(400), 3, true, new IllegalStateException("boom"));
+
+            FunctionTimer taskRuns = simpleMeterRegistry.get("jobrunr.background-job-server.task-runs").tag("task", "ProcessRecurringJobsTask").functionTimer();
+            assertThat(taskRuns.count()).isEqualTo(2);
+            assertThat(taskRuns.totalTime(MILLISECONDS)).isEqualTo(600);
+            assertThat(simpleMeterRegistry.get("jobrunr.background-job-server.task-runs-cut-short").tag("task", "ProcessRecurringJobsTask").functionCounter().count()).isEqualTo(1);
+            assertThat(simpleMeterRegistry.get("jobrunr.background-job-server.task-errors").tag("task", "ProcessRecurringJobsTask").functionCounter().count()).isEqualTo(1);
+            assertThat(simpleMeterRegistry.get("jobrunr.background-job-server.task-items-processed").tag("task", "ProcessRecurringJobsTask").functionCounter().count()).isEqualTo(8);
+            assertThat(simpleMeterRegistry.get("jobrunr.background-job-server.task-last-run-duration-in-millis").tag("task", "ProcessRecurringJobsTask").gauge().value()).isEqualTo(400);
+        }
+    }
+
     private static CumulativeFunctionCounter<?> getCounter(List<Meter> meters, String name) {
         return (CumulativeFunctionCounter<?>) meters.stream().filter(m -> name.equals(m.getId().getName())).findFirst().orElseThrow();
     }
@@ -0,0 +1,68 @@
+package org.jobrunr.server.metrics;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.JobStatsRollup;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.jobs.JobTestBuilder.aJobInProgress;
+
+class JobStatsRecorderTest {
+
+    private final JobStatsRecorder jobStatsRecorder = new JobStatsRecorder();
+
+    @Test
+    void drainCompletedMinutesDoesNotDrainTheCurrentMinute() {
+        jobStatsRecorder.recordStarted(aJobInProgress().build());
+
+        assertThat(jobStatsRecorder.drainCompletedMinutes(Instant.now())).isEmpty();
+        assertThat(jobStatsRecorder.drainCompletedMinutes(Instant.now().plusSeconds(60)))
+                .singleElement()
+                .satisfies(rollup -> assertThat(rollup.getTotal().getStarted()).isEqualTo(1));
+        assertThat(jobStatsRecorder.drainCompletedMinutes(Instant.now().plusSeconds(60))).isEmpty();
+    }
+
+    @Test
+    void drainAllMinutesAlsoDrainsTheCurrentMinute() {
+        jobStatsRecorder.recordStarted(aJobInProgress().build());
+
+        assertThat(jobStatsRecorder.drainAllMinutes())
+                .singleElement()
+                .satisfies(rollup -> assertThat(rollup.getTotal().getStarted()).isEqualTo(1));
+        assertThat(jobStatsRecorder.drainAllMinutes()).isEmpty();
+    }
+
+    @Test
+    void noIncrementsAreLostWhenDrainingWhileRecording() throws InterruptedException {
+        final Job job = aJobInProgress().build();
+        final int threads = 4;
+        final int recordsPerThread = 10_000;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final CountDownLatch recordersDone = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < recordsPerThread; j++) {
+                    jobStatsRecorder.recordStarted(job);
+                }
+                recordersDone.countDown();
+            });
+        }
+
+        final List<JobStatsRollup> drainedRollups = new ArrayList<>();
+        while (!recordersDone.await(1, TimeUnit.MILLISECONDS)) {
+            drainedRollups.addAll(jobStatsRecorder.drainAllMinutes());
+        }
+        drainedRollups.addAll(jobStatsRecorder.drainAllMinutes());
+        executorService.shutdown();
+
+        assertThat(drainedRollups.stream().mapToLong(rollup -> rollup.getTotal().getStarted()).sum()).isEqualTo((long) threads * recordsPerThread);
+    }
+}
@@ -78,7 +78,7 @@ public abstract class AbstractTaskTest {
         backgroundJobServer.setJobFilters(List.of(logAllStateChangesFilter));
         backgroundJobServer.start();
 
-        zooKeeperStatistics = new TaskStatistics(null);
+        zooKeeperStatistics = new TaskStatistics(null, null, backgroundJobServer.getTaskRuntimeStatsRecorder());
     }
 
     protected void setUpBackgroundJobServerConfiguration(BackgroundJobServerConfiguration configuration) {
@@ -13,6 +13,7 @@ import java.util.function.Function;
 
 import static java.time.Instant.now;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -112,6 +113,74 @@ class TaskTest extends AbstractTaskTest {
         verify(storageProvider, never()).save(anyList());
     }
 
+    @Test
+    void taskRunsAreRecordedInTaskRuntimeStats() {
+        Job aJobInProgress = aJobInProgress().build();
+        aJobInProgress.succeeded();
+
+        runTask(new SaveJobsTask(singletonList(aJobInProgress)));
+
+        assertThat(backgroundJobServer.getTaskRuntimeStatsRecorder().getTaskRuntimeStats())
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.getTask()).isEqualTo("SaveJobsTask");
+                    assertThat(stats.getRuns()).isEqualTo(1);
+                    assertThat(stats.getItemsProcessed()).isEqualTo(1);
+                    assertThat(stats.getRunsCutShort()).isZero();
+                    assertThat(stats.getErrors()).isZero();
+                });
+    }
+
+    @Test
+    void taskRunsThatAreCutShortOrFailAreRecordedInTaskRuntimeStats() {
+        runTask(new SaveJobsTask(emptyList(), true));
+
+        doThrow(new IllegalStateException("Storage is down")).when(storageProvider).save(anyList());
+        assertThatCode(() -> runTask(new SaveJobsTask(singletonList(aJobInProgress().build())))).isInstanceOf(IllegalStateException.class);
+
+        assertThat(backgroundJobServer.getTaskRuntimeStatsRecorder().getTaskRuntimeStats())
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.getRuns()).isEqualTo(2);
+                    assertThat(stats.getRunsCutShort()).isEqualTo(1);
+                    assertThat(stats.getErrors()).isEqualTo(1);
+                    assertThat(stats.getLastError()).isEqualTo("java.lang.IllegalStateException: Storage is down");
+                    assertThat(stats.getLastErrorAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void taskRunsThatNeverStartedBecauseTheTimeBoxHasPassedAreNotRecordedInTaskRuntimeStats() {
+        PeriodicTaskRunInfo periodicTaskRunInfo = zooKeeperStatistics.startRun(backgroundJobServer.getConfiguration());
+        setRunStartTimeInPast(periodicTaskRunInfo, 15);
+        new SaveJobsTask(emptyList()).run(periodicTaskRunInfo);
+
+        assertThat(backgroundJobServer.getTaskRuntimeStatsRecorder().getTaskRuntimeStats()).isEmpty();
+    }
+
+    private class SaveJobsTask extends Task {
+
+        private final List<Job> jobs;
+        private final boolean timeBoxPassesWhileRunning;
+
+        SaveJobsTask(List<Job> jobs) {
+            this(jobs, false);
+        }
+
+        SaveJobsTask(List<Job> jobs, boolean timeBoxPassesWhileRunning) {
+            super(backgroundJobServer);
+            this.jobs = jobs;
+            this.timeBoxPassesWhileRunning = timeBoxPassesWhileRunning;
+        }
+
+        @Override
+        protected void runTask() {
+            if (timeBoxPassesWhileRunning) setRunStartTimeInPast((PeriodicTaskRunInfo) runInfo, 15);
+            if (pollIntervalInSecondsTimeBoxIsAboutToPass()) return;
+            saveAndRunJobFilters(jobs);
+        }
+    }
+
     private static void setRunStartTimeInPast(PeriodicTaskRunInfo zooKeeperRunTaskInfo, int secondsInPast) {
         Whitebox.setInternalState(zooKeeperRunTaskInfo, "runStartTime", now().minusSeconds(secondsInPast));
     }
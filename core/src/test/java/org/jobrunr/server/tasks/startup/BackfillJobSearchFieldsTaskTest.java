@@ -0,0 +1,83 @@
+package org.jobrunr.server.tasks.startup;
+
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.storage.JobRunrMetadata;
+import org.jobrunr.storage.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.jobrunr.server.tasks.startup.BackfillJobSearchFieldsTask.BATCH_SIZE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillJobSearchFieldsTaskTest {
+
+    @Mock
+    StorageProvider storageProvider;
+
+    @Mock
+    BackgroundJobServer backgroundJobServer;
+
+    BackfillJobSearchFieldsTask task;
+
+    @BeforeEach
+    void setUpTask() {
+        when(backgroundJobServer.getStorageProvider()).thenReturn(storageProvider);
+
+        task = new BackfillJobSearchFieldsTask(backgroundJobServer);
+    }
+
+    @Test
+    void backfillsAllJobsBatchByBatchAndRemembersItIsDone() {
+        when(storageProvider.supportsSearchingJobs()).thenReturn(true);
+        UUID lastJobIdOfFirstBatch = UUID.randomUUID();
+        UUID lastJobIdOfSecondBatch = UUID.randomUUID();
+        when(storageProvider.backfillJobSearchFields(isNull(), anyInt())).thenReturn(lastJobIdOfFirstBatch);
+        when(storageProvider.backfillJobSearchFields(lastJobIdOfFirstBatch, BATCH_SIZE)).thenReturn(lastJobIdOfSecondBatch);
+        when(storageProvider.backfillJobSearchFields(lastJobIdOfSecondBatch, BATCH_SIZE)).thenReturn(null);
+
+        task.run();
+
+        verify(storageProvider).backfillJobSearchFields(lastJobIdOfSecondBatch, BATCH_SIZE);
+        verify(storageProvider).saveMetadata(argThat(metadata -> "job_search_fields".equals(metadata.getName()) && "backfilled".equals(metadata.getValue())));
+    }
+
+    @Test
+    void doesNotBackfillJobsIfAlreadyDone() {
+        when(storageProvider.supportsSearchingJobs()).thenReturn(true);
+        when(storageProvider.getMetadata("job_search_fields", "cluster")).thenReturn(new JobRunrMetadata("job_search_fields", "cluster", "backfilled"));
+
+        task.run();
+
+        verify(storageProvider, never()).backfillJobSearchFields(any(), anyInt());
+    }
+
+    @Test
+    void doesNotRememberBackfillIsDoneIfItFails() {
+        when(storageProvider.supportsSearchingJobs()).thenReturn(true);
+        when(storageProvider.backfillJobSearchFields(isNull(), anyInt())).thenThrow(new IllegalStateException("database is down"));
+
+        task.run();
+
+        verify(storageProvider, never()).saveMetadata(any());
+    }
+
+    @Test
+    void doesNotBackfillJobsIfStorageProviderDoesNotSupportSearchingJobs() {
+        task.run();
+
+        verify(storageProvider, never()).backfillJobSearchFields(any(), anyInt());
+        verify(storageProvider, never()).saveMetadata(any());
+    }
+}
@@ -0,0 +1,59 @@
+package org.jobrunr.server.tasks.steward;
+
+import org.jobrunr.server.tasks.AbstractTaskTest;
+import org.jobrunr.storage.JobRunrMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static java.time.Instant.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.server.tasks.steward.PublishTaskRuntimeStatsTask.TASK_RUNTIME_STATS_NAME;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PublishTaskRuntimeStatsTaskTest extends AbstractTaskTest {
+
+    PublishTaskRuntimeStatsTask task;
+
+    @BeforeEach
+    void setUpTask() {
+        task = new PublishTaskRuntimeStatsTask(backgroundJobServer);
+    }
+
+    @Test
+    void taskDoesNotPublishIfThereAreNoTaskRuntimeStats() {
+        runTask(task);
+
+        verify(storageProvider, never()).saveMetadata(argThat(metadata -> TASK_RUNTIME_STATS_NAME.equals(metadata.getName())));
+    }
+
+    @Test
+    void taskPublishesTaskRuntimeStatsOfThisServerAtMostOncePerMinute() {
+        backgroundJobServer.getTaskRuntimeStatsRecorder().recordRun("ProcessScheduledJobsTask", Duration.ofMillis(250), 10, false, null);
+
+        runTask(task);
+        runTask(task);
+
+        verify(storageProvider).saveMetadata(argThat(metadata -> TASK_RUNTIME_STATS_NAME.equals(metadata.getName())));
+        JobRunrMetadata metadata = storageProvider.getMetadata(TASK_RUNTIME_STATS_NAME, backgroundJobServer.getId().toString());
+        assertThat(metadata.getValue())
+                .contains("\"task\":\"ProcessScheduledJobsTask\"")
+                .contains("\"itemsProcessed\":10")
+                .contains("\"lastRunDurationInMillis\":250");
+    }
+
+    @Test
+    void taskRemovesTaskRuntimeStatsOfServersThatStoppedPublishing() {
+        storageProvider.saveMetadata(new JobRunrMetadata(TASK_RUNTIME_STATS_NAME, "stopped-server", "[]", now().minusSeconds(3600), now().minusSeconds(3600)));
+        backgroundJobServer.getTaskRuntimeStatsRecorder().recordRun("ProcessScheduledJobsTask", Duration.ofMillis(250), 10, false, null);
+
+        runTask(task);
+
+        assertThat(storageProvider.getMetadata(TASK_RUNTIME_STATS_NAME))
+                .extracting(JobRunrMetadata::getOwner)
+                .containsExactly(backgroundJobServer.getId().toString());
+    }
+}
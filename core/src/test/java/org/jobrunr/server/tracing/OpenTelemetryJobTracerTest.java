@@ -0,0 +1,222 @@
+package org.jobrunr.server.tracing;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.jobrunr.configuration.JobRunr;
+import org.jobrunr.configuration.JobRunrOpenTelemetryIntegration;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.EnqueuedState;
+import org.jobrunr.jobs.states.FailedState;
+import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.ScheduledState;
+import org.jobrunr.scheduling.BackgroundJob;
+import org.jobrunr.storage.InMemoryStorageProvider;
+import org.jobrunr.stubs.TestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Instant.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.TEN_SECONDS;
+import static org.jobrunr.jobs.JobTestBuilder.aJob;
+import static org.jobrunr.jobs.JobTestBuilder.aJobInProgress;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.server.BackgroundJobServerConfiguration.usingStandardBackgroundJobServerConfiguration;
+import static org.jobrunr.server.tracing.OpenTelemetryJobTracer.CLAIM_SPAN_NAME;
+import static org.jobrunr.server.tracing.OpenTelemetryJobTracer.JOB_ATTEMPT;
+import static org.jobrunr.server.tracing.OpenTelemetryJobTracer.JOB_ID;
+import static org.jobrunr.server.tracing.OpenTelemetryJobTracer.JOB_QUEUE_WAIT_IN_MILLIS;
+import static org.jobrunr.server.tracing.OpenTelemetryJobTracer.JOB_SIGNATURE;
+import static org.jobrunr.server.tracing.OpenTelemetryJobTracer.JOB_STATE;
+import static org.jobrunr.server.tracing.OpenTelemetryJobTracer.PROCESS_SPAN_NAME;
+import static org.jobrunr.server.tracing.OpenTelemetryJobTracer.SAVE_SPAN_NAME;
+
+class OpenTelemetryJobTracerTest {
+
+    InMemorySpanExporter spanExporter;
+    OpenTelemetrySdk openTelemetry;
+    Tracer testTracer;
+    OpenTelemetryJobTracer jobTracer;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(spanExporter)).build())
+                .build();
+        testTracer = openTelemetry.getTracer("test");
+        jobTracer = new OpenTelemetryJobTracer(openTelemetry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        openTelemetry.close();
+    }
+
+    @Test
+    void traceContextIsStoredCompactlyInJobMetadataWhenJobIsCreated() {
+        Job job = anEnqueuedJob().build();
+
+        Span producerSpan = testTracer.spanBuilder("enqueue").startSpan();
+        try (Scope ignored = producerSpan.makeCurrent(); Scope ignoredBaggage = Baggage.builder().put("tenant", "acme").build().makeCurrent()) {
+            jobTracer.onCreating(job);
+        } finally {
+            producerSpan.end();
+        }
+
+        assertThat(job.getMetadata())
+                .containsOnlyKeys("otel-traceparent", "otel-baggage")
+                .containsEntry("otel-traceparent", "00-" + producerSpan.getSpanContext().getTraceId() + "-" + producerSpan.getSpanContext().getSpanId() + "-01")
+                .containsEntry("otel-baggage", "tenant=acme");
+    }
+
+    @Test
+    void noTraceContextIsStoredIfJobIsCreatedWithoutCurrentSpan() {
+        Job job = anEnqueuedJob().build();
+
+        jobTracer.onCreating(job);
+
+        assertThat(job.getMetadata()).isEmpty();
+    }
+
+    @Test
+    void processSpanIsLinkedToProducerAndIsCurrentWhileTheJobRuns() {
+        Job job = aJobInProgress().build();
+        Span producerSpan = createJobInSpan(job);
+
+        jobTracer.onJobsClaimed(List.of(job), 1_000_000);
+        jobTracer.onProcessing(job);
+        Span.current().setAttribute("job.current", true);
+        String tenant = Baggage.current().getEntryValue("tenant");
+        testTracer.spanBuilder("work done by the job").startSpan().end();
+        jobTracer.onProcessingSucceeded(job);
+        job.succeeded();
+        jobTracer.onStateSaved(job, 2_000_000);
+
+        assertThat(tenant).isEqualTo("acme");
+        assertThat(Span.current().getSpanContext().isValid()).isFalse();
+
+        SpanData claimSpan = getFinishedSpan(CLAIM_SPAN_NAME);
+        assertThat(claimSpan.getKind()).isEqualTo(SpanKind.CLIENT);
+        assertThat(claimSpan.getLinks()).singleElement()
+                .satisfies(link -> assertThat(link.getSpanContext()).isEqualTo(producerSpan.getSpanContext()));
+
+        SpanData processSpan = getFinishedSpan(PROCESS_SPAN_NAME);
+        assertThat(processSpan.getKind()).isEqualTo(SpanKind.CONSUMER);
+        assertThat(processSpan.getTraceId()).isNotEqualTo(producerSpan.getSpanContext().getTraceId());
+        assertThat(processSpan.getLinks()).singleElement()
+                .satisfies(link -> assertThat(link.getSpanContext()).isEqualTo(producerSpan.getSpanContext()));
+        assertThat(processSpan.getAttributes().get(JOB_ID)).isEqualTo(job.getId().toString());
+        assertThat(processSpan.getAttributes().get(JOB_SIGNATURE)).isEqualTo(job.getJobSignature());
+        assertThat(processSpan.getAttributes().get(JOB_ATTEMPT)).isEqualTo(1L);
+        assertThat(processSpan.getAttributes().get(JOB_QUEUE_WAIT_IN_MILLIS)).isNotNull();
+        assertThat(processSpan.getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+
+        assertThat(getFinishedSpan("work done by the job").getParentSpanId()).isEqualTo(processSpan.getSpanId());
+        SpanData saveSpan = getFinishedSpan(SAVE_SPAN_NAME);
+        assertThat(saveSpan.getParentSpanId()).isEqualTo(processSpan.getSpanId());
+        assertThat(saveSpan.getAttributes().get(JOB_STATE)).isEqualTo("SUCCEEDED");
+    }
+
+    @Test
+    void processSpanRecordsTheExceptionAndTheAttemptOfFailedJobs() {
+        Job job = aJob()
+                .withState(new EnqueuedState())
+                .withState(new ProcessingState(UUID.randomUUID(), "server"))
+                .withState(new FailedState("first attempt failed", new IllegalStateException()))
+                .withState(new ScheduledState(now()))
+                .withState(new EnqueuedState())
+                .withState(new ProcessingState(UUID.randomUUID(), "server"))
+                .build();
+        createJobInSpan(job);
+
+        jobTracer.onProcessing(job);
+        jobTracer.onProcessingFailed(job, new IllegalStateException("second attempt failed"));
+        job.failed("second attempt failed", new IllegalStateException("second attempt failed"));
+        jobTracer.onStateSaved(job, 2_000_000);
+
+        SpanData processSpan = getFinishedSpan(PROCESS_SPAN_NAME);
+        assertThat(processSpan.getAttributes().get(JOB_ATTEMPT)).isEqualTo(2L);
+        assertThat(processSpan.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(processSpan.getEvents()).anySatisfy(event -> assertThat(event.getName()).isEqualTo("exception"));
+        assertThat(getFinishedSpan(SAVE_SPAN_NAME).getAttributes().get(JOB_STATE)).isEqualTo("FAILED");
+    }
+
+    @Test
+    void processSpanOfPreviousJobIsEndedIfItsFinalStateWasNeverSaved() {
+        Job job1 = aJobInProgress().build();
+        Job job2 = aJobInProgress().build();
+
+        jobTracer.onProcessing(job1);
+        jobTracer.onProcessingSucceeded(job1);
+        jobTracer.onProcessing(job2);
+
+        assertThat(spanExporter.getFinishedSpanItems())
+                .extracting(span -> span.getAttributes().get(JOB_ID))
+                .containsExactly(job1.getId().toString());
+    }
+
+    @Test
+    void jobRunrPropagatesTraceContextFromEnqueueToExecution() {
+        try {
+            TestService testService = new TestService();
+            JobRunr.configure()
+                    .useStorageProvider(new InMemoryStorageProvider())
+                    .useTracing(new JobRunrOpenTelemetryIntegration(openTelemetry))
+                    .useBackgroundJobServer(usingStandardBackgroundJobServerConfiguration().andPollInterval(ofMillis(500)))
+                    .initialize();
+
+            Span producerSpan = testTracer.spanBuilder("http request").startSpan();
+            try (Scope ignored = producerSpan.makeCurrent()) {
+                BackgroundJob.enqueue(() -> testService.doWork());
+            } finally {
+                producerSpan.end();
+            }
+
+            await().atMost(TEN_SECONDS).until(() -> hasFinishedSpan(PROCESS_SPAN_NAME));
+            assertThat(getFinishedSpan(PROCESS_SPAN_NAME).getLinks()).singleElement()
+                    .satisfies(link -> assertThat(link.getSpanContext()).isEqualTo(producerSpan.getSpanContext()));
+            assertThat(getFinishedSpan(CLAIM_SPAN_NAME).getLinks()).singleElement()
+                    .satisfies(link -> assertThat(link.getSpanContext()).isEqualTo(producerSpan.getSpanContext()));
+        } finally {
+            JobRunr.destroy();
+        }
+    }
+
+    private Span createJobInSpan(Job job) {
+        Span producerSpan = testTracer.spanBuilder("enqueue").startSpan();
+        try (Scope ignored = producerSpan.makeCurrent(); Scope ignoredBaggage = Baggage.builder().put("tenant", "acme").build().makeCurrent()) {
+            jobTracer.onCreating(job);
+        } finally {
+            producerSpan.end();
+        }
+        spanExporter.reset();
+        return producerSpan;
+    }
+
+    private boolean hasFinishedSpan(String name) {
+        return spanExporter.getFinishedSpanItems().stream().anyMatch(span -> span.getName().equals(name));
+    }
+
+    private SpanData getFinishedSpan(String name) {
+        return spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No finished span with name " + name));
+    }
+}
@@ -5,6 +5,7 @@ import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.JobId;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.storage.listeners.BackgroundJobServerStatusChangeListener;
+import org.jobrunr.storage.listeners.EnqueuedJobsChangeListener;
 import org.jobrunr.storage.listeners.JobChangeListener;
 import org.jobrunr.storage.listeners.JobStatsChangeListener;
 import org.jobrunr.storage.listeners.MetadataChangeListener;
@@ -17,19 +18,24 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Timer;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.time.Instant.now;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
 import static org.jobrunr.utils.SleepUtils.sleep;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -141,7 +147,26 @@ class AbstractStorageProviderTest {
         await().untilAsserted(() -> assertThat(changeListener1.job).isNotNull());
         await().untilAsserted(() -> assertThat(changeListener2.job).isNotNull());
 
-        Mockito.verify(storageProvider, times(1)).getJobById(job.getId());
+        Mockito.verify(storageProvider, times(1)).getJobsByIds(any());
+        Mockito.verify(storageProvider, never()).getJobById(job.getId());
+    }
+
+    @Test
+    void jobChangeListenersAreOnlyNotifiedIfJobChanged() {
+        final Job job = anEnqueuedJob().build();
+        storageProvider.save(job);
+        final JobChangeListenerForTest changeListener = new JobChangeListenerForTest(new JobId(job.getId()));
+        storageProvider.addJobStorageOnChangeListener(changeListener);
+
+        storageProvider.notifyJobChangeListeners();
+        storageProvider.notifyJobChangeListeners();
+        assertThat(changeListener.onChangeCount).isEqualTo(1);
+
+        final Job updatedJob = storageProvider.getJobById(job.getId());
+        storageProvider.save(updatedJob);
+        storageProvider.notifyJobChangeListeners();
+        assertThat(changeListener.onChangeCount).isEqualTo(2);
+        assertThat(changeListener.job.getVersion()).isEqualTo(updatedJob.getVersion());
     }
 
     @Test
@@ -166,6 +191,28 @@ class AbstractStorageProviderTest {
         await().untilAsserted(() -> assertThat(changeListeners).allMatch(jobStatsChangeListenerForTest -> jobStatsChangeListenerForTest.jobStats != null));
     }
 
+    @Test
+    void jobStatsAreNotReusedByDefault() {
+        final AtomicInteger queryCounter = new AtomicInteger();
+
+        storageProvider.getJobStats(() -> jobStatsForQuery(queryCounter));
+        storageProvider.getJobStats(() -> jobStatsForQuery(queryCounter));
+
+        assertThat(queryCounter).hasValue(2);
+    }
+
+    @Test
+    void jobStatsAreReusedWithinMaxStaleness() {
+        final AtomicInteger queryCounter = new AtomicInteger();
+        storageProvider.setJobStatsMaxStaleness(Duration.ofMinutes(1));
+
+        final JobStats jobStats1 = storageProvider.getJobStats(() -> jobStatsForQuery(queryCounter));
+        final JobStats jobStats2 = storageProvider.getJobStats(() -> jobStatsForQuery(queryCounter));
+
+        assertThat(queryCounter).hasValue(1);
+        assertThat(jobStats2).isSameAs(jobStats1);
+    }
+
     @Test
     void updateTimerIsStoppedIfNoChangeListeners() {
         final JobStatsChangeListenerForTest changeListener = new JobStatsChangeListenerForTest();
@@ -179,6 +226,35 @@ class AbstractStorageProviderTest {
         assertThat(timerAfterRemovingChangeListener).isNull();
     }
 
+    @Test
+    void updateTimerIsNotStartedForEnqueuedJobsChangeListeners() {
+        final AtomicInteger amountOfNewEnqueuedJobs = new AtomicInteger();
+        final EnqueuedJobsChangeListener changeListener = amountOfNewEnqueuedJobs::addAndGet;
+
+        storageProvider.addJobStorageOnChangeListener(changeListener);
+        final Timer timerAfterAddingChangeListener = getInternalState(storageProvider, "timer");
+        assertThat(timerAfterAddingChangeListener).isNull();
+
+        storageProvider.onTransactionCommitted(singletonList(anEnqueuedJob().build()));
+        assertThat(amountOfNewEnqueuedJobs).hasValue(1);
+    }
+
+    @Test
+    void updateTimerIsStoppedIfOnlyEnqueuedJobsChangeListenersRemain() {
+        final JobStatsChangeListenerForTest jobStatsChangeListener = new JobStatsChangeListenerForTest();
+        final EnqueuedJobsChangeListener enqueuedJobsChangeListener = amountOfNewEnqueuedJobs -> {
+        };
+
+        storageProvider.addJobStorageOnChangeListener(jobStatsChangeListener);
+        storageProvider.addJobStorageOnChangeListener(enqueuedJobsChangeListener);
+        final Timer timerAfterAddingChangeListeners = getInternalState(storageProvider, "timer");
+        assertThat(timerAfterAddingChangeListeners).isNotNull();
+
+        storageProvider.removeJobStorageOnChangeListener(jobStatsChangeListener);
+        final Timer timerAfterRemovingJobStatsChangeListener = getInternalState(storageProvider, "timer");
+        assertThat(timerAfterRemovingJobStatsChangeListener).isNull();
+    }
+
     @Test
     void updateTimerIsStoppedWhenStorageProviderIsStopped() {
         final JobStatsChangeListenerForTest changeListener = new JobStatsChangeListenerForTest();
@@ -192,6 +268,11 @@ class AbstractStorageProviderTest {
         assertThat(timerAfterClosingStorageProvider).isNull();
     }
 
+    private static JobStats jobStatsForQuery(AtomicInteger queryCounter) {
+        queryCounter.incrementAndGet();
+        return new JobStats(now(), 5L, 0L, 0L, 1L, 1L, 0L, 3L, 0L, 0L, 1, 1);
+    }
+
     private static class BackgroundJobServerStatusChangeListenerForTest implements BackgroundJobServerStatusChangeListener {
 
         private List<BackgroundJobServerStatus> changedServerStates;
@@ -232,6 +313,7 @@ class AbstractStorageProviderTest {
         private final JobId jobId;
         private boolean closeIsCalled;
         private Job job;
+        private int onChangeCount;
 
         public JobChangeListenerForTest(JobId jobId) {
             this.jobId = jobId;
@@ -246,6 +328,7 @@ class AbstractStorageProviderTest {
         @Override
         public void onChange(Job job) {
             this.job = job;
+            this.onChangeCount++;
         }
 
         @Override
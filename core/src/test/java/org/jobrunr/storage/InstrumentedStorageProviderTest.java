@@ -0,0 +1,159 @@
+package org.jobrunr.storage;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.sql.h2.H2StorageProvider;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.time.Instant.now;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.jobrunr.jobs.JobTestBuilder.aScheduledJob;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.storage.Paging.AmountBasedList.ascOnUpdatedAt;
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+import static org.jobrunr.utils.SleepUtils.sleep;
+
+class InstrumentedStorageProviderTest {
+
+    private DelayedInMemoryStorageProvider delayedStorageProvider;
+    private InstrumentedStorageProvider instrumentedStorageProvider;
+
+    @BeforeEach
+    void setUpStorageProvider() {
+        delayedStorageProvider = new DelayedInMemoryStorageProvider();
+        delayedStorageProvider.setJobMapper(new JobMapper(new JacksonJsonMapper()));
+        instrumentedStorageProvider = new InstrumentedStorageProvider(delayedStorageProvider, Duration.ofMillis(100), 2);
+    }
+
+    @AfterEach
+    void clearCaller() {
+        InstrumentedStorageProvider.setCaller(null);
+    }
+
+    @Test
+    void recordsCallsAndRowsPerMethod() {
+        instrumentedStorageProvider.save(asList(anEnqueuedJob().build(), anEnqueuedJob().build(), anEnqueuedJob().build()));
+        instrumentedStorageProvider.getJobList(StateName.ENQUEUED, ascOnUpdatedAt(2));
+        instrumentedStorageProvider.getJobList(StateName.ENQUEUED, ascOnUpdatedAt(10));
+
+        assertThat(methodStats("save(jobs)").getCalls()).isEqualTo(1);
+        assertThat(methodStats("save(jobs)").getRows()).isEqualTo(3);
+        assertThat(methodStats("getJobList(state)").getCalls()).isEqualTo(2);
+        assertThat(methodStats("getJobList(state)").getRows()).isEqualTo(5);
+        assertThat(methodStats("getJobList(state)").getErrors()).isZero();
+        assertThat(instrumentedStorageProvider.getSlowCalls()).isEmpty();
+    }
+
+    @Test
+    void recordsErrors() {
+        UUID unknownJobId = UUID.randomUUID();
+        assertThatThrownBy(() -> instrumentedStorageProvider.getJobById(unknownJobId)).isInstanceOf(JobNotFoundException.class);
+
+        assertThat(methodStats("getJobById").getCalls()).isEqualTo(1);
+        assertThat(methodStats("getJobById").getErrors()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsSlowCallsWithArgumentsAndCaller() {
+        instrumentedStorageProvider.save(aScheduledJob().build());
+        delayedStorageProvider.delay = Duration.ofMillis(150);
+        InstrumentedStorageProvider.setCaller("ProcessScheduledJobsTask");
+
+        Instant before = now();
+        instrumentedStorageProvider.getScheduledJobs(now().plusSeconds(60), ascOnUpdatedAt(100));
+
+        assertThat(methodStats("getScheduledJobs").getMaxTime()).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+        assertThat(methodStats("getScheduledJobs").getTimePercentile(0.95)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+        assertThat(instrumentedStorageProvider.getSlowCalls())
+                .singleElement()
+                .satisfies(slowCall -> {
+                    assertThat(slowCall.getMethod()).isEqualTo("getScheduledJobs");
+                    assertThat(slowCall.getArguments()).endsWith("limit 100");
+                    assertThat(slowCall.getCaller()).isEqualTo("ProcessScheduledJobsTask");
+                    assertThat(slowCall.getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+                });
+        assertThat(instrumentedStorageProvider.getSlowCallsStartedAfter(before.minusMillis(10))).hasSize(1);
+        assertThat(instrumentedStorageProvider.getSlowCallsStartedAfter(now())).isEmpty();
+    }
+
+    @Test
+    void slowCallsAreKeptInABoundedRingBuffer() {
+        delayedStorageProvider.delay = Duration.ofMillis(120);
+
+        instrumentedStorageProvider.getScheduledJobs(now(), ascOnUpdatedAt(1));
+        instrumentedStorageProvider.getScheduledJobs(now(), ascOnUpdatedAt(2));
+        instrumentedStorageProvider.getScheduledJobs(now(), ascOnUpdatedAt(3));
+
+        List<SlowStorageProviderCall> slowCalls = instrumentedStorageProvider.getSlowCalls();
+        assertThat(slowCalls).hasSize(2);
+        assertThat(slowCalls.get(0).getArguments()).endsWith("limit 3");
+        assertThat(slowCalls.get(1).getArguments()).endsWith("limit 2");
+    }
+
+    @Test
+    void methodStatsListenersAreNotifiedOncePerMethod() {
+        List<StorageProviderMethodStats> createdMethodStats = new ArrayList<>();
+        instrumentedStorageProvider.addMethodStatsListener(createdMethodStats::add);
+
+        instrumentedStorageProvider.countJobs(StateName.ENQUEUED);
+        instrumentedStorageProvider.countJobs(StateName.SCHEDULED);
+
+        assertThat(createdMethodStats).extracting(StorageProviderMethodStats::getMethod).containsExactly("countJobs");
+    }
+
+    @Test
+    void recordsCallsOnSqlStorageProvider() {
+        try (HikariDataSource dataSource = toHikariDataSource("jdbc:h2:mem:test-instrumented;DB_CLOSE_DELAY=-1", "sa", "sa")) {
+            H2StorageProvider h2StorageProvider = new H2StorageProvider(dataSource);
+            h2StorageProvider.setJobMapper(new JobMapper(new JacksonJsonMapper()));
+            InstrumentedStorageProvider instrumentedH2StorageProvider = new InstrumentedStorageProvider(h2StorageProvider);
+
+            instrumentedH2StorageProvider.save(asList(anEnqueuedJob().build(), anEnqueuedJob().build()));
+            List<Job> jobs = instrumentedH2StorageProvider.getJobList(StateName.ENQUEUED, ascOnUpdatedAt(10));
+            int deleted = instrumentedH2StorageProvider.deleteJobsPermanently(StateName.ENQUEUED, now().plusSeconds(1));
+
+            assertThat(jobs).hasSize(2);
+            assertThat(deleted).isEqualTo(2);
+            assertThat(instrumentedH2StorageProvider.getMethodStats())
+                    .extracting(StorageProviderMethodStats::getMethod, StorageProviderMethodStats::getCalls, StorageProviderMethodStats::getRows)
+                    .contains(
+                            tuple("save(jobs)", 1L, 2L),
+                            tuple("getJobList(state)", 1L, 2L),
+                            tuple("deleteJobsPermanently", 1L, 2L));
+            h2StorageProvider.close();
+        }
+    }
+
+    private StorageProviderMethodStats methodStats(String method) {
+        return instrumentedStorageProvider.getMethodStats().stream()
+                .filter(stats -> stats.getMethod().equals(method))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No stats for " + method));
+    }
+
+    static class DelayedInMemoryStorageProvider extends InMemoryStorageProvider {
+
+        volatile Duration delay = Duration.ZERO;
+
+        @Override
+        public List<Job> getScheduledJobs(Instant scheduledBefore, AmountRequest amountRequest) {
+            sleep(delay.toMillis());
+            return super.getScheduledJobs(scheduledBefore, amountRequest);
+        }
+    }
+}
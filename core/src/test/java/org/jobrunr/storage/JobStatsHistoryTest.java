@@ -0,0 +1,135 @@
+package org.jobrunr.storage;
+
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static java.time.Duration.ofHours;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofMinutes;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.storage.JobStatsHistory.HOUR_ROLLUPS_NAME;
+import static org.jobrunr.storage.JobStatsHistory.MINUTE_ROLLUPS_NAME;
+
+class JobStatsHistoryTest {
+
+    private static final Instant HOUR = Instant.parse("2024-01-01T10:00:00Z");
+
+    private InMemoryStorageProvider storageProvider;
+    private JobStatsHistory jobStatsHistory;
+
+    @BeforeEach
+    void setUpJobStatsHistory() {
+        storageProvider = new InMemoryStorageProvider();
+        jobStatsHistory = new JobStatsHistory(storageProvider, new JacksonJsonMapper());
+    }
+
+    @Test
+    void jobSignatureStatsKeepsCountsAndPercentiles() {
+        JobSignatureStats stats = new JobSignatureStats("aJobSignature");
+        range(1, 101).forEach(i -> stats.recordSucceeded(ofMillis(i * 10L)));
+        stats.recordFailed(ofMillis(10));
+        stats.recordStarted(ofMillis(5));
+
+        assertThat(stats.getSucceeded()).isEqualTo(100);
+        assertThat(stats.getFailed()).isEqualTo(1);
+        assertThat(stats.getStarted()).isEqualTo(1);
+        assertThat(stats.getProcessingTimePercentile(0.5).toMillis()).isBetween(400L, 600L);
+        assertThat(stats.getProcessingTimePercentile(0.95).toMillis()).isBetween(760L, 1140L);
+        assertThat(stats.getEnqueueToStartLatencyPercentile(0.5).toMillis()).isBetween(4L, 6L);
+    }
+
+    @Test
+    void jobSignatureStatsWithoutDurationsHasNoPercentiles() {
+        JobSignatureStats stats = new JobSignatureStats("aJobSignature");
+
+        assertThat(stats.getProcessingTimePercentile(0.5)).isNull();
+        assertThat(stats.getEnqueueToStartLatencyPercentile(0.95)).isNull();
+    }
+
+    @Test
+    void rollupKeepsAtMostMaxJobSignatures() {
+        List<JobSignatureStats> jobSignatureStats = range(0, JobStatsRollup.MAX_JOB_SIGNATURES + 10)
+                .mapToObj(i -> succeeded("jobSignature" + i, 1))
+                .collect(toList());
+
+        JobStatsRollup rollup = new JobStatsRollup(HOUR, ofMinutes(1), jobSignatureStats);
+
+        assertThat(rollup.getJobSignatureStats()).hasSize(JobStatsRollup.MAX_JOB_SIGNATURES);
+        assertThat(rollup.getJobSignatureStats()).extracting(JobSignatureStats::getJobSignature).contains(JobStatsRollup.OTHER_JOB_SIGNATURES);
+        assertThat(rollup.getTotal().getSucceeded()).isEqualTo(JobStatsRollup.MAX_JOB_SIGNATURES + 10);
+    }
+
+    @Test
+    void minuteRollupsOfDifferentServersAreMergedWhenReading() {
+        jobStatsHistory.saveMinuteRollup(UUID.randomUUID(), new JobStatsRollup(HOUR, ofMinutes(1), asList(succeeded("a", 2), succeeded("b", 1))));
+        jobStatsHistory.saveMinuteRollup(UUID.randomUUID(), new JobStatsRollup(HOUR, ofMinutes(1), asList(succeeded("a", 3))));
+        jobStatsHistory.saveMinuteRollup(UUID.randomUUID(), new JobStatsRollup(HOUR.plus(ofMinutes(1)), ofMinutes(1), asList(succeeded("a", 1))));
+
+        List<JobStatsRollup> history = jobStatsHistory.getHistory();
+
+        assertThat(history).hasSize(2);
+        assertThat(history.get(0).getTimestamp()).isEqualTo(HOUR);
+        assertThat(history.get(0).getTotal().getSucceeded()).isEqualTo(6);
+        assertThat(history.get(0).getJobSignatureStats()).hasSize(2);
+        assertThat(history.get(1).getTotal().getSucceeded()).isEqualTo(1);
+    }
+
+    @Test
+    void minuteRollupsOfTheSameServerAndMinuteAreMergedWhenSaving() {
+        UUID serverId = UUID.randomUUID();
+        jobStatsHistory.saveMinuteRollup(serverId, new JobStatsRollup(HOUR, ofMinutes(1), asList(succeeded("a", 2))));
+        jobStatsHistory.saveMinuteRollup(serverId, new JobStatsRollup(HOUR, ofMinutes(1), asList(succeeded("a", 3))));
+
+        assertThat(storageProvider.getMetadata(MINUTE_ROLLUPS_NAME)).hasSize(1);
+        assertThat(jobStatsHistory.getHistory())
+                .singleElement()
+                .satisfies(rollup -> assertThat(rollup.getTotal().getSucceeded()).isEqualTo(5));
+    }
+
+    @Test
+    void downsampleMergesOldMinuteRollupsIntoHourRollups() {
+        jobStatsHistory.saveMinuteRollup(UUID.randomUUID(), new JobStatsRollup(HOUR, ofMinutes(1), asList(succeeded("a", 2))));
+        jobStatsHistory.saveMinuteRollup(UUID.randomUUID(), new JobStatsRollup(HOUR.plus(ofMinutes(59)), ofMinutes(1), asList(succeeded("a", 3))));
+        jobStatsHistory.saveMinuteRollup(UUID.randomUUID(), new JobStatsRollup(HOUR.plus(ofHours(3)), ofMinutes(1), asList(succeeded("a", 1))));
+
+        jobStatsHistory.downsample(HOUR.plus(ofHours(3)).plus(ofMinutes(5)));
+
+        assertThat(storageProvider.getMetadata(MINUTE_ROLLUPS_NAME)).hasSize(1);
+        assertThat(storageProvider.getMetadata(HOUR_ROLLUPS_NAME)).hasSize(1);
+        List<JobStatsRollup> history = jobStatsHistory.getHistory();
+        assertThat(history).hasSize(2);
+        assertThat(history.get(0).getDuration()).isEqualTo(ofHours(1));
+        assertThat(history.get(0).getTotal().getSucceeded()).isEqualTo(5);
+        assertThat(history.get(1).getDuration()).isEqualTo(ofMinutes(1));
+    }
+
+    @Test
+    void downsampleMergesLateMinuteRollupsIntoExistingHourRollupAndDeletesExpiredHourRollups() {
+        jobStatsHistory.saveMinuteRollup(UUID.randomUUID(), new JobStatsRollup(HOUR, ofMinutes(1), asList(succeeded("a", 2))));
+        jobStatsHistory.downsample(HOUR.plus(ofHours(4)));
+        jobStatsHistory.saveMinuteRollup(UUID.randomUUID(), new JobStatsRollup(HOUR.plus(ofMinutes(30)), ofMinutes(1), asList(succeeded("a", 3))));
+        jobStatsHistory.downsample(HOUR.plus(ofHours(4)));
+
+        assertThat(jobStatsHistory.getHistory()).hasSize(1);
+        assertThat(jobStatsHistory.getHistory().get(0).getTotal().getSucceeded()).isEqualTo(5);
+
+        jobStatsHistory.downsample(HOUR.plus(JobStatsHistory.HOUR_ROLLUPS_RETENTION).plus(ofHours(2)));
+
+        assertThat(jobStatsHistory.getHistory()).isEmpty();
+    }
+
+    private static JobSignatureStats succeeded(String jobSignature, int amount) {
+        JobSignatureStats stats = new JobSignatureStats(jobSignature);
+        range(0, amount).forEach(i -> stats.recordSucceeded(Duration.ofSeconds(1)));
+        return stats;
+    }
+}
@@ -0,0 +1,340 @@
+package org.jobrunr.storage.journal;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.details.JobDetailsAsmGenerator;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.scheduling.JobScheduler;
+import org.jobrunr.storage.InMemoryStorageProvider;
+import org.jobrunr.storage.StorageException;
+import org.jobrunr.storage.sql.h2.H2StorageProvider;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.storage.journal.EnqueueJournalConfiguration.usingStandardEnqueueJournalConfiguration;
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+
+class EnqueueJournalTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    private JobMapper jobMapper;
+    private FailingStorageProvider storageProvider;
+    private EnqueueJournal enqueueJournal;
+
+    @BeforeEach
+    void setUpEnqueueJournal() {
+        jobMapper = new JobMapper(new JacksonJsonMapper());
+        storageProvider = new FailingStorageProvider();
+        storageProvider.setJobMapper(jobMapper);
+        enqueueJournal = startEnqueueJournal(usingStandardEnqueueJournalConfiguration(journalDirectory).andDrainInterval(ofMillis(10)));
+    }
+
+    @AfterEach
+    void closeEnqueueJournal() {
+        enqueueJournal.close();
+    }
+
+    @Test
+    void journaledJobsAreSavedInTheStorageProvider() {
+        Job job = anEnqueuedJob().build();
+
+        enqueueJournal.append(job);
+
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(enqueueJournal.getJournalDepth()).isZero());
+        assertThat(storageProvider.getJobById(job.getId())).isNotNull();
+        assertThat(enqueueJournal.getDrainedJobCount()).isEqualTo(1);
+    }
+
+    @Test
+    void jobsCanBeJournaledDuringAStorageOutageAndAreSavedOnceTheStorageProviderIsBack() {
+        storageProvider.failing = true;
+
+        List<Job> jobs = IntStream.range(0, 50).mapToObj(i -> anEnqueuedJob().build()).collect(toList());
+        jobs.forEach(enqueueJournal::append);
+
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(enqueueJournal.getFailedDrainAttemptCount()).isPositive());
+        assertThat(enqueueJournal.getJournalDepth()).isEqualTo(50);
+        assertThat(enqueueJournal.getDrainLag()).isPositive();
+        assertThat(storageProvider.countJobs()).isZero();
+
+        storageProvider.failing = false;
+
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(storageProvider.countJobs()).isEqualTo(50));
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(enqueueJournal.getJournalDepth()).isZero());
+        assertThat(enqueueJournal.getDrainLag()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void unsavedJobsAreReplayedOnRestart() {
+        storageProvider.failing = true;
+        List<Job> jobs = IntStream.range(0, 10).mapToObj(i -> anEnqueuedJob().build()).collect(toList());
+        enqueueJournal.append(jobs);
+        enqueueJournal.close();
+        assertThat(storageProvider.countJobs()).isZero();
+
+        storageProvider.failing = false;
+        enqueueJournal = startEnqueueJournal(usingStandardEnqueueJournalConfiguration(journalDirectory).andDrainInterval(ofMillis(10)));
+
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(storageProvider.countJobs()).isEqualTo(10));
+        jobs.forEach(job -> assertThat(storageProvider.getJobById(job.getId()).getJobName()).isEqualTo(job.getJobName()));
+    }
+
+    @Test
+    void replayedJobsThatAreAlreadySavedAreSkipped() throws IOException {
+        storageProvider.failing = true;
+        Job alreadySavedJob = anEnqueuedJob().build();
+        Job unsavedJob = anEnqueuedJob().build();
+        enqueueJournal.append(List.of(alreadySavedJob, unsavedJob));
+        enqueueJournal.close();
+
+        storageProvider.failing = false;
+        storageProvider.save(jobMapper.deserializeJob(jobMapper.serializeJob(alreadySavedJob)));
+        enqueueJournal = startEnqueueJournal(usingStandardEnqueueJournalConfiguration(journalDirectory).andDrainInterval(ofMillis(10)));
+
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(enqueueJournal.getJournalDepth()).isZero());
+        assertThat(storageProvider.countJobs()).isEqualTo(2);
+        assertThat(storageProvider.getJobById(unsavedJob.getId())).isNotNull();
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(segmentFiles()).extracting(segment -> segment.toFile().length()).containsOnly(0L));
+    }
+
+    @Test
+    void replayedJobsThatAreAlreadySavedAreSkippedOnSqlStorageProvider() {
+        enqueueJournal.close();
+        try (HikariDataSource dataSource = toHikariDataSource("jdbc:h2:mem:test-enqueue-journal;DB_CLOSE_DELAY=-1", "sa", "sa")) {
+            FailingH2StorageProvider h2StorageProvider = new FailingH2StorageProvider(dataSource);
+            h2StorageProvider.setJobMapper(jobMapper);
+            h2StorageProvider.failing = true;
+            Job alreadySavedJob = anEnqueuedJob().build();
+            List<Job> unsavedJobs = IntStream.range(0, 12).mapToObj(i -> anEnqueuedJob().build()).collect(toList());
+            EnqueueJournal h2EnqueueJournal = new EnqueueJournal(h2StorageProvider, jobMapper, usingStandardEnqueueJournalConfiguration(journalDirectory).andDrainInterval(ofMillis(10)));
+            h2EnqueueJournal.start();
+            h2EnqueueJournal.append(alreadySavedJob);
+            h2EnqueueJournal.append(unsavedJobs);
+            h2EnqueueJournal.close();
+
+            h2StorageProvider.failing = false;
+            h2StorageProvider.save(jobMapper.deserializeJob(jobMapper.serializeJob(alreadySavedJob)));
+            EnqueueJournal replayingH2EnqueueJournal = new EnqueueJournal(h2StorageProvider, jobMapper, usingStandardEnqueueJournalConfiguration(journalDirectory).andDrainInterval(ofMillis(10)));
+            replayingH2EnqueueJournal.start();
+
+            await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(replayingH2EnqueueJournal.getJournalDepth()).isZero());
+            assertThat(h2StorageProvider.countJobs(ENQUEUED)).isEqualTo(13);
+            unsavedJobs.forEach(job -> assertThat(h2StorageProvider.getJobById(job.getId())).isNotNull());
+            replayingH2EnqueueJournal.close();
+            h2StorageProvider.close();
+        }
+    }
+
+    @Test
+    void segmentsAreDeletedOnceAllTheirJobsAreSaved() throws IOException {
+        enqueueJournal.close();
+        enqueueJournal = startEnqueueJournal(usingStandardEnqueueJournalConfiguration(journalDirectory).andDrainInterval(ofMillis(10)).andMaxSegmentSizeInBytes(4096));
+        storageProvider.failing = true;
+
+        IntStream.range(0, 20).forEach(i -> enqueueJournal.append(anEnqueuedJob().build()));
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+
+        storageProvider.failing = false;
+
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(storageProvider.countJobs()).isEqualTo(20));
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(segmentFiles()).hasSizeLessThanOrEqualTo(1));
+        enqueueJournal.close();
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    @Test
+    void incompleteRecordAtTheEndOfASegmentIsIgnored() throws IOException {
+        storageProvider.failing = true;
+        Job job = anEnqueuedJob().build();
+        enqueueJournal.append(job);
+        enqueueJournal.close();
+        Path segment = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(file.length());
+            file.writeInt(10_000);
+            file.writeInt(0);
+            file.write("{\"partial".getBytes());
+        }
+
+        storageProvider.failing = false;
+        enqueueJournal = startEnqueueJournal(usingStandardEnqueueJournalConfiguration(journalDirectory).andDrainInterval(ofMillis(10)));
+
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(storageProvider.countJobs()).isEqualTo(1));
+        assertThat(storageProvider.getJobById(job.getId())).isNotNull();
+    }
+
+    @Test
+    void batchThatFailsPartwayIsRolledBackSoItIsNotReplayedAndDoesNotHideLaterJobs() throws IOException {
+        enqueueJournal.close();
+        AtomicInteger appendsUntilFailure = new AtomicInteger(Integer.MAX_VALUE);
+        enqueueJournal = new EnqueueJournal(storageProvider, jobMapper, usingStandardEnqueueJournalConfiguration(journalDirectory).andDrainInterval(ofMillis(10))) {
+            @Override
+            EnqueueJournalSegment createSegment(Path journalDirectory, long segmentNbr) throws IOException {
+                return new FailingEnqueueJournalSegment(segmentNbr, FileChannel.open(EnqueueJournalSegment.path(journalDirectory, segmentNbr), CREATE_NEW, WRITE), appendsUntilFailure);
+            }
+        };
+        enqueueJournal.start();
+        storageProvider.failing = true;
+        Job journaledJob = anEnqueuedJob().build();
+        enqueueJournal.append(journaledJob);
+
+        appendsUntilFailure.set(2);
+        List<Job> failedBatch = IntStream.range(0, 3).mapToObj(i -> anEnqueuedJob().build()).collect(toList());
+        assertThatThrownBy(() -> enqueueJournal.append(failedBatch)).isInstanceOf(StorageException.class);
+        assertThat(enqueueJournal.getJournalDepth()).isEqualTo(1);
+
+        Job jobJournaledAfterFailure = anEnqueuedJob().build();
+        enqueueJournal.append(jobJournaledAfterFailure);
+        enqueueJournal.close();
+
+        storageProvider.failing = false;
+        enqueueJournal = startEnqueueJournal(usingStandardEnqueueJournalConfiguration(journalDirectory).andDrainInterval(ofMillis(10)));
+
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(enqueueJournal.getJournalDepth()).isZero());
+        assertThat(storageProvider.countJobs()).isEqualTo(2);
+        assertThat(storageProvider.getJobById(journaledJob.getId())).isNotNull();
+        assertThat(storageProvider.getJobById(jobJournaledAfterFailure.getId())).isNotNull();
+        enqueueJournal.close();
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    @Test
+    void journalDirectoryCanOnlyBeUsedByOneEnqueueJournal() {
+        EnqueueJournal otherEnqueueJournal = new EnqueueJournal(storageProvider, jobMapper, usingStandardEnqueueJournalConfiguration(journalDirectory));
+
+        assertThatThrownBy(otherEnqueueJournal::start)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("is already in use");
+    }
+
+    @Test
+    void appendFailsIfJournalIsClosed() {
+        enqueueJournal.close();
+
+        assertThatThrownBy(() -> enqueueJournal.append(anEnqueuedJob().build()))
+                .isInstanceOf(StorageException.class);
+    }
+
+    @Test
+    void jobSchedulerWritesNewJobsToTheEnqueueJournal() {
+        storageProvider.failing = true;
+        JobScheduler jobScheduler = new JobScheduler(storageProvider, new JobDetailsAsmGenerator(), emptyList(), enqueueJournal);
+
+        assertThatCode(() -> jobScheduler.enqueue(() -> System.out.println("journaled job"))).doesNotThrowAnyException();
+        assertThatCode(() -> jobScheduler.enqueue(Stream.of(1, 2, 3), (i) -> System.out.println("journaled job " + i))).doesNotThrowAnyException();
+        assertThat(enqueueJournal.getJournalDepth()).isEqualTo(4);
+
+        storageProvider.failing = false;
+
+        await().atMost(ofSeconds(5)).untilAsserted(() -> assertThat(storageProvider.countJobs()).isEqualTo(4));
+    }
+
+    private EnqueueJournal startEnqueueJournal(EnqueueJournalConfiguration configuration) {
+        EnqueueJournal journal = new EnqueueJournal(storageProvider, jobMapper, configuration);
+        journal.start();
+        return journal;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(EnqueueJournalSegment.FILE_PREFIX))
+                    .sorted()
+                    .collect(toList());
+        }
+    }
+
+    private static class FailingEnqueueJournalSegment extends EnqueueJournalSegment {
+
+        private final FileChannel fileChannel;
+        private final AtomicInteger appendsUntilFailure;
+
+        FailingEnqueueJournalSegment(long segmentNbr, FileChannel fileChannel, AtomicInteger appendsUntilFailure) {
+            super(segmentNbr, fileChannel);
+            this.fileChannel = fileChannel;
+            this.appendsUntilFailure = appendsUntilFailure;
+        }
+
+        @Override
+        void append(String serializedJob) throws IOException {
+            if (appendsUntilFailure.getAndDecrement() == 0) {
+                fileChannel.write(ByteBuffer.wrap(serializedJob.substring(0, serializedJob.length() / 2).getBytes(UTF_8)));
+                throw new IOException("No space left on device");
+            }
+            super.append(serializedJob);
+        }
+    }
+
+    private static class FailingH2StorageProvider extends H2StorageProvider {
+
+        private volatile boolean failing;
+
+        FailingH2StorageProvider(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Job save(Job job) {
+            if (failing) throw new StorageException("Storage is not available");
+            return super.save(job);
+        }
+
+        @Override
+        public List<Job> save(List<Job> jobs) {
+            if (failing) throw new StorageException("Storage is not available");
+            return super.save(jobs);
+        }
+    }
+
+    private static class FailingStorageProvider extends InMemoryStorageProvider {
+
+        private volatile boolean failing;
+
+        @Override
+        public Job save(Job job) {
+            if (failing) throw new StorageException("Storage is not available");
+            return super.save(job);
+        }
+
+        @Override
+        public List<Job> save(List<Job> jobs) {
+            if (failing) throw new StorageException("Storage is not available");
+            return super.save(jobs);
+        }
+
+        private long countJobs() {
+            return countJobs(ENQUEUED);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.jobrunr.storage.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jobrunr.storage.journal.EnqueueJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EnqueueJournalMetricsBinderTest {
+
+    @Mock
+    EnqueueJournal enqueueJournal;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testBinder() {
+        when(enqueueJournal.getJournalDepth()).thenReturn(5);
+        when(enqueueJournal.getDrainLag()).thenReturn(ofSeconds(3));
+        when(enqueueJournal.getDrainedJobCount()).thenReturn(10L);
+        when(enqueueJournal.getFailedDrainAttemptCount()).thenReturn(2L);
+
+        try (EnqueueJournalMetricsBinder ignored = new EnqueueJournalMetricsBinder(enqueueJournal, meterRegistry)) {
+            assertThat(meterRegistry.get("jobrunr.enqueue-journal.depth").gauge().value()).isEqualTo(5);
+            assertThat(meterRegistry.get("jobrunr.enqueue-journal.drain-lag").timeGauge().value(TimeUnit.SECONDS)).isEqualTo(3);
+            assertThat(meterRegistry.get("jobrunr.enqueue-journal.drained-jobs").functionCounter().count()).isEqualTo(10);
+            assertThat(meterRegistry.get("jobrunr.enqueue-journal.failed-drain-attempts").functionCounter().count()).isEqualTo(2);
+        }
+    }
+}
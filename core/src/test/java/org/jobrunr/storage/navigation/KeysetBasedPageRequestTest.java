@@ -0,0 +1,76 @@
+package org.jobrunr.storage.navigation;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.Page;
+import org.jobrunr.storage.Paging;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+
+class KeysetBasedPageRequestTest {
+
+    @Test
+    void testKeysetBasedPageRequestWithEmptyString() {
+        KeysetBasedPageRequest keysetBasedPageRequest = KeysetBasedPageRequest.fromString("");
+
+        assertThat(keysetBasedPageRequest).isNull();
+    }
+
+    @Test
+    void testKeysetBasedPageRequestFromAndToString() {
+        UUID boundaryId = UUID.randomUUID();
+        KeysetBasedPageRequest keysetBasedPageRequest = KeysetBasedPageRequest.fromString("order=updatedAt:DESC&limit=10&boundary=2023-01-01T10:15:30Z&boundaryId=" + boundaryId + "&backwards=true&approximateTotal=1000");
+
+        assertThat(keysetBasedPageRequest)
+                .hasFieldOrPropertyWithValue("order", "updatedAt:DESC")
+                .hasFieldOrPropertyWithValue("limit", 10)
+                .hasFieldOrPropertyWithValue("boundary", Instant.parse("2023-01-01T10:15:30Z"))
+                .hasFieldOrPropertyWithValue("boundaryId", boundaryId)
+                .hasFieldOrPropertyWithValue("backwards", true)
+                .hasFieldOrPropertyWithValue("approximateTotal", 1000L);
+
+        assertThat(keysetBasedPageRequest.asString()).isEqualTo("order=updatedAt:DESC&limit=10&boundary=2023-01-01T10:15:30Z&boundaryId=" + boundaryId + "&backwards=true&approximateTotal=1000");
+    }
+
+    @Test
+    void testKeysetBasedPageRequestSeeksInReverseOrderWhenGoingBackwards() {
+        KeysetBasedPageRequest keysetBasedPageRequest = new KeysetBasedPageRequest("updatedAt:DESC", 10, Instant.now(), UUID.randomUUID(), true, null);
+
+        assertThat(keysetBasedPageRequest.getSeekOrderTerm())
+                .hasFieldOrPropertyWithValue("fieldName", "updatedAt")
+                .hasFieldOrPropertyWithValue("order", OrderTerm.Order.ASC);
+    }
+
+    @Test
+    void testKeysetBasedPageRequestNextAndPreviousPageWorks() {
+        Job job1 = anEnqueuedJob().withName("Job 1").build();
+        Job job2 = anEnqueuedJob().withName("Job 2").build();
+        Job job3 = anEnqueuedJob().withName("Job 3").build();
+        Job job4 = anEnqueuedJob().withName("Job 4").build();
+
+        Page<Job> jobPage1 = Paging.KeysetBasedPage.ascOnUpdatedAt(2).mapToNewPage(50, asList(job1, job2));
+        assertThat(jobPage1.hasPreviousPage()).isFalse();
+
+        KeysetBasedPageRequest page2KeysetBasedPageRequest = Paging.KeysetBasedPage.next(jobPage1);
+        assertThat(page2KeysetBasedPageRequest)
+                .hasFieldOrPropertyWithValue("order", "updatedAt:ASC")
+                .hasFieldOrPropertyWithValue("limit", 2)
+                .hasFieldOrPropertyWithValue("boundaryId", job2.getId())
+                .hasFieldOrPropertyWithValue("backwards", false)
+                .hasFieldOrPropertyWithValue("approximateTotal", 50L);
+
+        Page<Job> jobPage2 = page2KeysetBasedPageRequest.mapToNewPage(50, asList(job3, job4));
+        KeysetBasedPageRequest page1KeysetBasedPageRequest = Paging.KeysetBasedPage.previous(jobPage2);
+        assertThat(page1KeysetBasedPageRequest)
+                .hasFieldOrPropertyWithValue("boundaryId", job3.getId())
+                .hasFieldOrPropertyWithValue("backwards", true);
+
+        Page<Job> previousPage = page1KeysetBasedPageRequest.mapToNewPage(50, asList(job2, job1));
+        assertThat(previousPage.getItems()).containsExactly(job1, job2);
+    }
+}
@@ -67,7 +67,7 @@ class MongoDBCreatorTest {
         mongoDBCreator.runMigrations();
 
         assertThatCode(mongoDBCreator::validateCollections).doesNotThrowAnyException();
-        assertThat(mongoClient().getDatabase(MongoDBStorageProvider.DEFAULT_DB_NAME).listCollectionNames().into(new ArrayList<>())).hasSize(5);
+        assertThat(mongoClient().getDatabase(MongoDBStorageProvider.DEFAULT_DB_NAME).listCollectionNames().into(new ArrayList<>())).hasSize(6);
     }
 
     @Test
@@ -80,7 +80,7 @@ class MongoDBCreatorTest {
         mongoDBCreator.runMigrations();
 
         assertThatCode(mongoDBCreator::validateCollections).doesNotThrowAnyException();
-        assertThat(mongoClient().getDatabase(MongoDBStorageProvider.DEFAULT_DB_NAME).listCollectionNames().into(new ArrayList<>())).hasSize(5);
+        assertThat(mongoClient().getDatabase(MongoDBStorageProvider.DEFAULT_DB_NAME).listCollectionNames().into(new ArrayList<>())).hasSize(6);
     }
 
     @Test
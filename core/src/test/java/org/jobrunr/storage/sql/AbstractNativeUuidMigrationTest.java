@@ -0,0 +1,147 @@
+package org.jobrunr.storage.sql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.storage.BackgroundJobServerStatus;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.sql.common.DatabaseCreator;
+import org.jobrunr.storage.sql.common.SqlStorageProviderFactory;
+import org.jobrunr.storage.sql.common.migrations.SqlMigration;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.jobs.states.StateName.DELETED;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+
+/**
+ * Populates the jobrunr_jobs and jobrunr_backgroundjobservers tables while their ids are still stored as CHAR(36) and only then runs
+ * migration v017, which converts the ids to a native UUID or a 16-byte binary column, and the migrations after it.
+ */
+public abstract class AbstractNativeUuidMigrationTest {
+
+    private final JobMapper jobMapper = new JobMapper(new JacksonJsonMapper());
+    private HikariDataSource dataSource;
+
+    protected abstract HikariDataSource createDataSource();
+
+    protected abstract Class<? extends SqlStorageProvider> getStorageProviderClass();
+
+    protected abstract String getExpectedIdColumnTypeName();
+
+    @BeforeEach
+    void setUpEmptyDatabase() {
+        dataSource = createDataSource();
+        new DatabaseCleaner(dataSource).dropAllTablesAndViews(0);
+    }
+
+    @AfterEach
+    void closeDataSource() {
+        dataSource.close();
+    }
+
+    @Test
+    void existingJobsAndBackgroundJobServersSurviveTheMigrationToNativeUuidIds() throws SQLException {
+        runMigrationsBefore("v017");
+        final Job job1 = anEnqueuedJob().build();
+        final Job job2 = anEnqueuedJob().build();
+        final UUID backgroundJobServerId = UUID.randomUUID();
+        insertJob(job1);
+        insertJob(job2);
+        insertBackgroundJobServer(backgroundJobServerId);
+
+        final StorageProvider storageProvider = SqlStorageProviderFactory.using(dataSource);
+        storageProvider.setJobMapper(jobMapper);
+
+        assertThat(getIdColumnTypeName("jobrunr_jobs")).isEqualToIgnoringCase(getExpectedIdColumnTypeName());
+        assertThat(getIdColumnTypeName("jobrunr_backgroundjobservers")).isEqualToIgnoringCase(getExpectedIdColumnTypeName());
+
+        final Job migratedJob1 = storageProvider.getJobById(job1.getId());
+        assertThat(migratedJob1.getId()).isEqualTo(job1.getId());
+        assertThat(migratedJob1.getState()).isEqualTo(ENQUEUED);
+        assertThat(storageProvider.getBackgroundJobServers())
+                .extracting(BackgroundJobServerStatus::getId)
+                .containsExactly(backgroundJobServerId);
+
+        migratedJob1.delete("deleted after migration");
+        storageProvider.save(migratedJob1);
+        assertThat(storageProvider.getJobById(job1.getId()).getState()).isEqualTo(DELETED);
+        assertThat(storageProvider.deletePermanently(job2.getId())).isEqualTo(1);
+        final Job newJob = storageProvider.save(anEnqueuedJob().build());
+        assertThat(storageProvider.getJobById(newJob.getId()).getId()).isEqualTo(newJob.getId());
+
+        storageProvider.close();
+    }
+
+    private void runMigrationsBefore(String migrationVersion) {
+        new DatabaseCreator(dataSource, getStorageProviderClass()) {
+            @Override
+            protected Stream<SqlMigration> getMigrations() {
+                return super.getMigrations().filter(migration -> migration.getFileName().compareTo(migrationVersion) < 0);
+            }
+        }.runMigrations();
+    }
+
+    private void insertJob(Job job) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("insert into jobrunr_jobs (id, version, jobAsJson, jobSignature, state, createdAt, updatedAt, scheduledAt, recurringJobId) values (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            ps.setString(1, job.getId().toString());
+            ps.setInt(2, job.getVersion());
+            ps.setString(3, jobMapper.serializeJob(job));
+            ps.setString(4, job.getJobSignature());
+            ps.setString(5, job.getState().name());
+            ps.setTimestamp(6, Timestamp.from(job.getCreatedAt()));
+            ps.setTimestamp(7, Timestamp.from(job.getUpdatedAt()));
+            ps.setNull(8, Types.TIMESTAMP);
+            ps.setNull(9, Types.VARCHAR);
+            ps.executeUpdate();
+        }
+    }
+
+    private void insertBackgroundJobServer(UUID id) throws SQLException {
+        final Timestamp now = Timestamp.from(Instant.now().truncatedTo(MILLIS));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("insert into jobrunr_backgroundjobservers (id, name, workerPoolSize, pollIntervalInSeconds, deleteSucceededJobsAfter, permanentlyDeleteJobsAfter, firstHeartbeat, lastHeartbeat, running, systemTotalMemory, systemFreeMemory, systemCpuLoad, processMaxMemory, processFreeMemory, processAllocatedMemory, processCpuLoad) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            ps.setString(1, id.toString());
+            ps.setString(2, "server-before-migration");
+            ps.setInt(3, 10);
+            ps.setInt(4, 15);
+            ps.setString(5, "PT36H");
+            ps.setString(6, "PT72H");
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+            ps.setInt(9, 1);
+            ps.setLong(10, 10_000L);
+            ps.setLong(11, 5_000L);
+            ps.setDouble(12, 0.5);
+            ps.setLong(13, 1_000L);
+            ps.setLong(14, 500L);
+            ps.setLong(15, 100L);
+            ps.setDouble(16, 0.25);
+            ps.executeUpdate();
+        }
+    }
+
+    private String getIdColumnTypeName(String tableName) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("select id from " + tableName);
+             ResultSet resultSet = ps.executeQuery()) {
+            return resultSet.getMetaData().getColumnTypeName(1);
+        }
+    }
+}
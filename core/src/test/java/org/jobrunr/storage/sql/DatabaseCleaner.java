@@ -26,6 +26,8 @@ public class DatabaseCleaner {
         drop("view " + tableNamePrefix + "jobrunr_jobs_stats", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_recurring_jobs", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_job_counters", true);
+        drop("table " + tableNamePrefix + "jobrunr_job_labels", true);
+        drop("table " + tableNamePrefix + "jobrunr_job_logs", true);
         drop("table " + tableNamePrefix + "jobrunr_jobs", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_backgroundjobservers", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_metadata", exceptionExpected);
@@ -35,6 +37,8 @@ public class DatabaseCleaner {
     public void deleteAllDataInTables() {
         delete("from " + tableNamePrefix + "jobrunr_recurring_jobs");
         delete("from " + tableNamePrefix + "jobrunr_job_counters", true);
+        delete("from " + tableNamePrefix + "jobrunr_job_labels", true);
+        delete("from " + tableNamePrefix + "jobrunr_job_logs", true);
         delete("from " + tableNamePrefix + "jobrunr_jobs");
         delete("from " + tableNamePrefix + "jobrunr_backgroundjobservers");
         delete("from " + tableNamePrefix + "jobrunr_metadata");
@@ -1,8 +1,16 @@
 package org.jobrunr.storage.sql;
 
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.JobSummary;
+import org.jobrunr.jobs.details.JobDetailsAsmGenerator;
 import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.scheduling.JobScheduler;
+import org.jobrunr.storage.JobNotFoundException;
+import org.jobrunr.storage.JobSearchQuery;
+import org.jobrunr.storage.Paging.KeysetBasedPage;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.StorageProviderTest;
+import org.jobrunr.storage.listeners.EnqueuedJobsChangeListener;
 import org.jobrunr.storage.sql.common.SqlStorageProviderFactory;
 import org.jobrunr.storage.sql.common.db.Sql;
 import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
@@ -14,11 +22,28 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
-
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.time.Instant.now;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jobrunr.JobRunrAssertions.assertThat;
+import static org.jobrunr.jobs.JobTestBuilder.aJob;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
 import static org.jobrunr.storage.StorageProviderUtils.DatabaseOptions.SKIP_CREATE;
+import static org.jobrunr.storage.StorageProviderUtils.elementPrefixer;
 import static org.jobrunr.utils.resilience.RateLimiter.Builder.rateLimit;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -53,6 +78,102 @@ public abstract class SqlStorageProviderTest extends StorageProviderTest {
         assertThatCode(() -> storageProvider.setUpStorageProvider(SKIP_CREATE)).doesNotThrowAnyException();
     }
 
+    @Test
+    void jobsSavedInTransactionAreOnlyVisibleOnceTheTransactionIsCommitted() throws SQLException {
+        List<Job> jobs = IntStream.range(0, 12).mapToObj(i -> anEnqueuedJob().build()).collect(toList());
+
+        try (Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            storageProvider.saveInTransaction(connection, jobs.subList(0, 1));
+            storageProvider.saveInTransaction(connection, jobs.subList(1, 12));
+            assertThat(storageProvider.countJobs(ENQUEUED)).isZero();
+
+            connection.commit();
+            connection.setAutoCommit(true);
+        }
+
+        assertThat(storageProvider.countJobs(ENQUEUED)).isEqualTo(12);
+        jobs.forEach(job -> assertThat(storageProvider.getJobById(job.getId())).hasVersion(1));
+    }
+
+    @Test
+    void jobsSavedInTransactionAreGoneIfTheTransactionIsRolledBack() throws SQLException {
+        List<Job> jobs = IntStream.range(0, 12).mapToObj(i -> anEnqueuedJob().build()).collect(toList());
+
+        try (Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            storageProvider.saveInTransaction(connection, jobs);
+
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+
+        assertThat(storageProvider.countJobs(ENQUEUED)).isZero();
+        assertThatThrownBy(() -> storageProvider.getJobById(jobs.get(0).getId())).isInstanceOf(JobNotFoundException.class);
+    }
+
+    @Test
+    void jobsCanOnlyBeSavedInTransactionIfAutoCommitIsDisabled() throws SQLException {
+        try (Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(true);
+
+            assertThatThrownBy(() -> storageProvider.saveInTransaction(connection, singletonList(anEnqueuedJob().build())))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void jobSchedulerCreatesJobsWithinTheTransactionOfTheCaller() throws SQLException {
+        JobScheduler jobScheduler = new JobScheduler(storageProvider, new JobDetailsAsmGenerator(), emptyList());
+        AtomicInteger amountOfNewEnqueuedJobs = new AtomicInteger();
+        storageProvider.addJobStorageOnChangeListener((EnqueuedJobsChangeListener) amountOfNewEnqueuedJobs::addAndGet);
+
+        try (Connection connection = getDataSource().getConnection()) {
+            assertThatThrownBy(() -> jobScheduler.inTransaction(connection, () -> {
+                jobScheduler.enqueue(() -> System.out.println("rolled back job"));
+                throw new IllegalStateException("the business transaction failed");
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(storageProvider.countJobs(ENQUEUED)).isZero();
+            assertThat(amountOfNewEnqueuedJobs).hasValue(0);
+
+            jobScheduler.inTransaction(connection, () -> {
+                jobScheduler.enqueue(() -> System.out.println("committed job"));
+                jobScheduler.enqueue(Stream.of(1, 2, 3), (i) -> System.out.println("committed job " + i));
+            });
+        }
+
+        assertThat(storageProvider.countJobs(ENQUEUED)).isEqualTo(4);
+        assertThat(amountOfNewEnqueuedJobs).hasValue(4);
+    }
+
+    @Test
+    void jobsSavedBeforeTheSearchFieldsExistedAreFoundOnceBackfilled() throws SQLException {
+        Job job = aJob().withName("Invoice 1001").withLabels("invoices").withEnqueuedState(now()).build();
+        Job otherJob = aJob().withName("Report 1").withEnqueuedState(now()).build();
+        storageProvider.save(asList(job, otherJob));
+        makeJobsLookLikeTheyWereSavedBeforeTheSearchFieldsExisted();
+        assertThat(storageProvider.searchJobSummaries(JobSearchQuery.byLabel("invoices"), KeysetBasedPage.ascOnUpdatedAt(10)).getItems()).isEmpty();
+
+        UUID lastJobIdOfFirstBatch = storageProvider.backfillJobSearchFields(null, 1);
+        UUID lastJobIdOfSecondBatch = storageProvider.backfillJobSearchFields(lastJobIdOfFirstBatch, 1);
+
+        assertThat(asList(lastJobIdOfFirstBatch, lastJobIdOfSecondBatch)).containsExactlyInAnyOrder(job.getId(), otherJob.getId());
+        assertThat(storageProvider.backfillJobSearchFields(lastJobIdOfSecondBatch, 1)).isNull();
+        assertThat(storageProvider.searchJobSummaries(JobSearchQuery.byLabel("invoices"), KeysetBasedPage.ascOnUpdatedAt(10)).getItems())
+                .extracting(JobSummary::getId).containsExactly(job.getId());
+        assertThat(storageProvider.searchJobSummaries(JobSearchQuery.byJobNamePrefix("Report"), KeysetBasedPage.ascOnUpdatedAt(10)).getItems())
+                .extracting(JobSummary::getId).containsExactly(otherJob.getId());
+    }
+
+    private void makeJobsLookLikeTheyWereSavedBeforeTheSearchFieldsExisted() throws SQLException {
+        String tablePrefix = getInternalState(storageProvider, "tablePrefix");
+        try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("update " + elementPrefixer(tablePrefix, "jobrunr_jobs") + " set jobName = null, labels = null");
+            statement.executeUpdate("delete from " + elementPrefixer(tablePrefix, "jobrunr_job_labels"));
+            if (!connection.getAutoCommit()) connection.commit();
+        }
+    }
+
     @Override
     protected ThrowingStorageProvider makeThrowingStorageProvider(StorageProvider storageProvider) {
         return new ThrowingSqlStorageProvider(storageProvider);
@@ -7,10 +7,17 @@ import org.jobrunr.storage.sql.h2.H2Dialect;
 import org.junit.jupiter.api.Test;
 
 import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SqlTest {
@@ -47,6 +54,91 @@ class SqlTest {
         }
     }
 
+    @Test
+    void statementsAreCachedByTheirFullStatement() throws SQLException {
+        DataSource dataSource = getH2DataSource("full-statement-key");
+        Dialect dialect = new H2Dialect();
+
+        try (Connection connection = dataSource.getConnection()) {
+            TestSql testSql = new TestSql(connection, dialect, null);
+            assertThat(testSql.selectCount("from jobrunr_jobs where ID = 1")).isEqualTo(1L);
+            assertThat(testSql.selectCount("from jobrunr_jobs where ID = 2")).isEqualTo(0L);
+            assertThat(testSql.selectCount("from jobrunr_jobs where ID = 1")).isEqualTo(1L);
+            assertThat(testSql.parseStatementCounter).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    void insertAllBindsConstantParamsAndItemParamsForEveryRow() throws SQLException {
+        DataSource dataSource = getH2DataSource("batch-insert");
+        Dialect dialect = new H2Dialect();
+
+        try (Connection connection = dataSource.getConnection()) {
+            Sql<Integer> sql = Sql.forType(Integer.class)
+                    .using(connection, dialect, null, "jobrunr_jobs")
+                    .with("id", id -> id)
+                    .with("jobSignature", "same-signature");
+
+            sql.insertAll(asList(2, 3, 4), "into jobrunr_jobs (ID, jobSignature) values (:id, :jobSignature)");
+
+            assertThat(sql.selectCount("from jobrunr_jobs where jobSignature = 'same-signature'")).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    void insertAllUsingMultiRowValuesInsertsAllRowsInChunks() throws SQLException {
+        DataSource dataSource = getH2DataSource("multi-row-insert");
+        Dialect dialect = new H2Dialect();
+
+        try (Connection connection = dataSource.getConnection()) {
+            List<Integer> ids = IntStream.rangeClosed(2, 251).boxed().collect(toList());
+            Sql<Integer> sql = Sql.forType(Integer.class)
+                    .using(connection, dialect, null, "jobrunr_jobs")
+                    .with("id", id -> id)
+                    .with("jobSignature", id -> "signature-" + id);
+
+            sql.insertAllUsingMultiRowValues(ids, "into jobrunr_jobs (ID, jobSignature) values (:id, :jobSignature)");
+
+            assertThat(sql.selectCount("from jobrunr_jobs")).isEqualTo(251L);
+            assertThat(sql.select("jobSignature from jobrunr_jobs where ID = 251").map(rs -> rs.asString("jobSignature"))).containsExactly("signature-251");
+        }
+    }
+
+    @Test
+    void insertAllUsingMultiRowValuesNeverExceedsTheMaxParametersPerStatementOfTheDialect() throws SQLException {
+        DataSource dataSource = getH2DataSource("multi-row-insert-max-parameters");
+        Dialect dialect = new H2Dialect() {
+            @Override
+            public int maxParametersPerStatement() {
+                return 21;
+            }
+        };
+
+        try (Connection connection = dataSource.getConnection()) {
+            List<Integer> parametersPerStatement = new ArrayList<>();
+            Connection parameterCountingConnection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class}, (proxy, method, args) -> {
+                if ("prepareStatement".equals(method.getName())) {
+                    parametersPerStatement.add((int) ((String) args[0]).chars().filter(c -> c == '?').count());
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+            List<Integer> ids = IntStream.rangeClosed(2, 251).boxed().collect(toList());
+            Sql<Integer> sql = Sql.forType(Integer.class)
+                    .using(parameterCountingConnection, dialect, null, "jobrunr_jobs")
+                    .with("id", id -> id)
+                    .with("jobSignature", id -> "signature-" + id);
+
+            sql.insertAllUsingMultiRowValues(ids, "into jobrunr_jobs (ID, jobSignature) values (:id, :jobSignature)");
+
+            assertThat(sql.selectCount("from jobrunr_jobs")).isEqualTo(251L);
+            assertThat(parametersPerStatement).contains(20).allMatch(amountOfParameters -> amountOfParameters <= 21);
+        }
+    }
+
     static class TestSql extends Sql<Job> {
 
         int parseStatementCounter = 0;
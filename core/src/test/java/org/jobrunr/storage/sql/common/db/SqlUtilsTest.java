@@ -4,12 +4,15 @@ import org.jobrunr.jobs.Job;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.UUID;
 
 import static java.sql.Statement.EXECUTE_FAILED;
 import static java.sql.Statement.SUCCESS_NO_INFO;
 import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.jobrunr.JobRunrAssertions.assertThatJobs;
 import static org.jobrunr.jobs.JobTestBuilder.aJobInProgress;
+import static org.jobrunr.utils.reflection.ReflectionUtils.autobox;
 
 class SqlUtilsTest {
 
@@ -79,4 +82,14 @@ class SqlUtilsTest {
                 .hasSize(2)
                 .contains(job5, job6);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUuidToBytesCanBeAutoboxedBackToUUID() {
+        UUID uuid = UUID.fromString("0190c55a-4f1e-7b3c-9e1d-6c0a5e2f8b41");
+
+        byte[] bytes = SqlUtils.uuidToBytes(uuid);
+
+        assertThat(bytes).hasSize(16).startsWith((byte) 0x01, (byte) 0x90, (byte) 0xc5, (byte) 0x5a);
+        assertThat(autobox(bytes, UUID.class)).isEqualTo(uuid);
+    }
+}
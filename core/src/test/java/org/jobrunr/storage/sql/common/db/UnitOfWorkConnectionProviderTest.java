@@ -0,0 +1,79 @@
+package org.jobrunr.storage.sql.common.db;
+
+import org.jobrunr.storage.StorageProvider.UnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnitOfWorkConnectionProviderTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+
+    private UnitOfWorkConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        connectionProvider = new UnitOfWorkConnectionProvider(dataSource);
+    }
+
+    @Test
+    void withoutUnitOfWorkEachCallGetsConnectionFromDataSource() throws SQLException {
+        connectionProvider.getConnection().close();
+        connectionProvider.getConnection().close();
+
+        verify(dataSource, times(2)).getConnection();
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void withinUnitOfWorkConnectionIsReusedAndOnlyClosedAtTheEnd() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        try (UnitOfWork ignored = connectionProvider.startUnitOfWork()) {
+            final Connection firstConnection = connectionProvider.getConnection();
+            firstConnection.close();
+            final Connection secondConnection = connectionProvider.getConnection();
+            secondConnection.close();
+
+            assertThat(firstConnection).isSameAs(secondConnection);
+            verify(connection, never()).close();
+        }
+
+        verify(dataSource, times(1)).getConnection();
+        verify(connection, never()).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    void nestedUnitOfWorkReusesOuterUnitOfWork() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        try (UnitOfWork ignored = connectionProvider.startUnitOfWork()) {
+            try (UnitOfWork alsoIgnored = connectionProvider.startUnitOfWork()) {
+                connectionProvider.getConnection();
+            }
+            verify(connection, never()).close();
+        }
+
+        verify(dataSource, times(1)).getConnection();
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+}
@@ -13,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.jobrunr.storage.Paging.OffsetBasedPage.ascOnUpdatedAt;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class SqlJobPageRequestMapperTest {
@@ -50,4 +51,14 @@ class SqlJobPageRequestMapperTest {
         String filter = jobPageRequestMapper.map(amountRequest);
         assertThat(filter).isEqualTo(" ORDER BY updatedAt ASC LIMIT :limit");
     }
-}
\ No newline at end of file
+
+    @Test
+    void sqlJobPageRequestMapperThatIsSharedBindsParamsOnGivenJobTable() {
+        SqlJobPageRequestMapper sharedJobPageRequestMapper = new SqlJobPageRequestMapper(new AnsiDialect());
+
+        String filter = sharedJobPageRequestMapper.map(ascOnUpdatedAt(20, 10), jobTable);
+        assertThat(filter).isEqualTo(" ORDER BY updatedAt ASC LIMIT :limit OFFSET :offset");
+        verify(jobTable).with("limit", 10);
+        verify(jobTable).with("offset", 20L);
+    }
+}
@@ -0,0 +1,25 @@
+package org.jobrunr.storage.sql.h2;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.storage.sql.AbstractNativeUuidMigrationTest;
+import org.jobrunr.storage.sql.SqlStorageProvider;
+
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+
+class H2NativeUuidMigrationTest extends AbstractNativeUuidMigrationTest {
+
+    @Override
+    protected HikariDataSource createDataSource() {
+        return toHikariDataSource("jdbc:h2:mem:test-native-uuid-migration;DB_CLOSE_DELAY=-1", "sa", "sa");
+    }
+
+    @Override
+    protected Class<? extends SqlStorageProvider> getStorageProviderClass() {
+        return H2StorageProvider.class;
+    }
+
+    @Override
+    protected String getExpectedIdColumnTypeName() {
+        return "UUID";
+    }
+}
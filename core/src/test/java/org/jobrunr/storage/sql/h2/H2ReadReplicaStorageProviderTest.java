@@ -0,0 +1,96 @@
+package org.jobrunr.storage.sql.h2;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.storage.JobNotFoundException;
+import org.jobrunr.storage.Paging.AmountBasedList;
+import org.jobrunr.storage.Paging.OffsetBasedPage;
+import org.jobrunr.stubs.BackgroundJobServerStub;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.storage.BackgroundJobServerStatusTestBuilder.aDefaultBackgroundJobServerStatus;
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+import static org.jobrunr.storage.sql.h2.AbstractH2StorageProviderTest.shutdownDatabase;
+
+/**
+ * Uses two separate H2 databases so that every read reveals whether it went to the primary or to the read replica.
+ */
+class H2ReadReplicaStorageProviderTest {
+
+    private final JacksonJsonMapper jsonMapper = new JacksonJsonMapper();
+
+    private HikariDataSource primaryDataSource;
+    private HikariDataSource replicaDataSource;
+    private H2StorageProvider storageProvider;
+    private H2StorageProvider replicaStorageProvider;
+
+    @BeforeEach
+    void setUpPrimaryAndReplica() {
+        primaryDataSource = toHikariDataSource("jdbc:h2:mem:test-read-replica-primary;DB_CLOSE_DELAY=-1", "sa", "sa");
+        replicaDataSource = toHikariDataSource("jdbc:h2:mem:test-read-replica-replica;DB_CLOSE_DELAY=-1", "sa", "sa");
+
+        storageProvider = new H2StorageProvider(primaryDataSource);
+        storageProvider.setJobMapper(new JobMapper(jsonMapper));
+        storageProvider.setReadOnlyDataSource(replicaDataSource);
+
+        replicaStorageProvider = new H2StorageProvider(replicaDataSource);
+        replicaStorageProvider.setJobMapper(new JobMapper(jsonMapper));
+    }
+
+    @AfterEach
+    void tearDownPrimaryAndReplica() throws SQLException {
+        storageProvider.close();
+        replicaStorageProvider.close();
+        shutdownDatabase(primaryDataSource);
+        shutdownDatabase(replicaDataSource);
+        primaryDataSource.close();
+        replicaDataSource.close();
+    }
+
+    @Test
+    void dashboardAndMetricsReadsGoToTheReadReplica() {
+        final Job jobOnPrimary = storageProvider.save(anEnqueuedJob().build());
+        final Job jobOnReplica1 = replicaStorageProvider.save(anEnqueuedJob().build());
+        final Job jobOnReplica2 = replicaStorageProvider.save(anEnqueuedJob().build());
+        storageProvider.announceBackgroundJobServer(aDefaultBackgroundJobServerStatus().withIsStarted().build());
+
+        assertThat(storageProvider.getJobs(ENQUEUED, OffsetBasedPage.ascOnUpdatedAt(10)).getItems())
+                .extracting(Job::getId)
+                .containsExactlyInAnyOrder(jobOnReplica1.getId(), jobOnReplica2.getId());
+        assertThat(storageProvider.getJobSummaries(ENQUEUED, OffsetBasedPage.ascOnUpdatedAt(10)).getItems())
+                .extracting("id")
+                .containsExactlyInAnyOrder(jobOnReplica1.getId(), jobOnReplica2.getId());
+        assertThat(storageProvider.getJobStats().getEnqueued()).isEqualTo(2);
+        assertThat(storageProvider.getBackgroundJobServers()).isEmpty();
+
+        assertThat(replicaStorageProvider.getJobs(ENQUEUED, OffsetBasedPage.ascOnUpdatedAt(10)).getItems())
+                .extracting(Job::getId)
+                .doesNotContain(jobOnPrimary.getId());
+    }
+
+    @Test
+    void writesAndClaimsStayOnThePrimary() {
+        final Job jobOnPrimary = storageProvider.save(anEnqueuedJob().build());
+        final Job jobOnReplica = replicaStorageProvider.save(anEnqueuedJob().build());
+
+        assertThat(storageProvider.getJobById(jobOnPrimary.getId()).getId()).isEqualTo(jobOnPrimary.getId());
+        assertThatThrownBy(() -> storageProvider.getJobById(jobOnReplica.getId())).isInstanceOf(JobNotFoundException.class);
+        assertThatThrownBy(() -> replicaStorageProvider.getJobById(jobOnPrimary.getId())).isInstanceOf(JobNotFoundException.class);
+
+        final BackgroundJobServerStub backgroundJobServer = new BackgroundJobServerStub(storageProvider, jsonMapper);
+        assertThat(storageProvider.getJobsToProcess(backgroundJobServer, AmountBasedList.ascOnUpdatedAt(10)))
+                .extracting(Job::getId)
+                .containsExactly(jobOnPrimary.getId());
+        assertThat(replicaStorageProvider.getJobById(jobOnReplica.getId()).hasState(ENQUEUED)).isTrue();
+    }
+}
@@ -0,0 +1,32 @@
+package org.jobrunr.storage.sql.mariadb;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.storage.sql.AbstractNativeUuidMigrationTest;
+import org.jobrunr.storage.sql.SqlStorageProvider;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+
+@Testcontainers
+class MariaDbNativeUuidMigrationTest extends AbstractNativeUuidMigrationTest {
+
+    @Container
+    private static final MariaDBContainer sqlContainer = new MariaDBContainer<>("mariadb").withEnv("TZ", "UTC");
+
+    @Override
+    protected HikariDataSource createDataSource() {
+        return toHikariDataSource(sqlContainer, "?rewriteBatchedStatements=true&useBulkStmts=false");
+    }
+
+    @Override
+    protected Class<? extends SqlStorageProvider> getStorageProviderClass() {
+        return MariaDbStorageProvider.class;
+    }
+
+    @Override
+    protected String getExpectedIdColumnTypeName() {
+        return "BINARY";
+    }
+}
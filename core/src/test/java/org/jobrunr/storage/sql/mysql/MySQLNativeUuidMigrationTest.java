@@ -0,0 +1,32 @@
+package org.jobrunr.storage.sql.mysql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.storage.sql.AbstractNativeUuidMigrationTest;
+import org.jobrunr.storage.sql.SqlStorageProvider;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+
+@Testcontainers
+class MySQLNativeUuidMigrationTest extends AbstractNativeUuidMigrationTest {
+
+    @Container
+    private static final MySQLContainer sqlContainer = new MySQLContainer<>("mysql:8.0.32").withEnv("TZ", "UTC");
+
+    @Override
+    protected HikariDataSource createDataSource() {
+        return toHikariDataSource(sqlContainer, "?rewriteBatchedStatements=true&useSSL=false");
+    }
+
+    @Override
+    protected Class<? extends SqlStorageProvider> getStorageProviderClass() {
+        return MySqlStorageProvider.class;
+    }
+
+    @Override
+    protected String getExpectedIdColumnTypeName() {
+        return "BINARY";
+    }
+}
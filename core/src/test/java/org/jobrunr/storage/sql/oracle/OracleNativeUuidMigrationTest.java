@@ -0,0 +1,37 @@
+package org.jobrunr.storage.sql.oracle;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.storage.sql.AbstractNativeUuidMigrationTest;
+import org.jobrunr.storage.sql.SqlStorageProvider;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.oracle.OracleContainer;
+
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+
+@Testcontainers
+class OracleNativeUuidMigrationTest extends AbstractNativeUuidMigrationTest {
+
+    @Container
+    private static final OracleContainer sqlContainer = new OracleContainer("gvenzl/oracle-free:latest-faststart")
+            .withStartupTimeoutSeconds(900)
+            .withConnectTimeoutSeconds(500)
+            .withEnv("DB_SID", "ORCL")
+            .withEnv("DB_PASSWD", "oracle")
+            .withSharedMemorySize(4294967296L);
+
+    @Override
+    protected HikariDataSource createDataSource() {
+        return toHikariDataSource(sqlContainer.getJdbcUrl().replace("xepdb1", "FREEPDB1"), sqlContainer.getUsername(), sqlContainer.getPassword());
+    }
+
+    @Override
+    protected Class<? extends SqlStorageProvider> getStorageProviderClass() {
+        return OracleStorageProvider.class;
+    }
+
+    @Override
+    protected String getExpectedIdColumnTypeName() {
+        return "RAW";
+    }
+}
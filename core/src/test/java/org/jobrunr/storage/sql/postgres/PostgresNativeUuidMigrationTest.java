@@ -0,0 +1,32 @@
+package org.jobrunr.storage.sql.postgres;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.storage.sql.AbstractNativeUuidMigrationTest;
+import org.jobrunr.storage.sql.SqlStorageProvider;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
+
+@Testcontainers
+class PostgresNativeUuidMigrationTest extends AbstractNativeUuidMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer sqlContainer = new PostgreSQLContainer<>("postgres:12");
+
+    @Override
+    protected HikariDataSource createDataSource() {
+        return toHikariDataSource(sqlContainer);
+    }
+
+    @Override
+    protected Class<? extends SqlStorageProvider> getStorageProviderClass() {
+        return PostgresStorageProvider.class;
+    }
+
+    @Override
+    protected String getExpectedIdColumnTypeName() {
+        return "uuid";
+    }
+}
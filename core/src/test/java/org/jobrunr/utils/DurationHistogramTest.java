@@ -0,0 +1,74 @@
+package org.jobrunr.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DurationHistogramTest {
+
+    @Test
+    void emptyHistogramHasNoPercentiles() {
+        DurationHistogram durationHistogram = new DurationHistogram(MILLISECONDS, 1, 31);
+
+        assertThat(durationHistogram.getCount()).isZero();
+        assertThat(durationHistogram.getPercentile(0.5)).isEqualTo(Duration.ZERO);
+        assertThat(durationHistogram.toCounts()).isEmpty();
+    }
+
+    @Test
+    void percentilesAreAccurateWithinAFactorOfTwoAndCappedAtTheMax() {
+        DurationHistogram durationHistogram = new DurationHistogram(MILLISECONDS, 1, 31);
+        range(1, 101).forEach(i -> durationHistogram.record(ofMillis(i * 10L)));
+
+        assertThat(durationHistogram.getCount()).isEqualTo(100);
+        assertThat(durationHistogram.getPercentile(0.5).toMillis()).isBetween(500L, 1000L);
+        assertThat(durationHistogram.getPercentile(1)).isEqualTo(ofMillis(1000));
+        assertThat(durationHistogram.getMax()).isEqualTo(ofMillis(1000));
+    }
+
+    @Test
+    void moreBucketsPerPowerOfTwoGiveMoreAccuratePercentiles() {
+        DurationHistogram durationHistogram = new DurationHistogram(MILLISECONDS, 4, 40);
+        range(1, 101).forEach(i -> durationHistogram.record(ofMillis(i * 10L)));
+
+        assertThat(durationHistogram.getPercentile(0.5).toMillis()).isBetween(500L, 600L);
+    }
+
+    @Test
+    void durationsShorterThanTheUnitGoInTheFirstBucket() {
+        DurationHistogram durationHistogram = new DurationHistogram(MICROSECONDS, 1, 39);
+        durationHistogram.record(500);
+
+        assertThat(durationHistogram.toCounts()).containsExactly(1);
+        assertThat(durationHistogram.getPercentile(0.99)).isEqualTo(Duration.ofNanos(500));
+    }
+
+    @Test
+    void histogramsCanBeExportedImportedAndMerged() {
+        DurationHistogram durationHistogram = new DurationHistogram(MILLISECONDS, 4, 40);
+        durationHistogram.record(ofMillis(5));
+        DurationHistogram otherDurationHistogram = new DurationHistogram(MILLISECONDS, 4, 40);
+        otherDurationHistogram.record(ofMillis(5));
+        otherDurationHistogram.record(ofMillis(1000));
+
+        DurationHistogram mergedDurationHistogram = DurationHistogram.fromCounts(MILLISECONDS, 4, 40, durationHistogram.toCounts())
+                .merge(DurationHistogram.fromCounts(MILLISECONDS, 4, 40, otherDurationHistogram.toCounts()));
+
+        assertThat(mergedDurationHistogram.getCount()).isEqualTo(3);
+        assertThat(mergedDurationHistogram.getPercentile(0.5).toMillis()).isBetween(5L, 6L);
+        assertThat(mergedDurationHistogram.getPercentile(1).toMillis()).isBetween(1000L, 1190L);
+    }
+
+    @Test
+    void histogramsWithADifferentLayoutCannotBeMerged() {
+        assertThatThrownBy(() -> new DurationHistogram(MILLISECONDS, 4, 40).merge(new DurationHistogram(MILLISECONDS, 1, 40)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
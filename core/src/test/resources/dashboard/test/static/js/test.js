@@ -0,0 +1,10 @@
+// a static file that is large enough to be compressed
+const jobStates = ['SCHEDULED', 'ENQUEUED', 'PROCESSING', 'SUCCEEDED', 'FAILED', 'DELETED'];
+const jobStateDescriptions = {
+    SCHEDULED: 'The job is scheduled to run at a later moment in time',
+    ENQUEUED: 'The job is waiting to be processed by one of the background job servers',
+    PROCESSING: 'The job is being processed by one of the background job servers',
+    SUCCEEDED: 'The job was processed successfully by one of the background job servers',
+    FAILED: 'The job failed and will not be retried anymore',
+    DELETED: 'The job was deleted and will not be processed anymore'
+};
@@ -22,9 +22,11 @@ import org.junit.jupiter.api.Test;
 
 import java.net.http.HttpResponse;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.time.Instant.now;
+import static java.util.Arrays.asList;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.util.UUID.randomUUID;
 import static org.jobrunr.JobRunrAssertions.assertThat;
@@ -166,6 +168,31 @@ abstract class JobRunrDashboardWebServerTest {
         assertThat(getResponse).hasStatusCode(404);
     }
 
+    @Test
+    void testGetJobDashboardLogsById_StorageProviderDoesNotSupportLogsReturnsNoLogs() {
+        final StorageProvider storageProviderWithoutDashboardLogs = new InMemoryStorageProvider() {
+            @Override
+            public boolean supportsJobDashboardLogEntries() {
+                return false;
+            }
+        };
+        storageProviderWithoutDashboardLogs.setJobMapper(new JobMapper(getJsonMapper()));
+        int port = FreePortFinder.nextFreePort(9000);
+        JobRunrDashboardWebServer dashboardWebServerWithoutDashboardLogs = new JobRunrDashboardWebServer(storageProviderWithoutDashboardLogs, getJsonMapper(), port);
+        dashboardWebServerWithoutDashboardLogs.start();
+        try {
+            HttpResponse<String> getResponse = new TeenyHttpClient("http://localhost:" + port).get("/api/jobs/%s/logs", randomUUID());
+            assertThat(getResponse).hasStatusCode(200);
+
+            Map<?, ?> logs = getJsonMapper().deserialize(getResponse.body(), Map.class);
+            assertThat((List<?>) logs.get("logLines")).isEmpty();
+            assertThat(logs.get("hasMore")).isEqualTo(false);
+        } finally {
+            dashboardWebServerWithoutDashboardLogs.stop();
+            storageProviderWithoutDashboardLogs.close();
+        }
+    }
+
     @Test
     void testFindJobsByState() {
         storageProvider.save(anEnqueuedJob().build());
@@ -176,6 +203,24 @@ abstract class JobRunrDashboardWebServerTest {
                 .hasSameJsonBodyAsResource("/dashboard/api/findJobsByState.json");
     }
 
+    @Test
+    void testFindJobSummariesByStateUsingKeysetPaging() {
+        storageProvider.save(asList(anEnqueuedJob().build(), anEnqueuedJob().build(), anEnqueuedJob().build()));
+
+        HttpResponse<String> firstPageResponse = http.get("/api/job-summaries?state=ENQUEUED&paging=keyset&limit=2&order=updatedAt:ASC");
+        assertThat(firstPageResponse).hasStatusCode(200);
+        Map<?, ?> firstPage = getJsonMapper().deserialize(firstPageResponse.body(), Map.class);
+        assertThat((List<?>) firstPage.get("items")).hasSize(2);
+        assertThat(firstPage.get("hasNext")).isEqualTo(true);
+
+        HttpResponse<String> nextPageResponse = http.get("/api/job-summaries?state=ENQUEUED&paging=keyset&" + firstPage.get("nextPageRequest"));
+        assertThat(nextPageResponse).hasStatusCode(200);
+        Map<?, ?> nextPage = getJsonMapper().deserialize(nextPageResponse.body(), Map.class);
+        assertThat((List<?>) nextPage.get("items")).hasSize(1);
+        assertThat(nextPage.get("hasNext")).isEqualTo(false);
+        assertThat(nextPage.get("hasPrevious")).isEqualTo(true);
+    }
+
     @Test
     void testGetProblems() {
         storageProvider.save(aJob().withJobDetails(methodThatDoesNotExistJobDetails()).withState(new ScheduledState(now().plus(1, DAYS))).build());
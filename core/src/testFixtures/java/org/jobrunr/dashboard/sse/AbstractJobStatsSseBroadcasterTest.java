@@ -29,7 +29,7 @@ import static org.mockito.InstantMocker.mockTime;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-public abstract class AbstractJobStatsSseExchangeTest {
+public abstract class AbstractJobStatsSseBroadcasterTest {
     private ByteArrayOutputStream outStream;
     private StorageProvider storageProvider;
 
@@ -49,10 +49,25 @@ public abstract class AbstractJobStatsSseExchangeTest {
     @Test
     void onChangeSendsJobStats() throws IOException {
         try (var ignored = mockTime(FIXED_INSTANT_RIGHT_AFTER_THE_HOUR)) {
-            var sseExchange = new JobStatsSseExchange(httpExchange, storageProvider, jsonMapper());
+            var broadcaster = new JobStatsSseBroadcaster(storageProvider, jsonMapper(), Runnable::run);
+            broadcaster.subscribe(httpExchange);
             outStream.reset();
 
-            sseExchange.onChange(storageProvider.getJobStats());
+            broadcaster.onChange(storageProvider.getJobStats());
+            var eventData = outStream.toString(StandardCharsets.UTF_8);
+
+            assertThat(eventData.trim()).isEqualTo(contentOfResource("/dashboard/sse/job-stats.txt"));
+        }
+    }
+
+    @Test
+    void newSubscriberReceivesLastJobStats() throws IOException {
+        try (var ignored = mockTime(FIXED_INSTANT_RIGHT_AFTER_THE_HOUR)) {
+            var broadcaster = new JobStatsSseBroadcaster(storageProvider, jsonMapper(), Runnable::run);
+            broadcaster.broadcastObject(storageProvider.getJobStats());
+
+            outStream.reset();
+            broadcaster.subscribe(httpExchange);
             var eventData = outStream.toString(StandardCharsets.UTF_8);
 
             assertThat(eventData.trim()).isEqualTo(contentOfResource("/dashboard/sse/job-stats.txt"));
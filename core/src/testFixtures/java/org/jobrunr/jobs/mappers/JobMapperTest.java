@@ -2,10 +2,13 @@ package org.jobrunr.jobs.mappers;
 
 import org.jobrunr.JobRunrException;
 import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.JobTestBuilder;
 import org.jobrunr.jobs.RecurringJob;
 import org.jobrunr.jobs.context.JobContext;
 import org.jobrunr.jobs.exceptions.JobParameterNotDeserializableException;
 import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.RetriesSummaryState;
+import org.jobrunr.jobs.states.ScheduledState;
 import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.server.runner.RunnerJobContext;
 import org.jobrunr.stubs.Mocks;
@@ -31,8 +34,11 @@ import static org.jobrunr.JobRunrAssertions.assertThatJson;
 import static org.jobrunr.JobRunrAssertions.contentOfResource;
 import static org.jobrunr.jobs.JobDetailsTestBuilder.jobDetails;
 import static org.jobrunr.jobs.JobDetailsTestBuilder.jobParameterThatDoesNotExistJobDetails;
+import static org.jobrunr.jobs.JobDetailsTestBuilder.systemOutPrintLnJobDetails;
+import static org.jobrunr.jobs.JobTestBuilder.aJob;
 import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
 import static org.jobrunr.jobs.RecurringJobTestBuilder.aDefaultRecurringJob;
+import static org.jobrunr.jobs.mappers.JobHistoryCompactionPolicy.usingStandardJobHistoryCompactionPolicy;
 
 @ExtendWith(MockitoExtension.class)
 public abstract class JobMapperTest {
@@ -194,6 +200,36 @@ public abstract class JobMapperTest {
                 .hasNotDeserializableExceptionEqualTo(new JobParameterNotDeserializableException("i.dont.exist.Class", "java.lang.IllegalArgumentException", "Class not found: i.dont.exist.Class"));
     }
 
+    @Test
+    void testSerializeAndDeserializeJobWithCompactedHistory() {
+        JobTestBuilder jobTestBuilder = aJob()
+                .withJobDetails(systemOutPrintLnJobDetails("a test"))
+                .withEnqueuedState(now().minusSeconds(3600));
+        for (int i = 0; i < 10; i++) {
+            jobTestBuilder
+                    .withProcessingState()
+                    .withFailedState("An exception occurred", new IllegalStateException("Failure " + i))
+                    .withState(new ScheduledState(now(), "Retry " + (i + 1) + " of 10"))
+                    .withEnqueuedState();
+        }
+        Job job = jobTestBuilder.build();
+        JobMapper compactingJobMapper = new JobMapper(getJsonMapper(), usingStandardJobHistoryCompactionPolicy());
+
+        Job compactedJob = compactingJobMapper.deserializeJob(compactingJobMapper.serializeJob(job));
+        Job compactedJobAfterSecondRoundTrip = compactingJobMapper.deserializeJob(compactingJobMapper.serializeJob(compactedJob));
+
+        RetriesSummaryState retriesSummaryState = compactedJob.getJobStates().stream()
+                .filter(RetriesSummaryState.class::isInstance)
+                .map(RetriesSummaryState.class::cast)
+                .findFirst()
+                .orElseThrow();
+        assertThat(retriesSummaryState.getFailedAttempts()).isGreaterThan(1);
+        assertThat(retriesSummaryState.getFirstAttemptAt()).isBefore(retriesSummaryState.getLastAttemptAt());
+        assertThat(compactedJob.getAmountOfFailures()).isEqualTo(job.getAmountOfFailures());
+        assertThat(compactedJobAfterSecondRoundTrip.getJobStates()).hasSameSizeAs(compactedJob.getJobStates());
+        assertThat(compactedJobAfterSecondRoundTrip.getAmountOfFailures()).isEqualTo(job.getAmountOfFailures());
+    }
+
     @Test
     void canSerializeAndDeserializeWithStepResult() {
         // GIVEN
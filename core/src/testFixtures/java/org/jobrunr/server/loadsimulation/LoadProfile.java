@@ -0,0 +1,103 @@
+package org.jobrunr.server.loadsimulation;
+
+import java.time.Duration;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+
+/**
+ * Describes the load that is generated during a {@link LoadSimulation}: the rate at which jobs are enqueued and scheduled, the amount
+ * of recurring jobs and the synthetic duration and failure rate of every job.
+ */
+public class LoadProfile {
+
+    private double enqueueRatePerSecond;
+    private double scheduleRatePerSecond;
+    private Duration scheduleDelay;
+    private int recurringJobs;
+    private Duration recurringJobInterval;
+    private Duration minJobDuration;
+    private Duration maxJobDuration;
+    private double failureRate;
+
+    private LoadProfile() {
+        this.enqueueRatePerSecond = 10;
+        this.scheduleRatePerSecond = 0;
+        this.scheduleDelay = ofSeconds(1);
+        this.recurringJobs = 0;
+        this.recurringJobInterval = ofSeconds(5);
+        this.minJobDuration = ofMillis(10);
+        this.maxJobDuration = ofMillis(50);
+        this.failureRate = 0;
+    }
+
+    public static LoadProfile aLoadProfile() {
+        return new LoadProfile();
+    }
+
+    public LoadProfile withEnqueueRatePerSecond(double enqueueRatePerSecond) {
+        this.enqueueRatePerSecond = enqueueRatePerSecond;
+        return this;
+    }
+
+    public LoadProfile withScheduleRatePerSecond(double scheduleRatePerSecond, Duration scheduleDelay) {
+        this.scheduleRatePerSecond = scheduleRatePerSecond;
+        this.scheduleDelay = scheduleDelay;
+        return this;
+    }
+
+    public LoadProfile withRecurringJobs(int recurringJobs, Duration recurringJobInterval) {
+        this.recurringJobs = recurringJobs;
+        this.recurringJobInterval = recurringJobInterval;
+        return this;
+    }
+
+    public LoadProfile withJobDuration(Duration jobDuration) {
+        return withJobDuration(jobDuration, jobDuration);
+    }
+
+    public LoadProfile withJobDuration(Duration minJobDuration, Duration maxJobDuration) {
+        if (minJobDuration.compareTo(maxJobDuration) > 0) throw new IllegalArgumentException("The minimum job duration must be smaller than the maximum job duration");
+        this.minJobDuration = minJobDuration;
+        this.maxJobDuration = maxJobDuration;
+        return this;
+    }
+
+    public LoadProfile withFailureRate(double failureRate) {
+        if (failureRate < 0 || failureRate > 1) throw new IllegalArgumentException("The failure rate must be between 0 and 1");
+        this.failureRate = failureRate;
+        return this;
+    }
+
+    public double getEnqueueRatePerSecond() {
+        return enqueueRatePerSecond;
+    }
+
+    public double getScheduleRatePerSecond() {
+        return scheduleRatePerSecond;
+    }
+
+    public Duration getScheduleDelay() {
+        return scheduleDelay;
+    }
+
+    public int getRecurringJobs() {
+        return recurringJobs;
+    }
+
+    public Duration getRecurringJobInterval() {
+        return recurringJobInterval;
+    }
+
+    public Duration getMinJobDuration() {
+        return minJobDuration;
+    }
+
+    public Duration getMaxJobDuration() {
+        return maxJobDuration;
+    }
+
+    public double getFailureRate() {
+        return failureRate;
+    }
+}
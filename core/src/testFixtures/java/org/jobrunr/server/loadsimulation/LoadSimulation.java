@@ -0,0 +1,450 @@
+package org.jobrunr.server.loadsimulation;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.lambdas.JobLambda;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.scheduling.JobBuilder;
+import org.jobrunr.scheduling.JobScheduler;
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.loadsimulation.LoadSimulationResult.MasterFailover;
+import org.jobrunr.server.metrics.JobPerformanceListener;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.utils.mapper.JsonMapper;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.time.Instant.now;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.jobs.states.StateName.PROCESSING;
+import static org.jobrunr.jobs.states.StateName.SCHEDULED;
+import static org.jobrunr.scheduling.JobBuilder.aJob;
+import static org.jobrunr.scheduling.RecurringJobBuilder.aRecurringJob;
+import static org.jobrunr.server.BackgroundJobServerConfiguration.usingStandardBackgroundJobServerConfiguration;
+import static org.jobrunr.server.loadsimulation.LoadProfile.aLoadProfile;
+
+/**
+ * Runs multiple {@link BackgroundJobServer}s in one JVM against a shared {@link StorageProvider} to reproduce the contention of a
+ * cluster without needing a real fleet. While the {@link LoadProfile load} runs, the {@link ScenarioStep scenario steps} are executed
+ * (e.g. killing the master or stalling its heartbeat) and afterwards the simulation waits until all jobs are processed.
+ * <p>
+ * The {@link LoadSimulationResult} is returned and, if the system property {@value #RESULTS_DIRECTORY_PROPERTY} is set, written as
+ * JSON to that directory so runs can be compared.
+ * <h5>An example:</h5>
+ * <pre>{@code
+ *      LoadSimulationResult result = aLoadSimulation(new InMemoryStorageProvider())
+ *              .withServers(3)
+ *              .withLoadProfile(aLoadProfile().withEnqueueRatePerSecond(50).withFailureRate(0.1))
+ *              .withScenarioStep(killMasterAt(ofSeconds(5)))
+ *              .run();
+ * }</pre>
+ */
+public class LoadSimulation {
+
+    public static final String RESULTS_DIRECTORY_PROPERTY = "jobrunr.load-simulation.results-dir";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadSimulation.class);
+    private static final Duration LOAD_TICK = ofMillis(100);
+    private static final Duration MASTER_MONITOR_TICK = ofMillis(25);
+
+    private final StorageProvider storageProvider;
+    private final List<ScenarioStep> scenarioSteps;
+    private String name;
+    private JsonMapper jsonMapper;
+    private int serverCount;
+    private int workerCountPerServer;
+    private Duration pollInterval;
+    private Duration loadDuration;
+    private Duration drainTimeout;
+    private LoadProfile loadProfile;
+
+    private final List<SimulatedServer> servers;
+    private final AtomicInteger serverSequence;
+    private final LongAdder concurrentJobModificationExceptions;
+    private final AtomicLong jobsCreated;
+    private final LongAdder jobsStarted;
+    private final LongAdder jobsStartedMoreThanOnce;
+    private final LongAdder jobsSucceeded;
+    private final LongAdder jobsFailed;
+    private final Set<UUID> startedJobIds;
+    private final Queue<Long> enqueueToStartLatenciesInNanos;
+    private final AtomicReference<Instant> lastJobFinishedAt;
+    private final List<String> executedScenarioSteps;
+    private final List<MasterFailover> masterFailovers;
+    private JobScheduler jobScheduler;
+    private double enqueueBacklog;
+    private double scheduleBacklog;
+
+    private LoadSimulation(StorageProvider storageProvider) {
+        this.storageProvider = storageProvider;
+        this.scenarioSteps = new ArrayList<>();
+        this.name = "load-simulation";
+        this.jsonMapper = new JacksonJsonMapper();
+        this.serverCount = 3;
+        this.workerCountPerServer = 4;
+        this.pollInterval = ofSeconds(1);
+        this.loadDuration = ofSeconds(10);
+        this.drainTimeout = ofSeconds(30);
+        this.loadProfile = aLoadProfile();
+
+        this.servers = new CopyOnWriteArrayList<>();
+        this.serverSequence = new AtomicInteger();
+        this.concurrentJobModificationExceptions = new LongAdder();
+        this.jobsCreated = new AtomicLong();
+        this.jobsStarted = new LongAdder();
+        this.jobsStartedMoreThanOnce = new LongAdder();
+        this.jobsSucceeded = new LongAdder();
+        this.jobsFailed = new LongAdder();
+        this.startedJobIds = ConcurrentHashMap.newKeySet();
+        this.enqueueToStartLatenciesInNanos = new ConcurrentLinkedQueue<>();
+        this.lastJobFinishedAt = new AtomicReference<>();
+        this.executedScenarioSteps = new CopyOnWriteArrayList<>();
+        this.masterFailovers = new CopyOnWriteArrayList<>();
+    }
+
+    public static LoadSimulation aLoadSimulation(StorageProvider storageProvider) {
+        return new LoadSimulation(storageProvider);
+    }
+
+    public LoadSimulation withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public LoadSimulation withJsonMapper(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        return this;
+    }
+
+    public LoadSimulation withServers(int serverCount) {
+        this.serverCount = serverCount;
+        return this;
+    }
+
+    public LoadSimulation withWorkerCountPerServer(int workerCountPerServer) {
+        this.workerCountPerServer = workerCountPerServer;
+        return this;
+    }
+
+    /**
+     * The poll interval of the simulated servers. Unlike a real server, it is not validated against the {@link StorageProvider} so that
+     * scenarios that depend on the server timeout (4 times the poll interval) can run in seconds.
+     *
+     * @param pollInterval the poll interval of all simulated servers
+     * @return the same simulation which provides a fluent api
+     */
+    public LoadSimulation withPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+        return this;
+    }
+
+    public LoadSimulation withLoadDuration(Duration loadDuration) {
+        this.loadDuration = loadDuration;
+        return this;
+    }
+
+    public LoadSimulation withDrainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+        return this;
+    }
+
+    public LoadSimulation withLoadProfile(LoadProfile loadProfile) {
+        this.loadProfile = loadProfile;
+        return this;
+    }
+
+    public LoadSimulation withScenarioStep(ScenarioStep scenarioStep) {
+        this.scenarioSteps.add(scenarioStep);
+        return this;
+    }
+
+    public LoadSimulationResult run() throws InterruptedException {
+        storageProvider.setJobMapper(new JobMapper(jsonMapper));
+        jobScheduler = new JobScheduler(new SimulationStorageProvider(storageProvider, concurrentJobModificationExceptions));
+        final ScheduledExecutorService executor = Executors.newScheduledThreadPool(3);
+        final Instant startedAt = now();
+        try {
+            for (int i = 0; i < serverCount; i++) {
+                startServer();
+            }
+            awaitMasterElected();
+            createRecurringJobs();
+
+            final Instant loadStartedAt = now();
+            final ScheduledFuture<?> load = executor.scheduleAtFixedRate(this::generateLoad, 0, LOAD_TICK.toMillis(), MILLISECONDS);
+            executor.scheduleAtFixedRate(this::monitorMasterFailovers, 0, MASTER_MONITOR_TICK.toMillis(), MILLISECONDS);
+            scenarioSteps.forEach(step -> executor.schedule(() -> executeScenarioStep(step), step.getAt().toMillis(), MILLISECONDS));
+            Thread.sleep(loadDuration.toMillis());
+            load.cancel(false);
+            deleteRecurringJobs();
+
+            final long jobsNotFinished = awaitJobsProcessed();
+            final LoadSimulationResult result = createResult(startedAt, loadStartedAt, jobsNotFinished);
+            LOGGER.info("{}", result);
+            writeResultIfRequested(result);
+            return result;
+        } finally {
+            executor.shutdownNow();
+            servers.forEach(server -> server.backgroundJobServer.stop());
+        }
+    }
+
+    /**
+     * @return all servers that were started by this simulation, including the ones that were killed
+     */
+    public List<BackgroundJobServer> getServers() {
+        final List<BackgroundJobServer> result = new ArrayList<>();
+        servers.forEach(server -> result.add(server.backgroundJobServer));
+        return result;
+    }
+
+    public Optional<BackgroundJobServer> getMaster() {
+        return servers.stream()
+                .filter(server -> !server.killed)
+                .map(server -> server.backgroundJobServer)
+                .filter(BackgroundJobServer::isMaster)
+                .findFirst();
+    }
+
+    public BackgroundJobServer startServer() {
+        final SimulationStorageProvider simulationStorageProvider = new SimulationStorageProvider(storageProvider, concurrentJobModificationExceptions);
+        final BackgroundJobServer backgroundJobServer = new BackgroundJobServer(simulationStorageProvider, jsonMapper, null, usingStandardBackgroundJobServerConfiguration()
+                .andName("simulated-server-" + serverSequence.incrementAndGet())
+                .andPollInterval(pollInterval)
+                .andWorkerCount(workerCountPerServer));
+        backgroundJobServer.addJobPerformanceListener(new SimulationJobPerformanceListener());
+        servers.add(new SimulatedServer(backgroundJobServer, simulationStorageProvider));
+        backgroundJobServer.start();
+        return backgroundJobServer;
+    }
+
+    /**
+     * Kills the current master: it stops heartbeating and processing without telling the other servers, so they must time it out and
+     * elect a new master. The time this takes is reported as a {@link MasterFailover}.
+     */
+    public void killMaster() {
+        final BackgroundJobServer master = getMaster().orElseThrow(() -> new IllegalStateException("There is no master to kill"));
+        masterFailovers.add(new MasterFailover("kill master", master.getId(), now()));
+        killServer(master);
+    }
+
+    public void killServer(BackgroundJobServer backgroundJobServer) {
+        final SimulatedServer server = getSimulatedServer(backgroundJobServer);
+        server.killed = true;
+        server.storageProvider.kill();
+        backgroundJobServer.stop();
+    }
+
+    /**
+     * Blocks the heartbeat of the current master for the given duration, the same way a long GC pause would do. If the stall is longer
+     * than the server timeout, another server becomes master. The time this takes is reported as a {@link MasterFailover}.
+     *
+     * @param stallDuration how long the heartbeat of the master is blocked
+     */
+    public void stallMasterHeartbeat(Duration stallDuration) {
+        final BackgroundJobServer master = getMaster().orElseThrow(() -> new IllegalStateException("There is no master to stall"));
+        masterFailovers.add(new MasterFailover("stall master heartbeat for " + stallDuration, master.getId(), now()));
+        stallHeartbeat(master, stallDuration);
+    }
+
+    public void stallHeartbeat(BackgroundJobServer backgroundJobServer, Duration stallDuration) {
+        getSimulatedServer(backgroundJobServer).storageProvider.stallHeartbeat(stallDuration);
+    }
+
+    private void awaitMasterElected() throws InterruptedException {
+        final Instant timeout = now().plus(pollInterval.multipliedBy(10));
+        while (!getMaster().isPresent()) {
+            if (now().isAfter(timeout)) throw new IllegalStateException("No master was elected within " + pollInterval.multipliedBy(10));
+            Thread.sleep(MASTER_MONITOR_TICK.toMillis());
+        }
+    }
+
+    private void createRecurringJobs() {
+        for (int i = 0; i < loadProfile.getRecurringJobs(); i++) {
+            jobScheduler.createRecurrently(aRecurringJob()
+                    .withId(recurringJobId(i))
+                    .withName("Simulated recurring work " + i)
+                    .withInterval(loadProfile.getRecurringJobInterval())
+                    .withAmountOfRetries(0)
+                    .withDetails(simulatedWork()));
+        }
+    }
+
+    private void deleteRecurringJobs() {
+        for (int i = 0; i < loadProfile.getRecurringJobs(); i++) {
+            jobScheduler.deleteRecurringJob(recurringJobId(i));
+        }
+    }
+
+    private void generateLoad() {
+        try {
+            enqueueBacklog += loadProfile.getEnqueueRatePerSecond() * LOAD_TICK.toMillis() / 1000;
+            scheduleBacklog += loadProfile.getScheduleRatePerSecond() * LOAD_TICK.toMillis() / 1000;
+            final int jobsToEnqueue = (int) enqueueBacklog;
+            final int jobsToSchedule = (int) scheduleBacklog;
+            enqueueBacklog -= jobsToEnqueue;
+            scheduleBacklog -= jobsToSchedule;
+
+            final List<JobBuilder> jobBuilders = new ArrayList<>();
+            for (int i = 0; i < jobsToEnqueue; i++) {
+                jobBuilders.add(aSimulatedJob());
+            }
+            for (int i = 0; i < jobsToSchedule; i++) {
+                jobBuilders.add(aSimulatedJob().scheduleIn(loadProfile.getScheduleDelay()));
+            }
+            if (jobBuilders.isEmpty()) return;
+
+            jobScheduler.create(jobBuilders.stream());
+            jobsCreated.addAndGet(jobBuilders.size());
+        } catch (Exception e) {
+            LOGGER.error("Could not generate load", e);
+        }
+    }
+
+    private JobBuilder aSimulatedJob() {
+        return aJob()
+                .withName("Simulated work")
+                .withAmountOfRetries(0)
+                .withDetails(simulatedWork());
+    }
+
+    private JobLambda simulatedWork() {
+        final long minDurationInMillis = loadProfile.getMinJobDuration().toMillis();
+        final long maxDurationInMillis = loadProfile.getMaxJobDuration().toMillis();
+        final double failureRate = loadProfile.getFailureRate();
+        return () -> SimulatedWork.doWork(minDurationInMillis, maxDurationInMillis, failureRate);
+    }
+
+    private void executeScenarioStep(ScenarioStep scenarioStep) {
+        try {
+            LOGGER.info("Executing scenario step '{}'", scenarioStep.getDescription());
+            scenarioStep.execute(this);
+            executedScenarioSteps.add(scenarioStep.getAt().toMillis() + "ms: " + scenarioStep.getDescription());
+        } catch (Exception e) {
+            LOGGER.error("Could not execute scenario step '{}'", scenarioStep.getDescription(), e);
+            executedScenarioSteps.add(scenarioStep.getAt().toMillis() + "ms: " + scenarioStep.getDescription() + " (failed: " + e.getMessage() + ")");
+        }
+    }
+
+    private void monitorMasterFailovers() {
+        for (MasterFailover masterFailover : masterFailovers) {
+            if (masterFailover.isCompleted()) continue;
+            servers.stream()
+                    .filter(server -> !server.killed)
+                    .map(server -> server.backgroundJobServer)
+                    .filter(server -> !server.getId().equals(masterFailover.getPreviousMasterId()))
+                    .filter(BackgroundJobServer::isMaster)
+                    .findFirst()
+                    .ifPresent(newMaster -> masterFailover.newMasterElected(newMaster.getId(), now()));
+        }
+    }
+
+    private long awaitJobsProcessed() throws InterruptedException {
+        final Instant timeout = now().plus(drainTimeout);
+        long jobsNotFinished = countJobsNotFinished();
+        while (jobsNotFinished > 0 && now().isBefore(timeout)) {
+            Thread.sleep(LOAD_TICK.toMillis());
+            jobsNotFinished = countJobsNotFinished();
+        }
+        return jobsNotFinished;
+    }
+
+    private long countJobsNotFinished() {
+        return storageProvider.countJobs(ENQUEUED) + storageProvider.countJobs(SCHEDULED) + storageProvider.countJobs(PROCESSING);
+    }
+
+    private LoadSimulationResult createResult(Instant startedAt, Instant loadStartedAt, long jobsNotFinished) {
+        final long jobsFinished = jobsSucceeded.sum() + jobsFailed.sum();
+        final Instant lastFinishedAt = lastJobFinishedAt.get();
+        final double throughputPerSecond = lastFinishedAt != null && lastFinishedAt.isAfter(loadStartedAt)
+                ? jobsFinished * 1000.0 / Duration.between(loadStartedAt, lastFinishedAt).toMillis()
+                : 0;
+        return new LoadSimulationResult(name, storageProvider.getStorageProviderInfo().getName(), startedAt, servers.size(), workerCountPerServer, pollInterval,
+                loadDuration, Duration.between(startedAt, now()), jobsCreated.get(), loadProfile.getRecurringJobs(), jobsStarted.sum(), jobsStartedMoreThanOnce.sum(),
+                jobsSucceeded.sum(), jobsFailed.sum(), jobsNotFinished, throughputPerSecond, enqueueToStartLatenciesInNanos,
+                concurrentJobModificationExceptions.sum(), executedScenarioSteps, masterFailovers);
+    }
+
+    private void writeResultIfRequested(LoadSimulationResult result) {
+        final String resultsDirectory = System.getProperty(RESULTS_DIRECTORY_PROPERTY);
+        if (resultsDirectory == null) return;
+
+        try {
+            LOGGER.info("Load simulation result written to {}", result.writeTo(Paths.get(resultsDirectory), jsonMapper));
+        } catch (IOException e) {
+            LOGGER.error("Could not write load simulation result to {}", resultsDirectory, e);
+        }
+    }
+
+    private SimulatedServer getSimulatedServer(BackgroundJobServer backgroundJobServer) {
+        return servers.stream()
+                .filter(server -> server.backgroundJobServer == backgroundJobServer)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(backgroundJobServer + " is not part of this load simulation"));
+    }
+
+    private static String recurringJobId(int index) {
+        return "simulated-recurring-job-" + index;
+    }
+
+    private static class SimulatedServer {
+
+        private final BackgroundJobServer backgroundJobServer;
+        private final SimulationStorageProvider storageProvider;
+        private volatile boolean killed;
+
+        private SimulatedServer(BackgroundJobServer backgroundJobServer, SimulationStorageProvider storageProvider) {
+            this.backgroundJobServer = backgroundJobServer;
+            this.storageProvider = storageProvider;
+        }
+    }
+
+    private class SimulationJobPerformanceListener implements JobPerformanceListener {
+
+        @Override
+        public void onProcessingStarted(Job job, long queueWaitInNanos) {
+            jobsStarted.increment();
+            if (!startedJobIds.add(job.getId())) jobsStartedMoreThanOnce.increment();
+            if (queueWaitInNanos >= 0) enqueueToStartLatenciesInNanos.add(queueWaitInNanos);
+        }
+
+        @Override
+        public void onExecutionFinished(Job job, long executionTimeInNanos, boolean succeeded) {
+            if (succeeded) {
+                jobsSucceeded.increment();
+            } else {
+                jobsFailed.increment();
+            }
+            lastJobFinishedAt.set(now());
+        }
+
+        @Override
+        public void onStateSaved(Job job, long saveTimeInNanos) {
+            // not needed for the simulation
+        }
+    }
+}
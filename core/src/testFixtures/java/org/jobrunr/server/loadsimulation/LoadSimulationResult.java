@@ -0,0 +1,288 @@
+package org.jobrunr.server.loadsimulation;
+
+import org.jobrunr.utils.mapper.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The machine-readable outcome of a {@link LoadSimulation}. It is serialized as JSON so that runs can be compared over time, e.g. before
+ * and after a change to the way jobs are claimed.
+ */
+@SuppressWarnings("FieldMayBeFinal") // because of JSON-B
+public class LoadSimulationResult {
+
+    private String name;
+    private String storageProvider;
+    private String javaVersion;
+    private Instant startedAt;
+    private int servers;
+    private int workerCountPerServer;
+    private long pollIntervalInMillis;
+    private long loadDurationInMillis;
+    private long totalDurationInMillis;
+    private long jobsCreated;
+    private int recurringJobs;
+    private long jobsStarted;
+    private long jobsStartedMoreThanOnce;
+    private long jobsSucceeded;
+    private long jobsFailed;
+    private long jobsNotFinished;
+    private double throughputPerSecond;
+    private long p50EnqueueToStartLatencyInMillis;
+    private long p95EnqueueToStartLatencyInMillis;
+    private long p99EnqueueToStartLatencyInMillis;
+    private long maxEnqueueToStartLatencyInMillis;
+    private long concurrentJobModificationExceptions;
+    private ArrayList<String> scenarioSteps; // why: regular List is not deserializable by Jackson
+    private ArrayList<MasterFailover> masterFailovers; // why: regular List is not deserializable by Jackson
+
+    protected LoadSimulationResult() {
+        // for json deserialization
+    }
+
+    LoadSimulationResult(String name, String storageProvider, Instant startedAt, int servers, int workerCountPerServer, Duration pollInterval,
+                         Duration loadDuration, Duration totalDuration, long jobsCreated, int recurringJobs, long jobsStarted, long jobsStartedMoreThanOnce,
+                         long jobsSucceeded, long jobsFailed, long jobsNotFinished, double throughputPerSecond, Collection<Long> enqueueToStartLatenciesInNanos,
+                         long concurrentJobModificationExceptions, List<String> scenarioSteps, List<MasterFailover> masterFailovers) {
+        this.name = name;
+        this.storageProvider = storageProvider;
+        this.javaVersion = System.getProperty("java.version");
+        this.startedAt = startedAt;
+        this.servers = servers;
+        this.workerCountPerServer = workerCountPerServer;
+        this.pollIntervalInMillis = pollInterval.toMillis();
+        this.loadDurationInMillis = loadDuration.toMillis();
+        this.totalDurationInMillis = totalDuration.toMillis();
+        this.jobsCreated = jobsCreated;
+        this.recurringJobs = recurringJobs;
+        this.jobsStarted = jobsStarted;
+        this.jobsStartedMoreThanOnce = jobsStartedMoreThanOnce;
+        this.jobsSucceeded = jobsSucceeded;
+        this.jobsFailed = jobsFailed;
+        this.jobsNotFinished = jobsNotFinished;
+        this.throughputPerSecond = throughputPerSecond;
+        final long[] latencies = enqueueToStartLatenciesInNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        this.p50EnqueueToStartLatencyInMillis = percentileInMillis(latencies, 0.5);
+        this.p95EnqueueToStartLatencyInMillis = percentileInMillis(latencies, 0.95);
+        this.p99EnqueueToStartLatencyInMillis = percentileInMillis(latencies, 0.99);
+        this.maxEnqueueToStartLatencyInMillis = percentileInMillis(latencies, 1);
+        this.concurrentJobModificationExceptions = concurrentJobModificationExceptions;
+        this.scenarioSteps = new ArrayList<>(scenarioSteps);
+        this.masterFailovers = new ArrayList<>(masterFailovers);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getStorageProvider() {
+        return storageProvider;
+    }
+
+    public String getJavaVersion() {
+        return javaVersion;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public int getServers() {
+        return servers;
+    }
+
+    public int getWorkerCountPerServer() {
+        return workerCountPerServer;
+    }
+
+    public long getPollIntervalInMillis() {
+        return pollIntervalInMillis;
+    }
+
+    public long getLoadDurationInMillis() {
+        return loadDurationInMillis;
+    }
+
+    public long getTotalDurationInMillis() {
+        return totalDurationInMillis;
+    }
+
+    public long getJobsCreated() {
+        return jobsCreated;
+    }
+
+    public int getRecurringJobs() {
+        return recurringJobs;
+    }
+
+    public long getJobsStarted() {
+        return jobsStarted;
+    }
+
+    /**
+     * @return the amount of jobs that were started more than once, e.g. because they were orphaned by a killed server
+     */
+    public long getJobsStartedMoreThanOnce() {
+        return jobsStartedMoreThanOnce;
+    }
+
+    public long getJobsSucceeded() {
+        return jobsSucceeded;
+    }
+
+    /**
+     * @return the amount of job executions that failed, including the ones that were interrupted by a killed server
+     */
+    public long getJobsFailed() {
+        return jobsFailed;
+    }
+
+    /**
+     * @return the amount of jobs that were still enqueued, scheduled or processing when the simulation ended
+     */
+    public long getJobsNotFinished() {
+        return jobsNotFinished;
+    }
+
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    public long getP50EnqueueToStartLatencyInMillis() {
+        return p50EnqueueToStartLatencyInMillis;
+    }
+
+    public long getP95EnqueueToStartLatencyInMillis() {
+        return p95EnqueueToStartLatencyInMillis;
+    }
+
+    public long getP99EnqueueToStartLatencyInMillis() {
+        return p99EnqueueToStartLatencyInMillis;
+    }
+
+    public long getMaxEnqueueToStartLatencyInMillis() {
+        return maxEnqueueToStartLatencyInMillis;
+    }
+
+    public long getConcurrentJobModificationExceptions() {
+        return concurrentJobModificationExceptions;
+    }
+
+    public List<String> getScenarioSteps() {
+        return scenarioSteps;
+    }
+
+    public List<MasterFailover> getMasterFailovers() {
+        return masterFailovers;
+    }
+
+    public String toJson(JsonMapper jsonMapper) {
+        return jsonMapper.serialize(this);
+    }
+
+    /**
+     * Writes this result as JSON to the given directory.
+     *
+     * @param directory  the directory to write the result to, it is created if it does not exist
+     * @param jsonMapper the {@link JsonMapper} to serialize the result with
+     * @return the path of the written file
+     * @throws IOException if the result could not be written
+     */
+    public Path writeTo(Path directory, JsonMapper jsonMapper) throws IOException {
+        Files.createDirectories(directory);
+        final Path resultFile = directory.resolve(name.replaceAll("[^A-Za-z0-9_.-]", "-") + "-" + startedAt.toEpochMilli() + ".json");
+        Files.write(resultFile, toJson(jsonMapper).getBytes(UTF_8));
+        return resultFile;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadSimulationResult{" +
+                "name='" + name + '\'' +
+                ", storageProvider='" + storageProvider + '\'' +
+                ", servers=" + servers +
+                ", jobsCreated=" + jobsCreated +
+                ", jobsSucceeded=" + jobsSucceeded +
+                ", jobsFailed=" + jobsFailed +
+                ", jobsNotFinished=" + jobsNotFinished +
+                ", throughputPerSecond=" + throughputPerSecond +
+                ", p95EnqueueToStartLatencyInMillis=" + p95EnqueueToStartLatencyInMillis +
+                ", concurrentJobModificationExceptions=" + concurrentJobModificationExceptions +
+                ", masterFailovers=" + masterFailovers +
+                '}';
+    }
+
+    private static long percentileInMillis(long[] sortedLatenciesInNanos, double percentile) {
+        if (sortedLatenciesInNanos.length == 0) return 0;
+        final int rank = (int) Math.max(1, Math.ceil(percentile * sortedLatenciesInNanos.length));
+        return Duration.ofNanos(sortedLatenciesInNanos[rank - 1]).toMillis();
+    }
+
+    @SuppressWarnings("FieldMayBeFinal") // because of JSON-B
+    public static class MasterFailover {
+
+        private String trigger;
+        private UUID previousMasterId;
+        private Instant triggeredAt;
+        private volatile UUID newMasterId;
+        private volatile long failoverTimeInMillis;
+
+        protected MasterFailover() {
+            // for json deserialization
+        }
+
+        MasterFailover(String trigger, UUID previousMasterId, Instant triggeredAt) {
+            this.trigger = trigger;
+            this.previousMasterId = previousMasterId;
+            this.triggeredAt = triggeredAt;
+            this.failoverTimeInMillis = -1;
+        }
+
+        void newMasterElected(UUID newMasterId, Instant electedAt) {
+            this.newMasterId = newMasterId;
+            this.failoverTimeInMillis = Duration.between(triggeredAt, electedAt).toMillis();
+        }
+
+        public String getTrigger() {
+            return trigger;
+        }
+
+        public UUID getPreviousMasterId() {
+            return previousMasterId;
+        }
+
+        public Instant getTriggeredAt() {
+            return triggeredAt;
+        }
+
+        public UUID getNewMasterId() {
+            return newMasterId;
+        }
+
+        public boolean isCompleted() {
+            return newMasterId != null;
+        }
+
+        /**
+         * @return the time between the trigger and the moment another server became master, or -1 if no other server became master
+         */
+        public long getFailoverTimeInMillis() {
+            return failoverTimeInMillis;
+        }
+
+        @Override
+        public String toString() {
+            return trigger + " -> " + (isCompleted() ? failoverTimeInMillis + " ms" : "no new master");
+        }
+    }
+}
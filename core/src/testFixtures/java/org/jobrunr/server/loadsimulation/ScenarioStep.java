@@ -0,0 +1,48 @@
+package org.jobrunr.server.loadsimulation;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * A scripted action that is executed at a fixed offset after the load of a {@link LoadSimulation} started.
+ */
+public class ScenarioStep {
+
+    private final Duration at;
+    private final String description;
+    private final Consumer<LoadSimulation> action;
+
+    private ScenarioStep(Duration at, String description, Consumer<LoadSimulation> action) {
+        this.at = at;
+        this.description = description;
+        this.action = action;
+    }
+
+    public static ScenarioStep at(Duration at, String description, Consumer<LoadSimulation> action) {
+        return new ScenarioStep(at, description, action);
+    }
+
+    public static ScenarioStep killMasterAt(Duration at) {
+        return at(at, "kill master", LoadSimulation::killMaster);
+    }
+
+    public static ScenarioStep stallMasterHeartbeatAt(Duration at, Duration stallDuration) {
+        return at(at, "stall master heartbeat for " + stallDuration, simulation -> simulation.stallMasterHeartbeat(stallDuration));
+    }
+
+    public static ScenarioStep startServerAt(Duration at) {
+        return at(at, "start server", LoadSimulation::startServer);
+    }
+
+    public Duration getAt() {
+        return at;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    void execute(LoadSimulation loadSimulation) {
+        action.accept(loadSimulation);
+    }
+}
@@ -0,0 +1,32 @@
+package org.jobrunr.server.loadsimulation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The synthetic job that is executed during a {@link LoadSimulation}. The duration and the outcome are decided when the job runs so
+ * that enqueued, scheduled and recurring jobs all follow the same {@link LoadProfile}.
+ */
+public class SimulatedWork {
+
+    private SimulatedWork() {
+        // private constructor for SonarQube
+    }
+
+    public static void doWork(long minDurationInMillis, long maxDurationInMillis, double failureRate) throws InterruptedException {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long durationInMillis = maxDurationInMillis > minDurationInMillis
+                ? random.nextLong(minDurationInMillis, maxDurationInMillis + 1)
+                : minDurationInMillis;
+        if (durationInMillis > 0) Thread.sleep(durationInMillis);
+        if (random.nextDouble() < failureRate) {
+            throw new SimulatedJobFailure(durationInMillis);
+        }
+    }
+
+    public static class SimulatedJobFailure extends RuntimeException {
+
+        public SimulatedJobFailure(long durationInMillis) {
+            super("Simulated failure after " + durationInMillis + " ms");
+        }
+    }
+}
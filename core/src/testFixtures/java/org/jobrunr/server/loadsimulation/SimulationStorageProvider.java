@@ -0,0 +1,102 @@
+package org.jobrunr.server.loadsimulation;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.BackgroundJobServerStatus;
+import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.StorageException;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.ThreadSafeStorageProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The view of a single simulated client or {@link org.jobrunr.server.BackgroundJobServer} on the shared {@link StorageProvider}. It
+ * counts the {@link ConcurrentJobModificationException}s and allows to script failures:
+ * <ul>
+ *     <li>a stalled heartbeat blocks the server's heartbeat the same way a long GC pause would do</li>
+ *     <li>a killed server can not save jobs anymore and does not get to tell the other servers it stopped</li>
+ * </ul>
+ * As a simulation compresses time, the poll interval and recurring job interval are not validated.
+ */
+class SimulationStorageProvider extends ThreadSafeStorageProvider {
+
+    private final LongAdder concurrentJobModificationExceptions;
+    private volatile Instant heartbeatStalledUntil;
+    private volatile boolean killed;
+
+    SimulationStorageProvider(StorageProvider storageProvider, LongAdder concurrentJobModificationExceptions) {
+        super(storageProvider);
+        this.concurrentJobModificationExceptions = concurrentJobModificationExceptions;
+    }
+
+    void stallHeartbeat(Duration duration) {
+        this.heartbeatStalledUntil = Instant.now().plus(duration);
+    }
+
+    void kill() {
+        this.killed = true;
+    }
+
+    @Override
+    public boolean signalBackgroundJobServerAlive(BackgroundJobServerStatus serverStatus) {
+        waitWhileHeartbeatIsStalled();
+        return super.signalBackgroundJobServerAlive(serverStatus);
+    }
+
+    @Override
+    public void signalBackgroundJobServerStopped(BackgroundJobServerStatus serverStatus) {
+        if (killed) return;
+        super.signalBackgroundJobServerStopped(serverStatus);
+    }
+
+    @Override
+    public Job save(Job job) {
+        throwIfKilled();
+        try {
+            return super.save(job);
+        } catch (ConcurrentJobModificationException e) {
+            concurrentJobModificationExceptions.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Job> save(List<Job> jobs) {
+        throwIfKilled();
+        try {
+            return super.save(jobs);
+        } catch (ConcurrentJobModificationException e) {
+            concurrentJobModificationExceptions.add(e.getConcurrentUpdatedJobs().size());
+            throw e;
+        }
+    }
+
+    @Override
+    public void validatePollInterval(Duration pollInterval) {
+        // a simulation may use a smaller poll interval than supported to compress time
+    }
+
+    @Override
+    public void validateRecurringJobInterval(Duration durationBetweenRecurringJobInstances) {
+        // a simulation may use a smaller recurring job interval than supported to compress time
+    }
+
+    private void waitWhileHeartbeatIsStalled() {
+        Instant stalledUntil = heartbeatStalledUntil;
+        while (stalledUntil != null && Instant.now().isBefore(stalledUntil)) {
+            try {
+                Thread.sleep(Math.max(1, Duration.between(Instant.now(), stalledUntil).toMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void throwIfKilled() {
+        if (killed) throw new StorageException("The BackgroundJobServer was killed by the load simulation");
+    }
+}
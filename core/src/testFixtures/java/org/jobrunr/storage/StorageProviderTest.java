@@ -4,7 +4,11 @@ import io.github.artsok.RepeatedIfExceptionsTest;
 import org.jobrunr.configuration.JobRunr;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.JobDetails;
+import org.jobrunr.jobs.JobSummary;
 import org.jobrunr.jobs.RecurringJob;
+import org.jobrunr.jobs.context.JobDashboardLogEntry;
+import org.jobrunr.jobs.context.JobDashboardLogger.Level;
+import org.jobrunr.jobs.context.JobDashboardProgressBar.JobDashboardProgress;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.ScheduledState;
 import org.jobrunr.scheduling.carbonaware.CarbonAwarePeriod;
@@ -13,6 +17,7 @@ import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.server.BackgroundJobServerConfigurationReader;
 import org.jobrunr.server.LogAllStateChangesFilter;
 import org.jobrunr.storage.Paging.AmountBasedList;
+import org.jobrunr.storage.Paging.KeysetBasedPage;
 import org.jobrunr.storage.Paging.OffsetBasedPage;
 import org.jobrunr.storage.listeners.JobStatsChangeListener;
 import org.jobrunr.storage.listeners.MetadataChangeListener;
@@ -44,7 +49,9 @@ import static java.time.temporal.ChronoUnit.MICROS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.Assertions.within;
 import static org.awaitility.Awaitility.await;
 import static org.jobrunr.JobRunrAssertions.assertThat;
@@ -380,6 +387,19 @@ public abstract class StorageProviderTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    void testSaveOfLargeListOfNewJobs() {
+        List<Job> jobs = IntStream.range(0, 253)
+                .mapToObj(i -> anEnqueuedJob().withJobDetails(systemOutPrintLnJobDetails("this is test " + i)).build())
+                .collect(toList());
+
+        storageProvider.save(jobs);
+
+        assertThat(jobs).allMatch(job -> job.getVersion() == 1);
+        assertThat(storageProvider.countJobs(ENQUEUED)).isEqualTo(253);
+        assertThat(storageProvider.getJobById(jobs.get(252).getId())).isEqualTo(jobs.get(252));
+    }
+
     @Test
     void testOptimisticLockingOnSaveJobs() {
         Job job = aJobInProgress().build();
@@ -703,6 +723,127 @@ public abstract class StorageProviderTest {
                 .containsExactly(jobs.get(2), jobs.get(1));
     }
 
+    @Test
+    void testJobPageCanUseKeysetPaging() {
+        final List<Job> jobs = asList(
+                aJob().withEnqueuedState(now().minusSeconds(10)).build(),
+                aJob().withEnqueuedState(now().minusSeconds(8)).build(),
+                aJob().withEnqueuedState(now().minusSeconds(6)).build(),
+                aJob().withEnqueuedState(now().minusSeconds(4)).build(),
+                aJob().withEnqueuedState(now().minusSeconds(2)).build()
+        );
+
+        storageProvider.save(jobs);
+
+        Page<Job> jobPage1 = storageProvider.getJobs(ENQUEUED, KeysetBasedPage.ascOnUpdatedAt(2));
+        assertThatJobs(jobPage1.getItems()).containsExactly(jobs.get(0), jobs.get(1));
+        assertThat(jobPage1.hasPreviousPage()).isFalse();
+
+        Page<Job> jobPage2 = storageProvider.getJobs(ENQUEUED, KeysetBasedPage.next(jobPage1));
+        assertThatJobs(jobPage2.getItems()).containsExactly(jobs.get(2), jobs.get(3));
+        assertThat(jobPage2.getTotal()).isEqualTo(5);
+
+        Page<Job> jobPage3 = storageProvider.getJobs(ENQUEUED, KeysetBasedPage.next(jobPage2));
+        assertThatJobs(jobPage3.getItems()).containsExactly(jobs.get(4));
+        assertThat(jobPage3.hasNextPage()).isFalse();
+
+        Page<Job> previousOfJobPage3 = storageProvider.getJobs(ENQUEUED, KeysetBasedPage.previous(jobPage3));
+        assertThatJobs(previousOfJobPage3.getItems()).containsExactly(jobs.get(2), jobs.get(3));
+
+        Page<Job> jobPage1Desc = storageProvider.getJobs(ENQUEUED, KeysetBasedPage.descOnUpdatedAt(2));
+        Page<Job> jobPage2Desc = storageProvider.getJobs(ENQUEUED, KeysetBasedPage.next(jobPage1Desc));
+        assertThatJobs(jobPage2Desc.getItems()).containsExactly(jobs.get(2), jobs.get(1));
+    }
+
+    @Test
+    void testGetJobsByIdsAndJobVersions() {
+        final Job job1 = anEnqueuedJob().build();
+        final Job job2 = anEnqueuedJob().build();
+        storageProvider.save(asList(job1, job2));
+        storageProvider.save(job2);
+        final UUID unknownJobId = UUID.randomUUID();
+
+        assertThat(storageProvider.getJobsByIds(asList(job1.getId(), job2.getId(), unknownJobId)))
+                .extracting(Job::getId)
+                .containsExactlyInAnyOrder(job1.getId(), job2.getId());
+        assertThat(storageProvider.getJobsByIds(emptyList())).isEmpty();
+
+        assertThat(storageProvider.getJobVersions(asList(job1.getId(), job2.getId(), unknownJobId)))
+                .hasSize(2)
+                .containsEntry(job1.getId(), job1.getVersion())
+                .containsEntry(job2.getId(), job2.getVersion());
+    }
+
+    @Test
+    void testJobSummaries() {
+        final Job job1 = aJob().withName("Job 1").withLabels("tenant-A", "fast, cheap", "C:\\jobs").withEnqueuedState(now().minusSeconds(10)).build();
+        final Job job2 = aJob().withName("Job 2").withEnqueuedState(now().minusSeconds(5)).build();
+        final Job job3 = aJob().withName("Job 3").withSucceededState().build();
+        storageProvider.save(asList(job1, job2, job3));
+
+        Page<JobSummary> jobSummaryPage = storageProvider.getJobSummaries(ENQUEUED, OffsetBasedPage.ascOnUpdatedAt(10));
+        assertThat(jobSummaryPage.getTotal()).isEqualTo(2);
+        assertThat(jobSummaryPage.getItems())
+                .extracting(JobSummary::getId, JobSummary::getJobName, JobSummary::getState)
+                .containsExactly(tuple(job1.getId(), "Job 1", ENQUEUED), tuple(job2.getId(), "Job 2", ENQUEUED));
+        assertThat(jobSummaryPage.getItems().get(0).getLabels()).containsExactly("tenant-A", "fast, cheap", "C:\\jobs");
+        assertThat(jobSummaryPage.getItems().get(0).getJobSignature()).isEqualTo(job1.getJobSignature());
+        assertThat(jobSummaryPage.getItems().get(1).getLabels()).isEmpty();
+
+        Page<JobSummary> nextJobSummaryPage = storageProvider.getJobSummaries(ENQUEUED, KeysetBasedPage.next(storageProvider.getJobSummaries(ENQUEUED, KeysetBasedPage.ascOnUpdatedAt(1))));
+        assertThat(nextJobSummaryPage.getItems()).extracting(JobSummary::getId).containsExactly(job2.getId());
+    }
+
+    @Test
+    void testJobSummariesWithLongestLabelsThatAllNeedEscaping() {
+        final String label1 = ",".repeat(45);
+        final String label2 = "\\".repeat(45);
+        final String label3 = ",\\".repeat(22) + ",";
+        final Job job = storageProvider.save(aJob().withLabels(label1, label2, label3).withEnqueuedState(now()).build());
+
+        Page<JobSummary> jobSummaryPage = storageProvider.getJobSummaries(ENQUEUED, OffsetBasedPage.ascOnUpdatedAt(10));
+        assertThat(jobSummaryPage.getItems()).extracting(JobSummary::getId).containsExactly(job.getId());
+        assertThat(jobSummaryPage.getItems().get(0).getLabels()).containsExactly(label1, label2, label3);
+    }
+
+    @Test
+    void testSearchJobSummaries() {
+        assertThat(storageProvider.supportsSearchingJobs()).isTrue();
+
+        final Job job1 = aJob().withName("Invoice 100% paid for customer_1").withLabels("customer-1", "invoices").withEnqueuedState(now().minusSeconds(10)).build();
+        final Job job2 = aJob().withName("Invoice reminder for customer-1").withLabels("customer-1").withSucceededState().build();
+        final Job job3 = aJob().withName("Invoice 100 paid for customer 2").withLabels("customer-2", "invoices").withEnqueuedState(now().minusSeconds(5)).build();
+        storageProvider.save(asList(job1, job2, job3));
+        final Job job4 = aJob().withName("Report for customer-1").withLabels("customer-1").withEnqueuedState(now()).build();
+        storageProvider.save(job4);
+
+        Page<JobSummary> byLabel = storageProvider.searchJobSummaries(JobSearchQuery.byLabel("customer-1"), KeysetBasedPage.ascOnUpdatedAt(10));
+        assertThat(byLabel.getTotal()).isEqualTo(3);
+        assertThat(byLabel.getItems()).extracting(JobSummary::getId).containsExactlyInAnyOrder(job1.getId(), job2.getId(), job4.getId());
+
+        Page<JobSummary> byLabelAndState = storageProvider.searchJobSummaries(JobSearchQuery.byLabel("customer-1").withState(ENQUEUED), KeysetBasedPage.ascOnUpdatedAt(10));
+        assertThat(byLabelAndState.getItems()).extracting(JobSummary::getId).containsExactly(job1.getId(), job4.getId());
+
+        Page<JobSummary> byJobNamePrefix = storageProvider.searchJobSummaries(JobSearchQuery.byJobNamePrefix("Invoice 100"), KeysetBasedPage.ascOnUpdatedAt(10));
+        assertThat(byJobNamePrefix.getItems()).extracting(JobSummary::getId).containsExactlyInAnyOrder(job1.getId(), job3.getId());
+
+        Page<JobSummary> byJobNamePrefixWithWildcards = storageProvider.searchJobSummaries(JobSearchQuery.byJobNamePrefix("Invoice 100%"), KeysetBasedPage.ascOnUpdatedAt(10));
+        assertThat(byJobNamePrefixWithWildcards.getItems()).extracting(JobSummary::getId).containsExactly(job1.getId());
+
+        Page<JobSummary> byJobSignature = storageProvider.searchJobSummaries(JobSearchQuery.byJobSignature(job1.getJobSignature()).withState(ENQUEUED), KeysetBasedPage.ascOnUpdatedAt(10));
+        assertThat(byJobSignature.getItems()).extracting(JobSummary::getId).containsExactly(job1.getId(), job3.getId(), job4.getId());
+
+        Page<JobSummary> firstPage = storageProvider.searchJobSummaries(JobSearchQuery.byLabel("customer-1").withState(ENQUEUED), KeysetBasedPage.ascOnUpdatedAt(1));
+        Page<JobSummary> nextPage = storageProvider.searchJobSummaries(JobSearchQuery.byLabel("customer-1").withState(ENQUEUED), KeysetBasedPage.next(firstPage));
+        assertThat(firstPage.getItems()).extracting(JobSummary::getId).containsExactly(job1.getId());
+        assertThat(nextPage.getItems()).extracting(JobSummary::getId).containsExactly(job4.getId());
+        assertThat(nextPage.getTotal()).isEqualTo(2);
+
+        storageProvider.deletePermanently(job1.getId());
+        assertThat(storageProvider.searchJobSummaries(JobSearchQuery.byLabel("invoices"), KeysetBasedPage.ascOnUpdatedAt(10)).getItems())
+                .extracting(JobSummary::getId).containsExactly(job3.getId());
+    }
+
     @Test
     void testGetListOfJobsUpdatedBefore() {
         final List<Job> jobs = asList(
@@ -747,6 +888,51 @@ public abstract class StorageProviderTest {
         assertThat(fetchedJobs).hasSize(1);
     }
 
+    @Test
+    void testJobDashboardLogs() {
+        assertThat(storageProvider.supportsJobDashboardLogEntries()).isTrue();
+
+        Job job = storageProvider.save(aJobInProgress().build());
+        Job otherJob = storageProvider.save(aJob().withEnqueuedState(now().minus(2, HOURS)).build());
+        JobDashboardProgress progress = new JobDashboardProgress(10L);
+        progress.setProgress(10L, 4L, 1L);
+
+        storageProvider.saveJobDashboardLogEntries(asList(
+                JobDashboardLogEntry.logLine(job.getId(), 2, 1, Level.INFO, "first"),
+                JobDashboardLogEntry.logLine(job.getId(), 2, 2, Level.WARN, "second"),
+                JobDashboardLogEntry.progress(job.getId(), 2, 3, new JobDashboardProgress(10L)),
+                JobDashboardLogEntry.logLine(job.getId(), 2, 4, Level.ERROR, "third"),
+                JobDashboardLogEntry.progress(job.getId(), 2, 5, progress),
+                JobDashboardLogEntry.logLine(job.getId(), 3, 1, Level.INFO, "other attempt"),
+                JobDashboardLogEntry.logLine(otherJob.getId(), 2, 1, Level.INFO, "other job")
+        ));
+
+        assertThat(storageProvider.getJobDashboardLogLines(job.getId(), 2, 0, 100))
+                .extracting(JobDashboardLogEntry::getSequenceNbr, JobDashboardLogEntry::getType, JobDashboardLogEntry::getMessage)
+                .containsExactly(
+                        tuple(1, JobDashboardLogEntry.Type.INFO, "first"),
+                        tuple(2, JobDashboardLogEntry.Type.WARN, "second"),
+                        tuple(4, JobDashboardLogEntry.Type.ERROR, "third"));
+        assertThat(storageProvider.getJobDashboardLogLines(job.getId(), 2, 0, 2))
+                .extracting(JobDashboardLogEntry::getMessage)
+                .containsExactly("first", "second");
+        assertThat(storageProvider.getJobDashboardLogLines(job.getId(), 2, 2, 2))
+                .extracting(JobDashboardLogEntry::getMessage)
+                .containsExactly("third");
+        assertThat(storageProvider.getJobDashboardProgress(job.getId(), 2))
+                .extracting(JobDashboardLogEntry::getTotalAmount, JobDashboardLogEntry::getSucceededAmount, JobDashboardLogEntry::getFailedAmount)
+                .containsExactly(10L, 4L, 1L);
+        assertThat(storageProvider.getJobDashboardProgress(job.getId(), 3)).isNull();
+
+        storageProvider.deletePermanently(job.getId());
+        assertThat(storageProvider.getJobDashboardLogLines(job.getId(), 2, 0, 100)).isEmpty();
+        assertThat(storageProvider.getJobDashboardLogLines(job.getId(), 3, 0, 100)).isEmpty();
+        assertThat(storageProvider.getJobDashboardLogLines(otherJob.getId(), 2, 0, 100)).hasSize(1);
+
+        storageProvider.deleteJobsPermanently(ENQUEUED, now().minus(1, HOURS));
+        assertThat(storageProvider.getJobDashboardLogLines(otherJob.getId(), 2, 0, 100)).isEmpty();
+    }
+
     @Test
     void testGetCarbonAwareJobsList() {
         final List<Job> jobs = storageProvider.save(asList(
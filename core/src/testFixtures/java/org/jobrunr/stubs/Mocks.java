@@ -3,6 +3,8 @@ package org.jobrunr.stubs;
 import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.server.BackgroundJobServerConfiguration;
 import org.jobrunr.server.BackgroundJobServerConfigurationReader;
+import org.jobrunr.server.metrics.JobStatsRecorder;
+import org.jobrunr.server.metrics.TaskRuntimeStatsRecorder;
 import org.mockito.Mockito;
 
 import static org.jobrunr.server.BackgroundJobServerConfiguration.usingStandardBackgroundJobServerConfiguration;
@@ -19,6 +21,8 @@ public class Mocks {
         BackgroundJobServerConfigurationReader configurationReader = new BackgroundJobServerConfigurationReader(configuration);
         lenient().when(mock.getId()).thenReturn(configurationReader.getId());
         lenient().when(mock.getConfiguration()).thenReturn(configurationReader);
+        lenient().when(mock.getJobStatsRecorder()).thenReturn(new JobStatsRecorder());
+        lenient().when(mock.getTaskRuntimeStatsRecorder()).thenReturn(new TaskRuntimeStatsRecorder());
         return mock;
     }
 }
@@ -99,6 +99,12 @@ public class JobRunrProperties {
          */
         private String datasource;
 
+        /**
+         * An optional named {@link javax.sql.DataSource} (e.g. pointing to a read replica) to use for the reads of the dashboard and the metrics.
+         * Claiming and updating jobs always uses the datasource above.
+         */
+        private String readOnlyDatasource;
+
         /**
          * If multiple types of databases are available in the Spring Context (e.g. a DataSource and an MongoDB Client), this setting allows to specify the type of database for JobRunr to use.
          * Valid values are 'sql', 'mongodb' and 'mem'.
@@ -137,6 +143,14 @@ public class JobRunrProperties {
             this.datasource = datasource;
         }
 
+        public String getReadOnlyDatasource() {
+            return readOnlyDatasource;
+        }
+
+        public void setReadOnlyDatasource(String readOnlyDatasource) {
+            this.readOnlyDatasource = readOnlyDatasource;
+        }
+
         public String getType() {
             return type;
         }
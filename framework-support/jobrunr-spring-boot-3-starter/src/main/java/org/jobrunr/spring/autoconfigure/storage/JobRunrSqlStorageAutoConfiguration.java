@@ -5,6 +5,7 @@ import org.jobrunr.spring.autoconfigure.JobRunrAutoConfiguration;
 import org.jobrunr.spring.autoconfigure.JobRunrProperties;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
+import org.jobrunr.storage.sql.common.DefaultSqlStorageProvider;
 import org.jobrunr.storage.sql.common.SqlStorageProviderFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -32,6 +33,9 @@ public class JobRunrSqlStorageAutoConfiguration {
         DatabaseOptions databaseOptions = properties.getDatabase().isSkipCreate() ? DatabaseOptions.SKIP_CREATE : DatabaseOptions.CREATE;
         StorageProvider storageProvider = SqlStorageProviderFactory.using(getDataSource(beanFactory, properties), tablePrefix, databaseOptions);
         storageProvider.setJobMapper(jobMapper);
+        if (isNotNullOrEmpty(properties.getDatabase().getReadOnlyDatasource()) && storageProvider instanceof DefaultSqlStorageProvider) {
+            ((DefaultSqlStorageProvider) storageProvider).setReadOnlyDataSource(beanFactory.getBean(properties.getDatabase().getReadOnlyDatasource(), DataSource.class));
+        }
         return storageProvider;
     }
 
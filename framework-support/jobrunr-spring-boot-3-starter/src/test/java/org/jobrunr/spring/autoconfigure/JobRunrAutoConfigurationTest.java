@@ -37,6 +37,7 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -294,6 +295,14 @@ public class JobRunrAutoConfigurationTest {
         });
     }
 
+    @Test
+    void sqlStorageProviderAutoConfigurationWithReadOnlyDatasource() {
+        this.contextRunner.withPropertyValues("jobrunr.database.skip-create=true", "jobrunr.database.read-only-datasource=readOnlyDataSource").withUserConfiguration(SqlDataSourceWithReadOnlyDataSourceConfiguration.class).run((context) -> {
+            assertThat(context).hasSingleBean(DefaultSqlStorageProvider.class);
+            assertThat(context.getBean("storageProvider")).extracting("readOnlyDataSource").isSameAs(context.getBean("readOnlyDataSource"));
+        });
+    }
+
     @Test
     void mongoDBStorageProviderAutoConfiguration() {
         this.contextRunner.withUserConfiguration(MongoDBStorageProviderConfiguration.class).run((context) -> {
@@ -352,6 +361,20 @@ public class JobRunrAutoConfigurationTest {
         }
     }
 
+    @Configuration
+    static class SqlDataSourceWithReadOnlyDataSourceConfiguration {
+        @Bean
+        @Primary
+        public DataSource dataSource() throws SQLException {
+            return Mocks.dataSource();
+        }
+
+        @Bean
+        public DataSource readOnlyDataSource() throws SQLException {
+            return Mocks.dataSource();
+        }
+    }
+
     @Configuration
     static class MongoDBStorageProviderConfiguration {
 
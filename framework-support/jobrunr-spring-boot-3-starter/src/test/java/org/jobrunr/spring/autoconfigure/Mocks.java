@@ -39,8 +39,8 @@ public class Mocks {
 
         ResultSet resultSetMock = mock(ResultSet.class);
         when(databaseMetaData.getTables(null, null, "%", null)).thenReturn(resultSetMock);
-        when(resultSetMock.next()).thenReturn(true, true, true, true, false);
-        when(resultSetMock.getString("TABLE_NAME")).thenReturn("jobrunr_jobs", "jobrunr_recurring_jobs", "jobrunr_backgroundjobservers", "jobrunr_metadata");
+        when(resultSetMock.next()).thenReturn(true, true, true, true, true, true, false);
+        when(resultSetMock.getString("TABLE_NAME")).thenReturn("jobrunr_jobs", "jobrunr_job_labels", "jobrunr_job_logs", "jobrunr_recurring_jobs", "jobrunr_backgroundjobservers", "jobrunr_metadata");
 
         return dataSourceMock;
     }
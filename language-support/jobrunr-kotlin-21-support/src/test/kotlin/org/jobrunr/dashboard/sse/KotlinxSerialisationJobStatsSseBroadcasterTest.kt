@@ -5,7 +5,7 @@ import kotlinx.serialization.InternalSerializationApi
 import org.jobrunr.kotlin.utils.mapper.KotlinxSerializationJsonMapper
 import org.jobrunr.utils.mapper.JsonMapper
 
-class KotlinxSerialisationJobStatsSseExchangeTest : AbstractJobStatsSseExchangeTest() {
+class KotlinxSerialisationJobStatsSseBroadcasterTest : AbstractJobStatsSseBroadcasterTest() {
     @OptIn(InternalSerializationApi::class, ExperimentalSerializationApi::class)
     override fun jsonMapper(): JsonMapper = KotlinxSerializationJsonMapper()
 }
\ No newline at end of file
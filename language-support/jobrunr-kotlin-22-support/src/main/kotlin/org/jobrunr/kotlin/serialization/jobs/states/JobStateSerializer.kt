@@ -206,4 +206,54 @@ data class KFailedState(
             createdAt,
         )
     }
-}
\ No newline at end of file
+}
+
+@Serializable
+data class KRetriesSummaryState(
+    val state: StateName = StateName.FAILED,
+    val message: String,
+    val exceptionType: String,
+    val exceptionMessage: String? = null,
+    val exceptionCauseType: String? = null,
+    val exceptionCauseMessage: String? = null,
+    val stackTrace: String,
+    val doNotRetry: Boolean = false,
+    val failedAttempts: Int,
+    val compactedStates: Int,
+    val firstAttemptAt: @Serializable(with = InstantSerializer::class) Instant,
+    val createdAt: @Serializable(with = InstantSerializer::class) Instant,
+) {
+    object Serializer : DTOSerializer<RetriesSummaryState, KRetriesSummaryState>(RetriesSummaryState::class, serializer()) {
+        override fun RetriesSummaryState.toDTO() = KRetriesSummaryState(
+            message = message,
+            exceptionType = exceptionType,
+            exceptionMessage = exceptionMessage,
+            exceptionCauseType = exceptionCauseType,
+            exceptionCauseMessage = exceptionCauseMessage,
+            stackTrace = stackTrace,
+            doNotRetry = mustNotRetry(),
+            failedAttempts = failedAttempts,
+            compactedStates = compactedStates,
+            firstAttemptAt = firstAttemptAt,
+            createdAt = createdAt,
+        )
+
+        override fun KRetriesSummaryState.fromDTO() = RetriesSummaryState(
+            FailedState(
+                message,
+                exceptionType,
+                exceptionMessage,
+                exceptionCauseType,
+                exceptionCauseMessage,
+                stackTrace,
+                doNotRetry,
+                createdAt,
+            ),
+            stackTrace,
+            failedAttempts,
+            compactedStates,
+            firstAttemptAt,
+            createdAt,
+        )
+    }
+}
@@ -36,6 +36,7 @@ internal val jobRunrSerializersModule = SerializersModule {
         subclass(KDeletedState.Serializer)
         subclass(KEnqueuedState.Serializer)
         subclass(KFailedState.Serializer)
+        subclass(KRetriesSummaryState.Serializer)
         subclass(KProcessingState.Serializer)
         subclass(KCarbonAwareAwaitingState.Serializer)
         subclass(KScheduledState.Serializer)